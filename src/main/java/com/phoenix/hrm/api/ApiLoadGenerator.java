@@ -0,0 +1,383 @@
+package com.phoenix.hrm.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-Loop API Load Generator for API Testing Framework
+ *
+ * Drives registered endpoints at a target arrival rate described by a {@link LoadProfile}:
+ * - Requests are scheduled at fixed intended send times derived from the profile
+ *   (see {@link LoadProfile#schedule()}), independent of how quickly earlier
+ *   requests complete (open loop)
+ * - Requests are sent with {@link ApiTestFramework#executeRequestAsync}, so a slow
+ *   server never holds back the schedule
+ * - Latency is measured from the intended send time, so stalls in the system under
+ *   test (or in the generator) show up in the percentiles instead of being hidden
+ *   by coordinated omission; service time from the actual send is reported separately
+ * - Requests are picked from a weighted mix of registered endpoints
+ * - A cap on in-flight requests protects the client; requests over the cap are
+ *   dropped rather than delayed, and recorded in the latency metrics as failures
+ *   (status 0) at their schedule lag, so shedding load never improves the results
+ *
+ * Results are reported through dedicated {@link PerformanceMetrics} instances, keyed
+ * by endpoint name, so the usual percentile and window queries apply.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class ApiLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiLoadGenerator.class);
+
+    // Re-check for stop() this often while waiting for a distant send time
+    private static final long IDLE_STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ApiTestFramework framework;
+    private final LoadProfile profile;
+    private final List<LoadRequest> requests;
+    private final int totalWeight;
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+    private volatile boolean running;
+
+    /**
+     * A weighted request in the load mix
+     */
+    public static class LoadRequest {
+        private final String endpointName;
+        private final Supplier<Map<String, Object>> pathParams;
+        private final Supplier<Map<String, Object>> queryParams;
+        private final Supplier<Object> requestBody;
+        private final int weight;
+
+        public LoadRequest(String endpointName, Supplier<Map<String, Object>> pathParams,
+                           Supplier<Map<String, Object>> queryParams, Supplier<Object> requestBody, int weight) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Request weight must be positive: " + weight);
+            }
+            this.endpointName = endpointName;
+            this.pathParams = pathParams != null ? pathParams : Collections::emptyMap;
+            this.queryParams = queryParams != null ? queryParams : Collections::emptyMap;
+            this.requestBody = requestBody != null ? requestBody : () -> null;
+            this.weight = weight;
+        }
+
+        // Getters
+        public String getEndpointName() { return endpointName; }
+        public int getWeight() { return weight; }
+    }
+
+    /**
+     * Builder for ApiLoadGenerator
+     */
+    public static class Builder {
+        private final ApiTestFramework framework;
+        private final LoadProfile profile;
+        private final List<LoadRequest> requests = new ArrayList<>();
+        private int maxInFlight = 10_000;
+        private Duration drainTimeout = Duration.ofSeconds(30);
+
+        public Builder(ApiTestFramework framework, LoadProfile profile) {
+            this.framework = framework;
+            this.profile = profile;
+        }
+
+        public Builder addRequest(String endpointName) {
+            return addRequest(endpointName, null, null, null, 1);
+        }
+
+        public Builder addRequest(String endpointName, int weight) {
+            return addRequest(endpointName, null, null, null, weight);
+        }
+
+        public Builder addRequest(String endpointName, Supplier<Map<String, Object>> pathParams,
+                                  Supplier<Map<String, Object>> queryParams, Supplier<Object> requestBody,
+                                  int weight) {
+            requests.add(new LoadRequest(endpointName, pathParams, queryParams, requestBody, weight));
+            return this;
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder drainTimeout(Duration drainTimeout) {
+            this.drainTimeout = drainTimeout;
+            return this;
+        }
+
+        public ApiLoadGenerator build() {
+            if (requests.isEmpty()) {
+                throw new ApiTestFramework.ApiTestException("Load generator needs at least one request");
+            }
+            for (LoadRequest request : requests) {
+                if (framework.getEndpoint(request.getEndpointName()) == null) {
+                    throw new ApiTestFramework.ApiTestException("Endpoint not found: " + request.getEndpointName());
+                }
+            }
+            return new ApiLoadGenerator(this);
+        }
+    }
+
+    /**
+     * Outcome of a load run
+     */
+    public static class LoadTestResult {
+        private final String profileName;
+        private final Duration elapsed;
+        private final long scheduledCount;
+        private final long sentCount;
+        private final long completedCount;
+        private final long errorCount;
+        private final long droppedCount;
+        private final long maxScheduleLagMillis;
+        private final PerformanceMetrics latencyMetrics;
+        private final PerformanceMetrics serviceTimeMetrics;
+
+        public LoadTestResult(String profileName, Duration elapsed, long scheduledCount, long sentCount,
+                              long completedCount, long errorCount, long droppedCount, long maxScheduleLagMillis,
+                              PerformanceMetrics latencyMetrics, PerformanceMetrics serviceTimeMetrics) {
+            this.profileName = profileName;
+            this.elapsed = elapsed;
+            this.scheduledCount = scheduledCount;
+            this.sentCount = sentCount;
+            this.completedCount = completedCount;
+            this.errorCount = errorCount;
+            this.droppedCount = droppedCount;
+            this.maxScheduleLagMillis = maxScheduleLagMillis;
+            this.latencyMetrics = latencyMetrics;
+            this.serviceTimeMetrics = serviceTimeMetrics;
+        }
+
+        /**
+         * Completed requests per second over the whole run
+         */
+        public double getAchievedRate() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? completedCount / seconds : 0.0;
+        }
+
+        /**
+         * Requests still outstanding when the drain timeout expired
+         */
+        public long getIncompleteCount() {
+            return sentCount - completedCount;
+        }
+
+        /**
+         * Latency percentile over all endpoints, measured from the intended send time
+         */
+        public long getPercentile(double percentile) {
+            return latencyMetrics.calculateOverallPercentile(percentile);
+        }
+
+        /**
+         * Get a report-friendly summary of the run
+         */
+        public Map<String, Object> getSummary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("profile", profileName);
+            summary.put("elapsedMillis", elapsed.toMillis());
+            summary.put("scheduledRequests", scheduledCount);
+            summary.put("sentRequests", sentCount);
+            summary.put("completedRequests", completedCount);
+            summary.put("failedRequests", errorCount);
+            summary.put("droppedRequests", droppedCount);
+            summary.put("incompleteRequests", getIncompleteCount());
+            summary.put("achievedRequestsPerSecond", getAchievedRate());
+            summary.put("maxScheduleLagMillis", maxScheduleLagMillis);
+
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            latencyMetrics.getAllEndpointMetrics().forEach((name, metrics) -> {
+                Map<String, Object> endpoint = new LinkedHashMap<>();
+                endpoint.put("requests", metrics.getRequestCount());
+                endpoint.put("errors", metrics.getErrorCount());
+                endpoint.put("latency", metrics.getPercentiles());
+                PerformanceMetrics.EndpointMetrics service = serviceTimeMetrics.getEndpointMetrics(name);
+                if (service != null) {
+                    endpoint.put("serviceTime", service.getPercentiles());
+                }
+                endpoints.put(name, endpoint);
+            });
+            summary.put("endpoints", endpoints);
+            return summary;
+        }
+
+        // Getters
+        public String getProfileName() { return profileName; }
+        public Duration getElapsed() { return elapsed; }
+        public long getScheduledCount() { return scheduledCount; }
+        public long getSentCount() { return sentCount; }
+        public long getCompletedCount() { return completedCount; }
+        public long getErrorCount() { return errorCount; }
+        public long getDroppedCount() { return droppedCount; }
+        public long getMaxScheduleLagMillis() { return maxScheduleLagMillis; }
+        public PerformanceMetrics getLatencyMetrics() { return latencyMetrics; }
+        public PerformanceMetrics getServiceTimeMetrics() { return serviceTimeMetrics; }
+
+        @Override
+        public String toString() {
+            return String.format("LoadTestResult{profile='%s', completed=%d, errors=%d, dropped=%d, rps=%.1f, p99=%dms}",
+                profileName, completedCount, errorCount, droppedCount, getAchievedRate(), getPercentile(99.0));
+        }
+    }
+
+    private ApiLoadGenerator(Builder builder) {
+        this.framework = builder.framework;
+        this.profile = builder.profile;
+        this.requests = new ArrayList<>(builder.requests);
+        this.totalWeight = requests.stream().mapToInt(LoadRequest::getWeight).sum();
+        this.maxInFlight = Math.max(1, builder.maxInFlight);
+        this.drainTimeout = builder.drainTimeout;
+    }
+
+    /**
+     * Run the profile to completion on the calling thread and wait for
+     * outstanding requests to drain
+     */
+    public LoadTestResult run() {
+        PerformanceMetrics latencyMetrics = new PerformanceMetrics();
+        PerformanceMetrics serviceTimeMetrics = new PerformanceMetrics();
+        AtomicLong inFlight = new AtomicLong();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long scheduled = 0;
+        long sent = 0;
+        long dropped = 0;
+        long maxLagNanos = 0;
+
+        running = true;
+        logger.info("Starting load run: {} for {}", profile.getName(), profile.getDuration());
+
+        LoadProfile.ArrivalSchedule schedule = profile.schedule();
+        long start = System.nanoTime();
+
+        // Send times follow the schedule, not the actual send times, so a stalled
+        // generator catches up instead of silently lowering the rate
+        long next;
+        while (running && (next = schedule.nextNanos()) >= 0) {
+            long intended = start + next;
+            waitUntil(intended);
+            if (!running) {
+                break;
+            }
+            scheduled++;
+
+            if (inFlight.get() >= maxInFlight) {
+                dropped++;
+                // A dropped arrival is a failed request, not a missing sample
+                latencyMetrics.recordRequest(pickRequest().getEndpointName(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - intended), 0);
+            } else {
+                long lag = System.nanoTime() - intended;
+                maxLagNanos = Math.max(maxLagNanos, lag);
+                inFlight.incrementAndGet();
+                sent++;
+                dispatch(pickRequest(), intended, latencyMetrics, serviceTimeMetrics, inFlight, completed, errors);
+            }
+        }
+        running = false;
+
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        if (inFlight.get() > 0) {
+            logger.warn("Load run finished with {} requests still in flight after {}", inFlight.get(), drainTimeout);
+        }
+
+        LoadTestResult result = new LoadTestResult(profile.getName(), Duration.ofNanos(System.nanoTime() - start),
+            scheduled, sent, completed.get(), errors.get(), dropped, TimeUnit.NANOSECONDS.toMillis(maxLagNanos),
+            latencyMetrics, serviceTimeMetrics);
+        logger.info("Load run finished: {}", result);
+        return result;
+    }
+
+    /**
+     * Stop scheduling new requests; {@link #run()} then drains and returns
+     */
+    public void stop() {
+        running = false;
+    }
+
+    // Getters
+    public LoadProfile getProfile() { return profile; }
+    public List<LoadRequest> getRequests() { return Collections.unmodifiableList(requests); }
+    public int getMaxInFlight() { return maxInFlight; }
+    public boolean isRunning() { return running; }
+
+    // Private helper methods
+
+    private void dispatch(LoadRequest request, long intendedNanos, PerformanceMetrics latencyMetrics,
+                          PerformanceMetrics serviceTimeMetrics, AtomicLong inFlight,
+                          AtomicLong completed, AtomicLong errors) {
+        String endpointName = request.getEndpointName();
+        CompletableFuture<ApiTestFramework.ApiResponse<String>> future;
+        long sentNanos;
+        try {
+            Map<String, Object> pathParams = request.pathParams.get();
+            Map<String, Object> queryParams = request.queryParams.get();
+            Object requestBody = request.requestBody.get();
+
+            // Service time starts once the request is built; time spent in the suppliers is schedule lag
+            sentNanos = System.nanoTime();
+            future = framework.executeRequestAsync(endpointName, pathParams, queryParams, requestBody, String.class);
+        } catch (RuntimeException e) {
+            // A request that cannot be built counts as failed, not as one left in flight
+            logger.debug("Failed to build load request for {}: {}", endpointName, e.getMessage());
+            sentNanos = System.nanoTime();
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        long serviceStartNanos = sentNanos;
+        future.whenComplete((response, error) -> {
+            long now = System.nanoTime();
+            int statusCode = error == null ? response.getStatusCode() : 0;
+            if (error != null || !response.isSuccess()) {
+                errors.incrementAndGet();
+            }
+            latencyMetrics.recordRequest(endpointName, TimeUnit.NANOSECONDS.toMillis(now - intendedNanos), statusCode);
+            serviceTimeMetrics.recordRequest(endpointName, TimeUnit.NANOSECONDS.toMillis(now - serviceStartNanos),
+                statusCode);
+            completed.incrementAndGet();
+            inFlight.decrementAndGet();
+        });
+    }
+
+    private LoadRequest pickRequest() {
+        if (requests.size() == 1) {
+            return requests.get(0);
+        }
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (LoadRequest request : requests) {
+            ticket -= request.getWeight();
+            if (ticket < 0) {
+                return request;
+            }
+        }
+        return requests.get(requests.size() - 1);
+    }
+
+    private void waitUntil(long deadlineNanos) {
+        long remaining;
+        while (running && (remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, IDLE_STEP_NANOS));
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.phoenix.hrm.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoenix.hrm.monitoring.ApiRequestEvent;
+import com.phoenix.hrm.monitoring.FlightRecording;
+import com.phoenix.hrm.monitoring.MetricsHttpServer;
+import com.phoenix.hrm.monitoring.OpenMetricsWriter;
+import com.phoenix.hrm.parallel.CarrierPinningMonitor;
+import com.phoenix.hrm.parallel.VirtualThreadSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,13 +20,30 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Advanced API Testing Framework for Phoenix HRM Test Automation
@@ -41,6 +65,9 @@ import java.util.concurrent.atomic.AtomicLong;
 public class ApiTestFramework {
     
     private static final Logger logger = LoggerFactory.getLogger(ApiTestFramework.class);
+    private static final String METRICS_SOURCE = "api";
+    // Below this size gzip saves too little to pay for its header and CPU time
+    private static final int REQUEST_COMPRESSION_MIN_BYTES = 1024;
     
     // Singleton instance
     private static volatile ApiTestFramework instance;
@@ -55,12 +82,27 @@ public class ApiTestFramework {
     private final PerformanceMetrics performanceMetrics;
     private final ContractValidator contractValidator;
     private final AuthenticationManager authManager;
+    private final ExecutorService asyncExecutor;
+    private final ExecutorService httpClientExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final VirtualThreadSupport.ExecutionMode executionMode;
+    private final Map<String, ResilienceState> resilienceStates;
+    private final Map<String, UrlTemplate> urlTemplates;
+    private final ResponseCache responseCache;
+    private final AtomicBoolean slaMonitorStarted = new AtomicBoolean();
+    private volatile SlaPolicy.SlaResult failFastSlaBreach;
+    private final boolean metricsServerOwner;
+    private final FlightRecording flightRecording;
+    private final TrafficRecorder trafficRecorder;
     
     /**
      * API Framework Configuration
      */
     public static class ApiConfiguration {
-        private String baseUrl = "http://localhost:8080/api";
+        /** System property overriding the default base URL, set e.g. by {@link MockHrmServerListener} */
+        public static final String BASE_URL_PROPERTY = "phoenix.api.baseUrl";
+        
+        private String baseUrl = System.getProperty(BASE_URL_PROPERTY, "http://localhost:8080/api");
         private Duration connectTimeout = Duration.ofSeconds(30);
         private Duration requestTimeout = Duration.ofMinutes(2);
         private boolean followRedirects = true;
@@ -72,6 +114,33 @@ public class ApiTestFramework {
         private Map<String, String> defaultHeaders = new HashMap<>();
         private int maxRetryAttempts = 3;
         private Duration retryDelay = Duration.ofSeconds(1);
+        private int maxRequestLogEntries = 10_000;
+        private boolean asyncRequestLogging = false;
+        private String requestLogDirectory = "target/api-logs";
+        private int requestLogBufferSize = 8192;
+        private AsyncLogWriter.OverflowPolicy requestLogOverflowPolicy = AsyncLogWriter.OverflowPolicy.DROP;
+        private long requestLogMaxFileBytes = 64L * 1024 * 1024;
+        private boolean compressRequestLogs = false;
+        private int asyncExecutorThreads = Runtime.getRuntime().availableProcessors();
+        private boolean virtualThreads = false;
+        private boolean streamingResponses = false;
+        private boolean retainRawResponses = false;
+        private ContractValidator.ValidationPolicy contractValidationPolicy = ContractValidator.ValidationPolicy.always();
+        private boolean asyncContractValidation = false;
+        private int contractValidationThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        private int contractValidationQueueCapacity = 1_000;
+        private Duration tokenRefreshSkew = Duration.ofSeconds(60);
+        private Duration tokenEvictionInterval = Duration.ofSeconds(30);
+        private ResiliencePolicy defaultResiliencePolicy;
+        private boolean responseCacheEnabled = false;
+        private int responseCacheMaxEntries = 1_000;
+        private Duration responseCacheTtl = Duration.ofSeconds(60);
+        private Duration slaEvaluationInterval = Duration.ofSeconds(1);
+        private int metricsPort = -1;
+        private Path flightRecording;
+        private Path trafficRecording;
+        private boolean responseCompression = false;
+        private boolean requestCompression = false;
         
         // Builder pattern
         public static class Builder {
@@ -137,7 +206,178 @@ public class ApiTestFramework {
                 return this;
             }
             
+            public Builder maxRequestLogEntries(int maxRequestLogEntries) {
+                config.maxRequestLogEntries = maxRequestLogEntries;
+                return this;
+            }
+            
+            public Builder asyncRequestLogging(boolean asyncRequestLogging) {
+                config.asyncRequestLogging = asyncRequestLogging;
+                return this;
+            }
+            
+            public Builder requestLogDirectory(String requestLogDirectory) {
+                config.requestLogDirectory = requestLogDirectory;
+                return this;
+            }
+            
+            public Builder requestLogBufferSize(int requestLogBufferSize) {
+                config.requestLogBufferSize = requestLogBufferSize;
+                return this;
+            }
+            
+            public Builder requestLogOverflowPolicy(AsyncLogWriter.OverflowPolicy requestLogOverflowPolicy) {
+                config.requestLogOverflowPolicy = requestLogOverflowPolicy;
+                return this;
+            }
+            
+            public Builder requestLogMaxFileBytes(long requestLogMaxFileBytes) {
+                config.requestLogMaxFileBytes = requestLogMaxFileBytes;
+                return this;
+            }
+            
+            public Builder compressRequestLogs(boolean compressRequestLogs) {
+                config.compressRequestLogs = compressRequestLogs;
+                return this;
+            }
+            
+            public Builder asyncExecutorThreads(int asyncExecutorThreads) {
+                config.asyncExecutorThreads = asyncExecutorThreads;
+                return this;
+            }
+            
+            public Builder virtualThreads(boolean virtualThreads) {
+                config.virtualThreads = virtualThreads;
+                return this;
+            }
+            
+            /**
+             * Parse response bodies while they stream in; cannot be combined with
+             * {@link #responseCacheEnabled(boolean)}, which needs the whole body
+             */
+            public Builder streamingResponses(boolean streamingResponses) {
+                config.streamingResponses = streamingResponses;
+                return this;
+            }
+            
+            public Builder retainRawResponses(boolean retainRawResponses) {
+                config.retainRawResponses = retainRawResponses;
+                return this;
+            }
+            
+            public Builder contractValidationPolicy(ContractValidator.ValidationPolicy contractValidationPolicy) {
+                config.contractValidationPolicy = contractValidationPolicy;
+                return this;
+            }
+            
+            public Builder asyncContractValidation(boolean asyncContractValidation) {
+                config.asyncContractValidation = asyncContractValidation;
+                return this;
+            }
+            
+            public Builder contractValidationThreads(int contractValidationThreads) {
+                config.contractValidationThreads = contractValidationThreads;
+                return this;
+            }
+            
+            public Builder contractValidationQueueCapacity(int contractValidationQueueCapacity) {
+                config.contractValidationQueueCapacity = contractValidationQueueCapacity;
+                return this;
+            }
+            
+            public Builder tokenRefreshSkew(Duration tokenRefreshSkew) {
+                config.tokenRefreshSkew = tokenRefreshSkew;
+                return this;
+            }
+            
+            public Builder tokenEvictionInterval(Duration tokenEvictionInterval) {
+                config.tokenEvictionInterval = tokenEvictionInterval;
+                return this;
+            }
+            
+            public Builder defaultResiliencePolicy(ResiliencePolicy defaultResiliencePolicy) {
+                config.defaultResiliencePolicy = defaultResiliencePolicy;
+                return this;
+            }
+            
+            /**
+             * Cache idempotent GET responses, see {@link ResponseCache}. Streamed responses
+             * are never buffered, so {@link #build()} rejects this together with
+             * {@link #streamingResponses(boolean)}
+             */
+            public Builder responseCacheEnabled(boolean responseCacheEnabled) {
+                config.responseCacheEnabled = responseCacheEnabled;
+                return this;
+            }
+            
+            public Builder responseCacheMaxEntries(int responseCacheMaxEntries) {
+                config.responseCacheMaxEntries = responseCacheMaxEntries;
+                return this;
+            }
+            
+            public Builder responseCacheTtl(Duration responseCacheTtl) {
+                config.responseCacheTtl = responseCacheTtl;
+                return this;
+            }
+            
+            public Builder slaEvaluationInterval(Duration slaEvaluationInterval) {
+                config.slaEvaluationInterval = slaEvaluationInterval;
+                return this;
+            }
+            
+            /**
+             * Serve live metrics at {@code http://localhost:<port>/metrics}; 0 picks a free
+             * port, negative (the default) disables the endpoint
+             */
+            public Builder metricsPort(int metricsPort) {
+                config.metricsPort = metricsPort;
+                return this;
+            }
+            
+            /**
+             * Record a Flight Recorder file with the framework's request events for the
+             * lifetime of the framework; written on shutdown
+             */
+            public Builder flightRecording(Path flightRecording) {
+                config.flightRecording = flightRecording;
+                return this;
+            }
+            
+            /**
+             * Record every request/response pair with its timing into this directory,
+             * for later replay with {@link TrafficReplayServer}
+             */
+            public Builder trafficRecording(Path trafficRecording) {
+                config.trafficRecording = trafficRecording;
+                return this;
+            }
+            
+            /**
+             * Send {@code Accept-Encoding: gzip, deflate} by default; endpoints can override.
+             * Compressed responses are decoded whether or not they were asked for.
+             */
+            public Builder responseCompression(boolean responseCompression) {
+                config.responseCompression = responseCompression;
+                return this;
+            }
+            
+            /**
+             * Gzip serialised request bodies of at least 1 KB by default; endpoints can override
+             */
+            public Builder requestCompression(boolean requestCompression) {
+                config.requestCompression = requestCompression;
+                return this;
+            }
+            
             public ApiConfiguration build() {
+                if (config.responseCacheEnabled && config.streamingResponses) {
+                    throw new IllegalStateException(
+                        "Response caching needs buffered bodies and cannot be combined with streaming responses");
+                }
+                if (config.defaultResiliencePolicy == null) {
+                    config.defaultResiliencePolicy = ResiliencePolicy.fromConfiguration(config);
+                }
+                
                 // Set default headers
                 config.defaultHeaders.putIfAbsent("Content-Type", "application/json");
                 config.defaultHeaders.putIfAbsent("Accept", "application/json");
@@ -160,6 +400,33 @@ public class ApiTestFramework {
         public Map<String, String> getDefaultHeaders() { return defaultHeaders; }
         public int getMaxRetryAttempts() { return maxRetryAttempts; }
         public Duration getRetryDelay() { return retryDelay; }
+        public int getMaxRequestLogEntries() { return maxRequestLogEntries; }
+        public boolean isAsyncRequestLogging() { return asyncRequestLogging; }
+        public String getRequestLogDirectory() { return requestLogDirectory; }
+        public int getRequestLogBufferSize() { return requestLogBufferSize; }
+        public AsyncLogWriter.OverflowPolicy getRequestLogOverflowPolicy() { return requestLogOverflowPolicy; }
+        public long getRequestLogMaxFileBytes() { return requestLogMaxFileBytes; }
+        public boolean isCompressRequestLogs() { return compressRequestLogs; }
+        public int getAsyncExecutorThreads() { return asyncExecutorThreads; }
+        public boolean isVirtualThreads() { return virtualThreads; }
+        public boolean isStreamingResponses() { return streamingResponses; }
+        public boolean isRetainRawResponses() { return retainRawResponses; }
+        public ContractValidator.ValidationPolicy getContractValidationPolicy() { return contractValidationPolicy; }
+        public boolean isAsyncContractValidation() { return asyncContractValidation; }
+        public int getContractValidationThreads() { return contractValidationThreads; }
+        public int getContractValidationQueueCapacity() { return contractValidationQueueCapacity; }
+        public Duration getTokenRefreshSkew() { return tokenRefreshSkew; }
+        public Duration getTokenEvictionInterval() { return tokenEvictionInterval; }
+        public ResiliencePolicy getDefaultResiliencePolicy() { return defaultResiliencePolicy; }
+        public boolean isResponseCacheEnabled() { return responseCacheEnabled; }
+        public int getResponseCacheMaxEntries() { return responseCacheMaxEntries; }
+        public Duration getResponseCacheTtl() { return responseCacheTtl; }
+        public Duration getSlaEvaluationInterval() { return slaEvaluationInterval; }
+        public int getMetricsPort() { return metricsPort; }
+        public Path getFlightRecording() { return flightRecording; }
+        public Path getTrafficRecording() { return trafficRecording; }
+        public boolean isResponseCompression() { return responseCompression; }
+        public boolean isRequestCompression() { return requestCompression; }
     }
     
     /**
@@ -174,8 +441,12 @@ public class ApiTestFramework {
         private final String requestBody;
         private final Class<?> responseType;
         private final Duration customTimeout;
-        private final boolean requiresAuth;
+        private boolean requiresAuth;
         private final Set<String> requiredScopes;
+        private ResiliencePolicy resiliencePolicy;
+        private boolean cacheable = true;
+        private Boolean responseCompression;
+        private Boolean requestCompression;
         
         public enum HttpMethod {
             GET, POST, PUT, DELETE, PATCH, HEAD, OPTIONS
@@ -224,8 +495,12 @@ public class ApiTestFramework {
                 return this; // Implementation would set custom timeout
             }
             
+            /**
+             * Send the session token, or the calling thread's principal token, with this endpoint's requests
+             */
             public Builder requiresAuth(boolean requiresAuth) {
-                return this; // Implementation would set auth requirement
+                endpoint.requiresAuth = requiresAuth;
+                return this;
             }
             
             public Builder addRequiredScope(String scope) {
@@ -233,6 +508,35 @@ public class ApiTestFramework {
                 return this;
             }
             
+            public Builder resiliencePolicy(ResiliencePolicy resiliencePolicy) {
+                endpoint.resiliencePolicy = resiliencePolicy;
+                return this;
+            }
+            
+            /**
+             * Opt a GET endpoint out of the response cache, e.g. when every call must hit the server
+             */
+            public Builder cacheable(boolean cacheable) {
+                endpoint.cacheable = cacheable;
+                return this;
+            }
+            
+            /**
+             * Ask for compressed responses on this endpoint, overriding the configuration default
+             */
+            public Builder responseCompression(boolean responseCompression) {
+                endpoint.responseCompression = responseCompression;
+                return this;
+            }
+            
+            /**
+             * Gzip this endpoint's request bodies, overriding the configuration default
+             */
+            public Builder requestCompression(boolean requestCompression) {
+                endpoint.requestCompression = requestCompression;
+                return this;
+            }
+            
             public ApiEndpoint build() {
                 return endpoint;
             }
@@ -249,6 +553,10 @@ public class ApiTestFramework {
         public Duration getCustomTimeout() { return customTimeout; }
         public boolean requiresAuth() { return requiresAuth; }
         public Set<String> getRequiredScopes() { return requiredScopes; }
+        public ResiliencePolicy getResiliencePolicy() { return resiliencePolicy; }
+        public boolean isCacheable() { return cacheable; }
+        public Boolean getResponseCompression() { return responseCompression; }
+        public Boolean getRequestCompression() { return requestCompression; }
     }
     
     /**
@@ -263,9 +571,21 @@ public class ApiTestFramework {
         private final LocalDateTime timestamp;
         private final boolean success;
         private final String rawResponse;
+        private final String requestId;
+        private final boolean fromCache;
         
         public ApiResponse(int statusCode, String reasonPhrase, Map<String, List<String>> headers, 
                           T body, long responseTime, String rawResponse) {
+            this(statusCode, reasonPhrase, headers, body, responseTime, rawResponse, null);
+        }
+        
+        public ApiResponse(int statusCode, String reasonPhrase, Map<String, List<String>> headers, 
+                          T body, long responseTime, String rawResponse, String requestId) {
+            this(statusCode, reasonPhrase, headers, body, responseTime, rawResponse, requestId, false);
+        }
+        
+        public ApiResponse(int statusCode, String reasonPhrase, Map<String, List<String>> headers, 
+                          T body, long responseTime, String rawResponse, String requestId, boolean fromCache) {
             this.statusCode = statusCode;
             this.reasonPhrase = reasonPhrase;
             this.headers = headers;
@@ -274,6 +594,8 @@ public class ApiTestFramework {
             this.timestamp = LocalDateTime.now();
             this.success = statusCode >= 200 && statusCode < 300;
             this.rawResponse = rawResponse;
+            this.requestId = requestId;
+            this.fromCache = fromCache;
         }
         
         // Getters
@@ -285,6 +607,8 @@ public class ApiTestFramework {
         public LocalDateTime getTimestamp() { return timestamp; }
         public boolean isSuccess() { return success; }
         public String getRawResponse() { return rawResponse; }
+        public String getRequestId() { return requestId; }
+        public boolean isFromCache() { return fromCache; }
         
         public List<String> getHeader(String name) {
             return headers.getOrDefault(name.toLowerCase(), Collections.emptyList());
@@ -297,8 +621,8 @@ public class ApiTestFramework {
         
         @Override
         public String toString() {
-            return String.format("ApiResponse{status=%d, time=%dms, success=%b}", 
-                statusCode, responseTime, success);
+            return String.format("ApiResponse{requestId=%s, status=%d, time=%dms, success=%b, fromCache=%b}", 
+                requestId, statusCode, responseTime, success, fromCache);
         }
     }
     
@@ -313,6 +637,28 @@ public class ApiTestFramework {
         this.performanceMetrics = new PerformanceMetrics();
         this.contractValidator = new ContractValidator(this.config);
         this.authManager = new AuthenticationManager(this.config);
+        this.resilienceStates = new ConcurrentHashMap<>();
+        this.urlTemplates = new ConcurrentHashMap<>();
+        this.responseCache = this.config.isResponseCacheEnabled()
+            ? new ResponseCache(this.config.getResponseCacheMaxEntries(), this.config.getResponseCacheTtl())
+            : null;
+        
+        // Dedicated pool for async post-processing, plus a timer for retry backoff
+        // so no thread sleeps between attempts. In virtual thread mode every task
+        // gets its own virtual thread instead.
+        Supplier<ExecutorService> platformExecutor = () -> Executors.newFixedThreadPool(
+            Math.max(1, this.config.getAsyncExecutorThreads()), daemonThreadFactory("Phoenix-ApiAsync"));
+        this.executionMode = VirtualThreadSupport.resolveMode(this.config.isVirtualThreads());
+        this.asyncExecutor = executionMode == VirtualThreadSupport.ExecutionMode.VIRTUAL
+            ? VirtualThreadSupport.newVirtualThreadPerTaskExecutor("Phoenix-ApiAsync", platformExecutor)
+            : platformExecutor.get();
+        // The HTTP client delivers response bodies on its own threads. Streamed bodies are
+        // read with blocking calls on the async pool, so a fixed pool shared by both could
+        // fill up with readers and leave no thread to deliver the bytes they wait for.
+        this.httpClientExecutor = executionMode == VirtualThreadSupport.ExecutionMode.VIRTUAL
+            ? asyncExecutor
+            : Executors.newCachedThreadPool(daemonThreadFactory("Phoenix-HttpClient"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("Phoenix-ApiScheduler"));
         
         // Initialize HTTP client
         this.httpClient = createHttpClient();
@@ -320,6 +666,18 @@ public class ApiTestFramework {
         // Register default HRM API endpoints
         registerDefaultEndpoints();
         
+        // Live metrics are only served when a port is configured
+        MetricsHttpServer.getInstance().registerSource(METRICS_SOURCE, this::writeOpenMetrics);
+        boolean serveMetrics = this.config.getMetricsPort() >= 0 && !MetricsHttpServer.getInstance().isRunning();
+        if (serveMetrics) {
+            MetricsHttpServer.getInstance().start(this.config.getMetricsPort());
+        }
+        this.metricsServerOwner = serveMetrics;
+        this.flightRecording = this.config.getFlightRecording() != null
+            ? FlightRecording.start(this.config.getFlightRecording()) : null;
+        this.trafficRecorder = this.config.getTrafficRecording() != null
+            ? new TrafficRecorder(this.config.getTrafficRecording(), this.config.getBaseUrl()) : null;
+        
         logger.info("ApiTestFramework initialized with base URL: {}", this.config.getBaseUrl());
     }
     
@@ -354,53 +712,66 @@ public class ApiTestFramework {
         if (endpoint == null) {
             throw new ApiTestException("Endpoint not found: " + endpointName);
         }
+        checkSlaBudget();
         
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        ApiResponse<T> response = null;
+        try {
+            response = sendRequest(endpoint, pathParams, queryParams, requestBody, responseType, event);
+            return response;
+        } finally {
+            commitRequestEvent(event, endpoint, response);
+        }
+    }
+    
+    private <T> ApiResponse<T> sendRequest(ApiEndpoint endpoint, Map<String, Object> pathParams,
+                                           Map<String, Object> queryParams, Object requestBody,
+                                           Class<T> responseType, ApiRequestEvent event) {
+        String endpointName = endpoint.getName();
         try {
             // Build request
             HttpRequest request = buildHttpRequest(endpoint, pathParams, queryParams, requestBody);
             
+            // Serve idempotent GETs from the response cache, revalidating stale entries
+            String cacheKey = cacheKeyFor(endpoint, request);
+            ResponseCache.CachedResponse cached = cacheKey != null ? responseCache.get(cacheKey) : null;
+            if (cached != null && cached.isFresh()) {
+                return cachedResponse(endpoint, request, cached, responseType);
+            }
+            if (cached != null) {
+                request = withValidators(request, cached);
+            }
+            
             // Log request if enabled
+            String requestId = null;
             if (config.isEnableRequestLogging()) {
-                requestLogger.logRequest(request, requestBody);
+                requestId = requestLogger.logRequest(request, requestBody);
             }
             
             // Execute request with retry logic
             long startTime = System.currentTimeMillis();
-            HttpResponse<String> response = executeWithRetry(request);
-            long responseTime = System.currentTimeMillis() - startTime;
-            
-            // Parse response
-            T parsedBody = parseResponseBody(response.body(), responseType);
             
-            // Create API response
-            ApiResponse<T> apiResponse = new ApiResponse<>(
-                response.statusCode(),
-                getReasonPhrase(response.statusCode()),
-                response.headers().map(),
-                parsedBody,
-                responseTime,
-                response.body()
-            );
-            
-            // Log response if enabled
-            if (config.isEnableRequestLogging()) {
-                requestLogger.logResponse(apiResponse);
-            }
-            
-            // Record performance metrics
-            if (config.isEnablePerformanceMetrics()) {
-                performanceMetrics.recordRequest(endpointName, responseTime, response.statusCode());
-            }
-            
-            // Validate contract if enabled
-            if (config.isEnableContractValidation()) {
-                contractValidator.validateResponse(endpoint, apiResponse);
+            if (config.isStreamingResponses()) {
+                // Parse straight from the byte stream; the raw body is only kept on request or for errors
+                HttpResponse<Supplier<JsonBodyHandlers.ParsedBody<T>>> response = executeWithRetry(endpoint, request,
+                    JsonBodyHandlers.ofJson(objectMapper, responseType, retainRawBodies()), event);
+                JsonBodyHandlers.ParsedBody<T> parsed = response.body().get();
+                long responseTime = System.currentTimeMillis() - startTime;
+                recordTraffic(request, requestBody, response, parsed.getRawBody(), responseTime);
+                recordUpload(endpoint, requestBody, responseTime);
+                
+                return processResponse(endpoint, requestId, response, parsed.getBody(), parsed.getRawBody(),
+                    responseTime, selectForContractValidation(endpoint), null);
             }
             
-            logger.debug("API request completed: {} - {} in {}ms", 
-                endpointName, response.statusCode(), responseTime);
+            HttpResponse<String> response = executeWithRetry(endpoint, request, HttpResponse.BodyHandlers.ofString(),
+                event);
+            long responseTime = System.currentTimeMillis() - startTime;
+            recordTraffic(request, requestBody, response, response.body(), responseTime);
+            recordUpload(endpoint, requestBody, responseTime);
             
-            return apiResponse;
+            return completeResponse(endpoint, requestId, response, cacheKey, cached, responseTime, responseType);
             
         } catch (Exception e) {
             logger.error("Error executing API request: {}", endpointName, e);
@@ -409,21 +780,246 @@ public class ApiTestFramework {
     }
     
     /**
-     * Execute API request asynchronously
+     * Execute API request asynchronously.
+     * 
+     * The request is sent with {@link HttpClient#sendAsync}, so no thread is held while
+     * it is in flight. Retries are scheduled on a timer rather than sleeping, and
+     * parsing, logging, metrics and contract validation run on the framework's
+     * async executor. Failures complete the future with an {@link ApiTestException}.
+     * Cancelling the returned future aborts the HTTP exchange in flight and stops
+     * further retries.
      */
     public <T> CompletableFuture<ApiResponse<T>> executeRequestAsync(String endpointName, 
                                                                    Map<String, Object> pathParams,
                                                                    Map<String, Object> queryParams, 
                                                                    Object requestBody, Class<T> responseType) {
-        return CompletableFuture.supplyAsync(() -> 
-            executeRequest(endpointName, pathParams, queryParams, requestBody, responseType));
+        ApiEndpoint endpoint = endpoints.get(endpointName);
+        if (endpoint == null) {
+            return CompletableFuture.failedFuture(new ApiTestException("Endpoint not found: " + endpointName));
+        }
+        SlaPolicy.SlaResult breach = failFastSlaBreach;
+        if (breach != null) {
+            return CompletableFuture.failedFuture(new SlaPolicy.SlaViolationException(List.of(breach)));
+        }
+        
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        ExchangeHandle exchange = new ExchangeHandle();
+        CompletableFuture<ApiResponse<T>> future = this.<T>sendRequestAsync(endpoint, pathParams, queryParams,
+                requestBody, responseType, event, exchange)
+            .whenComplete((apiResponse, error) -> commitRequestEvent(event, endpoint, apiResponse));
+        // Cancelling a dependent stage never reaches sendAsync, so forward it explicitly
+        future.whenComplete((apiResponse, error) -> {
+            if (error instanceof CancellationException) {
+                exchange.cancel();
+            }
+        });
+        return future;
+    }
+    
+    private <T> CompletableFuture<ApiResponse<T>> sendRequestAsync(ApiEndpoint endpoint,
+                                                                   Map<String, Object> pathParams,
+                                                                   Map<String, Object> queryParams,
+                                                                   Object requestBody, Class<T> responseType,
+                                                                   ApiRequestEvent event, ExchangeHandle exchange) {
+        String endpointName = endpoint.getName();
+        HttpRequest request;
+        String cacheKey;
+        ResponseCache.CachedResponse cached;
+        String requestId = null;
+        try {
+            request = buildHttpRequest(endpoint, pathParams, queryParams, requestBody);
+            cacheKey = cacheKeyFor(endpoint, request);
+            cached = cacheKey != null ? responseCache.get(cacheKey) : null;
+            if (cached != null && cached.isFresh()) {
+                return CompletableFuture.completedFuture(cachedResponse(endpoint, request, cached, responseType));
+            }
+            if (cached != null) {
+                request = withValidators(request, cached);
+            }
+            if (config.isEnableRequestLogging()) {
+                requestId = requestLogger.logRequest(request, requestBody);
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(
+                new ApiTestException("Failed to execute API request: " + endpointName, e));
+        }
+        
+        String correlationId = requestId;
+        HttpRequest sentRequest = request;
+        long startTime = System.currentTimeMillis();
+        
+        CompletableFuture<ApiResponse<T>> future;
+        if (config.isStreamingResponses()) {
+            // The body is read and parsed on the async executor while the HTTP client's own
+            // executor delivers it; sharing one fixed pool for both would deadlock
+            future = sendWithRetryAsync(endpoint, request,
+                    JsonBodyHandlers.ofJson(objectMapper, responseType, retainRawBodies()), event, exchange)
+                .thenApplyAsync(response -> {
+                    try {
+                        JsonBodyHandlers.ParsedBody<T> parsed = response.body().get();
+                        long responseTime = System.currentTimeMillis() - startTime;
+                        recordTraffic(sentRequest, requestBody, response, parsed.getRawBody(), responseTime);
+                        recordUpload(endpoint, requestBody, responseTime);
+                        return processResponse(endpoint, correlationId, response, parsed.getBody(),
+                            parsed.getRawBody(), responseTime, selectForContractValidation(endpoint), null);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, asyncExecutor);
+        } else {
+            future = sendWithRetryAsync(endpoint, request, HttpResponse.BodyHandlers.ofString(), event, exchange)
+                .thenApply(response -> Map.entry(response, System.currentTimeMillis() - startTime))
+                .thenApplyAsync(timed -> {
+                    try {
+                        recordTraffic(sentRequest, requestBody, timed.getKey(), timed.getKey().body(),
+                            timed.getValue());
+                        recordUpload(endpoint, requestBody, timed.getValue());
+                        return completeResponse(endpoint, correlationId, timed.getKey(), cacheKey, cached,
+                            timed.getValue(), responseType);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, asyncExecutor);
+        }
+        
+        return future
+            .handle((apiResponse, error) -> {
+                if (error == null) {
+                    return apiResponse;
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null 
+                    ? error.getCause() : error;
+                logger.error("Error executing async API request: {}", endpointName, cause);
+                throw new ApiTestException("Failed to execute API request: " + endpointName, cause);
+            });
+    }
+    
+    /**
+     * Execute a batch of requests concurrently over the async client, with at most
+     * {@code options.getMaxInFlight()} outstanding, and return the aggregate result
+     */
+    public BatchExecutor.BatchResult executeBatch(List<BatchExecutor.BatchRequest> requests,
+                                                  BatchExecutor.BatchOptions options) {
+        return executeBatch(requests, options, null);
     }
     
     /**
-     * Register API endpoint
+     * Execute a batch of requests, handing each item result to the listener in completion order
+     */
+    public BatchExecutor.BatchResult executeBatch(List<BatchExecutor.BatchRequest> requests,
+                                                  BatchExecutor.BatchOptions options,
+                                                  Consumer<BatchExecutor.BatchItemResult> listener) {
+        return new BatchExecutor(this).execute(requests, options, listener);
+    }
+    
+    /**
+     * Stream the elements of a JSON array response to a consumer, one element at a time.
+     *
+     * Intended for large list and bulk-export endpoints: the body is never held in memory
+     * as a whole, only the element being consumed. The array is either the top-level value
+     * or the value of {@code arrayField} (e.g. {@code "data"}). The response body is the
+     * number of elements consumed; for non-2xx responses it is 0 and the raw response holds
+     * the error body. Response time covers the full body, including time spent in the consumer.
+     * Contract validation is skipped because the body is never materialised.
+     */
+    public <T> ApiResponse<Long> forEachArrayElement(String endpointName, Map<String, Object> pathParams,
+                                                     Map<String, Object> queryParams, String arrayField,
+                                                     Class<T> elementType, Consumer<? super T> consumer) {
+        ApiEndpoint endpoint = endpoints.get(endpointName);
+        if (endpoint == null) {
+            throw new ApiTestException("Endpoint not found: " + endpointName);
+        }
+
+        try {
+            HttpRequest request = buildHttpRequest(endpoint, pathParams, queryParams, null);
+
+            String requestId = null;
+            if (config.isEnableRequestLogging()) {
+                requestId = requestLogger.logRequest(request, null);
+            }
+
+            long startTime = System.currentTimeMillis();
+            HttpResponse<Supplier<JsonBodyHandlers.JsonArrayIterator<T>>> response = executeWithRetry(endpoint, request,
+                JsonBodyHandlers.ofJsonArray(objectMapper, elementType, arrayField), null);
+
+            long elementCount;
+            String errorBody;
+            try (JsonBodyHandlers.JsonArrayIterator<T> elements = response.body().get()) {
+                while (elements.hasNext()) {
+                    consumer.accept(elements.next());
+                }
+                elementCount = elements.getElementCount();
+                errorBody = elements.getErrorBody();
+            }
+            long responseTime = System.currentTimeMillis() - startTime;
+
+            return processResponse(endpoint, requestId, response, elementCount, errorBody, responseTime, false, null);
+
+        } catch (Exception e) {
+            logger.error("Error streaming API response: {}", endpointName, e);
+            throw new ApiTestException("Failed to stream API response: " + endpointName, e);
+        }
+    }
+
+    /**
+     * Execute a request and write a successful response body straight to a file.
+     *
+     * Intended for attachment and bulk-export endpoints whose bodies are too large to
+     * hold in memory. A 2xx body is written to {@code target}, replacing any existing
+     * file, and the response body is the target path; any other status leaves the file
+     * untouched, the body is null and the raw response holds the error body. Downloaded
+     * bytes and time count towards the endpoint's download throughput. The request body
+     * may be a {@link StreamingBody}. Downloads are not cached, contract-validated or
+     * traffic-recorded.
+     */
+    public ApiResponse<Path> download(String endpointName, Map<String, Object> pathParams,
+                                      Map<String, Object> queryParams, Object requestBody, Path target) {
+        ApiEndpoint endpoint = endpoints.get(endpointName);
+        if (endpoint == null) {
+            throw new ApiTestException("Endpoint not found: " + endpointName);
+        }
+
+        try {
+            HttpRequest request = buildHttpRequest(endpoint, pathParams, queryParams, requestBody);
+
+            String requestId = null;
+            if (config.isEnableRequestLogging()) {
+                requestId = requestLogger.logRequest(request, requestBody);
+            }
+
+            long startTime = System.currentTimeMillis();
+            HttpResponse<DownloadBody> response = executeWithRetry(endpoint, request, downloadHandler(target), null);
+            long responseTime = System.currentTimeMillis() - startTime;
+
+            DownloadBody body = response.body();
+            if (body.file != null && config.isEnablePerformanceMetrics()) {
+                performanceMetrics.recordDownload(endpointName, Files.size(body.file), responseTime);
+            }
+            recordUpload(endpoint, requestBody, responseTime);
+
+            return processResponse(endpoint, requestId, response, body.file, body.errorBody, responseTime, false, null);
+
+        } catch (Exception e) {
+            logger.error("Error downloading API response: {}", endpointName, e);
+            throw new ApiTestException("Failed to download API response: " + endpointName, e);
+        }
+    }
+
+    /**
+     * Register API endpoint.
+     *
+     * Re-registering an endpoint under the same effective {@link ResiliencePolicy} instance keeps its
+     * circuit breaker and retry budget; a different policy, even one with equal settings, starts it
+     * with a fresh breaker and budget.
      */
     public void registerEndpoint(ApiEndpoint endpoint) {
+        // Parse the path once; requests only expand the compiled template
+        urlTemplates.put(endpoint.getName(), UrlTemplate.compile(config.getBaseUrl(), endpoint.getPath()));
         endpoints.put(endpoint.getName(), endpoint);
+        ResiliencePolicy policy = resiliencePolicyFor(endpoint);
+        resilienceStates.computeIfPresent(endpoint.getName(),
+            (name, resilience) -> resilience.policy == policy ? resilience : null);
         logger.debug("Registered API endpoint: {} - {} {}", 
             endpoint.getName(), endpoint.getMethod(), endpoint.getPath());
     }
@@ -450,6 +1046,29 @@ public class ApiTestFramework {
         logger.debug("Authentication token updated");
     }
     
+    /**
+     * Register a principal whose token is cached and refreshed by the framework
+     */
+    public void registerAuthPrincipal(String username, String password) {
+        authManager.registerPrincipal(username, password);
+    }
+    
+    /**
+     * Register a principal whose token comes from a custom login call, e.g. one
+     * posting to the {@code login} endpoint, which does not itself require auth
+     */
+    public void registerAuthPrincipal(String principal,
+                                      Callable<AuthenticationManager.AuthenticationResult> login) {
+        authManager.registerPrincipal(principal, login);
+    }
+    
+    /**
+     * Authenticate requests made by the current thread as the given registered principal
+     */
+    public void useAuthPrincipal(String principal) {
+        authManager.usePrincipal(principal);
+    }
+    
     /**
      * Clear authentication token
      */
@@ -465,13 +1084,138 @@ public class ApiTestFramework {
         return performanceMetrics.getMetrics();
     }
     
+    /**
+     * Get performance metrics for specific endpoint, including retry and circuit breaker activity
+     */
+    public PerformanceMetrics.EndpointMetrics getEndpointMetrics(String endpointName) {
+        return performanceMetrics.getEndpointMetrics(endpointName);
+    }
+    
     /**
      * Reset performance metrics
      */
     public void resetPerformanceMetrics() {
         performanceMetrics.reset();
+        failFastSlaBreach = null;
         logger.debug("Performance metrics reset");
     }
+
+    /**
+     * Register an SLA budget. Registered SLAs are evaluated every
+     * {@code slaEvaluationInterval}; once a fail-fast SLA is broken, further requests
+     * fail with {@link SlaPolicy.SlaViolationException} so the run stops early.
+     */
+    public void registerSla(SlaPolicy policy) {
+        performanceMetrics.registerSla(policy);
+        if (slaMonitorStarted.compareAndSet(false, true)) {
+            long intervalMillis = Math.max(1, config.getSlaEvaluationInterval().toMillis());
+            scheduler.scheduleAtFixedRate(() -> {
+                try {
+                    evaluateSlas();
+                } catch (RuntimeException e) {
+                    // An exception would cancel the periodic task
+                    logger.warn("SLA evaluation failed: {}", e.getMessage());
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        logger.info("Registered SLA: {}", policy);
+    }
+    
+    /**
+     * Evaluate every SLA now and fail if any was broken since the last metrics reset.
+     * Call at the end of a test or load run to gate on latency and error budgets.
+     */
+    public List<SlaPolicy.SlaResult> verifySlas() {
+        List<SlaPolicy.SlaResult> results = evaluateSlas();
+        Map<String, SlaPolicy.SlaResult> breaches = performanceMetrics.getSlaBreaches();
+        if (!breaches.isEmpty()) {
+            throw new SlaPolicy.SlaViolationException(new ArrayList<>(breaches.values()));
+        }
+        return results;
+    }
+    
+    /**
+     * Get the latest result of each registered SLA
+     */
+    public Map<String, SlaPolicy.SlaResult> getSlaResults() {
+        return performanceMetrics.getSlaResults();
+    }
+    
+    /**
+     * Drop all cached responses; a no-op when the response cache is disabled
+     */
+    public void clearResponseCache() {
+        if (responseCache != null) {
+            responseCache.clear();
+            logger.debug("Response cache cleared");
+        }
+    }
+    
+    /**
+     * Get request/response logger
+     */
+    public RequestResponseLogger getRequestLogger() {
+        return requestLogger;
+    }
+    
+    /**
+     * Shutdown framework, flushing asynchronous logs, and reset the singleton
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                asyncExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            asyncExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (httpClientExecutor != asyncExecutor) {
+            httpClientExecutor.shutdown();
+        }
+        
+        // Let queued contract validations finish before the logger closes
+        contractValidator.shutdown();
+        authManager.shutdown();
+        
+        MetricsHttpServer.getInstance().unregisterSource(METRICS_SOURCE);
+        if (metricsServerOwner) {
+            MetricsHttpServer.getInstance().stop();
+        }
+        if (flightRecording != null) {
+            flightRecording.stop();
+        }
+        if (trafficRecorder != null) {
+            trafficRecorder.close();
+        }
+        
+        // Close the logger last so in-flight async responses are still recorded
+        requestLogger.close();
+        
+        synchronized (instanceLock) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        logger.info("ApiTestFramework shut down");
+    }
+    
+    /**
+     * Wait for queued contract validations and fail if any validation since the
+     * previous barrier found violations. Call at the end of a test or load run.
+     */
+    public void verifyContracts(Duration timeout) {
+        contractValidator.verifyContracts(timeout);
+    }
+    
+    /**
+     * Get contract validation report, including sampling and async queue counters
+     */
+    public Map<String, Object> getContractValidationReport() {
+        return contractValidator.generateValidationReport();
+    }
     
     /**
      * Validate JSON schema
@@ -490,7 +1234,27 @@ public class ApiTestFramework {
         stats.put("performanceMetrics", getPerformanceMetrics());
         stats.put("requestLoggingEnabled", config.isEnableRequestLogging());
         stats.put("contractValidationEnabled", config.isEnableContractValidation());
+        stats.put("contractValidationPolicy", config.getContractValidationPolicy().toString());
+        stats.put("asyncContractValidation", config.isAsyncContractValidation());
         stats.put("authenticationEnabled", authManager.hasToken());
+        stats.put("authentication", authManager.getAuthenticationStatistics());
+        stats.put("executionMode", executionMode.name());
+        if (executionMode == VirtualThreadSupport.ExecutionMode.VIRTUAL) {
+            stats.put("carrierPinning", CarrierPinningMonitor.getInstance().getStatistics());
+        }
+        
+        Map<String, String> circuitStates = new HashMap<>();
+        resilienceStates.forEach((name, resilience) -> {
+            if (resilience.policy.isCircuitBreakerEnabled()) {
+                circuitStates.put(name, resilience.breaker.getState().name());
+            }
+        });
+        stats.put("circuitBreakers", circuitStates);
+        
+        if (responseCache != null) {
+            stats.put("responseCacheSize", responseCache.size());
+            stats.put("responseCacheEvictions", responseCache.getEvictions());
+        }
         
         return stats;
     }
@@ -499,6 +1263,7 @@ public class ApiTestFramework {
     
     private HttpClient createHttpClient() {
         HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+            .executor(httpClientExecutor)
             .connectTimeout(config.getConnectTimeout())
             .followRedirects(config.isFollowRedirects() ? 
                 HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER);
@@ -521,11 +1286,11 @@ public class ApiTestFramework {
     private HttpRequest buildHttpRequest(ApiEndpoint endpoint, Map<String, Object> pathParams,
                                        Map<String, Object> queryParams, Object requestBody) throws Exception {
         // Build URL
-        String url = buildUrl(endpoint, pathParams, queryParams);
+        URI uri = buildUrl(endpoint, pathParams, queryParams);
         
         // Build request
         HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-            .uri(URI.create(url))
+            .uri(uri)
             .timeout(endpoint.getCustomTimeout() != null ? endpoint.getCustomTimeout() : config.getRequestTimeout());
         
         // Add headers
@@ -538,29 +1303,55 @@ public class ApiTestFramework {
         }
         
         // Add authentication if required
-        if (endpoint.requiresAuth() && authManager.hasToken()) {
-            String authHeader = config.getAuthenticationScheme() + " " + authManager.getToken();
+        String token = endpoint.requiresAuth() ? authManager.resolveToken() : null;
+        if (token != null && !token.isEmpty()) {
+            String authHeader = config.getAuthenticationScheme() + " " + token;
             requestBuilder.header("Authorization", authHeader);
         }
         
-        // Set request body and method
-        String bodyString = requestBody != null ? objectMapper.writeValueAsString(requestBody) : "";
+        // Set request body and method; streaming bodies are sent from their source, never buffered
+        HttpRequest.BodyPublisher bodyPublisher;
+        if (requestBody instanceof StreamingBody) {
+            StreamingBody streamingBody = (StreamingBody) requestBody;
+            bodyPublisher = streamingBody.getPublisher();
+            if (streamingBody.getContentType() != null) {
+                requestBuilder.setHeader("Content-Type", streamingBody.getContentType());
+            }
+        } else if (requestBody != null) {
+            byte[] body = objectMapper.writeValueAsBytes(requestBody);
+            if (body.length >= REQUEST_COMPRESSION_MIN_BYTES && isEnabled(endpoint.getRequestCompression(),
+                    config.isRequestCompression())) {
+                byte[] compressed = CompressionBodyHandlers.gzip(body);
+                requestBuilder.setHeader("Content-Encoding", "gzip");
+                if (config.isEnablePerformanceMetrics()) {
+                    performanceMetrics.recordRequestCompression(endpoint.getName(), body.length, compressed.length);
+                }
+                body = compressed;
+            }
+            bodyPublisher = HttpRequest.BodyPublishers.ofByteArray(body);
+        } else {
+            bodyPublisher = HttpRequest.BodyPublishers.ofString("");
+        }
+        
+        if (isEnabled(endpoint.getResponseCompression(), config.isResponseCompression())) {
+            requestBuilder.setHeader("Accept-Encoding", CompressionBodyHandlers.ACCEPT_ENCODING);
+        }
         
         switch (endpoint.getMethod()) {
             case GET:
                 requestBuilder.GET();
                 break;
             case POST:
-                requestBuilder.POST(HttpRequest.BodyPublishers.ofString(bodyString));
+                requestBuilder.POST(bodyPublisher);
                 break;
             case PUT:
-                requestBuilder.PUT(HttpRequest.BodyPublishers.ofString(bodyString));
+                requestBuilder.PUT(bodyPublisher);
                 break;
             case DELETE:
                 requestBuilder.DELETE();
                 break;
             case PATCH:
-                requestBuilder.method("PATCH", HttpRequest.BodyPublishers.ofString(bodyString));
+                requestBuilder.method("PATCH", bodyPublisher);
                 break;
             case HEAD:
                 requestBuilder.method("HEAD", HttpRequest.BodyPublishers.noBody());
@@ -573,59 +1364,485 @@ public class ApiTestFramework {
         return requestBuilder.build();
     }
     
-    private String buildUrl(ApiEndpoint endpoint, Map<String, Object> pathParams, Map<String, Object> queryParams) {
-        StringBuilder url = new StringBuilder(config.getBaseUrl());
-        
-        // Add endpoint path
-        String path = endpoint.getPath();
+    private URI buildUrl(ApiEndpoint endpoint, Map<String, Object> pathParams, Map<String, Object> queryParams) {
+        UrlTemplate template = urlTemplates.computeIfAbsent(endpoint.getName(),
+            name -> UrlTemplate.compile(config.getBaseUrl(), endpoint.getPath()));
+        return template.expand(pathParams, endpoint.getQueryParams(), queryParams);
+    }
+    
+    /**
+     * Send with the endpoint's resilience policy: full-jitter exponential backoff
+     * between attempts, retries bounded by the retry budget, and calls rejected
+     * while the circuit breaker is open. A retryable response is returned as is
+     * once no further attempt is allowed.
+     *
+     * Blocks the calling thread for the whole exchange and sleeps in {@link Thread#sleep}
+     * during backoff, so asynchronous callers must not route through it; they use
+     * {@link #sendWithRetryAsync}, which schedules retries on the timer instead.
+     */
+    private <B> HttpResponse<B> executeWithRetry(ApiEndpoint endpoint, HttpRequest request,
+                                                 HttpResponse.BodyHandler<B> bodyHandler,
+                                                 ApiRequestEvent event) throws Exception {
+        ResilienceState resilience = resilienceFor(endpoint);
+        ResiliencePolicy policy = resilience.policy;
+        resilience.budget.recordCall();
+        HttpResponse.BodyHandler<B> decodingHandler = decoding(endpoint, bodyHandler, event);
         
-        // Replace path parameters
-        if (pathParams != null) {
-            for (Map.Entry<String, Object> param : pathParams.entrySet()) {
-                path = path.replace("{" + param.getKey() + "}", String.valueOf(param.getValue()));
+        Exception lastException = null;
+        int attempt = 1;
+        while (true) {
+            if (!resilience.breaker.tryAcquire()) {
+                recordCircuitRejection(endpoint);
+                throw new CircuitBreaker.CircuitOpenException(endpoint.getName(), lastException);
             }
+            
+            boolean outcomeRecorded = false;
+            try {
+                HttpResponse<B> response = httpClient.send(request, decodingHandler);
+                resilience.breaker.onResult(policy.isFailureStatus(response.statusCode()));
+                outcomeRecorded = true;
+                if (!policy.isRetryableStatus(response.statusCode())
+                        || !mayRetry(endpoint, resilience, attempt)) {
+                    return response;
+                }
+                discardBody(response);
+                lastException = null;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                resilience.breaker.onResult(true);
+                outcomeRecorded = true;
+                lastException = e;
+                if (!mayRetry(endpoint, resilience, attempt)) {
+                    break;
+                }
+            } finally {
+                // An interrupted call has no outcome but must not keep a half-open trial slot
+                if (!outcomeRecorded) {
+                    resilience.breaker.release();
+                }
+            }
+            
+            long delayMillis = policy.backoffDelayMillis(attempt);
+            logger.debug("Request attempt {} for {} failed, retrying in {}ms", 
+                attempt, endpoint.getName(), delayMillis);
+            Thread.sleep(delayMillis);
+            attempt++;
         }
         
-        url.append(path);
-        
-        // Add query parameters
-        Map<String, Object> allQueryParams = new HashMap<>(endpoint.getQueryParams());
-        if (queryParams != null) {
-            allQueryParams.putAll(queryParams);
+        throw new ApiTestException("Request failed after " + attempt + " attempts", lastException);
+    }
+    
+    private <B> CompletableFuture<HttpResponse<B>> sendWithRetryAsync(ApiEndpoint endpoint, HttpRequest request,
+                                                                      HttpResponse.BodyHandler<B> bodyHandler,
+                                                                      ApiRequestEvent event,
+                                                                      ExchangeHandle exchange) {
+        ResilienceState resilience = resilienceFor(endpoint);
+        resilience.budget.recordCall();
+        return sendWithRetryAsync(endpoint, resilience, request, decoding(endpoint, bodyHandler, event), exchange,
+            1, null);
+    }
+    
+    private <B> CompletableFuture<HttpResponse<B>> sendWithRetryAsync(ApiEndpoint endpoint,
+                                                                      ResilienceState resilience,
+                                                                      HttpRequest request,
+                                                                      HttpResponse.BodyHandler<B> bodyHandler,
+                                                                      ExchangeHandle exchange,
+                                                                      int attempt, Throwable previousError) {
+        if (exchange.isCancelled()) {
+            return CompletableFuture.failedFuture(
+                new CancellationException("Request cancelled: " + endpoint.getName()));
+        }
+        if (!resilience.breaker.tryAcquire()) {
+            recordCircuitRejection(endpoint);
+            return CompletableFuture.failedFuture(
+                new CircuitBreaker.CircuitOpenException(endpoint.getName(), previousError));
         }
         
-        if (!allQueryParams.isEmpty()) {
-            url.append("?");
-            boolean first = true;
-            for (Map.Entry<String, Object> param : allQueryParams.entrySet()) {
-                if (!first) {
-                    url.append("&");
+        ResiliencePolicy policy = resilience.policy;
+        return exchange.track(httpClient.sendAsync(request, bodyHandler))
+            .handle((response, error) -> {
+                // The client's futures pass cancel() upstream, so the exchange can be aborted
+                // before the handle is marked cancelled
+                if (exchange.isCancelled() || error instanceof CancellationException
+                        || error instanceof CompletionException && error.getCause() instanceof CancellationException) {
+                    // An aborted exchange has no outcome and must not keep a half-open trial slot
+                    resilience.breaker.release();
+                    return CompletableFuture.<HttpResponse<B>>failedFuture(
+                        new CancellationException("Request cancelled: " + endpoint.getName()));
                 }
-                url.append(param.getKey()).append("=").append(param.getValue());
-                first = false;
+                if (error == null) {
+                    resilience.breaker.onResult(policy.isFailureStatus(response.statusCode()));
+                    if (!policy.isRetryableStatus(response.statusCode())
+                            || !mayRetry(endpoint, resilience, attempt)) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    discardBody(response);
+                } else {
+                    resilience.breaker.onResult(true);
+                    if (!mayRetry(endpoint, resilience, attempt)) {
+                        return CompletableFuture.<HttpResponse<B>>failedFuture(new ApiTestException(
+                            "Request failed after " + attempt + " attempts", error));
+                    }
+                }
+                
+                long delayMillis = policy.backoffDelayMillis(attempt);
+                logger.debug("Async request attempt {} for {} failed, retrying in {}ms", 
+                    attempt, endpoint.getName(), delayMillis);
+                
+                CompletableFuture<HttpResponse<B>> retry = new CompletableFuture<>();
+                scheduler.schedule(() -> sendWithRetryAsync(endpoint, resilience, request, bodyHandler, exchange,
+                        attempt + 1, error)
+                    .whenComplete((retryResponse, retryError) -> {
+                        if (retryError != null) {
+                            retry.completeExceptionally(retryError);
+                        } else {
+                            retry.complete(retryResponse);
+                        }
+                    }), delayMillis, TimeUnit.MILLISECONDS);
+                return retry;
+            })
+            .thenCompose(future -> future);
+    }
+    
+    private ResilienceState resilienceFor(ApiEndpoint endpoint) {
+        return resilienceStates.computeIfAbsent(endpoint.getName(), name -> {
+            ResiliencePolicy policy = resiliencePolicyFor(endpoint);
+            return new ResilienceState(policy, new CircuitBreaker(name, policy, (breakerName, from, to) -> {
+                if (config.isEnablePerformanceMetrics()) {
+                    performanceMetrics.recordCircuitStateChange(breakerName, from.name(), to.name());
+                }
+            }));
+        });
+    }
+    
+    private ResiliencePolicy resiliencePolicyFor(ApiEndpoint endpoint) {
+        return endpoint.getResiliencePolicy() != null
+            ? endpoint.getResiliencePolicy() : config.getDefaultResiliencePolicy();
+    }
+    
+    /**
+     * Whether another attempt may follow the given one; consumes retry budget
+     */
+    private boolean mayRetry(ApiEndpoint endpoint, ResilienceState resilience, int attempt) {
+        if (attempt >= resilience.policy.getMaxAttempts()) {
+            return false;
+        }
+        if (!resilience.budget.tryAcquireRetry()) {
+            logger.debug("Retry budget exhausted for {}, not retrying", endpoint.getName());
+            if (config.isEnablePerformanceMetrics()) {
+                performanceMetrics.recordRetryDenied(endpoint.getName());
             }
+            return false;
         }
-        
-        return url.toString();
+        if (config.isEnablePerformanceMetrics()) {
+            performanceMetrics.recordRetry(endpoint.getName());
+        }
+        return true;
     }
     
-    private HttpResponse<String> executeWithRetry(HttpRequest request) throws Exception {
-        Exception lastException = null;
-        
-        for (int attempt = 1; attempt <= config.getMaxRetryAttempts(); attempt++) {
-            try {
-                return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            } catch (Exception e) {
-                lastException = e;
-                if (attempt < config.getMaxRetryAttempts()) {
-                    logger.debug("Request attempt {} failed, retrying in {}ms", 
-                        attempt, config.getRetryDelay().toMillis());
-                    Thread.sleep(config.getRetryDelay().toMillis());
+    private void recordCircuitRejection(ApiEndpoint endpoint) {
+        if (config.isEnablePerformanceMetrics()) {
+            performanceMetrics.recordCircuitRejection(endpoint.getName());
+        }
+    }
+    
+    /**
+     * Release the body of a response that is about to be retried. Streaming bodies
+     * hold the open connection; they are closed without being read, because reading
+     * would block the calling thread, which may be one of the client's own.
+     */
+    private static void discardBody(HttpResponse<?> response) {
+        if (!(response.body() instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) response.body()).close();
+        } catch (Exception e) {
+            logger.trace("Ignoring failure while discarding retried response body: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Raw bodies are needed when the caller asked for them or traffic is recorded
+     */
+    private boolean retainRawBodies() {
+        return config.isRetainRawResponses() || trafficRecorder != null;
+    }
+    
+    private void recordTraffic(HttpRequest request, Object requestBody, HttpResponse<?> response, String rawBody,
+                               long responseTime) {
+        if (trafficRecorder == null) {
+            return;
+        }
+        try {
+            String body = requestBody instanceof StreamingBody ? requestBody.toString()
+                : requestBody != null ? objectMapper.writeValueAsString(requestBody) : null;
+            trafficRecorder.record(request.method(), request.uri(), body, response.statusCode(),
+                response.headers().map(), rawBody, responseTime);
+        } catch (Exception e) {
+            logger.warn("Failed to record API exchange for {}: {}", request.uri(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Writes 2xx bodies to the target file and reads anything else as error text
+     */
+    private static HttpResponse.BodyHandler<DownloadBody> downloadHandler(Path target) {
+        return responseInfo -> responseInfo.statusCode() >= 200 && responseInfo.statusCode() < 300
+            ? HttpResponse.BodySubscribers.mapping(
+                HttpResponse.BodySubscribers.ofFile(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING),
+                file -> new DownloadBody(file, null))
+            : HttpResponse.BodySubscribers.mapping(
+                HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                errorBody -> new DownloadBody(null, errorBody));
+    }
+    
+    /**
+     * Decode compressed bodies for the given handler and count body bytes on the wire
+     * and after decoding, for the endpoint metrics and the request's Flight Recorder event
+     */
+    private <B> HttpResponse.BodyHandler<B> decoding(ApiEndpoint endpoint, HttpResponse.BodyHandler<B> bodyHandler,
+                                                     ApiRequestEvent event) {
+        boolean recordMetrics = config.isEnablePerformanceMetrics();
+        boolean recordEvent = event != null && event.isEnabled();
+        if (!recordMetrics && !recordEvent) {
+            return CompressionBodyHandlers.decoding(bodyHandler, null);
+        }
+        String endpointName = endpoint.getName();
+        return CompressionBodyHandlers.decoding(bodyHandler, (encoding, wireBytes, decodedBytes, decodeNanos) -> {
+            if (recordMetrics) {
+                performanceMetrics.recordResponseBody(endpointName, encoding != null, wireBytes, decodedBytes,
+                    decodeNanos);
+            }
+            if (recordEvent) {
+                // A retried call keeps the sizes of its last response
+                event.wireBytes = wireBytes;
+                event.decodedBytes = decodedBytes;
+            }
+        });
+    }
+    
+    private static boolean isEnabled(Boolean endpointSetting, boolean defaultSetting) {
+        return endpointSetting != null ? endpointSetting : defaultSetting;
+    }
+    
+    /**
+     * Streamed request bodies of known length count towards the endpoint's upload throughput
+     */
+    private void recordUpload(ApiEndpoint endpoint, Object requestBody, long responseTime) {
+        if (config.isEnablePerformanceMetrics() && requestBody instanceof StreamingBody) {
+            long bytes = ((StreamingBody) requestBody).getContentLength();
+            if (bytes >= 0) {
+                performanceMetrics.recordUpload(endpoint.getName(), bytes, responseTime);
+            }
+        }
+    }
+    
+    private void commitRequestEvent(ApiRequestEvent event, ApiEndpoint endpoint, ApiResponse<?> response) {
+        // Fields are only filled in when a recording wants the event
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.endpoint = endpoint.getName();
+        event.method = endpoint.getMethod().name();
+        event.statusCode = response != null ? response.getStatusCode() : -1;
+        event.commit();
+    }
+    
+    private void writeOpenMetrics(OpenMetricsWriter writer) {
+        performanceMetrics.writeOpenMetrics(writer);
+        if (asyncExecutor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) asyncExecutor;
+            writer.family("phoenix_api_async_active_threads", OpenMetricsWriter.Type.GAUGE,
+                    "Async executor threads running a task")
+                .gaugeValue(pool.getActiveCount());
+            writer.family("phoenix_api_async_queue_depth", OpenMetricsWriter.Type.GAUGE,
+                    "Tasks waiting for an async executor thread")
+                .gaugeValue(pool.getQueue().size());
+        }
+    }
+    
+    private List<SlaPolicy.SlaResult> evaluateSlas() {
+        List<SlaPolicy.SlaResult> results = performanceMetrics.evaluateSlas();
+        for (SlaPolicy.SlaResult result : results) {
+            if (failFastSlaBreach != null) {
+                break;
+            }
+            SlaPolicy policy = result.isBreached() ? performanceMetrics.getSlaPolicy(result.getPolicy()) : null;
+            if (policy != null && policy.isFailFast()) {
+                failFastSlaBreach = result;
+                logger.error("Fail-fast SLA broken, rejecting further requests: {}", result);
+            }
+        }
+        return results;
+    }
+    
+    private void checkSlaBudget() {
+        SlaPolicy.SlaResult breach = failFastSlaBreach;
+        if (breach != null) {
+            throw new SlaPolicy.SlaViolationException(List.of(breach));
+        }
+    }
+    
+    /**
+     * Key for the response cache, or null if the request must not be cached:
+     * caching disabled, a non-GET method or an opted-out endpoint
+     */
+    private String cacheKeyFor(ApiEndpoint endpoint, HttpRequest request) {
+        if (responseCache == null || endpoint.getMethod() != ApiEndpoint.HttpMethod.GET || !endpoint.isCacheable()) {
+            return null;
+        }
+        return ResponseCache.key(request.uri(), authManager.resolveIdentity());
+    }
+    
+    /**
+     * Response served from a fresh cache entry. It carries its own request ID and the time spent serving it, and
+     * is flagged as a cache hit so consumers do not mistake it for a round trip; only the hit counter is updated,
+     * not the endpoint latency statistics.
+     */
+    private <T> ApiResponse<T> cachedResponse(ApiEndpoint endpoint, HttpRequest request,
+                                              ResponseCache.CachedResponse cached,
+                                              Class<T> responseType) throws Exception {
+        long startTime = System.currentTimeMillis();
+        String requestId = config.isEnableRequestLogging()
+            ? requestLogger.logRequest(request, null) : requestLogger.nextRequestId();
+        if (config.isEnablePerformanceMetrics()) {
+            performanceMetrics.recordCacheHit(endpoint.getName());
+        }
+        T body = parseResponseBody(cached.getBody(), responseType);
+        ApiResponse<T> response = new ApiResponse<>(cached.getStatusCode(), getReasonPhrase(cached.getStatusCode()),
+            cached.getHeaders(), body, System.currentTimeMillis() - startTime, cached.getBody(), requestId, true);
+        requestLogger.logResponse(requestId, response);
+        logger.debug("API request [{}] served from cache: {}", requestId, endpoint.getName());
+        return response;
+    }
+    
+    /**
+     * Copy of the request made conditional on the cached entry's validators
+     */
+    private static HttpRequest withValidators(HttpRequest request, ResponseCache.CachedResponse cached) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        if (cached.getEtag() != null) {
+            builder.header("If-None-Match", cached.getEtag());
+        }
+        if (cached.getLastModified() != null) {
+            builder.header("If-Modified-Since", cached.getLastModified());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Settle a text response against the cache (304 renews the cached entry, 200 is
+     * stored, writes invalidate) and process it
+     */
+    private <T> ApiResponse<T> completeResponse(ApiEndpoint endpoint, String requestId, HttpResponse<String> response,
+                                                String cacheKey, ResponseCache.CachedResponse cached,
+                                                long responseTime, Class<T> responseType) throws Exception {
+        if (cacheKey != null) {
+            if (cached != null && response.statusCode() == 304) {
+                responseCache.revalidated(cached, response.headers().map());
+                if (config.isEnablePerformanceMetrics()) {
+                    performanceMetrics.recordCacheRevalidation(endpoint.getName());
                 }
+                // Contract was validated when the entry was stored
+                return processResponse(endpoint, requestId, cached.getStatusCode(), cached.getHeaders(),
+                    parseResponseBody(cached.getBody(), responseType), cached.getBody(), responseTime, false, null);
             }
+            if (config.isEnablePerformanceMetrics()) {
+                performanceMetrics.recordCacheMiss(endpoint.getName());
+            }
+            responseCache.put(cacheKey, response.request().uri(), response.statusCode(), response.headers().map(),
+                response.body());
+        } else {
+            invalidateCacheAfterWrite(endpoint, response.request(), response.statusCode());
         }
         
-        throw new ApiTestException("Request failed after " + config.getMaxRetryAttempts() + " attempts", lastException);
+        // Parse the body once: a response picked for validation is read into a tree that
+        // yields the typed body and is handed to the validator
+        boolean validateContract = selectForContractValidation(endpoint);
+        JsonNode responseTree = validateContract && contractValidator.getContract(endpoint.getName()) != null
+            ? readResponseTree(response.body()) : null;
+        return processResponse(endpoint, requestId, response,
+            parseResponseBody(response.body(), responseType, responseTree), response.body(), responseTime,
+            validateContract, responseTree);
+    }
+    
+    private boolean selectForContractValidation(ApiEndpoint endpoint) {
+        return config.isEnableContractValidation() && contractValidator.selectForValidation(endpoint);
+    }
+    
+    /**
+     * Drop cached entries for the path, its subpaths and parent collection after a successful non-GET request
+     */
+    private void invalidateCacheAfterWrite(ApiEndpoint endpoint, HttpRequest request, int statusCode) {
+        if (responseCache != null && endpoint.getMethod() != ApiEndpoint.HttpMethod.GET
+                && statusCode >= 200 && statusCode < 300) {
+            int removed = responseCache.invalidate(request.uri().getPath());
+            if (removed > 0) {
+                logger.debug("Invalidated {} cached response(s) after {} {}", removed, endpoint.getMethod(),
+                    request.uri().getPath());
+            }
+        }
+    }
+    
+    private <T> ApiResponse<T> processResponse(ApiEndpoint endpoint, String requestId, HttpResponse<?> response,
+                                               T parsedBody, String rawBody, long responseTime,
+                                               boolean validateContract, JsonNode responseTree) {
+        return processResponse(endpoint, requestId, response.statusCode(), response.headers().map(), parsedBody,
+            rawBody, responseTime, validateContract, responseTree);
+    }
+    
+    /**
+     * Turn a raw HTTP response into an ApiResponse and run logging, metrics and
+     * contract validation. Shared by the synchronous and asynchronous paths.
+     * validateContract means the response was already selected for validation;
+     * responseTree, when present, is the parsed body the validator reuses.
+     */
+    private <T> ApiResponse<T> processResponse(ApiEndpoint endpoint, String requestId, int statusCode,
+                                               Map<String, List<String>> headers, T parsedBody, String rawBody,
+                                               long responseTime, boolean validateContract,
+                                               JsonNode responseTree) {
+        // Create API response
+        ApiResponse<T> apiResponse = new ApiResponse<>(
+            statusCode,
+            getReasonPhrase(statusCode),
+            headers,
+            parsedBody,
+            responseTime,
+            rawBody,
+            requestId
+        );
+        
+        // Log response if enabled
+        if (config.isEnableRequestLogging()) {
+            requestLogger.logResponse(apiResponse);
+        }
+        
+        // Record performance metrics
+        if (config.isEnablePerformanceMetrics()) {
+            performanceMetrics.recordRequest(endpoint.getName(), responseTime, statusCode);
+        }
+        
+        // Validate contract if enabled
+        if (validateContract) {
+            contractValidator.submitSelectedValidation(endpoint, apiResponse, responseTree);
+        }
+        
+        logger.debug("API request completed: {} - {} in {}ms", 
+            endpoint.getName(), statusCode, responseTime);
+        
+        return apiResponse;
+    }
+    
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        return r -> {
+            Thread t = new Thread(r, namePrefix + "-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
     }
     
     @SuppressWarnings("unchecked")
@@ -639,6 +1856,37 @@ public class ApiTestFramework {
         }
     }
     
+    /**
+     * Build the typed body from an already-parsed tree when there is one; String
+     * bodies are always the raw text
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T parseResponseBody(String responseBody, Class<T> responseType, JsonNode responseTree)
+            throws Exception {
+        if (responseTree == null || responseType == String.class) {
+            return parseResponseBody(responseBody, responseType);
+        } else if (responseType == JsonNode.class) {
+            return (T) responseTree;
+        } else {
+            return objectMapper.treeToValue(responseTree, responseType);
+        }
+    }
+    
+    /**
+     * Parse a text body into a JSON tree, or null when it is empty or not JSON (the
+     * caller then parses it the usual way and reports any error from there)
+     */
+    private JsonNode readResponseTree(String responseBody) {
+        if (responseBody == null || responseBody.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(responseBody);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+    
     private String getReasonPhrase(int statusCode) {
         switch (statusCode) {
             case 200: return "OK";
@@ -653,26 +1901,42 @@ public class ApiTestFramework {
         }
     }
     
+    /**
+     * Register the built-in HRM endpoints. All of them except login and refresh require auth, so they
+     * send the session token, or the calling thread's principal token, whenever one is available.
+     * Re-register an endpoint with {@code requiresAuth(false)} to send it without credentials.
+     */
     private void registerDefaultEndpoints() {
         // Employee endpoints
-        registerEndpoint(new ApiEndpoint.Builder("getEmployees", "/employees", ApiEndpoint.HttpMethod.GET).build());
-        registerEndpoint(new ApiEndpoint.Builder("getEmployee", "/employees/{id}", ApiEndpoint.HttpMethod.GET).build());
-        registerEndpoint(new ApiEndpoint.Builder("createEmployee", "/employees", ApiEndpoint.HttpMethod.POST).build());
-        registerEndpoint(new ApiEndpoint.Builder("updateEmployee", "/employees/{id}", ApiEndpoint.HttpMethod.PUT).build());
-        registerEndpoint(new ApiEndpoint.Builder("deleteEmployee", "/employees/{id}", ApiEndpoint.HttpMethod.DELETE).build());
+        registerEndpoint(new ApiEndpoint.Builder("getEmployees", "/employees", ApiEndpoint.HttpMethod.GET)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("getEmployee", "/employees/{id}", ApiEndpoint.HttpMethod.GET)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("createEmployee", "/employees", ApiEndpoint.HttpMethod.POST)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("updateEmployee", "/employees/{id}", ApiEndpoint.HttpMethod.PUT)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("deleteEmployee", "/employees/{id}", ApiEndpoint.HttpMethod.DELETE)
+            .requiresAuth(true).build());
         
         // Department endpoints
-        registerEndpoint(new ApiEndpoint.Builder("getDepartments", "/departments", ApiEndpoint.HttpMethod.GET).build());
-        registerEndpoint(new ApiEndpoint.Builder("getDepartment", "/departments/{id}", ApiEndpoint.HttpMethod.GET).build());
-        registerEndpoint(new ApiEndpoint.Builder("createDepartment", "/departments", ApiEndpoint.HttpMethod.POST).build());
+        registerEndpoint(new ApiEndpoint.Builder("getDepartments", "/departments", ApiEndpoint.HttpMethod.GET)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("getDepartment", "/departments/{id}", ApiEndpoint.HttpMethod.GET)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("createDepartment", "/departments", ApiEndpoint.HttpMethod.POST)
+            .requiresAuth(true).build());
         
         // Payroll endpoints
-        registerEndpoint(new ApiEndpoint.Builder("getPayroll", "/payroll/{employeeId}", ApiEndpoint.HttpMethod.GET).build());
-        registerEndpoint(new ApiEndpoint.Builder("createPayroll", "/payroll", ApiEndpoint.HttpMethod.POST).build());
+        registerEndpoint(new ApiEndpoint.Builder("getPayroll", "/payroll/{employeeId}", ApiEndpoint.HttpMethod.GET)
+            .requiresAuth(true).build());
+        registerEndpoint(new ApiEndpoint.Builder("createPayroll", "/payroll", ApiEndpoint.HttpMethod.POST)
+            .requiresAuth(true).build());
         
-        // Authentication endpoints
+        // Authentication endpoints; login and refresh must never wait on a token themselves
         registerEndpoint(new ApiEndpoint.Builder("login", "/auth/login", ApiEndpoint.HttpMethod.POST).build());
-        registerEndpoint(new ApiEndpoint.Builder("logout", "/auth/logout", ApiEndpoint.HttpMethod.POST).build());
+        registerEndpoint(new ApiEndpoint.Builder("logout", "/auth/logout", ApiEndpoint.HttpMethod.POST)
+            .requiresAuth(true).build());
         registerEndpoint(new ApiEndpoint.Builder("refreshToken", "/auth/refresh", ApiEndpoint.HttpMethod.POST).build());
         
         logger.debug("Registered {} default API endpoints", endpoints.size());
@@ -694,6 +1958,64 @@ public class ApiTestFramework {
         }
     }
     
+    /**
+     * Outcome of a download: the written file, or the error body
+     */
+    private static final class DownloadBody {
+        private final Path file;
+        private final String errorBody;
+        
+        private DownloadBody(Path file, String errorBody) {
+            this.file = file;
+            this.errorBody = errorBody;
+        }
+    }
+    
+    /**
+     * Per-endpoint resilience state: the effective policy, its circuit breaker and retry budget
+     */
+    private static final class ResilienceState {
+        private final ResiliencePolicy policy;
+        private final CircuitBreaker breaker;
+        private final RetryBudget budget;
+        
+        private ResilienceState(ResiliencePolicy policy, CircuitBreaker breaker) {
+            this.policy = policy;
+            this.breaker = breaker;
+            this.budget = new RetryBudget(policy.getRetryBudgetRatio(), policy.getRetryBudgetReserve());
+        }
+    }
+    
+    /**
+     * The HTTP exchange currently in flight for one async request, so that cancelling the
+     * caller's future aborts it and no further retry is sent
+     */
+    private static final class ExchangeHandle {
+        private volatile CompletableFuture<?> current;
+        private volatile boolean cancelled;
+        
+        private <F extends CompletableFuture<?>> F track(F exchange) {
+            current = exchange;
+            // Cancelled between the check before sending and now
+            if (cancelled) {
+                exchange.cancel(true);
+            }
+            return exchange;
+        }
+        
+        private boolean isCancelled() {
+            return cancelled;
+        }
+        
+        private void cancel() {
+            cancelled = true;
+            CompletableFuture<?> exchange = current;
+            if (exchange != null) {
+                exchange.cancel(true);
+            }
+        }
+    }
+    
     /**
      * Custom exception for API testing
      */
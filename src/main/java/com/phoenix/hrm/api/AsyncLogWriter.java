@@ -0,0 +1,372 @@
+package com.phoenix.hrm.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Asynchronous NDJSON Log Writer for API Testing Framework
+ *
+ * Moves request/response log persistence off the request thread:
+ * - Producers hand entries to a bounded ring buffer and return immediately
+ * - A single background thread drains the buffer in batches
+ * - Each entry becomes one JSON line in the current log file (NDJSON)
+ * - Files rotate once they reach the configured size and can be gzip-compressed
+ * - When the buffer is full, entries are either dropped (and counted) or the
+ *   producer blocks, depending on the configured overflow policy
+ * - Once closed, entries are dropped; a producer blocked on a full buffer gives
+ *   up instead of waiting for a writer that has stopped
+ *
+ * Entries are turned into JSON records by a mapper function that runs on the
+ * writer thread, so expensive work such as sensitive data masking is not
+ * paid by the caller either.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class AsyncLogWriter<E> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLogWriter.class);
+
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final long POLL_INTERVAL_MS = 200;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final BlockingQueue<Object> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Path directory;
+    private final String filePrefix;
+    private final long maxFileBytes;
+    private final boolean compress;
+    private final Function<E, Object> recordMapper;
+    private final ObjectMapper objectMapper;
+    private final List<Path> logFiles;
+    private final AtomicLong submittedCount;
+    private final AtomicLong writtenCount;
+    private final AtomicLong droppedCount;
+    private final AtomicLong failedCount;
+    private final AtomicInteger activeSubmits;
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    // Writer thread state
+    private OutputStream currentStream;
+    private long currentFileBytes;
+    private int fileSequence;
+
+    /**
+     * Behaviour when the buffer is full
+     */
+    public enum OverflowPolicy {
+        /** Drop the entry and count it, never slowing the caller down */
+        DROP,
+        /** Block the caller until the writer frees up space */
+        BLOCK
+    }
+
+    /**
+     * Request to flush (and optionally rotate) queued behind pending entries
+     */
+    private static final class FlushRequest {
+        private final boolean rotate;
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private FlushRequest(boolean rotate) {
+            this.rotate = rotate;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param directory directory receiving the NDJSON files
+     * @param filePrefix file name prefix
+     * @param bufferSize number of entries the ring buffer can hold
+     * @param overflowPolicy behaviour when the buffer is full
+     * @param maxFileBytes uncompressed size at which the current file is rotated
+     * @param compress whether to gzip the files
+     * @param recordMapper converts an entry into the object serialised as one JSON line
+     */
+    public AsyncLogWriter(Path directory, String filePrefix, int bufferSize, OverflowPolicy overflowPolicy,
+                          long maxFileBytes, boolean compress, Function<E, Object> recordMapper) {
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.DROP;
+        this.directory = directory;
+        this.filePrefix = filePrefix;
+        this.maxFileBytes = maxFileBytes > 0 ? maxFileBytes : Long.MAX_VALUE;
+        this.compress = compress;
+        this.recordMapper = recordMapper;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
+        this.logFiles = new CopyOnWriteArrayList<>();
+        this.submittedCount = new AtomicLong(0);
+        this.writtenCount = new AtomicLong(0);
+        this.droppedCount = new AtomicLong(0);
+        this.failedCount = new AtomicLong(0);
+        this.activeSubmits = new AtomicInteger(0);
+
+        this.running = true;
+        this.writerThread = new Thread(this::runWriter, "Phoenix-ApiLogWriter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+
+        logger.debug("AsyncLogWriter started: dir={}, buffer={}, policy={}, compress={}",
+            directory, bufferSize, this.overflowPolicy, compress);
+    }
+
+    /**
+     * Hand an entry to the writer. Returns false if the entry was dropped.
+     */
+    public boolean submit(E entry) {
+        // Registered before reading running, so the writer keeps draining until this entry is in
+        activeSubmits.incrementAndGet();
+        try {
+            if (!running) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                if (!putWhileRunning(entry)) {
+                    droppedCount.incrementAndGet();
+                    return false;
+                }
+            } else if (!buffer.offer(entry)) {
+                long dropped = droppedCount.incrementAndGet();
+                // Log the first drop and then every 10,000th to avoid flooding the log
+                if (dropped == 1 || dropped % 10_000 == 0) {
+                    logger.warn("API log buffer full, {} entries dropped so far", dropped);
+                }
+                return false;
+            }
+
+            submittedCount.incrementAndGet();
+            return true;
+        } finally {
+            activeSubmits.decrementAndGet();
+        }
+    }
+
+    /**
+     * Wait until every entry submitted so far is written and flushed
+     */
+    public boolean flush(long timeoutMillis) {
+        return awaitFlush(new FlushRequest(false), timeoutMillis);
+    }
+
+    /**
+     * Flush and close the current file so that every log file is complete on disk
+     */
+    public boolean flushAndRotate(long timeoutMillis) {
+        return awaitFlush(new FlushRequest(true), timeoutMillis);
+    }
+
+    /**
+     * Stream every written line, oldest file first. Flushes and rotates first
+     * so the current file is complete.
+     */
+    public void readLines(Consumer<String> lineConsumer) throws IOException {
+        flushAndRotate(TimeUnit.SECONDS.toMillis(30));
+
+        for (Path file : logFiles) {
+            try (InputStream raw = Files.newInputStream(file);
+                 InputStream in = file.toString().endsWith(".gz") ? new GZIPInputStream(raw) : raw;
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        lineConsumer.accept(line);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop accepting entries, drain the buffer and close the current file
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn("API log writer did not finish within 30 seconds, {} entries pending", buffer.size());
+        }
+        logger.debug("AsyncLogWriter closed: written={}, dropped={}, failed={}",
+            writtenCount.get(), droppedCount.get(), failedCount.get());
+    }
+
+    // Getters
+    public List<Path> getLogFiles() { return new ArrayList<>(logFiles); }
+    public long getSubmittedCount() { return submittedCount.get(); }
+    public long getWrittenCount() { return writtenCount.get(); }
+    public long getDroppedCount() { return droppedCount.get(); }
+    public long getFailedCount() { return failedCount.get(); }
+    public int getPendingCount() { return buffer.size(); }
+    public boolean isRunning() { return running; }
+
+    // Private helper methods
+
+    /**
+     * Wait for space in the buffer, giving up once the writer is closed or has died
+     */
+    private boolean putWhileRunning(E entry) {
+        try {
+            while (!buffer.offer(entry, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                if (!running || !writerThread.isAlive()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean awaitFlush(FlushRequest request, long timeoutMillis) {
+        if (!running || !writerThread.isAlive()) {
+            return false;
+        }
+        try {
+            // Control requests always wait for space, whatever the overflow policy
+            if (!buffer.offer(request, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            return request.done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        // Read in this order: a submit that saw running is counted before close() clears it,
+        // and its entry is in the buffer before it stops being counted
+        while (running || activeSubmits.get() > 0 || !buffer.isEmpty()) {
+            try {
+                Object first = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // Only close() stops the writer; keep draining
+                Thread.interrupted();
+            } finally {
+                batch.clear();
+            }
+        }
+
+        closeCurrentFile();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeBatch(List<Object> batch) {
+        for (Object item : batch) {
+            if (item instanceof FlushRequest) {
+                FlushRequest request = (FlushRequest) item;
+                flushCurrentFile();
+                if (request.rotate) {
+                    closeCurrentFile();
+                }
+                request.done.countDown();
+                continue;
+            }
+
+            try {
+                byte[] line = objectMapper.writeValueAsBytes(recordMapper.apply((E) item));
+                OutputStream out = currentStream();
+                out.write(line);
+                out.write('\n');
+                currentFileBytes += line.length + 1;
+                writtenCount.incrementAndGet();
+
+                if (currentFileBytes >= maxFileBytes) {
+                    closeCurrentFile();
+                }
+            } catch (Exception e) {
+                long failed = failedCount.incrementAndGet();
+                if (failed == 1 || failed % 1_000 == 0) {
+                    logger.warn("Failed to write API log entry ({} failures so far): {}", failed, e.getMessage());
+                }
+            }
+        }
+        flushCurrentFile();
+    }
+
+    private OutputStream currentStream() throws IOException {
+        if (currentStream == null) {
+            Files.createDirectories(directory);
+            String fileName = String.format("%s-%s-%03d.ndjson%s", filePrefix,
+                LocalDateTime.now().format(FILE_TIMESTAMP), ++fileSequence, compress ? ".gz" : "");
+            Path file = directory.resolve(fileName);
+
+            OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+            currentStream = compress ? new GZIPOutputStream(out, 64 * 1024) : out;
+            currentFileBytes = 0;
+            logFiles.add(file);
+            logger.debug("Opened API log file: {}", file);
+        }
+        return currentStream;
+    }
+
+    private void flushCurrentFile() {
+        if (currentStream != null) {
+            try {
+                currentStream.flush();
+            } catch (IOException e) {
+                logger.warn("Failed to flush API log file: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void closeCurrentFile() {
+        if (currentStream != null) {
+            try {
+                currentStream.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close API log file: {}", e.getMessage());
+            } finally {
+                currentStream = null;
+            }
+        }
+    }
+}
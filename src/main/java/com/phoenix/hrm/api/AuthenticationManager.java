@@ -5,10 +5,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Authentication Manager for API Testing Framework
@@ -22,6 +31,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Authentication state tracking and reporting
  * - Secure credential storage and handling
  * 
+ * Registered principals get a shared token cache: the first caller logs in, later
+ * callers reuse the token, and a token entering the refresh window (the configured
+ * skew before expiry) is renewed in the background while the current one is still
+ * served. Refreshes are single-flight per principal, so concurrent threads wait on
+ * one login instead of each calling the login endpoint. Expired tokens are evicted
+ * by a background maintenance task.
+ * 
  * @author Phoenix HRM Test Automation Team
  * @version 5.0
  * @since Phase 5
@@ -38,6 +54,15 @@ public class AuthenticationManager {
     private volatile String currentUser;
     private volatile AuthenticationScheme currentScheme;
     
+    // Per-principal token cache
+    private final Map<String, PrincipalEntry> principals;
+    private final ThreadLocal<String> activePrincipal;
+    private final ScheduledExecutorService maintenanceExecutor;
+    private final LongAdder principalLogins;
+    private final LongAdder coalescedRefreshes;
+    private final LongAdder backgroundRefreshes;
+    private final LongAdder evictedTokens;
+    
     /**
      * Authentication schemes supported
      */
@@ -213,6 +238,20 @@ public class AuthenticationManager {
         this.userContexts = new ConcurrentHashMap<>();
         this.tokenCache = new ConcurrentHashMap<>();
         this.currentScheme = AuthenticationScheme.valueOf(config.getAuthenticationScheme().toUpperCase());
+        this.principals = new ConcurrentHashMap<>();
+        this.activePrincipal = new ThreadLocal<>();
+        this.principalLogins = new LongAdder();
+        this.coalescedRefreshes = new LongAdder();
+        this.backgroundRefreshes = new LongAdder();
+        this.evictedTokens = new LongAdder();
+        this.maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Phoenix-TokenMaintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionMillis = Math.max(1, config.getTokenEvictionInterval().toMillis());
+        maintenanceExecutor.scheduleWithFixedDelay(this::evictExpiredTokens,
+            evictionMillis, evictionMillis, TimeUnit.MILLISECONDS);
         
         logger.debug("AuthenticationManager initialized with scheme: {}", currentScheme);
     }
@@ -248,6 +287,115 @@ public class AuthenticationManager {
         return currentToken != null && !currentToken.isEmpty();
     }
     
+    /**
+     * Register a principal logging in with username and password under the current scheme
+     */
+    public void registerPrincipal(String username, String password) {
+        AuthenticationScheme scheme = currentScheme;
+        registerPrincipal(username, scheme, () -> performAuthentication(username, password, scheme));
+    }
+    
+    /**
+     * Register a principal with a custom login call under the current scheme
+     */
+    public void registerPrincipal(String principal, Callable<AuthenticationResult> login) {
+        registerPrincipal(principal, currentScheme, login);
+    }
+    
+    /**
+     * Register a principal with a custom login call, e.g. one hitting the real login endpoint.
+     * Re-registering a principal replaces its login call and drops its cached token.
+     */
+    public void registerPrincipal(String principal, AuthenticationScheme scheme,
+                                  Callable<AuthenticationResult> login) {
+        principals.put(principal, new PrincipalEntry(principal, scheme, login));
+        logger.debug("Registered authentication principal: {}", principal);
+    }
+    
+    /**
+     * Get a valid token for a registered principal. Logs in on first use or after
+     * expiry (one login per principal however many threads ask); a token inside the
+     * refresh window is returned as is while a background refresh replaces it.
+     */
+    public String getPrincipalToken(String principal) {
+        PrincipalEntry entry = principals.get(principal);
+        if (entry == null) {
+            throw new IllegalArgumentException("Authentication principal not registered: " + principal);
+        }
+        
+        TokenInfo token = entry.token;
+        if (token != null && !token.isExpired()) {
+            if (needsRefresh(token) && entry.refreshing == null) {
+                maintenanceExecutor.execute(() -> {
+                    backgroundRefreshes.increment();
+                    refresh(entry).exceptionally(e -> {
+                        logger.warn("Background token refresh failed for {}: {}", principal, e.getMessage());
+                        return null;
+                    });
+                });
+            }
+            return token.getToken();
+        }
+        
+        try {
+            return refresh(entry).get(config.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS).getToken();
+        } catch (ExecutionException e) {
+            throw new ApiTestFramework.ApiTestException("Login failed for principal " + principal, e.getCause());
+        } catch (TimeoutException e) {
+            throw new ApiTestFramework.ApiTestException("Timed out waiting for login of principal " + principal, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiTestFramework.ApiTestException("Interrupted waiting for login of principal " + principal, e);
+        }
+    }
+    
+    /**
+     * Authenticate requests made by the current thread as a registered principal;
+     * null reverts to the session token
+     */
+    public void usePrincipal(String principal) {
+        if (principal != null && !principals.containsKey(principal)) {
+            throw new IllegalArgumentException("Authentication principal not registered: " + principal);
+        }
+        if (principal == null) {
+            activePrincipal.remove();
+        } else {
+            activePrincipal.set(principal);
+        }
+    }
+    
+    /**
+     * Token for the current thread: its principal's cached token if one is in use,
+     * otherwise the session token
+     */
+    public String resolveToken() {
+        String principal = activePrincipal.get();
+        return principal != null ? getPrincipalToken(principal) : currentToken;
+    }
+    
+    /**
+     * Identity of the caller for cache partitioning: the thread's principal if one
+     * is in use, otherwise the session user or a digest of the session token
+     */
+    public String resolveIdentity() {
+        String principal = activePrincipal.get();
+        if (principal != null) {
+            return "principal:" + principal;
+        }
+        if (currentUser != null) {
+            return "user:" + currentUser;
+        }
+        String token = currentToken;
+        return token != null ? "token:" + Integer.toHexString(token.hashCode()) : "";
+    }
+    
+    /**
+     * Stop background token maintenance
+     */
+    public void shutdown() {
+        maintenanceExecutor.shutdownNow();
+    }
+    
     /**
      * Authenticate user with username and password
      */
@@ -470,6 +618,11 @@ public class AuthenticationManager {
         stats.put("totalTokens", totalTokens);
         stats.put("expiredTokens", expiredTokens);
         stats.put("validTokens", totalTokens - expiredTokens);
+        stats.put("registeredPrincipals", principals.size());
+        stats.put("principalLogins", principalLogins.sum());
+        stats.put("coalescedRefreshes", coalescedRefreshes.sum());
+        stats.put("backgroundRefreshes", backgroundRefreshes.sum());
+        stats.put("evictedTokens", evictedTokens.sum());
         
         // Scheme distribution
         Map<String, Integer> schemeDistribution = new HashMap<>();
@@ -508,6 +661,19 @@ public class AuthenticationManager {
             }
         }
         
+        // Drop expired principal tokens so the next caller logs in again
+        for (PrincipalEntry entry : principals.values()) {
+            TokenInfo token = entry.token;
+            if (token != null && token.isExpired()) {
+                synchronized (entry) {
+                    if (entry.token == token) {
+                        entry.token = null;
+                    }
+                }
+            }
+        }
+        evictedTokens.add(expiredTokens);
+        
         if (expiredTokens > 0 || inactiveUsers > 0) {
             logger.debug("Authentication cleanup: removed {} expired tokens and {} inactive users", 
                 expiredTokens, inactiveUsers);
@@ -516,6 +682,75 @@ public class AuthenticationManager {
     
     // Private helper methods
     
+    /**
+     * Start a login for the principal, or join the one already in flight
+     */
+    private CompletableFuture<TokenInfo> refresh(PrincipalEntry entry) {
+        CompletableFuture<TokenInfo> flight;
+        synchronized (entry) {
+            if (entry.refreshing != null) {
+                coalescedRefreshes.increment();
+                return entry.refreshing;
+            }
+            // Another thread may have finished a refresh while this one waited for the lock
+            if (entry.token != null && !entry.token.isExpired() && !needsRefresh(entry.token)) {
+                return CompletableFuture.completedFuture(entry.token);
+            }
+            flight = new CompletableFuture<>();
+            entry.refreshing = flight;
+        }
+        
+        try {
+            flight.complete(login(entry));
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+        } finally {
+            synchronized (entry) {
+                entry.refreshing = null;
+            }
+        }
+        return flight;
+    }
+    
+    private TokenInfo login(PrincipalEntry entry) throws Exception {
+        principalLogins.increment();
+        AuthenticationResult result = entry.login.call();
+        if (!result.isSuccess() || result.getToken() == null) {
+            throw new ApiTestFramework.ApiTestException(
+                "Login failed for principal " + entry.name + ": " + result.getMessage());
+        }
+        
+        TokenInfo tokenInfo = new TokenInfo(result.getToken(), entry.scheme.name(), result.getExpiry());
+        tokenCache.put(result.getToken(), tokenInfo);
+        
+        AuthenticationContext context = userContexts.computeIfAbsent(entry.name,
+            name -> new AuthenticationContext(name, entry.scheme));
+        synchronized (context) {
+            context.setToken(result.getToken());
+            context.setTokenExpiry(result.getExpiry());
+            extractUserInfoIntoContext(result.getUserInfo(), context);
+        }
+        
+        synchronized (entry) {
+            entry.token = tokenInfo;
+        }
+        logger.debug("Token refreshed for principal: {}", entry.name);
+        return tokenInfo;
+    }
+    
+    private boolean needsRefresh(TokenInfo token) {
+        return token.getExpiresAt() != null
+            && LocalDateTime.now().plus(config.getTokenRefreshSkew()).isAfter(token.getExpiresAt());
+    }
+    
+    private void evictExpiredTokens() {
+        try {
+            cleanup();
+        } catch (RuntimeException e) {
+            logger.warn("Token eviction failed: {}", e.getMessage());
+        }
+    }
+    
     private AuthenticationResult performAuthentication(String username, String password, AuthenticationScheme scheme) {
         // This is a mock implementation for testing purposes
         // In a real implementation, this would make actual API calls
@@ -586,4 +821,21 @@ public class AuthenticationManager {
             .findFirst()
             .orElse(null);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Registered principal with its login call and cached token
+     */
+    private static final class PrincipalEntry {
+        private final String name;
+        private final AuthenticationScheme scheme;
+        private final Callable<AuthenticationResult> login;
+        private volatile TokenInfo token;
+        private volatile CompletableFuture<TokenInfo> refreshing;
+        
+        private PrincipalEntry(String name, AuthenticationScheme scheme, Callable<AuthenticationResult> login) {
+            this.name = name;
+            this.scheme = scheme;
+            this.login = login;
+        }
+    }
+}
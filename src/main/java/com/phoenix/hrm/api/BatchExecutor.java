@@ -0,0 +1,348 @@
+package com.phoenix.hrm.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Batch Request Executor for API Testing Framework
+ *
+ * Runs a list of endpoint invocations concurrently, e.g. creating hundreds of
+ * employees during fixture setup:
+ * - Requests go through {@link ApiTestFramework#executeRequestAsync}, with at most
+ *   {@code maxInFlight} outstanding at any time
+ * - Each result is handed to an optional listener as soon as it completes, one at
+ *   a time and in completion order
+ * - The aggregate {@link BatchResult} lists every item with its response or error
+ * - {@link FailureMode#STOP_ON_FIRST_FAILURE} stops dispatching after the first
+ *   failure (requests already in flight still complete); {@link FailureMode#COLLECT_ALL}
+ *   runs every request
+ *
+ * Non-2xx responses count as failures unless {@code failOnHttpError} is turned off.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class BatchExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchExecutor.class);
+
+    private final ApiTestFramework framework;
+
+    /**
+     * What to do when an item fails
+     */
+    public enum FailureMode {
+        STOP_ON_FIRST_FAILURE, COLLECT_ALL
+    }
+
+    /**
+     * One endpoint invocation in a batch
+     */
+    public static class BatchRequest {
+        private final String endpointName;
+        private final Map<String, Object> pathParams;
+        private final Map<String, Object> queryParams;
+        private final Object requestBody;
+        private final Class<?> responseType;
+
+        public BatchRequest(String endpointName, Map<String, Object> pathParams, Map<String, Object> queryParams,
+                            Object requestBody, Class<?> responseType) {
+            this.endpointName = endpointName;
+            this.pathParams = pathParams;
+            this.queryParams = queryParams;
+            this.requestBody = requestBody;
+            this.responseType = responseType != null ? responseType : String.class;
+        }
+
+        /**
+         * Invocation with only a request body, e.g. a create call
+         */
+        public static BatchRequest of(String endpointName, Object requestBody, Class<?> responseType) {
+            return new BatchRequest(endpointName, null, null, requestBody, responseType);
+        }
+
+        // Getters
+        public String getEndpointName() { return endpointName; }
+        public Map<String, Object> getPathParams() { return pathParams; }
+        public Map<String, Object> getQueryParams() { return queryParams; }
+        public Object getRequestBody() { return requestBody; }
+        public Class<?> getResponseType() { return responseType; }
+    }
+
+    /**
+     * Batch execution options
+     */
+    public static class BatchOptions {
+        private int maxInFlight = 32;
+        private FailureMode failureMode = FailureMode.COLLECT_ALL;
+        private boolean failOnHttpError = true;
+        private Duration timeout = Duration.ofMinutes(10);
+
+        // Builder pattern
+        public static class Builder {
+            private final BatchOptions options = new BatchOptions();
+
+            public Builder maxInFlight(int maxInFlight) {
+                options.maxInFlight = maxInFlight;
+                return this;
+            }
+
+            public Builder failureMode(FailureMode failureMode) {
+                options.failureMode = failureMode;
+                return this;
+            }
+
+            public Builder failOnHttpError(boolean failOnHttpError) {
+                options.failOnHttpError = failOnHttpError;
+                return this;
+            }
+
+            public Builder timeout(Duration timeout) {
+                options.timeout = timeout;
+                return this;
+            }
+
+            public BatchOptions build() {
+                if (options.maxInFlight < 1) {
+                    throw new IllegalArgumentException("maxInFlight must be at least 1: " + options.maxInFlight);
+                }
+                return options;
+            }
+        }
+
+        // Getters
+        public int getMaxInFlight() { return maxInFlight; }
+        public FailureMode getFailureMode() { return failureMode; }
+        public boolean isFailOnHttpError() { return failOnHttpError; }
+        public Duration getTimeout() { return timeout; }
+    }
+
+    /**
+     * Outcome of one batch item
+     */
+    public static class BatchItemResult {
+        private final int index;
+        private final BatchRequest request;
+        private final ApiTestFramework.ApiResponse<?> response;
+        private final Throwable error;
+        private final boolean success;
+        private final long durationMillis;
+
+        public BatchItemResult(int index, BatchRequest request, ApiTestFramework.ApiResponse<?> response,
+                               Throwable error, boolean success, long durationMillis) {
+            this.index = index;
+            this.request = request;
+            this.response = response;
+            this.error = error;
+            this.success = success;
+            this.durationMillis = durationMillis;
+        }
+
+        // Getters
+        public int getIndex() { return index; }
+        public BatchRequest getRequest() { return request; }
+        public ApiTestFramework.ApiResponse<?> getResponse() { return response; }
+        public Throwable getError() { return error; }
+        public boolean isSuccess() { return success; }
+        public long getDurationMillis() { return durationMillis; }
+
+        @Override
+        public String toString() {
+            return String.format("BatchItemResult{index=%d, endpoint='%s', success=%b, status=%s, error=%s}",
+                index, request.getEndpointName(), success,
+                response != null ? String.valueOf(response.getStatusCode()) : "-",
+                error != null ? error.getMessage() : "-");
+        }
+    }
+
+    /**
+     * Aggregate batch outcome
+     */
+    public static class BatchResult {
+        private final List<BatchItemResult> results;
+        private final int submitted;
+        private final int skipped;
+        private final long totalTimeMillis;
+
+        public BatchResult(List<BatchItemResult> results, int submitted, int skipped, long totalTimeMillis) {
+            this.results = Collections.unmodifiableList(new ArrayList<>(results));
+            this.submitted = submitted;
+            this.skipped = skipped;
+            this.totalTimeMillis = totalTimeMillis;
+        }
+
+        /**
+         * Item results in completion order
+         */
+        public List<BatchItemResult> getResults() { return results; }
+
+        /**
+         * Item results in request order
+         */
+        public List<BatchItemResult> getResultsInRequestOrder() {
+            List<BatchItemResult> ordered = new ArrayList<>(results);
+            ordered.sort(Comparator.comparingInt(BatchItemResult::getIndex));
+            return ordered;
+        }
+
+        public List<BatchItemResult> getFailures() {
+            return results.stream().filter(result -> !result.isSuccess()).toList();
+        }
+
+        // Getters
+        public int getSubmitted() { return submitted; }
+        public int getSkipped() { return skipped; }
+        public long getTotalTimeMillis() { return totalTimeMillis; }
+        public long getSuccessCount() { return results.stream().filter(BatchItemResult::isSuccess).count(); }
+        public long getFailureCount() { return results.size() - getSuccessCount(); }
+        public boolean isAllSuccessful() { return skipped == 0 && getFailureCount() == 0; }
+
+        @Override
+        public String toString() {
+            return String.format("BatchResult{submitted=%d, succeeded=%d, failed=%d, skipped=%d, time=%dms}",
+                submitted, getSuccessCount(), getFailureCount(), skipped, totalTimeMillis);
+        }
+    }
+
+    public BatchExecutor(ApiTestFramework framework) {
+        this.framework = framework;
+    }
+
+    /**
+     * Execute the batch, blocking until every dispatched request has completed or the timeout passed
+     *
+     * @param listener receives each item result as it completes, may be null
+     */
+    public BatchResult execute(List<BatchRequest> requests, BatchOptions options, Consumer<BatchItemResult> listener) {
+        long batchStart = System.currentTimeMillis();
+        long deadline = System.nanoTime() + options.getTimeout().toNanos();
+        Semaphore permits = new Semaphore(options.getMaxInFlight());
+        ReentrantLock resultLock = new ReentrantLock();
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        boolean[] completed = new boolean[requests.size()];
+        List<CompletableFuture<?>> inFlight = new ArrayList<>(requests.size());
+        BatchState state = new BatchState();
+
+        int submitted = 0;
+        try {
+            for (int i = 0; i < requests.size() && !state.stopped; i++) {
+                if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    logger.warn("Batch timed out after dispatching {} of {} requests", submitted, requests.size());
+                    break;
+                }
+                if (state.stopped) {
+                    permits.release();
+                    break;
+                }
+
+                int index = i;
+                BatchRequest request = requests.get(i);
+                long itemStart = System.currentTimeMillis();
+                // Keep the request's own future: cancelling it aborts the exchange, cancelling a stage derived
+                // from it would not
+                CompletableFuture<? extends ApiTestFramework.ApiResponse<?>> exchange = dispatch(request);
+                inFlight.add(exchange);
+                exchange.handle((response, error) -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                    boolean success = cause == null && (!options.isFailOnHttpError() || response.isSuccess());
+                    BatchItemResult result = new BatchItemResult(index, request, response, cause, success,
+                        System.currentTimeMillis() - itemStart);
+
+                    resultLock.lock();
+                    try {
+                        // Serialized so the listener sees one result at a time, in completion order
+                        if (!completed[index]) {
+                            completed[index] = true;
+                            results.add(result);
+                            if (!success && options.getFailureMode() == FailureMode.STOP_ON_FIRST_FAILURE) {
+                                state.stopped = true;
+                            }
+                            notifyListener(listener, result);
+                        }
+                    } finally {
+                        resultLock.unlock();
+                        permits.release();
+                    }
+                    return null;
+                });
+                submitted++;
+            }
+
+            // Wait for everything in flight by reclaiming all permits
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            if (!permits.tryAcquire(options.getMaxInFlight(), remaining, TimeUnit.NANOSECONDS)) {
+                logger.warn("Batch timed out waiting for in-flight requests");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Batch interrupted after dispatching {} of {} requests", submitted, requests.size());
+        }
+
+        // Items dispatched but not completed in time are reported as failed
+        resultLock.lock();
+        try {
+            for (int i = 0; i < submitted; i++) {
+                if (!completed[i]) {
+                    completed[i] = true;
+                    inFlight.get(i).cancel(true);
+                    BatchItemResult result = new BatchItemResult(i, requests.get(i), null,
+                        new ApiTestFramework.ApiTestException("Batch request did not complete within "
+                            + options.getTimeout()), false, System.currentTimeMillis() - batchStart);
+                    results.add(result);
+                    notifyListener(listener, result);
+                }
+            }
+        } finally {
+            resultLock.unlock();
+        }
+
+        BatchResult batchResult = new BatchResult(results, submitted, requests.size() - submitted,
+            System.currentTimeMillis() - batchStart);
+        logger.info("Batch completed: {}", batchResult);
+        return batchResult;
+    }
+
+    // Private helper methods
+
+    private CompletableFuture<? extends ApiTestFramework.ApiResponse<?>> dispatch(BatchRequest request) {
+        try {
+            return framework.executeRequestAsync(request.getEndpointName(), request.getPathParams(),
+                request.getQueryParams(), request.getRequestBody(), request.getResponseType());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void notifyListener(Consumer<BatchItemResult> listener, BatchItemResult result) {
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.accept(result);
+        } catch (RuntimeException e) {
+            logger.warn("Batch result listener failed for item {}: {}", result.getIndex(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stop flag shared with completion callbacks
+     */
+    private static final class BatchState {
+        private volatile boolean stopped;
+    }
+}
@@ -0,0 +1,208 @@
+package com.phoenix.hrm.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Circuit Breaker for API Testing Framework
+ *
+ * Count-based circuit breaker guarding one endpoint:
+ * - CLOSED: calls pass; outcomes go into a sliding window of the last N calls, and
+ *   the circuit opens when the failure rate reaches the threshold
+ * - OPEN: calls are rejected without reaching the server until the open duration
+ *   has passed
+ * - HALF_OPEN: a limited number of trial calls pass; one failure reopens the
+ *   circuit, all trials succeeding closes it
+ *
+ * State changes are reported to a {@link StateListener} so they can be recorded
+ * in {@link PerformanceMetrics}.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final ResiliencePolicy policy;
+    private final StateListener listener;
+    // ReentrantLock rather than a monitor so contended virtual threads do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int trialsIssued;
+    private int trialSuccesses;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Receives circuit state changes
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateChange(String name, State from, State to);
+    }
+
+    /**
+     * Thrown when a call is rejected because the circuit is open
+     */
+    public static class CircuitOpenException extends ApiTestFramework.ApiTestException {
+        public CircuitOpenException(String name, Throwable lastFailure) {
+            super("Circuit breaker open for endpoint: " + name, lastFailure);
+        }
+    }
+
+    public CircuitBreaker(String name, ResiliencePolicy policy, StateListener listener) {
+        this.name = name;
+        this.policy = policy;
+        this.listener = listener;
+        this.window = new boolean[policy.getSlidingWindowSize()];
+    }
+
+    /**
+     * Ask permission for a call
+     *
+     * @return false if the call must be rejected
+     */
+    public boolean tryAcquire() {
+        if (!policy.isCircuitBreakerEnabled()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openUntilNanos < 0) {
+                        return false;
+                    }
+                    transitionTo(State.HALF_OPEN);
+                    trialsIssued = 1;
+                    return true;
+                default:
+                    if (trialsIssued < policy.getHalfOpenTrialCalls()) {
+                        trialsIssued++;
+                        return true;
+                    }
+                    return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record the outcome of a permitted call
+     */
+    public void onResult(boolean failure) {
+        if (!policy.isCircuitBreakerEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    recordInWindow(failure);
+                    if (windowCount >= policy.getMinimumCalls()
+                            && (double) windowFailures / windowCount >= policy.getFailureRateThreshold()) {
+                        open();
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (failure) {
+                        open();
+                    } else if (++trialSuccesses >= policy.getHalfOpenTrialCalls()) {
+                        resetWindow();
+                        transitionTo(State.CLOSED);
+                    }
+                    break;
+                default:
+                    // Late result of a call started before the circuit opened
+                    break;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give back the permit of a call that ended without an outcome, e.g. because the
+     * calling thread was interrupted, so a half-open trial slot is not lost
+     */
+    public void release() {
+        if (!policy.isCircuitBreakerEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && trialsIssued > trialSuccesses) {
+                trialsIssued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Private helper methods
+
+    private void recordInWindow(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void open() {
+        openUntilNanos = System.nanoTime() + policy.getOpenDuration().toNanos();
+        trialsIssued = 0;
+        trialSuccesses = 0;
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        if (next == State.HALF_OPEN) {
+            trialsIssued = 0;
+            trialSuccesses = 0;
+        }
+        logger.info("Circuit breaker for {} changed from {} to {}", name, previous, next);
+        if (listener != null) {
+            listener.onStateChange(name, previous, next);
+        }
+    }
+}
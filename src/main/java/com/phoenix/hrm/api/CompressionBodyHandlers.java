@@ -0,0 +1,320 @@
+package com.phoenix.hrm.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Compression Body Handlers for API Testing Framework
+ *
+ * {@link java.net.http.HttpClient} neither asks for nor decodes compressed bodies.
+ * These helpers add both, without changing what the wrapped body handlers see:
+ * - {@link #decoding} wraps any body handler; gzip and deflate bodies are inflated
+ *   chunk by chunk as they arrive, so a large list response is never held compressed
+ *   and decompressed at the same time, and streaming handlers keep streaming
+ * - Every body is counted on the wire and after decoding, with the time spent
+ *   inflating, and reported to a {@link TransferListener} when it completes
+ * - {@link #gzip} compresses request bodies
+ *
+ * Other content codings (e.g. br) are never advertised and are passed through as is.
+ * The gzip trailer checksum is not verified; TCP and TLS already guard the bytes and
+ * skipping it keeps the client's decode cost down to the inflate itself.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class CompressionBodyHandlers {
+
+    /** Accept-Encoding value sent when response compression is enabled */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int GZIP_FHCRC = 2;
+    private static final int GZIP_FEXTRA = 4;
+    private static final int GZIP_FNAME = 8;
+    private static final int GZIP_FCOMMENT = 16;
+
+    private CompressionBodyHandlers() {
+    }
+
+    /**
+     * Receives the size accounting of one response body
+     */
+    @FunctionalInterface
+    public interface TransferListener {
+
+        /**
+         * @param encoding the content coding that was decoded, or null for an uncompressed body
+         * @param wireBytes body bytes received from the server
+         * @param decodedBytes body bytes after decoding
+         * @param decodeNanos time spent inflating
+         */
+        void onBodyComplete(String encoding, long wireBytes, long decodedBytes, long decodeNanos);
+    }
+
+    /**
+     * Wrap a body handler so gzip and deflate bodies reach it decoded
+     *
+     * @param downstream handler receiving the decoded body
+     * @param listener notified when the body is complete, or null
+     */
+    public static <T> HttpResponse.BodyHandler<T> decoding(HttpResponse.BodyHandler<T> downstream,
+                                                           TransferListener listener) {
+        return responseInfo -> new DecodingSubscriber<>(downstream.apply(responseInfo),
+            decodableEncoding(responseInfo.headers().firstValue("Content-Encoding").orElse(null)), listener);
+    }
+
+    /**
+     * Gzip-compress a request body
+     */
+    public static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed, CHUNK_SIZE)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress request body", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Normalised content coding this class can decode, or null
+     */
+    static String decodableEncoding(String contentEncoding) {
+        if (contentEncoding == null) {
+            return null;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        switch (encoding) {
+            case "gzip":
+            case "x-gzip":
+                return "gzip";
+            case "deflate":
+                return "deflate";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Forwards the body to the downstream subscriber, inflating it on the way when
+     * it is compressed. Runs on the HTTP client's delivery thread; the subscriber
+     * contract guarantees onNext calls are serial.
+     */
+    private static final class DecodingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> downstream;
+        private final String encoding;
+        private final TransferListener listener;
+        private Flow.Subscription subscription;
+        private ByteArrayOutputStream preamble;
+        private Inflater inflater;
+        private byte[] spare;
+        private boolean failed;
+        private long wireBytes;
+        private long decodedBytes;
+        private long decodeNanos;
+
+        private DecodingSubscriber(HttpResponse.BodySubscriber<T> downstream, String encoding,
+                                   TransferListener listener) {
+            this.downstream = downstream;
+            this.encoding = encoding;
+            this.listener = listener;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return downstream.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (failed) {
+                return;
+            }
+            if (encoding == null) {
+                for (ByteBuffer item : items) {
+                    wireBytes += item.remaining();
+                }
+                decodedBytes = wireBytes;
+                downstream.onNext(items);
+                return;
+            }
+
+            long start = System.nanoTime();
+            List<ByteBuffer> decoded = new ArrayList<>(items.size() + 1);
+            try {
+                for (ByteBuffer item : items) {
+                    wireBytes += item.remaining();
+                    byte[] input = new byte[item.remaining()];
+                    item.get(input);
+                    inflate(input, decoded);
+                }
+            } catch (DataFormatException e) {
+                failed = true;
+                endInflater();
+                subscription.cancel();
+                downstream.onError(new IOException("Invalid " + encoding + " response body: " + e.getMessage(), e));
+                return;
+            } finally {
+                decodeNanos += System.nanoTime() - start;
+            }
+
+            if (decoded.isEmpty()) {
+                // Nothing for downstream yet (header bytes only); its demand is still open
+                subscription.request(1);
+            } else {
+                downstream.onNext(decoded);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            endInflater();
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (failed) {
+                return;
+            }
+            boolean truncated = encoding != null && wireBytes > 0 && (inflater == null || !inflater.finished());
+            endInflater();
+            if (truncated) {
+                downstream.onError(new EOFException("Truncated " + encoding + " response body after "
+                    + wireBytes + " bytes"));
+                return;
+            }
+            if (listener != null) {
+                listener.onBodyComplete(encoding, wireBytes, decodedBytes, decodeNanos);
+            }
+            downstream.onComplete();
+        }
+
+        private void inflate(byte[] input, List<ByteBuffer> decoded) throws DataFormatException {
+            int offset = 0;
+            if (inflater == null) {
+                // Buffer the leading bytes until the gzip header, or the zlib/raw deflate choice, is known
+                if (preamble == null) {
+                    preamble = new ByteArrayOutputStream();
+                }
+                preamble.write(input, 0, input.length);
+                byte[] buffered = preamble.toByteArray();
+                int headerLength = "gzip".equals(encoding) ? gzipHeaderLength(buffered) : deflateHeaderLength(buffered);
+                if (headerLength < 0) {
+                    return;
+                }
+                inflater = "gzip".equals(encoding) || !isZlibHeader(buffered)
+                    ? new Inflater(true) : new Inflater(false);
+                preamble = null;
+                input = buffered;
+                offset = headerLength;
+            }
+            if (inflater.finished()) {
+                // gzip trailer
+                return;
+            }
+
+            inflater.setInput(input, offset, input.length - offset);
+            while (true) {
+                byte[] chunk = spare != null ? spare : new byte[CHUNK_SIZE];
+                spare = null;
+                int count = inflater.inflate(chunk);
+                if (count > 0) {
+                    decoded.add(ByteBuffer.wrap(chunk, 0, count));
+                    decodedBytes += count;
+                } else {
+                    spare = chunk;
+                }
+                if (inflater.finished() || inflater.needsInput()) {
+                    return;
+                }
+                if (count == 0 && inflater.needsDictionary()) {
+                    throw new DataFormatException("preset dictionary not supported");
+                }
+            }
+        }
+
+        private void endInflater() {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * Length of a complete gzip member header (RFC 1952), or -1 if more bytes are needed
+     */
+    private static int gzipHeaderLength(byte[] bytes) throws DataFormatException {
+        if (bytes.length < 10) {
+            return -1;
+        }
+        if ((bytes[0] & 0xff) != 0x1f || (bytes[1] & 0xff) != 0x8b || bytes[2] != 8) {
+            throw new DataFormatException("not in gzip format");
+        }
+        int flags = bytes[3] & 0xff;
+        int position = 10;
+        if ((flags & GZIP_FEXTRA) != 0) {
+            if (bytes.length < position + 2) {
+                return -1;
+            }
+            position += 2 + ((bytes[position] & 0xff) | (bytes[position + 1] & 0xff) << 8);
+        }
+        if ((flags & GZIP_FNAME) != 0) {
+            position = skipZeroTerminated(bytes, position);
+        }
+        if ((flags & GZIP_FCOMMENT) != 0) {
+            position = skipZeroTerminated(bytes, position);
+        }
+        if ((flags & GZIP_FHCRC) != 0 && position >= 0) {
+            position += 2;
+        }
+        return position >= 0 && position <= bytes.length ? position : -1;
+    }
+
+    private static int skipZeroTerminated(byte[] bytes, int position) {
+        if (position < 0) {
+            return -1;
+        }
+        for (int i = position; i < bytes.length; i++) {
+            if (bytes[i] == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Deflate needs two bytes to tell zlib-wrapped from raw streams; neither is consumed
+     */
+    private static int deflateHeaderLength(byte[] bytes) {
+        return bytes.length >= 2 ? 0 : -1;
+    }
+
+    /**
+     * "deflate" should be zlib-wrapped (RFC 9110), but some servers send raw deflate
+     */
+    private static boolean isZlibHeader(byte[] bytes) {
+        int cmf = bytes[0] & 0xff;
+        int flg = bytes[1] & 0xff;
+        return (cmf & 0x0f) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+}
@@ -2,6 +2,12 @@ package com.phoenix.hrm.api;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,8 +15,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Contract Validator for API Testing Framework
@@ -24,6 +40,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Contract compliance reporting
  * - Schema caching for performance optimization
  * 
+ * Schemas are compiled once per path into reusable, thread-safe validators
+ * (draft-04 via json-schema-validator, covering nested objects, arrays, enums,
+ * formats and $ref resolved relative to the schema file) and validated against
+ * the already-parsed response tree.
+ * 
+ * Responses arriving through {@link #submitValidation} are filtered by the
+ * configured {@link ValidationPolicy} (every response, 1-in-N per endpoint, or the
+ * first K then 1-in-N) and, in async mode, validated on a bounded pool off the
+ * request path. {@link #verifyContracts(Duration)} is the end-of-test barrier that
+ * drains the pool and fails on any violation found since the previous barrier.
+ * 
  * @author Phoenix HRM Test Automation Team
  * @version 5.0
  * @since Phase 5
@@ -34,9 +61,29 @@ public class ContractValidator {
     
     private final ApiTestFramework.ApiConfiguration config;
     private final ObjectMapper objectMapper;
-    private final Map<String, JsonNode> schemaCache;
+    private final JsonSchemaFactory schemaFactory;
+    private final Map<String, CompiledSchema> schemaCache;
     private final Map<String, ContractDefinition> contractDefinitions;
-    private final List<ValidationResult> validationHistory;
+    // Bounded, oldest results are dropped first; written from the async validation pool
+    private final Deque<ValidationResult> validationHistory;
+    private final ReentrantLock historyLock = new ReentrantLock();
+    
+    // Sampling and async validation state
+    private final Map<String, AtomicLong> responseSequences;
+    private final Queue<ValidationResult> unverifiedFailures;
+    private final LongAdder skippedBySampling;
+    private final LongAdder droppedValidations;
+    private final AtomicLong pendingValidations;
+    private final Object pendingLock = new Object();
+    private final ThreadPoolExecutor validationExecutor;
+    
+    // Relative schema paths are resolved against the test resources
+    private static final Path SCHEMA_ROOT = Paths.get("src/test/resources");
+    
+    private static final int MAX_VALIDATION_HISTORY = 10_000;
+    
+    // A schema that failed to load is retried after this long, so a file added or fixed mid-run is picked up
+    private static final long SCHEMA_FAILURE_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
     
     /**
      * Contract definition for an endpoint
@@ -77,6 +124,65 @@ public class ContractValidator {
         public boolean isStrictMode() { return strictMode; }
     }
     
+    /**
+     * Decides which responses of an endpoint are validated, based on the
+     * 1-based sequence number of the response for that endpoint
+     */
+    public static final class ValidationPolicy {
+        private final int alwaysFirst;
+        private final int sampleEvery;
+        
+        private ValidationPolicy(int alwaysFirst, int sampleEvery) {
+            if (alwaysFirst < 0) {
+                throw new IllegalArgumentException("First-K count must not be negative: " + alwaysFirst);
+            }
+            if (sampleEvery < 1) {
+                throw new IllegalArgumentException("Sample rate must be at least 1: " + sampleEvery);
+            }
+            this.alwaysFirst = alwaysFirst;
+            this.sampleEvery = sampleEvery;
+        }
+        
+        /**
+         * Validate every response
+         */
+        public static ValidationPolicy always() {
+            return new ValidationPolicy(0, 1);
+        }
+        
+        /**
+         * Validate one in every {@code oneIn} responses per endpoint, starting with the first
+         */
+        public static ValidationPolicy sampled(int oneIn) {
+            return new ValidationPolicy(0, oneIn);
+        }
+        
+        /**
+         * Validate the first {@code first} responses per endpoint, then one in every {@code oneIn}
+         */
+        public static ValidationPolicy firstThenSampled(int first, int oneIn) {
+            return new ValidationPolicy(first, oneIn);
+        }
+        
+        public boolean selects(long sequence) {
+            return sequence <= alwaysFirst || (sequence - alwaysFirst - 1) % sampleEvery == 0;
+        }
+        
+        // Getters
+        public int getAlwaysFirst() { return alwaysFirst; }
+        public int getSampleEvery() { return sampleEvery; }
+        
+        @Override
+        public String toString() {
+            if (sampleEvery == 1) {
+                return "always";
+            }
+            return alwaysFirst > 0
+                ? String.format("first %d then 1-in-%d", alwaysFirst, sampleEvery)
+                : String.format("1-in-%d", sampleEvery);
+        }
+    }
+    
     /**
      * Custom validation rule interface
      */
@@ -134,9 +240,16 @@ public class ContractValidator {
     public ContractValidator(ApiTestFramework.ApiConfiguration config) {
         this.config = config;
         this.objectMapper = new ObjectMapper();
+        this.schemaFactory = JsonSchemaFactory.byDefault();
         this.schemaCache = new ConcurrentHashMap<>();
         this.contractDefinitions = new ConcurrentHashMap<>();
-        this.validationHistory = Collections.synchronizedList(new ArrayList<>());
+        this.validationHistory = new ArrayDeque<>();
+        this.responseSequences = new ConcurrentHashMap<>();
+        this.unverifiedFailures = new ConcurrentLinkedQueue<>();
+        this.skippedBySampling = new LongAdder();
+        this.droppedValidations = new LongAdder();
+        this.pendingValidations = new AtomicLong();
+        this.validationExecutor = config.isAsyncContractValidation() ? createValidationExecutor() : null;
         
         // Initialize default contract definitions for Phoenix HRM endpoints
         initializeDefaultContracts();
@@ -144,11 +257,148 @@ public class ContractValidator {
         logger.debug("ContractValidator initialized");
     }
     
+    /**
+     * Submit a response for contract validation according to the configured policy.
+     * In async mode the response is queued and this returns immediately; when the
+     * queue is full the response is counted as dropped rather than blocking the caller.
+     */
+    public void submitValidation(ApiTestFramework.ApiEndpoint endpoint, ApiTestFramework.ApiResponse<?> response) {
+        if (selectForValidation(endpoint)) {
+            submitSelectedValidation(endpoint, response, null);
+        }
+    }
+    
+    /**
+     * Apply the validation policy to the next response of an endpoint. Advances the
+     * endpoint's response sequence, so call it exactly once per response and follow a
+     * true result with {@link #submitSelectedValidation}.
+     */
+    public boolean selectForValidation(ApiTestFramework.ApiEndpoint endpoint) {
+        long sequence = responseSequences.computeIfAbsent(endpoint.getName(), name -> new AtomicLong())
+            .incrementAndGet();
+        if (!config.getContractValidationPolicy().selects(sequence)) {
+            skippedBySampling.increment();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Validate a response already chosen by {@link #selectForValidation}. The caller
+     * may pass the JSON tree it parsed the body from so the body is not parsed again;
+     * with a null tree it is derived from the response.
+     */
+    public void submitSelectedValidation(ApiTestFramework.ApiEndpoint endpoint,
+                                         ApiTestFramework.ApiResponse<?> response, JsonNode responseTree) {
+        if (validationExecutor == null) {
+            validateResponse(endpoint, response, responseTree);
+            return;
+        }
+        
+        pendingValidations.incrementAndGet();
+        try {
+            validationExecutor.execute(() -> {
+                try {
+                    validateResponse(endpoint, response, responseTree);
+                } finally {
+                    completeValidation();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            completeValidation();
+            droppedValidations.increment();
+            logger.debug("Contract validation queue full, dropped validation for {}", endpoint.getName());
+        }
+    }
+    
+    /**
+     * Wait until all queued validations have completed
+     * 
+     * @return true if the queue drained within the timeout
+     */
+    public boolean awaitValidations(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (pendingLock) {
+            while (pendingValidations.get() > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                pendingLock.wait(remainingMillis);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Fail-fast barrier: wait for queued validations, then throw if any validation
+     * since the previous barrier failed
+     */
+    public void verifyContracts(Duration timeout) {
+        try {
+            if (!awaitValidations(timeout)) {
+                throw new ApiTestFramework.ApiTestException(String.format(
+                    "%d contract validations still pending after %s", pendingValidations.get(), timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiTestFramework.ApiTestException("Interrupted while waiting for contract validations", e);
+        }
+        
+        if (droppedValidations.sum() > 0) {
+            logger.warn("{} contract validations were dropped because the validation queue was full",
+                droppedValidations.sum());
+        }
+        
+        List<ValidationResult> failures = new ArrayList<>();
+        ValidationResult failure;
+        while ((failure = unverifiedFailures.poll()) != null) {
+            failures.add(failure);
+        }
+        if (!failures.isEmpty()) {
+            StringBuilder message = new StringBuilder()
+                .append(failures.size()).append(" contract validation(s) failed");
+            failures.stream().limit(5).forEach(result -> message.append("\n  ")
+                .append(result.getEndpoint()).append(": ").append(result.getErrors()));
+            if (failures.size() > 5) {
+                message.append("\n  ... and ").append(failures.size() - 5).append(" more");
+            }
+            throw new ApiTestFramework.ApiTestException(message.toString());
+        }
+    }
+    
+    /**
+     * Stop the async validation pool, letting queued validations finish
+     */
+    public void shutdown() {
+        if (validationExecutor == null) {
+            return;
+        }
+        validationExecutor.shutdown();
+        try {
+            if (!validationExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                validationExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            validationExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     /**
      * Validate API response against contract
      */
     public ValidationResult validateResponse(ApiTestFramework.ApiEndpoint endpoint, 
                                            ApiTestFramework.ApiResponse<?> response) {
+        return validateResponse(endpoint, response, null);
+    }
+    
+    /**
+     * Validate API response against contract, reusing an already-parsed JSON tree of
+     * the body when one is given
+     */
+    public ValidationResult validateResponse(ApiTestFramework.ApiEndpoint endpoint, 
+                                           ApiTestFramework.ApiResponse<?> response, JsonNode responseTree) {
         if (!config.isEnableContractValidation()) {
             return new ValidationResult(endpoint.getName(), "skipped", true, null, null, 0);
         }
@@ -167,7 +417,7 @@ public class ContractValidator {
         
         try {
             // Validate response schema
-            validateResponseSchema(contract, response, errors, warnings);
+            validateResponseSchema(contract, response, responseTree, errors, warnings);
             
             // Apply custom validation rules
             applyCustomValidationRules(contract, response, errors, warnings);
@@ -187,7 +437,18 @@ public class ContractValidator {
             isValid, errors, warnings, validationTime);
         
         // Store validation result
-        validationHistory.add(result);
+        historyLock.lock();
+        try {
+            validationHistory.addLast(result);
+            if (validationHistory.size() > MAX_VALIDATION_HISTORY) {
+                validationHistory.pollFirst();
+            }
+        } finally {
+            historyLock.unlock();
+        }
+        if (!isValid) {
+            unverifiedFailures.add(result);
+        }
         
         // Log validation result
         if (!isValid) {
@@ -206,11 +467,7 @@ public class ContractValidator {
      */
     public boolean validateJsonSchema(String jsonData, String schemaPath) {
         try {
-            JsonNode schema = loadSchema(schemaPath);
-            JsonNode data = objectMapper.readTree(jsonData);
-            
-            return validateJsonAgainstSchema(data, schema).isEmpty();
-            
+            return validateJsonSchema(objectMapper.readTree(jsonData), schemaPath);
         } catch (Exception e) {
             logger.error("Error validating JSON schema: {}", e.getMessage());
             return false;
@@ -218,10 +475,40 @@ public class ContractValidator {
     }
     
     /**
-     * Register contract definition for endpoint
+     * Validate an already-parsed JSON tree against schema
+     */
+    public boolean validateJsonSchema(JsonNode jsonData, String schemaPath) {
+        try {
+            return validateJsonAgainstSchema(jsonData, loadSchema(schemaPath)).isEmpty();
+        } catch (Exception e) {
+            logger.error("Error validating JSON schema: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Get schema violations for an already-parsed JSON tree, one message per violation
+     */
+    public List<String> getSchemaViolations(JsonNode jsonData, String schemaPath) throws IOException {
+        return validateJsonAgainstSchema(jsonData, loadSchema(schemaPath));
+    }
+    
+    /**
+     * Register contract definition for endpoint. Schemas that exist are compiled
+     * now so the first validation does not pay for it.
      */
     public void registerContract(ContractDefinition contract) {
         contractDefinitions.put(contract.getEndpointName(), contract);
+        
+        List<String> schemaPaths = new ArrayList<>(contract.getStatusSpecificSchemas().values());
+        schemaPaths.add(contract.getRequestSchemaPath());
+        schemaPaths.add(contract.getResponseSchemaPath());
+        for (String schemaPath : schemaPaths) {
+            if (schemaPath != null && Files.exists(resolveSchemaPath(schemaPath))) {
+                compileSchema(schemaPath);
+            }
+        }
+        
         logger.debug("Registered contract for endpoint: {}", contract.getEndpointName());
     }
     
@@ -240,17 +527,22 @@ public class ContractValidator {
     }
     
     /**
-     * Get validation history
+     * Get validation history (the most recent 10,000 results)
      */
     public List<ValidationResult> getValidationHistory() {
-        return new ArrayList<>(validationHistory);
+        historyLock.lock();
+        try {
+            return new ArrayList<>(validationHistory);
+        } finally {
+            historyLock.unlock();
+        }
     }
     
     /**
      * Get validation history for specific endpoint
      */
     public List<ValidationResult> getValidationHistory(String endpointName) {
-        return validationHistory.stream()
+        return getValidationHistory().stream()
             .filter(result -> endpointName.equals(result.getEndpoint()))
             .toList();
     }
@@ -259,7 +551,7 @@ public class ContractValidator {
      * Get failed validations
      */
     public List<ValidationResult> getFailedValidations() {
-        return validationHistory.stream()
+        return getValidationHistory().stream()
             .filter(result -> !result.isValid())
             .toList();
     }
@@ -268,7 +560,16 @@ public class ContractValidator {
      * Clear validation history
      */
     public void clearValidationHistory() {
-        validationHistory.clear();
+        historyLock.lock();
+        try {
+            validationHistory.clear();
+        } finally {
+            historyLock.unlock();
+        }
+        unverifiedFailures.clear();
+        responseSequences.clear();
+        skippedBySampling.reset();
+        droppedValidations.reset();
         logger.debug("Validation history cleared");
     }
     
@@ -290,6 +591,14 @@ public class ContractValidator {
         report.put("failedValidations", failedValidations);
         report.put("successRate", totalValidations > 0 ? (double) successfulValidations / totalValidations * 100 : 0.0);
         
+        // Sampling and async queue statistics
+        report.put("validationPolicy", config.getContractValidationPolicy().toString());
+        report.put("asyncValidation", validationExecutor != null);
+        report.put("responsesSubmitted", responseSequences.values().stream().mapToLong(AtomicLong::get).sum());
+        report.put("skippedBySampling", skippedBySampling.sum());
+        report.put("droppedValidations", droppedValidations.sum());
+        report.put("pendingValidations", pendingValidations.get());
+        
         // Endpoint-specific statistics
         Map<String, Map<String, Object>> endpointStats = new HashMap<>();
         
@@ -304,6 +613,8 @@ public class ContractValidator {
                 stats.put("successfulValidations", endpointSuccess);
                 stats.put("failedValidations", endpointTotal - endpointSuccess);
                 stats.put("successRate", endpointTotal > 0 ? (double) endpointSuccess / endpointTotal * 100 : 0.0);
+                AtomicLong submitted = responseSequences.get(endpoint);
+                stats.put("responsesSubmitted", submitted != null ? submitted.get() : endpointTotal);
                 
                 endpointStats.put(endpoint, stats);
             });
@@ -324,6 +635,44 @@ public class ContractValidator {
     
     // Private helper methods
     
+    /**
+     * Get the response as a JSON tree, reusing the parsed body when possible so
+     * streamed responses (which keep no raw text) can still be validated
+     */
+    private JsonNode responseJson(ApiTestFramework.ApiResponse<?> response) throws IOException {
+        Object body = response.getBody();
+        if (body instanceof JsonNode) {
+            return (JsonNode) body;
+        }
+        if (response.getRawResponse() != null) {
+            return objectMapper.readTree(response.getRawResponse());
+        }
+        return objectMapper.valueToTree(body);
+    }
+    
+    private ThreadPoolExecutor createValidationExecutor() {
+        int threads = Math.max(1, config.getContractValidationThreads());
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, config.getContractValidationQueueCapacity())),
+            r -> {
+                Thread thread = new Thread(r, "Phoenix-ContractValidator-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        logger.debug("Async contract validation enabled with {} threads, queue capacity {}",
+            threads, config.getContractValidationQueueCapacity());
+        return executor;
+    }
+    
+    private void completeValidation() {
+        if (pendingValidations.decrementAndGet() == 0) {
+            synchronized (pendingLock) {
+                pendingLock.notifyAll();
+            }
+        }
+    }
+    
     private void initializeDefaultContracts() {
         // Employee endpoints
         registerContract(new ContractDefinition("getEmployees", null, "schemas/employee-list.json", false));
@@ -341,27 +690,51 @@ public class ContractValidator {
         logger.debug("Initialized {} default contract definitions", contractDefinitions.size());
     }
     
-    private JsonNode loadSchema(String schemaPath) throws IOException {
-        // Check cache first
-        if (schemaCache.containsKey(schemaPath)) {
-            return schemaCache.get(schemaPath);
+    private JsonSchema loadSchema(String schemaPath) throws IOException {
+        CompiledSchema compiled = compileSchema(schemaPath);
+        if (compiled.schema == null) {
+            throw new IOException(compiled.error);
         }
-        
-        // Load schema from file
-        Path fullPath = Paths.get("src/test/resources", schemaPath);
+        return compiled.schema;
+    }
+    
+    /**
+     * Compile a schema once per path. Failures are cached only briefly, so a missing
+     * schema costs one map lookup per validation rather than a file system check, yet
+     * a schema that appears or is fixed later is still picked up.
+     */
+    private CompiledSchema compileSchema(String schemaPath) {
+        CompiledSchema cached = schemaCache.get(schemaPath);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+        return schemaCache.compute(schemaPath,
+            (path, current) -> current != null && !current.isExpired() ? current : loadCompiledSchema(path));
+    }
+    
+    private CompiledSchema loadCompiledSchema(String path) {
+        Path fullPath = resolveSchemaPath(path);
         if (!Files.exists(fullPath)) {
-            throw new IOException("Schema file not found: " + fullPath);
+            return CompiledSchema.failed("Schema file not found: " + fullPath);
+        }
+        try {
+            // Loading by URI lets relative $ref resolve against the schema's own location
+            JsonSchema schema = schemaFactory.getJsonSchema(fullPath.toUri().toString());
+            logger.trace("Compiled schema: {}", path);
+            return new CompiledSchema(schema, null, Long.MAX_VALUE);
+        } catch (ProcessingException e) {
+            logger.warn("Failed to compile schema {}: {}", path, e.getProcessingMessage().getMessage());
+            return CompiledSchema.failed("Invalid schema " + path + ": " + e.getProcessingMessage().getMessage());
         }
-        
-        JsonNode schema = objectMapper.readTree(Files.newInputStream(fullPath));
-        schemaCache.put(schemaPath, schema);
-        
-        logger.trace("Loaded schema: {}", schemaPath);
-        return schema;
+    }
+    
+    private static Path resolveSchemaPath(String schemaPath) {
+        Path path = Paths.get(schemaPath);
+        return path.isAbsolute() ? path : SCHEMA_ROOT.resolve(schemaPath);
     }
     
     private void validateResponseSchema(ContractDefinition contract, ApiTestFramework.ApiResponse<?> response, 
-                                      List<String> errors, List<String> warnings) {
+                                      JsonNode responseTree, List<String> errors, List<String> warnings) {
         try {
             String schemaPath = getSchemaPathForResponse(contract, response.getStatusCode());
             
@@ -372,8 +745,8 @@ public class ContractValidator {
                 return;
             }
             
-            JsonNode schema = loadSchema(schemaPath);
-            JsonNode responseData = objectMapper.readTree(response.getRawResponse());
+            JsonSchema schema = loadSchema(schemaPath);
+            JsonNode responseData = responseTree != null ? responseTree : responseJson(response);
             
             List<String> schemaErrors = validateJsonAgainstSchema(responseData, schema);
             errors.addAll(schemaErrors);
@@ -405,8 +778,10 @@ public class ContractValidator {
         // Basic structure validation
         if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
             // Success response should have content for most endpoints
-            if ((response.getRawResponse() == null || response.getRawResponse().isEmpty()) && 
-                response.getStatusCode() != 204) {
+            // Streamed responses carry only the parsed body
+            boolean emptyRaw = response.getRawResponse() == null || response.getRawResponse().isEmpty();
+            boolean emptyBody = response.getBody() == null || "".equals(response.getBody());
+            if (emptyRaw && emptyBody && response.getStatusCode() != 204) {
                 warnings.add("Success response has empty body");
             }
         }
@@ -454,70 +829,46 @@ public class ContractValidator {
         return null;
     }
     
-    private List<String> validateJsonAgainstSchema(JsonNode data, JsonNode schema) {
-        List<String> errors = new ArrayList<>();
-        
-        // This is a simplified JSON schema validation
-        // In production, you would use a library like everit-org/json-schema or networknt/json-schema-validator
+    private List<String> validateJsonAgainstSchema(JsonNode data, JsonSchema schema) {
+        // Deep check keeps descending into containers that already failed, reporting every violation
+        ProcessingReport report = schema.validateUnchecked(data, true);
+        if (report.isSuccess()) {
+            return Collections.emptyList();
+        }
         
-        try {
-            // Basic validation - check required fields
-            if (schema.has("required")) {
-                JsonNode required = schema.get("required");
-                if (required.isArray()) {
-                    for (JsonNode field : required) {
-                        String fieldName = field.asText();
-                        if (!data.has(fieldName)) {
-                            errors.add("Required field missing: " + fieldName);
-                        }
-                    }
-                }
-            }
-            
-            // Basic type validation
-            if (schema.has("type")) {
-                String expectedType = schema.get("type").asText();
-                if (!validateJsonType(data, expectedType)) {
-                    errors.add("Type mismatch: expected " + expectedType + ", got " + getJsonType(data));
-                }
+        List<String> errors = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            if (message.getLogLevel().compareTo(LogLevel.ERROR) < 0) {
+                continue;
             }
-            
-        } catch (Exception e) {
-            errors.add("Schema validation failed: " + e.getMessage());
+            JsonNode pointer = message.asJson().path("instance").path("pointer");
+            String location = pointer.asText().isEmpty() ? "/" : pointer.asText();
+            errors.add(location + ": " + message.getMessage());
         }
-        
         return errors;
     }
     
-    private boolean validateJsonType(JsonNode node, String expectedType) {
-        switch (expectedType.toLowerCase()) {
-            case "string":
-                return node.isTextual();
-            case "number":
-                return node.isNumber();
-            case "integer":
-                return node.isInt();
-            case "boolean":
-                return node.isBoolean();
-            case "array":
-                return node.isArray();
-            case "object":
-                return node.isObject();
-            case "null":
-                return node.isNull();
-            default:
-                return true; // Unknown type, assume valid
-        }
-    }
-    
-    private String getJsonType(JsonNode node) {
-        if (node.isTextual()) return "string";
-        if (node.isInt()) return "integer";
-        if (node.isNumber()) return "number";
-        if (node.isBoolean()) return "boolean";
-        if (node.isArray()) return "array";
-        if (node.isObject()) return "object";
-        if (node.isNull()) return "null";
-        return "unknown";
-    }
-}
\ No newline at end of file
+    /**
+     * Compiled schema, or the reason it could not be compiled
+     */
+    private static final class CompiledSchema {
+        private final JsonSchema schema;
+        private final String error;
+        // System.nanoTime() after which the entry is reloaded; never for compiled schemas
+        private final long expiresAtNanos;
+        
+        private CompiledSchema(JsonSchema schema, String error, long expiresAtNanos) {
+            this.schema = schema;
+            this.error = error;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+        
+        private static CompiledSchema failed(String error) {
+            return new CompiledSchema(null, error, System.nanoTime() + SCHEMA_FAILURE_RETRY_NANOS);
+        }
+        
+        private boolean isExpired() {
+            return expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.phoenix.hrm.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming JSON Body Handlers for API Testing Framework
+ *
+ * Body handlers that feed Jackson straight from the response byte stream instead
+ * of materialising the body as a String first:
+ * - {@link #ofJson} parses the body into a target type (or {@link JsonNode}) in a
+ *   single pass; the raw text is kept only when asked for, or for non-2xx responses
+ * - {@link #ofJsonArray} iterates a large JSON array element by element, either at
+ *   the top level or under a named field such as {@code "data"}
+ *
+ * Both handlers return a {@link Supplier}: the HTTP client completes as soon as the
+ * headers arrive, and the body is read and parsed by whichever thread calls
+ * {@code get()}. That call blocks until the client has delivered the body, so it
+ * must never run on the client's own executor; {@link ApiTestFramework} gives its
+ * client a separate pool for this reason. A body that is not wanted, e.g. one about
+ * to be retried, can be dropped by closing the supplier, which closes the stream
+ * without reading it.
+ *
+ * When a streamed body fails to parse, the first {@value #DIAGNOSTIC_PREFIX_BYTES}
+ * bytes are still available in the resulting exception message for diagnosis.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class JsonBodyHandlers {
+
+    /** Number of leading body bytes kept for diagnostics when raw retention is off */
+    public static final int DIAGNOSTIC_PREFIX_BYTES = 8 * 1024;
+
+    private JsonBodyHandlers() {
+    }
+
+    /**
+     * Parsed response body, with the raw text when it was retained
+     */
+    public static final class ParsedBody<T> {
+        private final T body;
+        private final String rawBody;
+        private final long bytesRead;
+
+        public ParsedBody(T body, String rawBody, long bytesRead) {
+            this.body = body;
+            this.rawBody = rawBody;
+            this.bytesRead = bytesRead;
+        }
+
+        // Getters
+        public T getBody() { return body; }
+        public String getRawBody() { return rawBody; }
+        public long getBytesRead() { return bytesRead; }
+    }
+
+    /**
+     * Body handler parsing the response into the given type
+     *
+     * @param objectMapper mapper used for parsing
+     * @param type target type; {@code JsonNode.class} yields a tree, {@code String.class} the raw text
+     * @param retainRaw keep the raw body text alongside the parsed body
+     */
+    public static <T> HttpResponse.BodyHandler<Supplier<ParsedBody<T>>> ofJson(ObjectMapper objectMapper,
+                                                                            Class<T> type, boolean retainRaw) {
+        JavaType javaType = objectMapper.constructType(type);
+        return responseInfo -> {
+            // Error bodies are small and are what you want to see when a test fails
+            boolean keepRaw = retainRaw || type == String.class
+                || responseInfo.statusCode() < 200 || responseInfo.statusCode() >= 300;
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                stream -> new StreamBody<>(stream, in -> parseBody(objectMapper, javaType, in, keepRaw)));
+        };
+    }
+
+    /**
+     * Body handler iterating the elements of a JSON array. For non-2xx responses the
+     * iterator is empty and the error body is available from {@link JsonArrayIterator#getErrorBody()}.
+     *
+     * @param objectMapper mapper used for parsing elements
+     * @param elementType element type
+     * @param arrayField name of the field holding the array, or null for a top-level array
+     */
+    public static <T> HttpResponse.BodyHandler<Supplier<JsonArrayIterator<T>>> ofJsonArray(ObjectMapper objectMapper,
+                                                                                        Class<T> elementType,
+                                                                                        String arrayField) {
+        return responseInfo -> {
+            boolean success = responseInfo.statusCode() >= 200 && responseInfo.statusCode() < 300;
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                stream -> new StreamBody<>(stream, in -> success
+                    ? JsonArrayIterator.open(objectMapper, elementType, arrayField, in)
+                    : JsonArrayIterator.failed(objectMapper, elementType, in)));
+        };
+    }
+
+    /**
+     * Incremental iterator over the elements of a streamed JSON array.
+     * Must be closed (or fully consumed) to release the connection.
+     */
+    public static final class JsonArrayIterator<T> implements Iterator<T>, AutoCloseable {
+        private final ObjectMapper objectMapper;
+        private final Class<T> elementType;
+        private final CountingInputStream input;
+        private final JsonParser parser;
+        private final String errorBody;
+        private boolean finished;
+        private JsonToken pending;
+        private long elementCount;
+
+        private JsonArrayIterator(ObjectMapper objectMapper, Class<T> elementType, CountingInputStream input,
+                                  JsonParser parser, String errorBody) {
+            this.objectMapper = objectMapper;
+            this.elementType = elementType;
+            this.input = input;
+            this.parser = parser;
+            this.errorBody = errorBody;
+            this.finished = parser == null;
+        }
+
+        private static <T> JsonArrayIterator<T> open(ObjectMapper objectMapper, Class<T> elementType,
+                                                     String arrayField, InputStream stream) {
+            CountingInputStream input = new CountingInputStream(stream, DIAGNOSTIC_PREFIX_BYTES);
+            JsonArrayIterator<T> iterator = null;
+            try {
+                iterator = new JsonArrayIterator<>(objectMapper, elementType, input,
+                    objectMapper.getFactory().createParser(input), null);
+                iterator.moveToArray(arrayField);
+                return iterator;
+            } catch (IOException e) {
+                if (iterator != null) {
+                    iterator.close();
+                }
+                throw new UncheckedIOException("Failed to open JSON array stream: " + e.getMessage()
+                    + "; body starts with: " + input.getPrefix(), e);
+            }
+        }
+
+        private static <T> JsonArrayIterator<T> failed(ObjectMapper objectMapper, Class<T> elementType,
+                                                       InputStream stream) {
+            CountingInputStream input = new CountingInputStream(stream, 0);
+            try (InputStream in = input) {
+                String errorBody = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                return new JsonArrayIterator<>(objectMapper, elementType, input, null, errorBody);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read error response body", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (finished) {
+                return false;
+            }
+            if (pending == null) {
+                try {
+                    pending = parser.nextToken();
+                } catch (IOException e) {
+                    close();
+                    throw new UncheckedIOException("Failed to read JSON array element " + elementCount, e);
+                }
+                if (pending == null || pending == JsonToken.END_ARRAY) {
+                    close();
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            pending = null;
+            try {
+                T element = objectMapper.readValue(parser, elementType);
+                elementCount++;
+                return element;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to parse JSON array element " + elementCount, e);
+            }
+        }
+
+        /**
+         * Stream the remaining elements; closing the stream closes this iterator
+         */
+        public Stream<T> stream() {
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            closeQuietly();
+        }
+
+        // Getters
+        public long getElementCount() { return elementCount; }
+        public long getBytesRead() { return input.getCount(); }
+        public String getErrorBody() { return errorBody; }
+
+        private void moveToArray(String arrayField) throws IOException {
+            JsonToken token = parser.nextToken();
+            if (arrayField == null) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a top-level JSON array but found " + token);
+                }
+                return;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object containing '" + arrayField + "' but found " + token);
+            }
+            // Scan only the top-level fields of the object, skipping other values whole
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (arrayField.equals(name)) {
+                    if (value != JsonToken.START_ARRAY) {
+                        throw new IOException("Field '" + arrayField + "' is not an array but " + value);
+                    }
+                    return;
+                }
+                parser.skipChildren();
+            }
+            throw new IOException("Field '" + arrayField + "' not found in response");
+        }
+
+        private void closeQuietly() {
+            try {
+                if (parser != null) {
+                    parser.close();
+                }
+                input.close();
+            } catch (IOException e) {
+                // Nothing useful to do when releasing the response stream fails
+            }
+        }
+    }
+
+    // Private helper methods
+
+    @SuppressWarnings("unchecked")
+    private static <T> ParsedBody<T> parseBody(ObjectMapper objectMapper, JavaType type, InputStream stream,
+                                               boolean keepRaw) {
+        try (InputStream in = stream) {
+            if (keepRaw) {
+                byte[] bytes = in.readAllBytes();
+                String raw = new String(bytes, StandardCharsets.UTF_8);
+                if (type.getRawClass() == String.class) {
+                    return new ParsedBody<>((T) raw, raw, bytes.length);
+                }
+                return new ParsedBody<>(bytes.length == 0 ? null : readValue(objectMapper, type, bytes, raw),
+                    raw, bytes.length);
+            }
+
+            CountingInputStream counting = new CountingInputStream(in, DIAGNOSTIC_PREFIX_BYTES);
+            try {
+                T body = type.getRawClass() == JsonNode.class
+                    ? (T) objectMapper.readTree(counting)
+                    : objectMapper.readValue(counting, type);
+                return new ParsedBody<>(body, null, counting.getCount());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to parse response body after " + counting.getCount()
+                    + " bytes: " + e.getMessage() + "; body starts with: " + counting.getPrefix(), e);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read response body", e);
+        }
+    }
+
+    private static <T> T readValue(ObjectMapper objectMapper, JavaType type, byte[] bytes, String raw) {
+        try {
+            return objectMapper.readValue(new ByteArrayInputStream(bytes), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse response body: " + e.getMessage()
+                + "; body: " + raw, e);
+        }
+    }
+
+    /**
+     * Body read on demand from the response stream; closing it instead releases the
+     * stream without blocking on the rest of the body
+     */
+    private static final class StreamBody<T> implements Supplier<T>, AutoCloseable {
+        private final InputStream stream;
+        private final Function<InputStream, T> reader;
+
+        private StreamBody(InputStream stream, Function<InputStream, T> reader) {
+            this.stream = stream;
+            this.reader = reader;
+        }
+
+        @Override
+        public T get() {
+            return reader.apply(stream);
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+
+    /**
+     * Input stream counting bytes read and keeping a bounded prefix for diagnostics
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final ByteArrayOutputStream prefix;
+        private final int prefixLimit;
+        private long count;
+
+        private CountingInputStream(InputStream in, int prefixLimit) {
+            super(in);
+            this.prefixLimit = prefixLimit;
+            this.prefix = prefixLimit > 0 ? new ByteArrayOutputStream(Math.min(prefixLimit, 1024)) : null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                if (prefix != null && prefix.size() < prefixLimit) {
+                    prefix.write(b);
+                }
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                record(buffer, offset, n);
+            }
+            return n;
+        }
+
+        private void record(byte[] buffer, int offset, int length) {
+            if (prefix != null && prefix.size() < prefixLimit) {
+                prefix.write(buffer, offset, Math.min(length, prefixLimit - prefix.size()));
+            }
+            count += length;
+        }
+
+        private long getCount() {
+            return count;
+        }
+
+        private String getPrefix() {
+            return prefix != null ? prefix.toString(StandardCharsets.UTF_8) : "";
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.phoenix.hrm.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Histogram for API Testing Framework
+ *
+ * Fixed-memory, lock-free latency histogram modelled on HdrHistogram:
+ * - Log-linear bucketing: values are grouped by power of two, and every
+ *   power-of-two range is split into linear sub-buckets
+ * - Relative error of any reported value is bounded by 2 / 2^precisionBits
+ *   (~1.6% with the default of 7 bits)
+ * - Recording is a single atomic increment, no locks and no allocation
+ * - Percentiles cover every recorded value, not a sliding sample
+ * - Exact min, max, count and total are tracked alongside the buckets
+ *
+ * Values are expected in milliseconds but the histogram is unit agnostic.
+ * Values above the highest trackable value are counted in the top bucket
+ * while still updating the exact maximum.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class LatencyHistogram {
+
+    /** Default highest trackable value: one hour in milliseconds */
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 3_600_000L;
+
+    /** Default precision: 128 sub-buckets, ~1.6% relative error */
+    public static final int DEFAULT_PRECISION_BITS = 7;
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalValue;
+    private final AtomicLong minValue;
+    private final AtomicLong maxValue;
+
+    /**
+     * Constructor with default highest trackable value
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE);
+    }
+
+    /**
+     * Constructor with default precision
+     */
+    public LatencyHistogram(long highestTrackableValue) {
+        this(highestTrackableValue, DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param highestTrackableValue values above this are counted in the top bucket
+     * @param precisionBits number of sub-bucket bits (2-12); lower values trade accuracy for memory
+     */
+    public LatencyHistogram(long highestTrackableValue, int precisionBits) {
+        if (precisionBits < 2 || precisionBits > 12) {
+            throw new IllegalArgumentException("Precision bits must be between 2 and 12: " + precisionBits);
+        }
+        this.subBucketBits = precisionBits;
+        this.subBucketCount = 1 << precisionBits;
+        if (highestTrackableValue < subBucketCount) {
+            throw new IllegalArgumentException("Highest trackable value must be at least " + subBucketCount);
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new AtomicLongArray(bucketIndex(highestTrackableValue) + 1);
+        this.totalCount = new LongAdder();
+        this.totalValue = new LongAdder();
+        this.minValue = new AtomicLong(Long.MAX_VALUE);
+        this.maxValue = new AtomicLong(0);
+    }
+
+    /**
+     * Record a single value
+     */
+    public void recordValue(long value) {
+        recordValues(value, 1);
+    }
+
+    /**
+     * Record a value that occurred a number of times
+     */
+    public void recordValues(long value, long count) {
+        if (count <= 0) {
+            return;
+        }
+        long sanitized = Math.max(0, value);
+        counts.addAndGet(bucketIndex(Math.min(sanitized, highestTrackableValue)), count);
+        totalCount.add(count);
+        totalValue.add(sanitized * count);
+
+        // Avoid CAS traffic when the extremes are not moving
+        if (sanitized < minValue.get()) {
+            minValue.accumulateAndGet(sanitized, Math::min);
+        }
+        if (sanitized > maxValue.get()) {
+            maxValue.accumulateAndGet(sanitized, Math::max);
+        }
+    }
+
+    /**
+     * Add all values recorded by another histogram into this one
+     */
+    public void add(LatencyHistogram other) {
+        if (other.subBucketBits != subBucketBits) {
+            throw new IllegalArgumentException("Cannot add histograms with different precision: "
+                + other.subBucketBits + " vs " + subBucketBits);
+        }
+        if (other.getTotalCount() == 0) {
+            return;
+        }
+        int length = Math.min(counts.length(), other.counts.length());
+        for (int i = 0; i < length; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        // Buckets beyond our range collapse into the top bucket
+        for (int i = length; i < other.counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(counts.length() - 1, count);
+            }
+        }
+        totalCount.add(other.getTotalCount());
+        totalValue.add(other.getTotalValue());
+        minValue.accumulateAndGet(other.minValue.get(), Math::min);
+        maxValue.accumulateAndGet(other.maxValue.get(), Math::max);
+    }
+
+    /**
+     * Get the value at the given percentile (0-100)
+     *
+     * The result is the highest value equivalent to the bucket holding the
+     * requested rank, capped at the exact recorded maximum. Ranks that land
+     * in the top bucket report the exact maximum.
+     */
+    public long getPercentile(double percentile) {
+        long total = totalCount.sum();
+        if (total == 0) {
+            return 0;
+        }
+
+        double clamped = Math.max(0.0, Math.min(percentile, 100.0));
+        long targetRank = Math.max(1, (long) Math.ceil(clamped / 100.0 * total));
+        long max = maxValue.get();
+
+        long cumulative = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= targetRank) {
+                if (i == counts.length() - 1) {
+                    // The top bucket also holds clamped out-of-range values
+                    return max;
+                }
+                return Math.max(getMin(), Math.min(highestEquivalentValue(i), max));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Get the standard percentile summary (p50, p90, p95, p99, p99.9 and max)
+     */
+    public Map<String, Long> getPercentileSummary() {
+        Map<String, Long> summary = new LinkedHashMap<>();
+        summary.put("p50", getPercentile(50.0));
+        summary.put("p90", getPercentile(90.0));
+        summary.put("p95", getPercentile(95.0));
+        summary.put("p99", getPercentile(99.0));
+        summary.put("p99.9", getPercentile(99.9));
+        summary.put("max", getMax());
+        return summary;
+    }
+
+    /**
+     * Get the number of values at or below each bound, in one pass, e.g. to export
+     * the histogram with coarser fixed buckets. A bound that falls inside a bucket
+     * counts the whole bucket, so counts may include values up to the histogram's
+     * relative error above the bound.
+     *
+     * @param upperBounds ascending bucket bounds
+     */
+    public long[] getCumulativeCounts(long[] upperBounds) {
+        long[] cumulative = new long[upperBounds.length];
+        long running = 0;
+        int index = 0;
+        for (int i = 0; i < upperBounds.length; i++) {
+            if (upperBounds[i] >= highestTrackableValue) {
+                cumulative[i] = totalCount.sum();
+                continue;
+            }
+            int lastIndex = bucketIndex(Math.max(0, upperBounds[i]));
+            for (; index <= lastIndex; index++) {
+                running += counts.get(index);
+            }
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Reset all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalValue.reset();
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    // Getters
+    public long getTotalCount() { return totalCount.sum(); }
+    public long getTotalValue() { return totalValue.sum(); }
+    public long getHighestTrackableValue() { return highestTrackableValue; }
+    public int getPrecisionBits() { return subBucketBits; }
+    public long getMin() {
+        long min = minValue.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+    public long getMax() { return maxValue.get(); }
+    public double getMean() {
+        long count = totalCount.sum();
+        return count > 0 ? (double) totalValue.sum() / count : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram{count=%d, mean=%.2f, p50=%d, p99=%d, max=%d}",
+            getTotalCount(), getMean(), getPercentile(50.0), getPercentile(99.0), getMax());
+    }
+
+    // Private helper methods
+
+    /**
+     * Map a value to its bucket. Values below subBucketCount get one bucket
+     * each; above that, each power of two is split into subBucketCount / 2
+     * linear buckets.
+     */
+    private int bucketIndex(long value) {
+        int magnitude = magnitudeOf(value);
+        return (magnitude << (subBucketBits - 1)) + (int) (value >>> magnitude);
+    }
+
+    private int magnitudeOf(long value) {
+        int highestBit = 63 - Long.numberOfLeadingZeros(value | 1);
+        return Math.max(0, highestBit - subBucketBits + 1);
+    }
+
+    private long highestEquivalentValue(int index) {
+        int magnitude = index < subBucketCount ? 0 : (index >> (subBucketBits - 1)) - 1;
+        long subBucket = index - ((long) magnitude << (subBucketBits - 1));
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
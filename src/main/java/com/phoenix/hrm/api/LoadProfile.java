@@ -0,0 +1,162 @@
+package com.phoenix.hrm.api;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Load Profile for the API load generator
+ *
+ * Describes the target arrival rate (requests per second) as a function of
+ * elapsed time, together with the total run duration. Provides the standard
+ * shapes used in our performance strategy:
+ * - constant: fixed rate for the whole run
+ * - ramp: linear change from one rate to another
+ * - step: rate increases by a fixed amount at fixed intervals
+ * - spike: base rate with a burst window at a higher rate
+ *
+ * Send times come from {@link #schedule()}, which follows the integral of the
+ * rate rather than the rate at the previous send, so ramps from zero and short
+ * spikes get the number of requests the profile describes.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class LoadProfile {
+
+    // Longest stretch over which the rate is treated as constant when integrating
+    private static final long INTEGRATION_STEP_NANOS = 1_000_000;
+
+    private final String name;
+    private final Duration duration;
+    private final ToDoubleFunction<Duration> rateFunction;
+
+    /**
+     * Constructor
+     *
+     * @param name profile name used in reports
+     * @param duration total run duration
+     * @param rateFunction target requests per second for a given elapsed time
+     */
+    public LoadProfile(String name, Duration duration, ToDoubleFunction<Duration> rateFunction) {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Load profile duration must be positive");
+        }
+        this.name = name;
+        this.duration = duration;
+        this.rateFunction = rateFunction;
+    }
+
+    /**
+     * Fixed arrival rate for the whole run
+     */
+    public static LoadProfile constant(double requestsPerSecond, Duration duration) {
+        requirePositive(requestsPerSecond);
+        return new LoadProfile(String.format("constant(%.1f rps)", requestsPerSecond), duration,
+            elapsed -> requestsPerSecond);
+    }
+
+    /**
+     * Linear change from one rate to another over the whole run
+     */
+    public static LoadProfile ramp(double fromRequestsPerSecond, double toRequestsPerSecond, Duration duration) {
+        double totalNanos = duration.toNanos();
+        return new LoadProfile(String.format("ramp(%.1f->%.1f rps)", fromRequestsPerSecond, toRequestsPerSecond),
+            duration, elapsed -> {
+                double progress = Math.min(1.0, elapsed.toNanos() / totalNanos);
+                return fromRequestsPerSecond + (toRequestsPerSecond - fromRequestsPerSecond) * progress;
+            });
+    }
+
+    /**
+     * Start at a rate and add a fixed increment after every step
+     */
+    public static LoadProfile step(double startRequestsPerSecond, double incrementPerStep,
+                                   Duration stepDuration, int steps) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("Step profile needs at least one step");
+        }
+        long stepNanos = stepDuration.toNanos();
+        return new LoadProfile(String.format("step(%.1f +%.1f rps x%d)", startRequestsPerSecond, incrementPerStep, steps),
+            stepDuration.multipliedBy(steps), elapsed -> {
+                long step = Math.min(steps - 1, elapsed.toNanos() / stepNanos);
+                return startRequestsPerSecond + incrementPerStep * step;
+            });
+    }
+
+    /**
+     * Base rate with a burst at a higher rate
+     */
+    public static LoadProfile spike(double baseRequestsPerSecond, double spikeRequestsPerSecond,
+                                    Duration spikeStart, Duration spikeDuration, Duration duration) {
+        Duration spikeEnd = spikeStart.plus(spikeDuration);
+        return new LoadProfile(String.format("spike(%.1f/%.1f rps)", baseRequestsPerSecond, spikeRequestsPerSecond),
+            duration, elapsed -> elapsed.compareTo(spikeStart) >= 0 && elapsed.compareTo(spikeEnd) < 0
+                ? spikeRequestsPerSecond : baseRequestsPerSecond);
+    }
+
+    /**
+     * Get the target arrival rate at the given elapsed time (requests per second)
+     */
+    public double rateAt(Duration elapsed) {
+        return Math.max(0.0, rateFunction.applyAsDouble(elapsed));
+    }
+
+    /**
+     * Start a new schedule of intended send times for this profile
+     */
+    public ArrivalSchedule schedule() {
+        return new ArrivalSchedule();
+    }
+
+    /**
+     * Intended send times of one run. The n-th send happens when the expected
+     * number of arrivals, the rate integrated from the start, reaches n.
+     */
+    public class ArrivalSchedule {
+        private final long endNanos = duration.toNanos();
+        private long positionNanos;
+        // Expected arrivals accumulated since the last send, always below one
+        private double pending;
+
+        private ArrivalSchedule() {
+        }
+
+        /**
+         * Get the elapsed time of the next send in nanoseconds, or -1 once the profile has ended
+         */
+        public long nextNanos() {
+            while (positionNanos < endNanos) {
+                double perNano = rateAt(Duration.ofNanos(positionNanos)) / 1_000_000_000.0;
+                long step = Math.min(INTEGRATION_STEP_NANOS, endNanos - positionNanos);
+                // The tolerance keeps rounding from dropping a send due exactly at the end of a step
+                if (perNano > 0 && pending + perNano * step >= 1.0 - 1e-9) {
+                    double untilSend = Math.max(0.0, (1.0 - pending) / perNano);
+                    long advance = Math.max(1L, (long) Math.ceil(untilSend));
+                    // Arrivals accrued in the rounded-up fraction count towards the next send
+                    pending = perNano * (advance - untilSend);
+                    positionNanos = Math.min(positionNanos + advance, endNanos);
+                    return positionNanos;
+                }
+                pending += perNano * step;
+                positionNanos += step;
+            }
+            return -1;
+        }
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public Duration getDuration() { return duration; }
+
+    @Override
+    public String toString() {
+        return String.format("LoadProfile{name='%s', duration=%s}", name, duration);
+    }
+
+    private static void requirePositive(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Request rate must be positive: " + requestsPerSecond);
+        }
+    }
+}
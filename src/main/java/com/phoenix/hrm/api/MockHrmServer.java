@@ -0,0 +1,667 @@
+package com.phoenix.hrm.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.phoenix.hrm.parallel.VirtualThreadSupport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Mock HRM Server for API Testing Framework
+ *
+ * Embedded stand-in for the HRM API so the client stack can be benchmarked
+ * offline on any machine:
+ * - Implements the default endpoints of {@link ApiTestFramework} (employees,
+ *   departments, payroll, auth) plus leave requests, under the same endpoint names
+ * - Backed by an in-memory store seeded with generated records
+ * - Per-endpoint profiles set latency (fixed or log-normal), injected error rate
+ *   and status, list size, per-record payload padding and gzip response compression
+ * - Gzip-encoded request bodies are accepted on every endpoint
+ * - Optionally requires a bearer token issued by its own login endpoint on every
+ *   non-auth endpoint, answering 401 without one
+ * - Starts in milliseconds on an ephemeral port; handlers run on virtual threads
+ *   when available, so simulated latency does not limit concurrency
+ *
+ * Started for a whole suite by {@link MockHrmServerListener}.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class MockHrmServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockHrmServer.class);
+
+    private static final String[] FIRST_NAMES = {"Linda", "Odis", "Peter", "Rebecca", "Charlie", "Garry", "Fiona"};
+    private static final String[] LAST_NAMES = {"Anderson", "Adalwin", "Mac", "Harmony", "Carter", "White", "Grace"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Finance", "Human Resources", "Sales", "Support"};
+
+    private final ObjectMapper objectMapper;
+    private final String host;
+    private final int requestedPort;
+    private final EndpointProfile defaultProfile;
+    private final Map<String, EndpointProfile> profiles;
+    private final Map<String, NavigableMap<Integer, ObjectNode>> collections;
+    private final Map<String, AtomicInteger> idSequences;
+    private final Map<String, AtomicLong> requestCounts;
+    private final AtomicLong injectedFaults;
+    private final boolean requireAuth;
+    private final Set<String> issuedTokens;
+    private final AtomicLong rejectedUnauthenticated;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Behaviour of one endpoint
+     */
+    public static class EndpointProfile {
+        private final TrafficReplayServer.LatencyModel latency;
+        private final String latencyDescription;
+        private final double errorRatePercent;
+        private final int errorStatus;
+        private final int listSize;
+        private final int paddingBytes;
+        private final String padding;
+        private final boolean compression;
+
+        private EndpointProfile(Builder builder) {
+            this.latency = builder.latency;
+            this.latencyDescription = builder.latencyDescription;
+            this.errorRatePercent = builder.errorRatePercent;
+            this.errorStatus = builder.errorStatus;
+            this.listSize = builder.listSize;
+            this.paddingBytes = builder.paddingBytes;
+            this.padding = "x".repeat(Math.max(0, builder.paddingBytes));
+            this.compression = builder.compression;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Builder for EndpointProfile
+         */
+        public static class Builder {
+            private TrafficReplayServer.LatencyModel latency = TrafficReplayServer.LatencyModel.none();
+            private String latencyDescription = "0ms";
+            private double errorRatePercent = 0.0;
+            private int errorStatus = 500;
+            private int listSize = 20;
+            private int paddingBytes = 0;
+            private boolean compression = false;
+
+            /**
+             * Same latency for every response
+             */
+            public Builder latency(Duration fixed) {
+                this.latency = TrafficReplayServer.LatencyModel.fixed(fixed);
+                this.latencyDescription = fixed.toMillis() + "ms";
+                return this;
+            }
+
+            /**
+             * Log-normal latency with the given median and 99th percentile
+             */
+            public Builder latency(Duration median, Duration p99) {
+                this.latency = TrafficReplayServer.LatencyModel.logNormal(median, p99);
+                this.latencyDescription = "p50=" + median.toMillis() + "ms p99=" + p99.toMillis() + "ms";
+                return this;
+            }
+
+            /**
+             * Percentage of requests answered with the error status instead
+             */
+            public Builder errorRate(double percent) {
+                if (percent < 0 || percent > 100) {
+                    throw new IllegalArgumentException("Error rate must be between 0 and 100: " + percent);
+                }
+                this.errorRatePercent = percent;
+                return this;
+            }
+
+            public Builder errorStatus(int errorStatus) {
+                this.errorStatus = errorStatus;
+                return this;
+            }
+
+            /**
+             * Maximum number of records returned by list endpoints
+             */
+            public Builder listSize(int listSize) {
+                this.listSize = listSize;
+                return this;
+            }
+
+            /**
+             * Extra bytes of filler added to every returned record
+             */
+            public Builder paddingBytes(int paddingBytes) {
+                this.paddingBytes = paddingBytes;
+                return this;
+            }
+
+            /**
+             * Gzip responses for clients that send {@code Accept-Encoding: gzip}
+             */
+            public Builder compression(boolean compression) {
+                this.compression = compression;
+                return this;
+            }
+
+            public EndpointProfile build() {
+                return new EndpointProfile(this);
+            }
+        }
+
+        // Getters
+        public double getErrorRatePercent() { return errorRatePercent; }
+        public int getErrorStatus() { return errorStatus; }
+        public int getListSize() { return listSize; }
+        public int getPaddingBytes() { return paddingBytes; }
+        public boolean isCompression() { return compression; }
+
+        @Override
+        public String toString() {
+            return String.format("EndpointProfile{latency=%s, errorRate=%.2f%%, listSize=%d, padding=%dB, gzip=%s}",
+                latencyDescription, errorRatePercent, listSize, paddingBytes, compression);
+        }
+    }
+
+    /**
+     * Builder for MockHrmServer
+     */
+    public static class Builder {
+        private String host = "localhost";
+        private int port = 0;
+        private int employees = 100;
+        private boolean requireAuth = false;
+        private EndpointProfile defaultProfile = EndpointProfile.builder().build();
+        private final Map<String, EndpointProfile> profiles = new HashMap<>();
+
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * Port to bind; 0 (the default) picks a free port
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Number of employees (with payroll and leave records) seeded at start
+         */
+        public Builder employees(int employees) {
+            this.employees = employees;
+            return this;
+        }
+
+        /**
+         * Answer 401 on every non-auth endpoint unless the request carries
+         * "Authorization: Bearer &lt;token&gt;" with a token issued by this server's login
+         */
+        public Builder requireAuth(boolean requireAuth) {
+            this.requireAuth = requireAuth;
+            return this;
+        }
+
+        /**
+         * Profile of endpoints without their own profile
+         */
+        public Builder defaultProfile(EndpointProfile defaultProfile) {
+            this.defaultProfile = defaultProfile;
+            return this;
+        }
+
+        /**
+         * Profile of one endpoint, by its ApiTestFramework endpoint name (e.g. "getEmployees")
+         */
+        public Builder endpoint(String endpointName, EndpointProfile profile) {
+            profiles.put(endpointName, profile);
+            return this;
+        }
+
+        public MockHrmServer build() {
+            return new MockHrmServer(this);
+        }
+    }
+
+    private MockHrmServer(Builder builder) {
+        this.objectMapper = new ObjectMapper();
+        this.host = builder.host;
+        this.requestedPort = builder.port;
+        this.defaultProfile = builder.defaultProfile;
+        this.profiles = new HashMap<>(builder.profiles);
+        this.collections = new ConcurrentHashMap<>();
+        this.idSequences = new ConcurrentHashMap<>();
+        this.requestCounts = new ConcurrentHashMap<>();
+        this.injectedFaults = new AtomicLong();
+        this.requireAuth = builder.requireAuth;
+        this.issuedTokens = ConcurrentHashMap.newKeySet();
+        this.rejectedUnauthenticated = new AtomicLong();
+        seed(builder.employees);
+    }
+
+    /**
+     * Start serving
+     *
+     * @return the bound port
+     * @throws IllegalStateException if already started or the port cannot be bound
+     */
+    public int start() {
+        if (server != null) {
+            throw new IllegalStateException("Mock HRM server already started");
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, requestedPort), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start mock HRM server on " + host + ":" + requestedPort, e);
+        }
+        executor = VirtualThreadSupport.newVirtualThreadPerTaskExecutor("Phoenix-MockHrm",
+            () -> Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "Phoenix-MockHrm");
+                thread.setDaemon(true);
+                return thread;
+            }));
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Mock HRM server listening at {} ({} employees, default {})", getBaseUrl(),
+            collections.get("employees").size(), defaultProfile);
+        return getPort();
+    }
+
+    /**
+     * Stop serving; the store is kept
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+            logger.info("Mock HRM server stopped: {} requests, {} injected faults", getTotalRequests(),
+                injectedFaults.get());
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    /**
+     * Requests received per endpoint name, including injected faults
+     */
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        requestCounts.forEach((name, count) -> counts.put(name, count.get()));
+        return counts;
+    }
+
+    // Getters
+    public int getPort() { return server != null ? server.getAddress().getPort() : -1; }
+    public String getBaseUrl() { return "http://" + host + ":" + getPort(); }
+    public long getInjectedFaults() { return injectedFaults.get(); }
+    public long getRejectedUnauthenticated() { return rejectedUnauthenticated.get(); }
+    public long getTotalRequests() { return requestCounts.values().stream().mapToLong(AtomicLong::get).sum(); }
+    public int getRecordCount(String collection) {
+        NavigableMap<Integer, ObjectNode> records = collections.get(collection);
+        return records != null ? records.size() : 0;
+    }
+
+    // Private helper methods
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String[] segments = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/");
+            String endpointName = endpointName(method, segments);
+            byte[] requestBody;
+            boolean gzipped = "gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            try (InputStream in = gzipped ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            } catch (IOException e) {
+                send(exchange, 400, error("Unreadable request body: " + e.getMessage()));
+                return;
+            }
+            if (endpointName == null) {
+                send(exchange, 404, error("No mock endpoint for " + method + " " + exchange.getRequestURI().getPath()));
+                return;
+            }
+
+            requestCounts.computeIfAbsent(endpointName, name -> new AtomicLong()).incrementAndGet();
+            if (requireAuth && !"auth".equals(segments[0])
+                    && !isIssuedToken(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                rejectedUnauthenticated.incrementAndGet();
+                send(exchange, 401, error("Missing or unknown bearer token"));
+                return;
+            }
+            EndpointProfile profile = profiles.getOrDefault(endpointName, defaultProfile);
+            long delay = profile.latency.delayMillis(null);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            if (profile.errorRatePercent > 0
+                    && ThreadLocalRandom.current().nextDouble(100.0) < profile.errorRatePercent) {
+                injectedFaults.incrementAndGet();
+                send(exchange, profile.errorStatus, error("Injected fault"), profile);
+                return;
+            }
+
+            Response response;
+            try {
+                response = dispatch(endpointName, segments, requestBody, profile);
+            } catch (IOException e) {
+                response = new Response(400, error("Malformed JSON request body: " + e.getMessage()));
+            }
+            send(exchange, response.status, response.body, profile);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.warn("Mock HRM server failed to handle {}: {}", exchange.getRequestURI(), e.getMessage());
+            send(exchange, 500, error(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Map a request onto the ApiTestFramework endpoint name it implements
+     */
+    private static String endpointName(String method, String[] segments) {
+        String resource = segments[0];
+        boolean item = segments.length == 2;
+        if (segments.length > 2) {
+            return null;
+        }
+        switch (resource) {
+            case "employees":
+                switch (method) {
+                    case "GET": return item ? "getEmployee" : "getEmployees";
+                    case "POST": return item ? null : "createEmployee";
+                    case "PUT": return item ? "updateEmployee" : null;
+                    case "DELETE": return item ? "deleteEmployee" : null;
+                    default: return null;
+                }
+            case "departments":
+                switch (method) {
+                    case "GET": return item ? "getDepartment" : "getDepartments";
+                    case "POST": return item ? null : "createDepartment";
+                    default: return null;
+                }
+            case "payroll":
+                switch (method) {
+                    case "GET": return item ? "getPayroll" : null;
+                    case "POST": return item ? null : "createPayroll";
+                    default: return null;
+                }
+            case "leave":
+                switch (method) {
+                    case "GET": return item ? "getLeaveRequest" : "getLeaveRequests";
+                    case "POST": return item ? null : "createLeaveRequest";
+                    default: return null;
+                }
+            case "auth":
+                if (!"POST".equals(method) || !item) {
+                    return null;
+                }
+                switch (segments[1]) {
+                    case "login": return "login";
+                    case "logout": return "logout";
+                    case "refresh": return "refreshToken";
+                    default: return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    private Response dispatch(String endpointName, String[] segments, byte[] requestBody, EndpointProfile profile)
+            throws IOException {
+        switch (endpointName) {
+            case "getEmployees": return list("employees", profile);
+            case "getEmployee": return get("employees", segments[1], profile);
+            case "createEmployee": return create("employees", requestBody, profile);
+            case "updateEmployee": return update("employees", segments[1], requestBody, profile);
+            case "deleteEmployee": return delete("employees", segments[1]);
+            case "getDepartments": return list("departments", profile);
+            case "getDepartment": return get("departments", segments[1], profile);
+            case "createDepartment": return create("departments", requestBody, profile);
+            case "getPayroll": return get("payroll", segments[1], profile);
+            case "createPayroll": return create("payroll", requestBody, profile);
+            case "getLeaveRequests": return list("leave", profile);
+            case "getLeaveRequest": return get("leave", segments[1], profile);
+            case "createLeaveRequest": return create("leave", requestBody, profile);
+            case "login": return login(requestBody);
+            case "refreshToken": return login(requestBody);
+            case "logout": return new Response(204, null);
+            default: return new Response(404, error("Unknown endpoint " + endpointName));
+        }
+    }
+
+    private Response list(String collection, EndpointProfile profile) {
+        List<ObjectNode> page = new ArrayList<>();
+        for (ObjectNode record : collections.get(collection).values()) {
+            if (page.size() >= profile.listSize) {
+                break;
+            }
+            page.add(padded(record, profile));
+        }
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putArray("data").addAll(page);
+        body.putObject("meta").put("total", collections.get(collection).size());
+        return new Response(200, body);
+    }
+
+    private Response get(String collection, String id, EndpointProfile profile) {
+        ObjectNode record = find(collection, id);
+        if (record == null) {
+            return new Response(404, error("Record not found: " + collection + "/" + id));
+        }
+        return new Response(200, wrap(padded(record, profile)));
+    }
+
+    private Response create(String collection, byte[] requestBody, EndpointProfile profile) throws IOException {
+        ObjectNode record = parseObject(requestBody);
+        if (record == null) {
+            return new Response(400, error("Request body must be a JSON object"));
+        }
+        int id = idSequences.get(collection).incrementAndGet();
+        record.put("id", id);
+        collections.get(collection).put(id, record);
+        return new Response(201, wrap(padded(record, profile)));
+    }
+
+    private Response update(String collection, String id, byte[] requestBody, EndpointProfile profile)
+            throws IOException {
+        ObjectNode record = find(collection, id);
+        ObjectNode changes = parseObject(requestBody);
+        if (record == null) {
+            return new Response(404, error("Record not found: " + collection + "/" + id));
+        }
+        if (changes == null) {
+            return new Response(400, error("Request body must be a JSON object"));
+        }
+        ObjectNode updated = record.deepCopy();
+        updated.setAll(changes);
+        updated.put("id", record.get("id").asInt());
+        collections.get(collection).put(updated.get("id").asInt(), updated);
+        return new Response(200, wrap(padded(updated, profile)));
+    }
+
+    private Response delete(String collection, String id) {
+        ObjectNode record = find(collection, id);
+        if (record == null) {
+            return new Response(404, error("Record not found: " + collection + "/" + id));
+        }
+        collections.get(collection).remove(record.get("id").asInt());
+        return new Response(204, null);
+    }
+
+    private Response login(byte[] requestBody) throws IOException {
+        ObjectNode credentials = parseObject(requestBody);
+        if (credentials == null) {
+            return new Response(400, error("Request body must be a JSON object"));
+        }
+
+        String accessToken = UUID.randomUUID().toString();
+        issuedTokens.add(accessToken);
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("accessToken", accessToken);
+        body.put("tokenType", "Bearer");
+        body.put("expiresIn", 3600);
+        body.put("refreshToken", UUID.randomUUID().toString());
+        return new Response(200, body);
+    }
+
+    private boolean isIssuedToken(String authorization) {
+        String prefix = "Bearer ";
+        return authorization != null && authorization.regionMatches(true, 0, prefix, 0, prefix.length())
+            && issuedTokens.contains(authorization.substring(prefix.length()).trim());
+    }
+
+    private ObjectNode find(String collection, String id) {
+        try {
+            return collections.get(collection).get(Integer.parseInt(id));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ObjectNode parseObject(byte[] requestBody) throws IOException {
+        if (requestBody.length == 0) {
+            return objectMapper.createObjectNode();
+        }
+        JsonNode parsed = objectMapper.readTree(requestBody);
+        return parsed instanceof ObjectNode ? (ObjectNode) parsed : null;
+    }
+
+    private ObjectNode padded(ObjectNode record, EndpointProfile profile) {
+        if (profile.paddingBytes <= 0) {
+            return record;
+        }
+        ObjectNode copy = record.deepCopy();
+        copy.put("padding", profile.padding);
+        return copy;
+    }
+
+    private ObjectNode wrap(ObjectNode record) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set("data", record);
+        return body;
+    }
+
+    private ObjectNode error(String message) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("error", message);
+        return body;
+    }
+
+    private void send(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        send(exchange, status, body, null);
+    }
+
+    private void send(HttpExchange exchange, int status, JsonNode body, EndpointProfile profile) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (profile != null && profile.compression && acceptEncoding != null
+                && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            bytes = CompressionBodyHandlers.gzip(bytes);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void seed(int employees) {
+        for (String collection : List.of("employees", "departments", "payroll", "leave")) {
+            collections.put(collection, new ConcurrentSkipListMap<>());
+            idSequences.put(collection, new AtomicInteger());
+        }
+
+        for (String name : DEPARTMENTS) {
+            int id = idSequences.get("departments").incrementAndGet();
+            ObjectNode department = objectMapper.createObjectNode();
+            department.put("id", id);
+            department.put("name", name);
+            collections.get("departments").put(id, department);
+        }
+
+        for (int i = 0; i < employees; i++) {
+            int id = idSequences.get("employees").incrementAndGet();
+            ObjectNode employee = objectMapper.createObjectNode();
+            employee.put("id", id);
+            employee.put("employeeId", String.format("EMP%05d", id));
+            employee.put("firstName", FIRST_NAMES[i % FIRST_NAMES.length]);
+            employee.put("lastName", LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length]);
+            employee.put("departmentId", i % DEPARTMENTS.length + 1);
+            employee.put("status", "ACTIVE");
+            collections.get("employees").put(id, employee);
+
+            // Payroll is keyed by employee id, matching /payroll/{employeeId}
+            ObjectNode payroll = objectMapper.createObjectNode();
+            payroll.put("id", id);
+            payroll.put("employeeId", id);
+            payroll.put("currency", "USD");
+            payroll.put("annualSalary", 40_000 + (i * 750) % 60_000);
+            collections.get("payroll").put(id, payroll);
+            idSequences.get("payroll").set(id);
+
+            int leaveId = idSequences.get("leave").incrementAndGet();
+            ObjectNode leave = objectMapper.createObjectNode();
+            leave.put("id", leaveId);
+            leave.put("employeeId", id);
+            leave.put("type", i % 2 == 0 ? "ANNUAL" : "SICK");
+            leave.put("days", 1 + i % 5);
+            leave.put("status", "PENDING");
+            collections.get("leave").put(leaveId, leave);
+        }
+    }
+
+    private static final class Response {
+        private final int status;
+        private final JsonNode body;
+
+        private Response(int status, JsonNode body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
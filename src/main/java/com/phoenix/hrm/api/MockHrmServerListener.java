@@ -0,0 +1,157 @@
+package com.phoenix.hrm.api;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Mock HRM Server Listener for API Testing Framework
+ *
+ * TestNG suite listener that runs a {@link MockHrmServer} for the duration of a suite:
+ * - Starts before the first test and stops after the last one
+ * - Points {@link ApiTestFramework.ApiConfiguration} defaults at the mock through the
+ *   {@code phoenix.api.baseUrl} system property; the URL is also stored as the
+ *   {@code mock.hrm.baseUrl} suite attribute
+ * - Configured by suite parameters, each overridable by a system property of the
+ *   same name
+ *
+ * Parameters ({@code mock.hrm.} prefix for the default profile,
+ * {@code mock.hrm.endpoint.<endpointName>.} for one endpoint):
+ * - {@code mock.hrm.enabled}: false skips the server (default true)
+ * - {@code mock.hrm.port}, {@code mock.hrm.employees}
+ * - {@code mock.hrm.require.auth}: true answers 401 without a token from the mock's login
+ * - {@code latency.ms}, or {@code latency.median.ms} with {@code latency.p99.ms}
+ * - {@code error.rate} (percent), {@code error.status}
+ * - {@code list.size}, {@code padding.bytes}
+ * - {@code gzip}: true compresses responses for clients that accept gzip
+ *
+ * <pre>
+ * &lt;listener class-name="com.phoenix.hrm.api.MockHrmServerListener"/&gt;
+ * &lt;parameter name="mock.hrm.latency.median.ms" value="40"/&gt;
+ * &lt;parameter name="mock.hrm.latency.p99.ms" value="250"/&gt;
+ * &lt;parameter name="mock.hrm.endpoint.getEmployees.error.rate" value="1.5"/&gt;
+ * </pre>
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class MockHrmServerListener implements ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MockHrmServerListener.class);
+
+    public static final String PREFIX = "mock.hrm.";
+    public static final String ENDPOINT_PREFIX = PREFIX + "endpoint.";
+    public static final String BASE_URL_ATTRIBUTE = PREFIX + "baseUrl";
+
+    private MockHrmServer server;
+    private String previousBaseUrl;
+
+    @Override
+    public void onStart(ISuite suite) {
+        Map<String, String> parameters = suite.getXmlSuite().getAllParameters();
+        if (!Boolean.parseBoolean(parameter(parameters, PREFIX + "enabled", "true"))) {
+            logger.info("Mock HRM server disabled for suite {}", suite.getName());
+            return;
+        }
+
+        MockHrmServer.Builder builder = new MockHrmServer.Builder()
+            .port(Integer.parseInt(parameter(parameters, PREFIX + "port", "0")))
+            .employees(Integer.parseInt(parameter(parameters, PREFIX + "employees", "100")))
+            .requireAuth(Boolean.parseBoolean(parameter(parameters, PREFIX + "require.auth", "false")))
+            .defaultProfile(profile(parameters, PREFIX));
+        for (String key : parameters.keySet()) {
+            if (key.startsWith(ENDPOINT_PREFIX)) {
+                String rest = key.substring(ENDPOINT_PREFIX.length());
+                int dot = rest.indexOf('.');
+                if (dot > 0) {
+                    String endpointName = rest.substring(0, dot);
+                    builder.endpoint(endpointName, profile(parameters, ENDPOINT_PREFIX + endpointName + "."));
+                }
+            }
+        }
+
+        server = builder.build();
+        server.start();
+        previousBaseUrl = System.getProperty(ApiTestFramework.ApiConfiguration.BASE_URL_PROPERTY);
+        System.setProperty(ApiTestFramework.ApiConfiguration.BASE_URL_PROPERTY, server.getBaseUrl());
+        suite.setAttribute(BASE_URL_ATTRIBUTE, server.getBaseUrl());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (server == null) {
+            return;
+        }
+        server.stop();
+        server = null;
+        if (previousBaseUrl != null) {
+            System.setProperty(ApiTestFramework.ApiConfiguration.BASE_URL_PROPERTY, previousBaseUrl);
+        } else {
+            System.clearProperty(ApiTestFramework.ApiConfiguration.BASE_URL_PROPERTY);
+        }
+    }
+
+    /**
+     * Server of the running suite, or null
+     */
+    public MockHrmServer getServer() {
+        return server;
+    }
+
+    // Private helper methods
+
+    /**
+     * Build a profile from the parameters under a prefix; unset knobs fall back to
+     * the default profile's parameters
+     */
+    private static MockHrmServer.EndpointProfile profile(Map<String, String> parameters, String prefix) {
+        MockHrmServer.EndpointProfile.Builder profile = MockHrmServer.EndpointProfile.builder();
+
+        String fixed = setting(parameters, prefix, "latency.ms");
+        String median = setting(parameters, prefix, "latency.median.ms");
+        if (median != null) {
+            String p99 = setting(parameters, prefix, "latency.p99.ms");
+            profile.latency(Duration.ofMillis(Long.parseLong(median)),
+                Duration.ofMillis(Long.parseLong(p99 != null ? p99 : median)));
+        } else if (fixed != null) {
+            profile.latency(Duration.ofMillis(Long.parseLong(fixed)));
+        }
+
+        String errorRate = setting(parameters, prefix, "error.rate");
+        if (errorRate != null) {
+            profile.errorRate(Double.parseDouble(errorRate));
+        }
+        String errorStatus = setting(parameters, prefix, "error.status");
+        if (errorStatus != null) {
+            profile.errorStatus(Integer.parseInt(errorStatus));
+        }
+        String listSize = setting(parameters, prefix, "list.size");
+        if (listSize != null) {
+            profile.listSize(Integer.parseInt(listSize));
+        }
+        String padding = setting(parameters, prefix, "padding.bytes");
+        if (padding != null) {
+            profile.paddingBytes(Integer.parseInt(padding));
+        }
+        String gzip = setting(parameters, prefix, "gzip");
+        if (gzip != null) {
+            profile.compression(Boolean.parseBoolean(gzip));
+        }
+        return profile.build();
+    }
+
+    private static String setting(Map<String, String> parameters, String prefix, String name) {
+        String value = parameter(parameters, prefix + name, null);
+        return value != null || prefix.equals(PREFIX) ? value : parameter(parameters, PREFIX + name, null);
+    }
+
+    private static String parameter(Map<String, String> parameters, String name, String defaultValue) {
+        String value = System.getProperty(name, parameters.get(name));
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+}
@@ -1,14 +1,18 @@
 package com.phoenix.hrm.api;
 
+import com.phoenix.hrm.monitoring.OpenMetricsWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Performance Metrics Component for API Testing Framework
@@ -18,8 +22,14 @@ import java.util.concurrent.atomic.AtomicReference;
  * - Request throughput and rate tracking
  * - Status code distribution analysis
  * - Endpoint-specific performance tracking
- * - Performance trend analysis over time
+ * - Performance trend analysis over time (rolling per-second/per-minute windows)
  * - Performance threshold monitoring and alerting
+ * - Retry, retry-budget and circuit breaker activity per endpoint
+ * - Response cache hits, misses and revalidations per endpoint
+ * - Upload and download transfer volume and throughput per endpoint
+ * - Bytes on the wire versus decoded, and decode time, for compressed traffic per endpoint
+ * - Percentile and error-rate SLA budgets over trailing windows (see {@link SlaPolicy})
+ * - OpenMetrics export of counters and latency histograms for live scraping
  * - Statistical analysis and reporting
  * 
  * @author Phoenix HRM Test Automation Team
@@ -30,13 +40,24 @@ public class PerformanceMetrics {
     
     private static final Logger logger = LoggerFactory.getLogger(PerformanceMetrics.class);
     
+    // Fixed latency buckets for OpenMetrics export, in milliseconds
+    private static final long[] EXPORT_BUCKETS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+    private static final double[] EXPORT_BUCKETS_SECONDS =
+        Arrays.stream(EXPORT_BUCKETS_MILLIS).mapToDouble(millis -> millis / 1000.0).toArray();
+    
     private final Map<String, EndpointMetrics> endpointMetrics;
     private final AtomicLong totalRequests;
     private final AtomicLong totalResponseTime;
     private final AtomicReference<LocalDateTime> firstRequestTime;
     private final AtomicReference<LocalDateTime> lastRequestTime;
-    private final List<RequestMetric> requestHistory;
-    private final Object historyLock = new Object();
+    private final LatencyHistogram overallLatencyHistogram;
+    private final RollingWindowMetrics overallWindow;
+    private final Deque<RequestMetric> requestHistory;
+    // ReentrantLock rather than a monitor so contended virtual threads do not pin their carrier
+    private final ReentrantLock historyLock = new ReentrantLock();
+    private final List<SlaPolicy> slaPolicies;
+    private final Map<String, SlaPolicy.SlaResult> latestSlaResults;
+    private final Map<String, SlaPolicy.SlaResult> slaBreaches;
     
     /**
      * Individual request metric
@@ -82,8 +103,26 @@ public class PerformanceMetrics {
         private final AtomicLong successCount;
         private final AtomicLong errorCount;
         private final Map<Integer, AtomicLong> statusCodeDistribution;
-        private final List<Long> responseTimes;
-        private final Object responseTimesLock = new Object();
+        private final LatencyHistogram latencyHistogram;
+        private final RollingWindowMetrics rollingWindow;
+        private final AtomicLong retryCount;
+        private final AtomicLong retriesDenied;
+        private final AtomicLong circuitRejections;
+        private final Map<String, AtomicLong> circuitTransitions;
+        private final AtomicLong cacheHits;
+        private final AtomicLong cacheMisses;
+        private final AtomicLong cacheRevalidations;
+        private final AtomicLong uploadedBytes;
+        private final AtomicLong uploadMillis;
+        private final AtomicLong downloadedBytes;
+        private final AtomicLong downloadMillis;
+        private final AtomicLong responseWireBytes;
+        private final AtomicLong responseBodyBytes;
+        private final AtomicLong compressedResponses;
+        private final AtomicLong decodeNanos;
+        private final AtomicLong requestBodyBytes;
+        private final AtomicLong requestWireBytes;
+        private volatile String circuitState = "CLOSED";
         private volatile LocalDateTime firstRequest;
         private volatile LocalDateTime lastRequest;
         
@@ -96,7 +135,25 @@ public class PerformanceMetrics {
             this.successCount = new AtomicLong(0);
             this.errorCount = new AtomicLong(0);
             this.statusCodeDistribution = new ConcurrentHashMap<>();
-            this.responseTimes = new ArrayList<>();
+            this.latencyHistogram = new LatencyHistogram();
+            this.rollingWindow = new RollingWindowMetrics();
+            this.retryCount = new AtomicLong(0);
+            this.retriesDenied = new AtomicLong(0);
+            this.circuitRejections = new AtomicLong(0);
+            this.circuitTransitions = new ConcurrentHashMap<>();
+            this.cacheHits = new AtomicLong(0);
+            this.cacheMisses = new AtomicLong(0);
+            this.cacheRevalidations = new AtomicLong(0);
+            this.uploadedBytes = new AtomicLong(0);
+            this.uploadMillis = new AtomicLong(0);
+            this.downloadedBytes = new AtomicLong(0);
+            this.downloadMillis = new AtomicLong(0);
+            this.responseWireBytes = new AtomicLong(0);
+            this.responseBodyBytes = new AtomicLong(0);
+            this.compressedResponses = new AtomicLong(0);
+            this.decodeNanos = new AtomicLong(0);
+            this.requestBodyBytes = new AtomicLong(0);
+            this.requestWireBytes = new AtomicLong(0);
         }
         
         public void recordRequest(long responseTime, int statusCode) {
@@ -111,7 +168,8 @@ public class PerformanceMetrics {
             maxResponseTime.updateAndGet(current -> Math.max(current, responseTime));
             
             // Update success/error counts
-            if (statusCode >= 200 && statusCode < 400) {
+            boolean success = statusCode >= 200 && statusCode < 400;
+            if (success) {
                 successCount.incrementAndGet();
             } else {
                 errorCount.incrementAndGet();
@@ -120,14 +178,9 @@ public class PerformanceMetrics {
             // Update status code distribution
             statusCodeDistribution.computeIfAbsent(statusCode, k -> new AtomicLong(0)).incrementAndGet();
             
-            // Update response times for percentile calculations
-            synchronized (responseTimesLock) {
-                responseTimes.add(responseTime);
-                // Keep only the last 1000 response times for memory efficiency
-                if (responseTimes.size() > 1000) {
-                    responseTimes.remove(0);
-                }
-            }
+            // Update latency histogram for percentile calculations (lock-free, fixed memory)
+            latencyHistogram.recordValue(responseTime);
+            rollingWindow.recordRequest(responseTime, !success);
             
             // Update timestamps
             if (firstRequest == null) {
@@ -158,19 +211,54 @@ public class PerformanceMetrics {
         }
         
         public long getPercentile(double percentile) {
-            synchronized (responseTimesLock) {
-                if (responseTimes.isEmpty()) {
-                    return 0;
-                }
-                
-                List<Long> sortedTimes = new ArrayList<>(responseTimes);
-                sortedTimes.sort(Long::compareTo);
-                
-                int index = (int) Math.ceil(percentile / 100.0 * sortedTimes.size()) - 1;
-                index = Math.max(0, Math.min(index, sortedTimes.size() - 1));
-                
-                return sortedTimes.get(index);
-            }
+            return latencyHistogram.getPercentile(percentile);
+        }
+        
+        /**
+         * Get p50/p90/p95/p99/p99.9/max over every request recorded for this endpoint
+         */
+        public Map<String, Long> getPercentiles() {
+            return latencyHistogram.getPercentileSummary();
+        }
+        
+        /**
+         * Average upload throughput in bytes per second, over the time spent uploading
+         */
+        public double getUploadThroughput() {
+            return throughput(uploadedBytes.get(), uploadMillis.get());
+        }
+        
+        /**
+         * Average download throughput in bytes per second, over the time spent downloading
+         */
+        public double getDownloadThroughput() {
+            return throughput(downloadedBytes.get(), downloadMillis.get());
+        }
+        
+        /**
+         * Decoded response bytes per byte on the wire; 1.0 when nothing was compressed
+         */
+        public double getResponseCompressionRatio() {
+            long wire = responseWireBytes.get();
+            return wire > 0 ? (double) responseBodyBytes.get() / wire : 1.0;
+        }
+        
+        private static double throughput(long bytes, long millis) {
+            return millis > 0 ? bytes * 1000.0 / millis : 0.0;
+        }
+        
+        /**
+         * Get request rate, error rate and latency for the trailing window ending now
+         */
+        public RollingWindowMetrics.WindowSnapshot getWindow(Duration window) {
+            return rollingWindow.getWindow(window);
+        }
+        
+        /**
+         * Get the retained per-second or per-minute time series, oldest first
+         */
+        public List<RollingWindowMetrics.WindowSnapshot> getSeries(RollingWindowMetrics.Resolution resolution) {
+            return rollingWindow.getSeries(resolution);
         }
         
         // Getters
@@ -191,6 +279,29 @@ public class PerformanceMetrics {
         }
         public LocalDateTime getFirstRequest() { return firstRequest; }
         public LocalDateTime getLastRequest() { return lastRequest; }
+        public LatencyHistogram getLatencyHistogram() { return latencyHistogram; }
+        public long getRetryCount() { return retryCount.get(); }
+        public long getRetriesDenied() { return retriesDenied.get(); }
+        public long getCircuitRejections() { return circuitRejections.get(); }
+        public String getCircuitState() { return circuitState; }
+        public long getCacheHits() { return cacheHits.get(); }
+        public long getCacheMisses() { return cacheMisses.get(); }
+        public long getCacheRevalidations() { return cacheRevalidations.get(); }
+        public long getUploadedBytes() { return uploadedBytes.get(); }
+        public long getUploadMillis() { return uploadMillis.get(); }
+        public long getDownloadedBytes() { return downloadedBytes.get(); }
+        public long getDownloadMillis() { return downloadMillis.get(); }
+        public long getResponseWireBytes() { return responseWireBytes.get(); }
+        public long getResponseBodyBytes() { return responseBodyBytes.get(); }
+        public long getCompressedResponses() { return compressedResponses.get(); }
+        public long getDecodeNanos() { return decodeNanos.get(); }
+        public long getRequestBodyBytes() { return requestBodyBytes.get(); }
+        public long getRequestWireBytes() { return requestWireBytes.get(); }
+        public Map<String, Long> getCircuitTransitions() {
+            Map<String, Long> transitions = new HashMap<>();
+            circuitTransitions.forEach((key, value) -> transitions.put(key, value.get()));
+            return transitions;
+        }
         
         @Override
         public String toString() {
@@ -233,7 +344,12 @@ public class PerformanceMetrics {
         this.totalResponseTime = new AtomicLong(0);
         this.firstRequestTime = new AtomicReference<>();
         this.lastRequestTime = new AtomicReference<>();
-        this.requestHistory = new ArrayList<>();
+        this.overallLatencyHistogram = new LatencyHistogram();
+        this.overallWindow = new RollingWindowMetrics();
+        this.requestHistory = new ArrayDeque<>();
+        this.slaPolicies = new CopyOnWriteArrayList<>();
+        this.latestSlaResults = new ConcurrentHashMap<>();
+        this.slaBreaches = new ConcurrentHashMap<>();
         
         logger.debug("PerformanceMetrics initialized");
     }
@@ -254,19 +370,121 @@ public class PerformanceMetrics {
         EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new);
         metrics.recordRequest(responseTime, statusCode);
         
-        // Add to request history
+        // Update overall latency distribution and rolling windows
         RequestMetric requestMetric = new RequestMetric(endpointName, responseTime, statusCode);
-        synchronized (historyLock) {
-            requestHistory.add(requestMetric);
+        overallLatencyHistogram.recordValue(responseTime);
+        overallWindow.recordRequest(responseTime, !requestMetric.isSuccess());
+        
+        // Add to request history
+        historyLock.lock();
+        try {
+            requestHistory.addLast(requestMetric);
             // Keep only the last 10,000 requests for memory efficiency
             if (requestHistory.size() > 10000) {
-                requestHistory.remove(0);
+                requestHistory.pollFirst();
             }
+        } finally {
+            historyLock.unlock();
         }
         
         logger.trace("Recorded performance metric: {} - {}ms, status={}", endpointName, responseTime, statusCode);
     }
     
+    /**
+     * Record a retry of a failed attempt
+     */
+    public void recordRetry(String endpointName) {
+        endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new).retryCount.incrementAndGet();
+    }
+    
+    /**
+     * Record a retry that was not made because the endpoint's retry budget was exhausted
+     */
+    public void recordRetryDenied(String endpointName) {
+        endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new).retriesDenied.incrementAndGet();
+    }
+    
+    /**
+     * Record a call rejected by an open circuit breaker
+     */
+    public void recordCircuitRejection(String endpointName) {
+        endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new).circuitRejections.incrementAndGet();
+    }
+    
+    /**
+     * Record a circuit breaker state change
+     */
+    public void recordCircuitStateChange(String endpointName, String fromState, String toState) {
+        EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new);
+        metrics.circuitState = toState;
+        metrics.circuitTransitions.computeIfAbsent(fromState + "->" + toState, k -> new AtomicLong(0))
+            .incrementAndGet();
+    }
+    
+    /**
+     * Record a request answered from the response cache without a round trip
+     */
+    public void recordCacheHit(String endpointName) {
+        endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new).cacheHits.incrementAndGet();
+    }
+    
+    /**
+     * Record a cacheable request that had to fetch a full response
+     */
+    public void recordCacheMiss(String endpointName) {
+        endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new).cacheMisses.incrementAndGet();
+    }
+    
+    /**
+     * Record a cached response renewed by a 304 Not Modified reply
+     */
+    public void recordCacheRevalidation(String endpointName) {
+        endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new).cacheRevalidations.incrementAndGet();
+    }
+    
+    /**
+     * Record a streamed request body of the given size and the time taken to send it
+     * and receive the response
+     */
+    public void recordUpload(String endpointName, long bytes, long millis) {
+        EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new);
+        metrics.uploadedBytes.addAndGet(bytes);
+        metrics.uploadMillis.addAndGet(millis);
+    }
+    
+    /**
+     * Record a response body of the given size written to disk and the time taken to receive it
+     */
+    public void recordDownload(String endpointName, long bytes, long millis) {
+        EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new);
+        metrics.downloadedBytes.addAndGet(bytes);
+        metrics.downloadMillis.addAndGet(millis);
+    }
+    
+    /**
+     * Record the size of a response body as received and after decoding, and the time
+     * spent decoding it
+     */
+    public void recordResponseBody(String endpointName, boolean compressed, long wireBytes, long bodyBytes,
+                                   long decodeNanos) {
+        EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new);
+        metrics.responseWireBytes.addAndGet(wireBytes);
+        metrics.responseBodyBytes.addAndGet(bodyBytes);
+        if (compressed) {
+            metrics.compressedResponses.incrementAndGet();
+            metrics.decodeNanos.addAndGet(decodeNanos);
+        }
+    }
+    
+    /**
+     * Record a request body compressed before sending
+     */
+    public void recordRequestCompression(String endpointName, long bodyBytes, long wireBytes) {
+        EndpointMetrics metrics = endpointMetrics.computeIfAbsent(endpointName, EndpointMetrics::new);
+        metrics.requestBodyBytes.addAndGet(bodyBytes);
+        metrics.requestWireBytes.addAndGet(wireBytes);
+    }
+    
     /**
      * Get overall performance metrics
      */
@@ -296,15 +514,50 @@ public class PerformanceMetrics {
         // Overall success/error statistics
         long totalSuccess = 0;
         long totalErrors = 0;
+        long totalRetries = 0;
+        long totalRetriesDenied = 0;
+        long totalCircuitRejections = 0;
+        long totalCacheHits = 0;
+        long totalCacheMisses = 0;
+        long totalCacheRevalidations = 0;
+        long totalUploadedBytes = 0;
+        long totalDownloadedBytes = 0;
+        long totalResponseWireBytes = 0;
+        long totalResponseBodyBytes = 0;
+        long totalDecodeNanos = 0;
         
         for (EndpointMetrics endpointMetric : endpointMetrics.values()) {
             totalSuccess += endpointMetric.getSuccessCount();
             totalErrors += endpointMetric.getErrorCount();
+            totalRetries += endpointMetric.getRetryCount();
+            totalRetriesDenied += endpointMetric.getRetriesDenied();
+            totalCircuitRejections += endpointMetric.getCircuitRejections();
+            totalCacheHits += endpointMetric.getCacheHits();
+            totalCacheMisses += endpointMetric.getCacheMisses();
+            totalCacheRevalidations += endpointMetric.getCacheRevalidations();
+            totalUploadedBytes += endpointMetric.getUploadedBytes();
+            totalDownloadedBytes += endpointMetric.getDownloadedBytes();
+            totalResponseWireBytes += endpointMetric.getResponseWireBytes();
+            totalResponseBodyBytes += endpointMetric.getResponseBodyBytes();
+            totalDecodeNanos += endpointMetric.getDecodeNanos();
         }
         
         metrics.put("totalSuccessfulRequests", totalSuccess);
         metrics.put("totalFailedRequests", totalErrors);
         metrics.put("overallSuccessRate", totalReqs > 0 ? (double) totalSuccess / totalReqs * 100 : 0.0);
+        metrics.put("totalRetries", totalRetries);
+        metrics.put("totalRetriesDenied", totalRetriesDenied);
+        metrics.put("totalCircuitRejections", totalCircuitRejections);
+        metrics.put("cacheHits", totalCacheHits);
+        metrics.put("cacheMisses", totalCacheMisses);
+        metrics.put("cacheRevalidations", totalCacheRevalidations);
+        long cacheLookups = totalCacheHits + totalCacheMisses + totalCacheRevalidations;
+        metrics.put("cacheHitRate", cacheLookups > 0 ? (double) totalCacheHits / cacheLookups * 100 : 0.0);
+        metrics.put("bytesUploaded", totalUploadedBytes);
+        metrics.put("bytesDownloaded", totalDownloadedBytes);
+        metrics.put("responseWireBytes", totalResponseWireBytes);
+        metrics.put("responseBodyBytes", totalResponseBodyBytes);
+        metrics.put("responseDecodeMillis", totalDecodeNanos / 1_000_000.0);
         
         // Endpoint count
         metrics.put("numberOfEndpoints", endpointMetrics.size());
@@ -363,8 +616,11 @@ public class PerformanceMetrics {
      * Get request history
      */
     public List<RequestMetric> getRequestHistory() {
-        synchronized (historyLock) {
+        historyLock.lock();
+        try {
             return new ArrayList<>(requestHistory);
+        } finally {
+            historyLock.unlock();
         }
     }
     
@@ -372,10 +628,13 @@ public class PerformanceMetrics {
      * Get request history for specific endpoint
      */
     public List<RequestMetric> getRequestHistory(String endpointName) {
-        synchronized (historyLock) {
+        historyLock.lock();
+        try {
             return requestHistory.stream()
                 .filter(metric -> endpointName.equals(metric.getEndpoint()))
                 .toList();
+        } finally {
+            historyLock.unlock();
         }
     }
     
@@ -383,11 +642,14 @@ public class PerformanceMetrics {
      * Get request history within time range
      */
     public List<RequestMetric> getRequestHistory(LocalDateTime start, LocalDateTime end) {
-        synchronized (historyLock) {
+        historyLock.lock();
+        try {
             return requestHistory.stream()
                 .filter(metric -> !metric.getTimestamp().isBefore(start) && 
                                 !metric.getTimestamp().isAfter(end))
                 .toList();
+        } finally {
+            historyLock.unlock();
         }
     }
     
@@ -395,25 +657,106 @@ public class PerformanceMetrics {
      * Calculate percentile response time across all endpoints
      */
     public long calculateOverallPercentile(double percentile) {
-        synchronized (historyLock) {
-            if (requestHistory.isEmpty()) {
-                return 0;
+        return overallLatencyHistogram.getPercentile(percentile);
+    }
+    
+    /**
+     * Get request rate, error rate and latency across all endpoints for the trailing window ending now,
+     * e.g. {@code getWindowStats(Duration.ofSeconds(30)).getP95ResponseTime()}
+     */
+    public RollingWindowMetrics.WindowSnapshot getWindowStats(Duration window) {
+        return overallWindow.getWindow(window);
+    }
+    
+    /**
+     * Get request rate, error rate and latency for specific endpoint for the trailing window ending now
+     */
+    public RollingWindowMetrics.WindowSnapshot getWindowStats(String endpointName, Duration window) {
+        EndpointMetrics metrics = endpointMetrics.get(endpointName);
+        return metrics != null ? metrics.getWindow(window) : null;
+    }
+    
+    /**
+     * Get the retained time series across all endpoints, oldest first
+     */
+    public List<RollingWindowMetrics.WindowSnapshot> getTimeSeries(RollingWindowMetrics.Resolution resolution) {
+        return overallWindow.getSeries(resolution);
+    }
+    
+    /**
+     * Get the retained time series for specific endpoint, oldest first
+     */
+    public List<RollingWindowMetrics.WindowSnapshot> getTimeSeries(String endpointName,
+                                                                   RollingWindowMetrics.Resolution resolution) {
+        EndpointMetrics metrics = endpointMetrics.get(endpointName);
+        return metrics != null ? metrics.getSeries(resolution) : Collections.emptyList();
+    }
+    
+    /**
+     * Register an SLA policy to be checked by {@link #evaluateSlas()}
+     *
+     * @throws IllegalArgumentException if a policy with the same name is already registered
+     */
+    public synchronized void registerSla(SlaPolicy policy) {
+        for (SlaPolicy registered : slaPolicies) {
+            if (registered.getName().equals(policy.getName())) {
+                throw new IllegalArgumentException("SLA policy already registered: " + policy.getName()
+                    + "; give policies with the same budgets distinct names");
+            }
+        }
+        slaPolicies.add(policy);
+    }
+    
+    /**
+     * Evaluate every registered SLA against its trailing window. The first breach of
+     * each policy is retained until {@link #reset()}, so a transient breach is not lost
+     * when the window later recovers.
+     */
+    public List<SlaPolicy.SlaResult> evaluateSlas() {
+        List<SlaPolicy.SlaResult> results = new ArrayList<>(slaPolicies.size());
+        for (SlaPolicy policy : slaPolicies) {
+            SlaPolicy.SlaResult result = policy.evaluate(this);
+            latestSlaResults.put(result.getPolicy(), result);
+            if (result.isBreached() && slaBreaches.putIfAbsent(result.getPolicy(), result) == null) {
+                logger.warn("SLA budget broken: {}", result);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+    
+    /**
+     * Get the latest result of each registered SLA
+     */
+    public Map<String, SlaPolicy.SlaResult> getSlaResults() {
+        return new HashMap<>(latestSlaResults);
+    }
+    
+    /**
+     * Get the first breach of each SLA broken since the last reset
+     */
+    public Map<String, SlaPolicy.SlaResult> getSlaBreaches() {
+        return new HashMap<>(slaBreaches);
+    }
+    
+    public List<SlaPolicy> getSlaPolicies() {
+        return Collections.unmodifiableList(slaPolicies);
+    }
+    
+    /**
+     * Get a registered SLA policy by name, or null if none is registered under it
+     */
+    public SlaPolicy getSlaPolicy(String name) {
+        for (SlaPolicy policy : slaPolicies) {
+            if (policy.getName().equals(name)) {
+                return policy;
             }
-            
-            List<Long> allResponseTimes = requestHistory.stream()
-                .map(RequestMetric::getResponseTime)
-                .sorted()
-                .toList();
-            
-            int index = (int) Math.ceil(percentile / 100.0 * allResponseTimes.size()) - 1;
-            index = Math.max(0, Math.min(index, allResponseTimes.size() - 1));
-            
-            return allResponseTimes.get(index);
         }
+        return null;
     }
     
     /**
-     * Reset all performance metrics
+     * Reset all performance metrics; registered SLAs are kept but their results cleared
      */
     public void reset() {
         endpointMetrics.clear();
@@ -421,9 +764,16 @@ public class PerformanceMetrics {
         totalResponseTime.set(0);
         firstRequestTime.set(null);
         lastRequestTime.set(null);
+        overallLatencyHistogram.reset();
+        overallWindow.reset();
+        latestSlaResults.clear();
+        slaBreaches.clear();
         
-        synchronized (historyLock) {
+        historyLock.lock();
+        try {
             requestHistory.clear();
+        } finally {
+            historyLock.unlock();
         }
         
         logger.debug("Performance metrics reset");
@@ -438,6 +788,13 @@ public class PerformanceMetrics {
             exportData.put("summary", getPerformanceSummary());
             exportData.put("overallMetrics", getMetrics());
             exportData.put("endpointMetrics", getAllEndpointMetrics());
+            exportData.put("lastMinute", getWindowStats(Duration.ofMinutes(1)));
+            if (!slaPolicies.isEmpty()) {
+                Map<String, Object> slas = new HashMap<>();
+                slas.put("results", evaluateSlas());
+                slas.put("breaches", getSlaBreaches().values());
+                exportData.put("slas", slas);
+            }
             exportData.put("exportTime", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
             
             com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -450,6 +807,122 @@ public class PerformanceMetrics {
         }
     }
     
+    /**
+     * Write per-endpoint counters, latency histograms and SLA state in OpenMetrics format.
+     * Reads only the running aggregates, so it is cheap enough for frequent scrapes.
+     */
+    public void writeOpenMetrics(OpenMetricsWriter writer) {
+        List<EndpointMetrics> endpoints = new ArrayList<>(endpointMetrics.values());
+        endpoints.sort(Comparator.comparing(EndpointMetrics::getEndpointName));
+        
+        writer.family("phoenix_api_requests", OpenMetricsWriter.Type.COUNTER, "API requests by endpoint and outcome");
+        for (EndpointMetrics metrics : endpoints) {
+            writer.counterValue(metrics.getSuccessCount(), "endpoint", metrics.getEndpointName(), "outcome", "success");
+            writer.counterValue(metrics.getErrorCount(), "endpoint", metrics.getEndpointName(), "outcome", "error");
+        }
+        
+        writer.family("phoenix_api_request_duration_seconds", OpenMetricsWriter.Type.HISTOGRAM,
+            "API response time by endpoint");
+        for (EndpointMetrics metrics : endpoints) {
+            LatencyHistogram histogram = metrics.getLatencyHistogram();
+            writer.histogramValue(EXPORT_BUCKETS_SECONDS, histogram.getCumulativeCounts(EXPORT_BUCKETS_MILLIS),
+                histogram.getTotalCount(), histogram.getTotalValue() / 1000.0, "endpoint", metrics.getEndpointName());
+        }
+        
+        writer.family("phoenix_api_retries", OpenMetricsWriter.Type.COUNTER, "Retried API attempts by endpoint");
+        for (EndpointMetrics metrics : endpoints) {
+            writer.counterValue(metrics.getRetryCount(), "endpoint", metrics.getEndpointName());
+        }
+        
+        writer.family("phoenix_api_circuit_rejections", OpenMetricsWriter.Type.COUNTER,
+            "API calls rejected by an open circuit breaker");
+        for (EndpointMetrics metrics : endpoints) {
+            writer.counterValue(metrics.getCircuitRejections(), "endpoint", metrics.getEndpointName());
+        }
+        
+        writer.family("phoenix_api_circuit_open", OpenMetricsWriter.Type.GAUGE,
+            "1 while the endpoint's circuit breaker is not closed");
+        for (EndpointMetrics metrics : endpoints) {
+            writer.gaugeValue("CLOSED".equals(metrics.getCircuitState()) ? 0 : 1,
+                "endpoint", metrics.getEndpointName());
+        }
+        
+        writer.family("phoenix_api_cache_lookups", OpenMetricsWriter.Type.COUNTER,
+            "Response cache lookups by endpoint and result");
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.getCacheHits() + metrics.getCacheMisses() + metrics.getCacheRevalidations() > 0) {
+                writer.counterValue(metrics.getCacheHits(), "endpoint", metrics.getEndpointName(), "result", "hit");
+                writer.counterValue(metrics.getCacheMisses(), "endpoint", metrics.getEndpointName(), "result", "miss");
+                writer.counterValue(metrics.getCacheRevalidations(),
+                    "endpoint", metrics.getEndpointName(), "result", "revalidated");
+            }
+        }
+        
+        writer.family("phoenix_api_transfer_bytes", OpenMetricsWriter.Type.COUNTER,
+            "Bytes streamed by file-backed uploads and downloads, by endpoint and direction");
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.getUploadedBytes() > 0) {
+                writer.counterValue(metrics.getUploadedBytes(), "endpoint", metrics.getEndpointName(),
+                    "direction", "upload");
+            }
+            if (metrics.getDownloadedBytes() > 0) {
+                writer.counterValue(metrics.getDownloadedBytes(), "endpoint", metrics.getEndpointName(),
+                    "direction", "download");
+            }
+        }
+        
+        writer.family("phoenix_api_transfer_seconds", OpenMetricsWriter.Type.COUNTER,
+            "Time spent on file-backed uploads and downloads, by endpoint and direction");
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.getUploadedBytes() > 0) {
+                writer.counterValue(metrics.getUploadMillis() / 1000.0, "endpoint", metrics.getEndpointName(),
+                    "direction", "upload");
+            }
+            if (metrics.getDownloadedBytes() > 0) {
+                writer.counterValue(metrics.getDownloadMillis() / 1000.0, "endpoint", metrics.getEndpointName(),
+                    "direction", "download");
+            }
+        }
+        
+        writer.family("phoenix_api_response_bytes", OpenMetricsWriter.Type.COUNTER,
+            "Response body bytes by endpoint, as received on the wire and after decoding");
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.getResponseWireBytes() > 0) {
+                writer.counterValue(metrics.getResponseWireBytes(), "endpoint", metrics.getEndpointName(),
+                    "stage", "wire");
+                writer.counterValue(metrics.getResponseBodyBytes(), "endpoint", metrics.getEndpointName(),
+                    "stage", "decoded");
+            }
+        }
+        
+        writer.family("phoenix_api_response_decode_seconds", OpenMetricsWriter.Type.COUNTER,
+            "Time spent decompressing response bodies by endpoint");
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.getCompressedResponses() > 0) {
+                writer.counterValue(metrics.getDecodeNanos() / 1e9, "endpoint", metrics.getEndpointName());
+            }
+        }
+        
+        writer.family("phoenix_api_request_bytes", OpenMetricsWriter.Type.COUNTER,
+            "Compressed request body bytes by endpoint, before and after compression");
+        for (EndpointMetrics metrics : endpoints) {
+            if (metrics.getRequestBodyBytes() > 0) {
+                writer.counterValue(metrics.getRequestBodyBytes(), "endpoint", metrics.getEndpointName(),
+                    "stage", "body");
+                writer.counterValue(metrics.getRequestWireBytes(), "endpoint", metrics.getEndpointName(),
+                    "stage", "wire");
+            }
+        }
+        
+        if (!slaPolicies.isEmpty()) {
+            writer.family("phoenix_api_sla_breached", OpenMetricsWriter.Type.GAUGE,
+                "1 once the SLA budget was broken since the last reset");
+            for (SlaPolicy policy : slaPolicies) {
+                writer.gaugeValue(slaBreaches.containsKey(policy.getName()) ? 1 : 0, "sla", policy.getName());
+            }
+        }
+    }
+    
     // Private helper methods
     
     private List<String> analyzePerformanceIssues() {
@@ -469,19 +942,25 @@ public class PerformanceMetrics {
                     endpointName, metrics.getAverageResponseTime()));
             }
             
-            // Check for low success rate
-            if (metrics.getSuccessRate() < LOW_SUCCESS_RATE_THRESHOLD) {
+            // Check for low success rate (endpoints with only rejected calls have no rate yet)
+            if (metrics.getRequestCount() > 0 && metrics.getSuccessRate() < LOW_SUCCESS_RATE_THRESHOLD) {
                 issues.add(String.format("Endpoint '%s' has low success rate: %.1f%%", 
                     endpointName, metrics.getSuccessRate()));
             }
             
             // Check for high error rate
             double errorRate = 100.0 - metrics.getSuccessRate();
-            if (errorRate > HIGH_ERROR_RATE_THRESHOLD) {
+            if (metrics.getRequestCount() > 0 && errorRate > HIGH_ERROR_RATE_THRESHOLD) {
                 issues.add(String.format("Endpoint '%s' has high error rate: %.1f%%", 
                     endpointName, errorRate));
             }
             
+            // Check for open circuit breakers
+            if (!"CLOSED".equals(metrics.getCircuitState())) {
+                issues.add(String.format("Endpoint '%s' circuit breaker is %s (%d calls rejected)", 
+                    endpointName, metrics.getCircuitState(), metrics.getCircuitRejections()));
+            }
+            
             // Check for high maximum response time
             if (metrics.getMaxResponseTime() > SLOW_RESPONSE_THRESHOLD * 2) {
                 issues.add(String.format("Endpoint '%s' has very high maximum response time: %dms", 
@@ -3,12 +3,23 @@ package com.phoenix.hrm.api;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Request/Response Logger for API Testing Framework
@@ -17,9 +28,12 @@ import java.util.concurrent.atomic.AtomicLong;
  * - Detailed request logging with headers, body, and timing
  * - Response logging with status codes, headers, and body content
  * - Configurable log levels and filtering
- * - Request/Response correlation and tracking
+ * - Request/Response correlation by request ID
+ * - Bounded in-memory log (oldest entries evicted first)
  * - Performance metrics integration
- * - Log file management and rotation
+ * - Optional asynchronous mode: entries go through a bounded buffer to rotating
+ *   NDJSON files (see {@link AsyncLogWriter}) and only in-flight requests plus
+ *   incremental aggregates are kept in memory
  * - Sensitive data masking in logs
  * 
  * @author Phoenix HRM Test Automation Team
@@ -32,9 +46,17 @@ public class RequestResponseLogger {
     
     private final ApiTestFramework.ApiConfiguration config;
     private final Map<String, RequestLogEntry> requestLog;
+    private final Queue<String> requestLogOrder;
+    // Approximate queue length; ConcurrentLinkedQueue.size() is a full scan
+    private final AtomicInteger requestLogOrderSize = new AtomicInteger();
+    private final AtomicBoolean compactingRequestLogOrder = new AtomicBoolean();
+    private final int maxLogEntries;
     private final AtomicLong requestCounter;
     private final Set<String> sensitiveHeaders;
     private final Set<String> sensitiveBodyFields;
+    private volatile SensitiveDataMasker bodyMasker;
+    private final AsyncLogWriter<RequestLogEntry> asyncWriter;
+    private final LogAggregates aggregates;
     
     /**
      * Request log entry
@@ -93,17 +115,111 @@ public class RequestResponseLogger {
         }
     }
     
+    /**
+     * Incremental summary statistics, maintained in asynchronous mode where
+     * completed entries are no longer held in memory
+     */
+    private static final class LogAggregates {
+        private final LongAdder totalRequests = new LongAdder();
+        private final LongAdder successCount = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalResponseTime = new LongAdder();
+        private final Map<String, LongAdder> statusDistribution = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> methodDistribution = new ConcurrentHashMap<>();
+        private final AtomicReference<LocalDateTime> earliest = new AtomicReference<>();
+        private final AtomicReference<LocalDateTime> latest = new AtomicReference<>();
+        
+        private void record(RequestLogEntry entry, String statusRange) {
+            totalRequests.increment();
+            totalResponseTime.add(entry.getResponseTime());
+            if (entry.getResponseStatus() >= 200 && entry.getResponseStatus() < 400) {
+                successCount.increment();
+            } else if (entry.getResponseStatus() >= 400) {
+                errorCount.increment();
+            }
+            statusDistribution.computeIfAbsent(statusRange, k -> new LongAdder()).increment();
+            methodDistribution.computeIfAbsent(entry.getMethod(), k -> new LongAdder()).increment();
+            
+            LocalDateTime timestamp = entry.getTimestamp();
+            earliest.accumulateAndGet(timestamp, (a, b) -> a == null || b.isBefore(a) ? b : a);
+            latest.accumulateAndGet(timestamp, (a, b) -> a == null || b.isAfter(a) ? b : a);
+        }
+        
+        private Map<String, Object> toSummary() {
+            Map<String, Object> summary = new HashMap<>();
+            long total = totalRequests.sum();
+            long success = successCount.sum();
+            
+            Map<String, Integer> statuses = new HashMap<>();
+            statusDistribution.forEach((key, value) -> statuses.put(key, value.intValue()));
+            Map<String, Integer> methods = new HashMap<>();
+            methodDistribution.forEach((key, value) -> methods.put(key, value.intValue()));
+            
+            summary.put("totalRequests", total);
+            summary.put("statusDistribution", statuses);
+            summary.put("methodDistribution", methods);
+            summary.put("successCount", success);
+            summary.put("errorCount", errorCount.sum());
+            summary.put("successRate", total == 0 ? 0.0 : (double) success / total * 100);
+            summary.put("averageResponseTime", total == 0 ? 0.0 : (double) totalResponseTime.sum() / total);
+            
+            if (earliest.get() != null) {
+                summary.put("timeRange", Map.of(
+                    "start", earliest.get().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    "end", latest.get().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                ));
+            }
+            return summary;
+        }
+        
+        private void reset() {
+            totalRequests.reset();
+            successCount.reset();
+            errorCount.reset();
+            totalResponseTime.reset();
+            statusDistribution.clear();
+            methodDistribution.clear();
+            earliest.set(null);
+            latest.set(null);
+        }
+    }
+    
     /**
      * Constructor
      */
     public RequestResponseLogger(ApiTestFramework.ApiConfiguration config) {
         this.config = config;
         this.requestLog = new ConcurrentHashMap<>();
+        this.requestLogOrder = new ConcurrentLinkedQueue<>();
+        this.maxLogEntries = Math.max(1, config.getMaxRequestLogEntries());
         this.requestCounter = new AtomicLong(0);
-        this.sensitiveHeaders = new HashSet<>();
-        this.sensitiveBodyFields = new HashSet<>();
+        this.sensitiveHeaders = ConcurrentHashMap.newKeySet();
+        this.sensitiveBodyFields = ConcurrentHashMap.newKeySet();
         
         initializeSensitiveFields();
+        
+        if (config.isEnableRequestLogging() && config.isAsyncRequestLogging()) {
+            this.asyncWriter = new AsyncLogWriter<>(
+                Paths.get(config.getRequestLogDirectory()),
+                "api-traffic",
+                config.getRequestLogBufferSize(),
+                config.getRequestLogOverflowPolicy(),
+                config.getRequestLogMaxFileBytes(),
+                config.isCompressRequestLogs(),
+                this::toLogRecord);
+            this.aggregates = new LogAggregates();
+            logger.info("Asynchronous API traffic logging enabled: {}", config.getRequestLogDirectory());
+        } else {
+            this.asyncWriter = null;
+            this.aggregates = null;
+        }
+    }
+    
+    /**
+     * Check whether entries are written asynchronously to NDJSON files
+     */
+    public boolean isAsync() {
+        return asyncWriter != null;
     }
     
     /**
@@ -121,11 +237,20 @@ public class RequestResponseLogger {
             String method = request.method();
             String url = request.uri().toString();
             Map<String, String> headers = extractHeaders(request);
+            
+            if (isAsync()) {
+                // Masking is deferred to the writer thread; keep only the in-flight entry
+                String rawBody = requestBody != null ? requestBody.toString() : "";
+                storeLogEntry(new RequestLogEntry(requestId, method, url, headers, rawBody));
+                logger.trace("API Request [{}]: {} {}", requestId, method, url);
+                return requestId;
+            }
+            
             String body = requestBody != null ? maskSensitiveData(requestBody.toString()) : "";
             
             // Create log entry
             RequestLogEntry logEntry = new RequestLogEntry(requestId, method, url, headers, body);
-            requestLog.put(requestId, logEntry);
+            storeLogEntry(logEntry);
             
             // Log the request
             logger.info("API Request [{}]: {} {}", requestId, method, url);
@@ -144,39 +269,66 @@ public class RequestResponseLogger {
     }
     
     /**
-     * Log API response
+     * Log API response, correlated through the request ID carried by the response
      */
     public void logResponse(ApiTestFramework.ApiResponse<?> response) {
+        logResponse(response.getRequestId(), response);
+    }
+    
+    /**
+     * Log API response for the request ID returned by {@link #logRequest}
+     */
+    public void logResponse(String requestId, ApiTestFramework.ApiResponse<?> response) {
         if (!config.isEnableRequestLogging()) {
             return;
         }
         
         try {
-            // Find the corresponding request log entry
-            String requestId = findRequestIdByTimestamp(response.getTimestamp());
+            if (requestId == null) {
+                logger.debug("Response without request ID not logged: {}", response);
+                return;
+            }
             
-            if (requestId != null) {
-                RequestLogEntry logEntry = requestLog.get(requestId);
-                if (logEntry != null) {
-                    String maskedBody = response.getRawResponse() != null ? 
-                        maskSensitiveData(response.getRawResponse()) : "";
-                    
-                    logEntry.setResponse(response.getStatusCode(), maskedBody, response.getHeaders());
-                    
-                    // Log the response
-                    logger.info("API Response [{}]: {} {} - {} in {}ms", 
-                        requestId, logEntry.getMethod(), logEntry.getUrl(), 
-                        response.getStatusCode(), response.getResponseTime());
-                    
-                    logger.debug("Response Headers [{}]: {}", requestId, response.getHeaders());
-                    
-                    if (maskedBody != null && !maskedBody.isEmpty() && maskedBody.length() < 1000) {
-                        logger.debug("Response Body [{}]: {}", requestId, maskedBody);
-                    } else if (maskedBody != null && maskedBody.length() >= 1000) {
-                        logger.debug("Response Body [{}]: {} (truncated, length: {})", 
-                            requestId, maskedBody.substring(0, 1000), maskedBody.length());
-                    }
+            if (isAsync()) {
+                // Completed entries leave memory and go to the writer
+                RequestLogEntry logEntry = requestLog.remove(requestId);
+                if (logEntry == null) {
+                    logger.debug("Request log entry [{}] already evicted", requestId);
+                    return;
                 }
+                // The ID stays in the order queue; eviction skips it and compaction drops it
+                logEntry.setResponse(response.getStatusCode(), 
+                    response.getRawResponse() != null ? response.getRawResponse() : "", response.getHeaders());
+                aggregates.record(logEntry, getStatusRange(logEntry.getResponseStatus()));
+                asyncWriter.submit(logEntry);
+                logger.trace("API Response [{}]: {} in {}ms", 
+                    requestId, response.getStatusCode(), response.getResponseTime());
+                return;
+            }
+            
+            RequestLogEntry logEntry = requestLog.get(requestId);
+            if (logEntry == null) {
+                logger.debug("Request log entry [{}] already evicted", requestId);
+                return;
+            }
+            
+            String maskedBody = response.getRawResponse() != null ? 
+                maskSensitiveData(response.getRawResponse()) : "";
+            
+            logEntry.setResponse(response.getStatusCode(), maskedBody, response.getHeaders());
+            
+            // Log the response
+            logger.info("API Response [{}]: {} {} - {} in {}ms", 
+                requestId, logEntry.getMethod(), logEntry.getUrl(), 
+                response.getStatusCode(), response.getResponseTime());
+            
+            logger.debug("Response Headers [{}]: {}", requestId, response.getHeaders());
+            
+            if (maskedBody != null && !maskedBody.isEmpty() && maskedBody.length() < 1000) {
+                logger.debug("Response Body [{}]: {}", requestId, maskedBody);
+            } else if (maskedBody != null && maskedBody.length() >= 1000) {
+                logger.debug("Response Body [{}]: {} (truncated, length: {})", 
+                    requestId, maskedBody.substring(0, 1000), maskedBody.length());
             }
             
         } catch (Exception e) {
@@ -192,12 +344,20 @@ public class RequestResponseLogger {
     }
     
     /**
-     * Get all request log entries
+     * Get all request log entries (in asynchronous mode: in-flight requests only)
      */
     public List<RequestLogEntry> getAllRequestLogEntries() {
         return new ArrayList<>(requestLog.values());
     }
     
+    /**
+     * Get the number of request IDs kept in eviction order. Scans the queue, so
+     * intended for diagnostics and tests.
+     */
+    public int getTrackedRequestCount() {
+        return requestLogOrder.size();
+    }
+    
     /**
      * Get request log entries by time range
      */
@@ -232,6 +392,15 @@ public class RequestResponseLogger {
      * Generate log summary report
      */
     public Map<String, Object> generateLogSummary() {
+        if (isAsync()) {
+            Map<String, Object> summary = aggregates.toSummary();
+            summary.put("inFlightRequests", requestLog.size());
+            summary.put("writtenEntries", asyncWriter.getWrittenCount());
+            summary.put("droppedEntries", asyncWriter.getDroppedCount());
+            summary.put("pendingEntries", asyncWriter.getPendingCount());
+            return summary;
+        }
+        
         Map<String, Object> summary = new HashMap<>();
         
         List<RequestLogEntry> entries = getAllRequestLogEntries();
@@ -299,7 +468,12 @@ public class RequestResponseLogger {
     public void clearLogs() {
         int size = requestLog.size();
         requestLog.clear();
+        requestLogOrder.clear();
+        requestLogOrderSize.set(0);
         requestCounter.set(0);
+        if (aggregates != null) {
+            aggregates.reset();
+        }
         logger.debug("Cleared {} request log entries", size);
     }
     
@@ -321,6 +495,7 @@ public class RequestResponseLogger {
         }
         
         if (removedCount > 0) {
+            compactRequestLogOrder();
             logger.debug("Removed {} old request log entries", removedCount);
         }
     }
@@ -336,17 +511,26 @@ public class RequestResponseLogger {
      * Add sensitive body field pattern
      */
     public void addSensitiveBodyField(String fieldName) {
-        sensitiveBodyFields.add(fieldName.toLowerCase());
+        if (sensitiveBodyFields.add(fieldName.toLowerCase())) {
+            bodyMasker = new SensitiveDataMasker(sensitiveBodyFields);
+        }
     }
     
     /**
-     * Export logs to JSON format
+     * Export logs to JSON format. In asynchronous mode the entries live in the
+     * NDJSON files, so the export lists the files instead of inlining them; use
+     * {@link #exportLogsAsJson(Path)} to stream a complete document to disk.
      */
     public String exportLogsAsJson() {
         try {
             Map<String, Object> exportData = new HashMap<>();
             exportData.put("summary", generateLogSummary());
-            exportData.put("entries", getAllRequestLogEntries());
+            if (isAsync()) {
+                asyncWriter.flush(TimeUnit.SECONDS.toMillis(30));
+                exportData.put("logFiles", asyncWriter.getLogFiles().stream().map(Path::toString).toList());
+            } else {
+                exportData.put("entries", getAllRequestLogEntries());
+            }
             exportData.put("exportTime", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
             
             // Use Jackson ObjectMapper for JSON serialization
@@ -360,8 +544,81 @@ public class RequestResponseLogger {
         }
     }
     
+    /**
+     * Stream a complete JSON export (summary plus every entry) to a file without
+     * materialising the entries in memory. In asynchronous mode the entries are
+     * copied line by line from the NDJSON files.
+     */
+    public void exportLogsAsJson(Path target) throws IOException {
+        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
+        
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        
+        try (OutputStream out = Files.newOutputStream(target);
+             com.fasterxml.jackson.core.JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName("summary");
+            mapper.writeValue(generator, generateLogSummary());
+            generator.writeStringField("exportTime", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            generator.writeArrayFieldStart("entries");
+            
+            if (isAsync()) {
+                IOException[] failure = new IOException[1];
+                asyncWriter.readLines(line -> {
+                    try {
+                        if (failure[0] == null) {
+                            generator.writeRawValue(line);
+                        }
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+            } else {
+                for (RequestLogEntry entry : getAllRequestLogEntries()) {
+                    mapper.writeValue(generator, entry);
+                }
+            }
+            
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        
+        logger.info("Exported API logs to {}", target);
+    }
+    
+    /**
+     * Flush and close the asynchronous writer, if any
+     */
+    public void close() {
+        if (asyncWriter != null) {
+            asyncWriter.close();
+        }
+    }
+    
     // Private helper methods
     
+    private Map<String, Object> toLogRecord(RequestLogEntry entry) {
+        // Runs on the writer thread, so masking cost stays off the request path
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("requestId", entry.getRequestId());
+        record.put("timestamp", entry.getTimestamp().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        record.put("method", entry.getMethod());
+        record.put("url", entry.getUrl());
+        record.put("headers", entry.getHeaders());
+        record.put("body", maskSensitiveData(entry.getBody()));
+        record.put("responseStatus", entry.getResponseStatus());
+        record.put("responseHeaders", entry.getResponseHeaders());
+        record.put("responseBody", maskSensitiveData(entry.getResponseBody()));
+        record.put("responseTime", entry.getResponseTime());
+        return record;
+    }
+    
     private void initializeSensitiveFields() {
         // Default sensitive headers
         sensitiveHeaders.addAll(Arrays.asList(
@@ -372,6 +629,14 @@ public class RequestResponseLogger {
         sensitiveBodyFields.addAll(Arrays.asList(
             "password", "token", "secret", "key", "ssn", "creditcard", "bankaccount"
         ));
+        bodyMasker = new SensitiveDataMasker(sensitiveBodyFields);
+    }
+    
+    /**
+     * Allocate a request ID from the logger's sequence without logging anything
+     */
+    String nextRequestId() {
+        return generateRequestId();
     }
     
     private String generateRequestId() {
@@ -397,21 +662,7 @@ public class RequestResponseLogger {
     }
     
     private String maskSensitiveData(String data) {
-        if (data == null || data.isEmpty()) {
-            return data;
-        }
-        
-        String maskedData = data;
-        
-        // Mask sensitive body fields
-        for (String field : sensitiveBodyFields) {
-            maskedData = maskedData.replaceAll(
-                "(?i)\"" + field + "\"\\s*:\\s*\"[^\"]*\"",
-                "\"" + field + "\":\"***MASKED***\""
-            );
-        }
-        
-        return maskedData;
+        return bodyMasker.mask(data);
     }
     
     private String maskValue(String value) {
@@ -421,15 +672,38 @@ public class RequestResponseLogger {
         return value.substring(0, 4) + "***" + value.substring(value.length() - 2);
     }
     
-    private String findRequestIdByTimestamp(LocalDateTime responseTimestamp) {
-        // Find the most recent request entry that doesn't have a response yet
-        // This is a simplified approach - in production, you'd want better correlation
-        return requestLog.entrySet().stream()
-            .filter(entry -> entry.getValue().getEndTime() == 0)
-            .min(Comparator.comparingLong(entry -> 
-                Math.abs(entry.getValue().getTimestamp().getNano() - responseTimestamp.getNano())))
-            .map(Map.Entry::getKey)
-            .orElse(null);
+    private void storeLogEntry(RequestLogEntry logEntry) {
+        requestLog.put(logEntry.getRequestId(), logEntry);
+        requestLogOrder.offer(logEntry.getRequestId());
+        int tracked = requestLogOrderSize.incrementAndGet();
+        
+        // Evict oldest entries once the bound is exceeded; IDs of entries that already
+        // completed or were removed are skipped
+        while (requestLog.size() > maxLogEntries) {
+            String oldestId = requestLogOrder.poll();
+            if (oldestId == null) {
+                break;
+            }
+            requestLogOrderSize.decrementAndGet();
+            requestLog.remove(oldestId);
+        }
+        
+        // In asynchronous mode completed entries leave the map without being polled, so the
+        // queue is compacted once stale IDs outnumber the bound: amortized O(1) per request
+        if (tracked > 2L * maxLogEntries) {
+            compactRequestLogOrder();
+        }
+    }
+    
+    private void compactRequestLogOrder() {
+        if (compactingRequestLogOrder.compareAndSet(false, true)) {
+            try {
+                requestLogOrder.removeIf(id -> !requestLog.containsKey(id));
+                requestLogOrderSize.set(requestLogOrder.size());
+            } finally {
+                compactingRequestLogOrder.set(false);
+            }
+        }
     }
     
     private String getStatusRange(int statusCode) {
@@ -0,0 +1,164 @@
+package com.phoenix.hrm.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Resilience Policy for API Testing Framework
+ *
+ * Per-endpoint retry and failure-isolation settings:
+ * - Exponential backoff with full jitter (a random delay between zero and
+ *   {@code baseDelay * 2^(retry-1)}, capped at {@code maxDelay}) so workers that
+ *   failed together do not retry together
+ * - Retry budget limiting retries to a fraction of original calls, plus a small
+ *   reserve for bursts (see {@link RetryBudget})
+ * - Optional circuit breaker that fails calls fast once the failure rate over the
+ *   recent calls crosses a threshold (see {@link CircuitBreaker})
+ *
+ * Transport exceptions are always retryable; responses are retried only for the
+ * status codes listed in {@code retryOnStatus}. Exceptions, 5xx responses and
+ * retryable statuses count as failures for the circuit breaker.
+ *
+ * Endpoints without a policy use {@link #fromConfiguration}, which keeps the
+ * configured attempt count and uses the configured retry delay as the base delay.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class ResiliencePolicy {
+
+    private int maxAttempts = 3;
+    private Duration baseDelay = Duration.ofMillis(200);
+    private Duration maxDelay = Duration.ofSeconds(30);
+    private Set<Integer> retryOnStatus = new HashSet<>();
+    private double retryBudgetRatio = 0.1;
+    private int retryBudgetReserve = 10;
+    private boolean circuitBreakerEnabled = false;
+    private double failureRateThreshold = 0.5;
+    private int slidingWindowSize = 20;
+    private int minimumCalls = 10;
+    private Duration openDuration = Duration.ofSeconds(10);
+    private int halfOpenTrialCalls = 3;
+
+    private ResiliencePolicy() {
+    }
+
+    /**
+     * Policy for endpoints without their own, derived from the framework configuration
+     */
+    public static ResiliencePolicy fromConfiguration(ApiTestFramework.ApiConfiguration config) {
+        return new Builder()
+            .maxAttempts(config.getMaxRetryAttempts())
+            .baseDelay(config.getRetryDelay())
+            .build();
+    }
+
+    // Builder pattern
+    public static class Builder {
+        private final ResiliencePolicy policy = new ResiliencePolicy();
+
+        public Builder maxAttempts(int maxAttempts) {
+            policy.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder baseDelay(Duration baseDelay) {
+            policy.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            policy.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder retryOnStatus(Integer... statusCodes) {
+            policy.retryOnStatus.addAll(Arrays.asList(statusCodes));
+            return this;
+        }
+
+        /**
+         * Allow at most {@code ratio} retries per original call, plus {@code reserve} retries of burst
+         */
+        public Builder retryBudget(double ratio, int reserve) {
+            policy.retryBudgetRatio = ratio;
+            policy.retryBudgetReserve = reserve;
+            return this;
+        }
+
+        /**
+         * Open the circuit when at least {@code failureRateThreshold} of the last
+         * {@code slidingWindowSize} calls failed, once {@code minimumCalls} have been seen
+         */
+        public Builder circuitBreaker(double failureRateThreshold, int slidingWindowSize, int minimumCalls) {
+            policy.circuitBreakerEnabled = true;
+            policy.failureRateThreshold = failureRateThreshold;
+            policy.slidingWindowSize = slidingWindowSize;
+            policy.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        public Builder openDuration(Duration openDuration) {
+            policy.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder halfOpenTrialCalls(int halfOpenTrialCalls) {
+            policy.halfOpenTrialCalls = halfOpenTrialCalls;
+            return this;
+        }
+
+        public ResiliencePolicy build() {
+            if (policy.maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            if (policy.retryBudgetRatio < 0 || policy.retryBudgetReserve < 0) {
+                throw new IllegalArgumentException("Retry budget ratio and reserve must not be negative");
+            }
+            if (policy.circuitBreakerEnabled && (policy.failureRateThreshold <= 0 || policy.failureRateThreshold > 1
+                    || policy.slidingWindowSize < 1 || policy.minimumCalls < 1 || policy.halfOpenTrialCalls < 1)) {
+                throw new IllegalArgumentException("Invalid circuit breaker settings");
+            }
+            policy.retryOnStatus = Collections.unmodifiableSet(policy.retryOnStatus);
+            return policy;
+        }
+    }
+
+    /**
+     * Full-jitter backoff before the given retry (1 for the first retry)
+     */
+    public long backoffDelayMillis(int retry) {
+        long base = Math.max(0, baseDelay.toMillis());
+        long cap = Math.max(base, maxDelay.toMillis());
+        long ceiling = base << Math.min(retry - 1, 30);
+        long bound = ceiling <= 0 || ceiling > cap ? cap : ceiling;
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    }
+
+    public boolean isRetryableStatus(int statusCode) {
+        return retryOnStatus.contains(statusCode);
+    }
+
+    public boolean isFailureStatus(int statusCode) {
+        return statusCode >= 500 || retryOnStatus.contains(statusCode);
+    }
+
+    // Getters
+    public int getMaxAttempts() { return maxAttempts; }
+    public Duration getBaseDelay() { return baseDelay; }
+    public Duration getMaxDelay() { return maxDelay; }
+    public Set<Integer> getRetryOnStatus() { return retryOnStatus; }
+    public double getRetryBudgetRatio() { return retryBudgetRatio; }
+    public int getRetryBudgetReserve() { return retryBudgetReserve; }
+    public boolean isCircuitBreakerEnabled() { return circuitBreakerEnabled; }
+    public double getFailureRateThreshold() { return failureRateThreshold; }
+    public int getSlidingWindowSize() { return slidingWindowSize; }
+    public int getMinimumCalls() { return minimumCalls; }
+    public Duration getOpenDuration() { return openDuration; }
+    public int getHalfOpenTrialCalls() { return halfOpenTrialCalls; }
+}
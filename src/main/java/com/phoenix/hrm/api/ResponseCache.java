@@ -0,0 +1,253 @@
+package com.phoenix.hrm.api;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Response Cache for API Testing Framework
+ *
+ * Client-side cache for idempotent GET responses:
+ * - Keyed by expanded URL and auth principal, so users never see each other's data
+ * - Entries live for the configured TTL, or the server's {@code Cache-Control: max-age}
+ *   when given; {@code no-store} responses are never cached
+ * - Size-bounded with least-recently-used eviction
+ * - Expired entries carrying an {@code ETag} or {@code Last-Modified} are kept for
+ *   revalidation: the next request is sent with {@code If-None-Match} /
+ *   {@code If-Modified-Since}, and a 304 reply renews the entry without a body
+ * - Successful non-GET requests invalidate entries under the same path and the
+ *   parent collection, so a write to {@code /employees/5} also drops {@code GET /employees}
+ *
+ * Only 200 responses with a text body are cached. Streamed responses are never
+ * buffered, so the framework refuses to enable the cache together with
+ * {@code streamingResponses}.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class ResponseCache {
+
+    private final int maxEntries;
+    private final Duration defaultTtl;
+    // ReentrantLock rather than a monitor so contended virtual threads do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedResponse> entries;
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * A cached response with its validators
+     */
+    public static final class CachedResponse {
+        private final String path;
+        private final int statusCode;
+        private final Map<String, List<String>> headers;
+        private final String body;
+        private volatile String etag;
+        private volatile String lastModified;
+        private volatile long expiresAtNanos;
+
+        private CachedResponse(String path, int statusCode, Map<String, List<String>> headers, String body) {
+            this.path = path;
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+
+        public boolean canRevalidate() {
+            return etag != null || lastModified != null;
+        }
+
+        // Getters
+        public int getStatusCode() { return statusCode; }
+        public Map<String, List<String>> getHeaders() { return headers; }
+        public String getBody() { return body; }
+        public String getEtag() { return etag; }
+        public String getLastModified() { return lastModified; }
+    }
+
+    public ResponseCache(int maxEntries, Duration defaultTtl) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.defaultTtl = defaultTtl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > ResponseCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Cache key for a request
+     */
+    public static String key(URI uri, String principal) {
+        return principal == null || principal.isEmpty() ? uri.toString() : uri + "#" + principal;
+    }
+
+    /**
+     * Get the entry for the key: fresh, or expired but revalidatable. Expired entries
+     * without validators are dropped.
+     */
+    public CachedResponse get(String key) {
+        lock.lock();
+        try {
+            CachedResponse entry = entries.get(key);
+            if (entry != null && !entry.isFresh() && !entry.canRevalidate()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Store a response if it is cacheable
+     *
+     * @return true if stored
+     */
+    public boolean put(String key, URI uri, int statusCode, Map<String, List<String>> headers, String body) {
+        if (statusCode != 200 || body == null) {
+            return false;
+        }
+        Duration ttl = ttlFor(headers);
+        if (ttl == null) {
+            return false;
+        }
+
+        CachedResponse entry = new CachedResponse(uri.getPath(), statusCode, headers, body);
+        applyValidators(entry, headers, ttl);
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Renew an entry after a 304 Not Modified reply
+     */
+    public void revalidated(CachedResponse entry, Map<String, List<String>> notModifiedHeaders) {
+        Duration ttl = ttlFor(notModifiedHeaders);
+        applyValidators(entry, notModifiedHeaders, ttl != null ? ttl : Duration.ZERO);
+    }
+
+    /**
+     * Drop entries whose path equals or lies under the given path, plus the entry for
+     * its parent collection (siblings such as {@code /employees/6} are kept)
+     */
+    public int invalidate(String path) {
+        String trimmed = path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        String prefix = trimmed.endsWith("/") ? trimmed : trimmed + "/";
+        int parentEnd = trimmed.lastIndexOf('/');
+        String parent = parentEnd > 0 ? trimmed.substring(0, parentEnd) : null;
+        int removed = 0;
+        lock.lock();
+        try {
+            Iterator<CachedResponse> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                CachedResponse entry = iterator.next();
+                if (entry.path.equals(trimmed) || entry.path.startsWith(prefix)
+                        || (parent != null && entry.path.equals(parent))) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return removed;
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    // Private helper methods
+
+    /**
+     * TTL from Cache-Control, or the default; null if the response must not be stored
+     */
+    private Duration ttlFor(Map<String, List<String>> headers) {
+        String cacheControl = header(headers, "cache-control");
+        if (cacheControl == null) {
+            return defaultTtl;
+        }
+        Duration ttl = defaultTtl;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            directive = directive.trim();
+            if (directive.equals("no-store")) {
+                return null;
+            }
+            if (directive.equals("no-cache")) {
+                ttl = Duration.ZERO;
+            } else if (directive.startsWith("max-age=")) {
+                try {
+                    ttl = Duration.ofSeconds(Long.parseLong(directive.substring(8).trim()));
+                } catch (NumberFormatException e) {
+                    // Malformed max-age: keep the default
+                }
+            }
+        }
+        return ttl;
+    }
+
+    private static void applyValidators(CachedResponse entry, Map<String, List<String>> headers, Duration ttl) {
+        String etag = header(headers, "etag");
+        String lastModified = header(headers, "last-modified");
+        if (etag != null) {
+            entry.etag = etag;
+        }
+        if (lastModified != null) {
+            entry.lastModified = lastModified;
+        }
+        entry.expiresAtNanos = System.nanoTime() + ttl.toNanos();
+    }
+
+    private static String header(Map<String, List<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey() != null && header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.phoenix.hrm.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retry Budget for API Testing Framework
+ *
+ * Token bucket bounding retries relative to original calls:
+ * - Every original call deposits {@code ratio} of a token
+ * - Every retry withdraws one whole token, and is refused when none is left
+ * - The bucket holds at most {@code reserve} tokens and starts full, so short
+ *   bursts of failures can still be retried
+ *
+ * Over a run this keeps retries at or below {@code ratio * calls + reserve}, so a
+ * struggling server sees at most that much extra load from retries. Tokens are
+ * kept in thousandths so the bucket is a single lock-free counter.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int reserve) {
+        this.depositPerCall = Math.round(ratio * TOKEN);
+        this.capacity = Math.max(TOKEN, reserve * TOKEN);
+        this.balance = new AtomicLong(reserve * TOKEN);
+    }
+
+    /**
+     * Record an original (non-retry) call
+     */
+    public void recordCall() {
+        if (depositPerCall > 0) {
+            balance.updateAndGet(current -> Math.min(capacity, current + depositPerCall));
+        }
+    }
+
+    /**
+     * Withdraw a token for a retry
+     *
+     * @return false if the budget is exhausted and the retry should not be made
+     */
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Retries currently available
+     */
+    public double getAvailableRetries() {
+        return (double) balance.get() / TOKEN;
+    }
+}
@@ -0,0 +1,279 @@
+package com.phoenix.hrm.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling Window Metrics for API Testing Framework
+ *
+ * Keeps a time series of request activity in two fixed-size rings:
+ * - A per-second ring (default: last 120 seconds)
+ * - A per-minute ring (default: last 60 minutes)
+ *
+ * Each bucket holds a request count, an error count and a small latency
+ * histogram. Recording touches one bucket per ring and never takes a lock;
+ * a bucket whose time slot has passed is replaced with a fresh one via CAS.
+ * Window queries such as "RPS and p95 over the last 30s" merge at most one
+ * ring's worth of buckets, independent of how many requests were recorded.
+ * The newest bucket is still filling, so rates are computed over the time the
+ * merged buckets actually cover rather than the nominal window length.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class RollingWindowMetrics {
+
+    public static final int DEFAULT_SECOND_SLOTS = 120;
+    public static final int DEFAULT_MINUTE_SLOTS = 60;
+
+    // Window buckets use a coarse histogram (~6% error) to keep the rings small
+    private static final long BUCKET_HIGHEST_TRACKABLE_VALUE = 60_000L;
+    private static final int BUCKET_PRECISION_BITS = 5;
+
+    private final Ring seconds;
+    private final Ring minutes;
+    private final LongSupplier clockMillis;
+
+    /**
+     * Window resolution
+     */
+    public enum Resolution {
+        SECOND(1),
+        MINUTE(60);
+
+        private final long seconds;
+
+        Resolution(long seconds) {
+            this.seconds = seconds;
+        }
+
+        public long getSeconds() {
+            return seconds;
+        }
+    }
+
+    /**
+     * Aggregated statistics for a time window
+     */
+    public static class WindowSnapshot {
+        private final Instant windowStart;
+        private final long durationSeconds;
+        private final long coveredMillis;
+        private final long requestCount;
+        private final long errorCount;
+        private final LatencyHistogram latencyHistogram;
+
+        public WindowSnapshot(Instant windowStart, long durationSeconds, long requestCount,
+                              long errorCount, LatencyHistogram latencyHistogram) {
+            this(windowStart, durationSeconds, durationSeconds * 1000, requestCount, errorCount, latencyHistogram);
+        }
+
+        /**
+         * @param durationSeconds nominal window length
+         * @param coveredMillis time elapsed between the window start and the snapshot,
+         *                      shorter than the nominal length while the newest bucket fills
+         */
+        public WindowSnapshot(Instant windowStart, long durationSeconds, long coveredMillis, long requestCount,
+                              long errorCount, LatencyHistogram latencyHistogram) {
+            this.windowStart = windowStart;
+            this.durationSeconds = durationSeconds;
+            this.coveredMillis = coveredMillis;
+            this.requestCount = requestCount;
+            this.errorCount = errorCount;
+            this.latencyHistogram = latencyHistogram;
+        }
+
+        public double getRequestsPerSecond() {
+            return coveredMillis > 0 ? (double) requestCount * 1000 / coveredMillis : 0.0;
+        }
+
+        public double getErrorRate() {
+            return requestCount > 0 ? (double) errorCount / requestCount * 100 : 0.0;
+        }
+
+        public long getPercentile(double percentile) {
+            return latencyHistogram.getPercentile(percentile);
+        }
+
+        // Getters
+        public Instant getWindowStart() { return windowStart; }
+        public long getDurationSeconds() { return durationSeconds; }
+        public long getCoveredMillis() { return coveredMillis; }
+        public long getRequestCount() { return requestCount; }
+        public long getErrorCount() { return errorCount; }
+        public double getAverageResponseTime() { return latencyHistogram.getMean(); }
+        public long getP95ResponseTime() { return latencyHistogram.getPercentile(95.0); }
+        public long getMaxResponseTime() { return latencyHistogram.getMax(); }
+
+        @Override
+        public String toString() {
+            return String.format("WindowSnapshot{start=%s, duration=%ds, rps=%.2f, errorRate=%.1f%%, p95=%dms}",
+                windowStart, durationSeconds, getRequestsPerSecond(), getErrorRate(), getP95ResponseTime());
+        }
+    }
+
+    /**
+     * Constructor with default ring sizes
+     */
+    public RollingWindowMetrics() {
+        this(DEFAULT_SECOND_SLOTS, DEFAULT_MINUTE_SLOTS, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param secondSlots number of per-second buckets kept
+     * @param minuteSlots number of per-minute buckets kept
+     * @param clockMillis wall clock in epoch milliseconds
+     */
+    public RollingWindowMetrics(int secondSlots, int minuteSlots, LongSupplier clockMillis) {
+        if (secondSlots < 1 || minuteSlots < 1) {
+            throw new IllegalArgumentException("Ring sizes must be positive");
+        }
+        this.seconds = new Ring(secondSlots, Resolution.SECOND);
+        this.minutes = new Ring(minuteSlots, Resolution.MINUTE);
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Record a request
+     */
+    public void recordRequest(long responseTime, boolean error) {
+        long epochSecond = clockMillis.getAsLong() / 1000;
+        seconds.record(epochSecond, responseTime, error);
+        minutes.record(epochSecond, responseTime, error);
+    }
+
+    /**
+     * Get aggregated statistics for the trailing window ending now.
+     * Windows that fit in the per-second ring use second resolution,
+     * longer windows fall back to the per-minute ring.
+     */
+    public WindowSnapshot getWindow(Duration window) {
+        long windowSeconds = Math.max(1, window.getSeconds());
+        long nowMillis = clockMillis.getAsLong();
+        long nowSecond = nowMillis / 1000;
+
+        Ring ring = windowSeconds <= seconds.size() ? seconds : minutes;
+        long unit = ring.resolution.getSeconds();
+        long slots = Math.min(ring.size(), (windowSeconds + unit - 1) / unit);
+        long newestSlot = nowSecond / unit;
+        long oldestSlot = newestSlot - slots + 1;
+
+        return ring.aggregate(oldestSlot, newestSlot, nowMillis);
+    }
+
+    /**
+     * Get the retained time series at the given resolution, oldest first.
+     * Slots without any traffic are reported as empty buckets.
+     */
+    public List<WindowSnapshot> getSeries(Resolution resolution) {
+        Ring ring = resolution == Resolution.SECOND ? seconds : minutes;
+        long nowMillis = clockMillis.getAsLong();
+        long newestSlot = nowMillis / 1000 / resolution.getSeconds();
+        long oldestSlot = newestSlot - ring.size() + 1;
+
+        List<WindowSnapshot> series = new ArrayList<>(ring.size());
+        for (long slot = oldestSlot; slot <= newestSlot; slot++) {
+            series.add(ring.aggregate(slot, slot, nowMillis));
+        }
+        return series;
+    }
+
+    /**
+     * Discard all buckets
+     */
+    public void reset() {
+        seconds.clear();
+        minutes.clear();
+    }
+
+    // Private helper classes
+
+    private static final class Bucket {
+        private final long slot;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram histogram =
+            new LatencyHistogram(BUCKET_HIGHEST_TRACKABLE_VALUE, BUCKET_PRECISION_BITS);
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+
+    private static final class Ring {
+        private final AtomicReferenceArray<Bucket> buckets;
+        private final Resolution resolution;
+
+        private Ring(int size, Resolution resolution) {
+            this.buckets = new AtomicReferenceArray<>(size);
+            this.resolution = resolution;
+        }
+
+        private int size() {
+            return buckets.length();
+        }
+
+        private void record(long epochSecond, long responseTime, boolean error) {
+            long slot = epochSecond / resolution.getSeconds();
+            Bucket bucket = bucketFor(slot);
+            bucket.requests.increment();
+            if (error) {
+                bucket.errors.increment();
+            }
+            bucket.histogram.recordValue(responseTime);
+        }
+
+        private Bucket bucketFor(long slot) {
+            int index = (int) Math.floorMod(slot, (long) buckets.length());
+            while (true) {
+                Bucket current = buckets.get(index);
+                if (current != null && current.slot == slot) {
+                    return current;
+                }
+                if (current != null && current.slot > slot) {
+                    // Late writer from an already recycled slot; count it in a throwaway bucket
+                    return new Bucket(slot);
+                }
+                Bucket fresh = new Bucket(slot);
+                if (buckets.compareAndSet(index, current, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        private WindowSnapshot aggregate(long oldestSlot, long newestSlot, long nowMillis) {
+            long requests = 0;
+            long errors = 0;
+            LatencyHistogram merged = new LatencyHistogram(BUCKET_HIGHEST_TRACKABLE_VALUE, BUCKET_PRECISION_BITS);
+
+            for (long slot = oldestSlot; slot <= newestSlot; slot++) {
+                Bucket bucket = buckets.get((int) Math.floorMod(slot, (long) buckets.length()));
+                if (bucket != null && bucket.slot == slot) {
+                    requests += bucket.requests.sum();
+                    errors += bucket.errors.sum();
+                    merged.add(bucket.histogram);
+                }
+            }
+
+            long unit = resolution.getSeconds();
+            long startMillis = oldestSlot * unit * 1000;
+            long endMillis = Math.min(nowMillis, (newestSlot + 1) * unit * 1000);
+            return new WindowSnapshot(Instant.ofEpochSecond(oldestSlot * unit), (newestSlot - oldestSlot + 1) * unit,
+                Math.max(1, endMillis - startMillis), requests, errors, merged);
+        }
+
+        private void clear() {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, null);
+            }
+        }
+    }
+}
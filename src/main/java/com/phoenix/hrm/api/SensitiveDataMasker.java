@@ -0,0 +1,159 @@
+package com.phoenix.hrm.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Sensitive Data Masker for API Testing Framework
+ *
+ * Masks the values of sensitive fields in request/response bodies in a single pass:
+ * - JSON bodies are streamed token by token with Jackson's JsonParser/JsonGenerator;
+ *   field names are matched case-insensitively against a precomputed set at any
+ *   depth, including objects nested in arrays
+ * - A sensitive field holding an object or array is masked as a whole
+ * - Non-JSON bodies (or malformed JSON) fall back to one precompiled pattern that
+ *   covers all fields in both {@code "field":"value"} and {@code field=value} forms
+ *
+ * Instances are immutable and thread-safe; build a new one when the field set changes.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class SensitiveDataMasker {
+
+    public static final String MASK = "***MASKED***";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Set<String> sensitiveFields;
+    private final Pattern fallbackPattern;
+
+    /**
+     * Constructor
+     *
+     * @param sensitiveFields field names to mask, matched case-insensitively
+     */
+    public SensitiveDataMasker(Collection<String> sensitiveFields) {
+        Set<String> normalized = new HashSet<>();
+        for (String field : sensitiveFields) {
+            normalized.add(field.toLowerCase(Locale.ROOT));
+        }
+        this.sensitiveFields = Collections.unmodifiableSet(normalized);
+        this.fallbackPattern = compileFallbackPattern(this.sensitiveFields);
+    }
+
+    /**
+     * Mask sensitive field values in the given body
+     */
+    public String mask(String data) {
+        if (data == null || data.isEmpty() || sensitiveFields.isEmpty()) {
+            return data;
+        }
+
+        if (looksLikeJson(data)) {
+            try {
+                return maskJson(data);
+            } catch (IOException e) {
+                // Malformed or truncated JSON; fall through to pattern masking
+            }
+        }
+        return maskText(data);
+    }
+
+    /**
+     * Check whether a field name is sensitive
+     */
+    public boolean isSensitiveField(String fieldName) {
+        return fieldName != null && sensitiveFields.contains(fieldName.toLowerCase(Locale.ROOT));
+    }
+
+    public Set<String> getSensitiveFields() {
+        return sensitiveFields;
+    }
+
+    // Private helper methods
+
+    private String maskJson(String data) throws IOException {
+        StringWriter output = new StringWriter(data.length());
+
+        try (JsonParser parser = JSON_FACTORY.createParser(data);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && isSensitiveField(parser.getCurrentName())) {
+                    generator.writeFieldName(parser.getCurrentName());
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                    }
+                    generator.writeString(MASK);
+                } else {
+                    generator.copyCurrentEventExact(parser);
+                }
+            }
+        }
+
+        return output.toString();
+    }
+
+    private String maskText(String data) {
+        if (fallbackPattern == null) {
+            return data;
+        }
+
+        Matcher matcher = fallbackPattern.matcher(data);
+        if (!matcher.find()) {
+            return data;
+        }
+
+        StringBuilder result = new StringBuilder(data.length());
+        do {
+            String replacement = matcher.group(1) != null
+                ? "\"" + matcher.group(1) + "\":\"" + MASK + "\""
+                : matcher.group(2) + "=" + MASK;
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        } while (matcher.find());
+        matcher.appendTail(result);
+
+        return result.toString();
+    }
+
+    private static boolean looksLikeJson(String data) {
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[';
+            }
+        }
+        return false;
+    }
+
+    private static Pattern compileFallbackPattern(Set<String> fields) {
+        if (fields.isEmpty()) {
+            return null;
+        }
+        String alternatives = fields.stream()
+            .map(Pattern::quote)
+            .collect(Collectors.joining("|"));
+
+        // Group 1: "field":"value"   Group 2: field=value (form bodies, Map#toString)
+        return Pattern.compile(
+            "\"(" + alternatives + ")\"\\s*:\\s*\"[^\"]*\"" +
+            "|\\b(" + alternatives + ")=[^&,;}\\s]*",
+            Pattern.CASE_INSENSITIVE);
+    }
+}
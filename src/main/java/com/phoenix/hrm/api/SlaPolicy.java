@@ -0,0 +1,266 @@
+package com.phoenix.hrm.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SLA Policy for API Testing Framework
+ *
+ * Latency and error budgets for one endpoint or for all traffic, evaluated over a
+ * trailing window, e.g. {@code SlaPolicy.endpoint("getEmployees").p95(Duration.ofMillis(300))
+ * .errorRate(0.5).over(Duration.ofSeconds(60)).build()}:
+ * - Any number of percentile budgets ({@code p95}, {@code p99}, {@code percentile(99.9, ...)})
+ * - An error-rate budget in percent of requests
+ * - Evaluation reads the pre-aggregated rolling window buckets of {@link PerformanceMetrics},
+ *   so it is cheap enough to run every second
+ * - Windows with fewer than {@code minRequests} requests are reported as insufficient
+ *   data rather than breached, so warm-up noise does not fail a run
+ * - Fail-fast policies make the framework reject further requests once breached
+ * - Results, breaches and exported metrics are keyed by the policy name, which
+ *   defaults to its description; registering two policies with one name is rejected
+ *
+ * The rolling window buckets use a coarse {@link LatencyHistogram} with 5 precision
+ * bits, so evaluated percentiles carry up to ~6% relative error, and latencies above
+ * 60 s are counted as 60 s. Leave some headroom when setting budgets close to the
+ * expected latency.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class SlaPolicy {
+
+    private String name;
+    private String endpointName;
+    private final Map<Double, Duration> latencyBudgets = new TreeMap<>();
+    private Double maxErrorRatePercent;
+    private Duration window = Duration.ofSeconds(60);
+    private long minRequests = 10;
+    private boolean failFast = true;
+
+    private SlaPolicy() {
+    }
+
+    private SlaPolicy(SlaPolicy other) {
+        this.name = other.name;
+        this.endpointName = other.endpointName;
+        this.latencyBudgets.putAll(other.latencyBudgets);
+        this.maxErrorRatePercent = other.maxErrorRatePercent;
+        this.window = other.window;
+        this.minRequests = other.minRequests;
+        this.failFast = other.failFast;
+    }
+
+    /**
+     * Start a policy for a single endpoint
+     */
+    public static Builder endpoint(String endpointName) {
+        Builder builder = new Builder();
+        builder.policy.endpointName = endpointName;
+        return builder;
+    }
+
+    /**
+     * Start a policy over all endpoints combined
+     */
+    public static Builder overall() {
+        return new Builder();
+    }
+
+    // Builder pattern
+    public static class Builder {
+        private final SlaPolicy policy = new SlaPolicy();
+
+        /**
+         * Name identifying the policy in results, breaches and exported metrics
+         */
+        public Builder name(String name) {
+            policy.name = name;
+            return this;
+        }
+
+        public Builder p50(Duration max) {
+            return percentile(50.0, max);
+        }
+
+        public Builder p95(Duration max) {
+            return percentile(95.0, max);
+        }
+
+        public Builder p99(Duration max) {
+            return percentile(99.0, max);
+        }
+
+        public Builder percentile(double percentile, Duration max) {
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+            }
+            policy.latencyBudgets.put(percentile, max);
+            return this;
+        }
+
+        /**
+         * Maximum share of failed requests, in percent (0.5 means 0.5%)
+         */
+        public Builder errorRate(double maxPercent) {
+            policy.maxErrorRatePercent = maxPercent;
+            return this;
+        }
+
+        /**
+         * Trailing window the budgets apply to
+         */
+        public Builder over(Duration window) {
+            policy.window = window;
+            return this;
+        }
+
+        public Builder minRequests(long minRequests) {
+            policy.minRequests = minRequests;
+            return this;
+        }
+
+        public Builder failFast(boolean failFast) {
+            policy.failFast = failFast;
+            return this;
+        }
+
+        public SlaPolicy build() {
+            if (policy.latencyBudgets.isEmpty() && policy.maxErrorRatePercent == null) {
+                throw new IllegalStateException("SLA policy needs at least one latency or error-rate budget");
+            }
+            // Registered policies must not change when the builder is reused
+            return new SlaPolicy(policy);
+        }
+    }
+
+    /**
+     * Outcome of evaluating a policy
+     */
+    public enum Status {
+        MET, BREACHED, INSUFFICIENT_DATA
+    }
+
+    /**
+     * Result of one evaluation
+     */
+    public static class SlaResult {
+        private final String policy;
+        private final String endpointName;
+        private final Status status;
+        private final long requestCount;
+        private final Map<String, Long> observedLatency;
+        private final double observedErrorRate;
+        private final List<String> violations;
+        private final Instant evaluatedAt;
+
+        public SlaResult(String policy, String endpointName, Status status, long requestCount,
+                         Map<String, Long> observedLatency, double observedErrorRate, List<String> violations) {
+            this.policy = policy;
+            this.endpointName = endpointName;
+            this.status = status;
+            this.requestCount = requestCount;
+            this.observedLatency = Collections.unmodifiableMap(observedLatency);
+            this.observedErrorRate = observedErrorRate;
+            this.violations = Collections.unmodifiableList(violations);
+            this.evaluatedAt = Instant.now();
+        }
+
+        // Getters
+        public String getPolicy() { return policy; }
+        public String getEndpointName() { return endpointName; }
+        public Status getStatus() { return status; }
+        public boolean isBreached() { return status == Status.BREACHED; }
+        public long getRequestCount() { return requestCount; }
+        public Map<String, Long> getObservedLatency() { return observedLatency; }
+        public double getObservedErrorRate() { return observedErrorRate; }
+        public List<String> getViolations() { return violations; }
+        public Instant getEvaluatedAt() { return evaluatedAt; }
+
+        @Override
+        public String toString() {
+            return String.format("SlaResult{policy=%s, status=%s, requests=%d, latency=%s, errorRate=%.2f%%%s}",
+                policy, status, requestCount, observedLatency, observedErrorRate,
+                violations.isEmpty() ? "" : ", violations=" + violations);
+        }
+    }
+
+    /**
+     * Thrown when SLA budgets are broken
+     */
+    public static class SlaViolationException extends ApiTestFramework.ApiTestException {
+        private final List<SlaResult> breaches;
+
+        public SlaViolationException(List<SlaResult> breaches) {
+            super(breaches.size() + " SLA budget(s) broken: " + breaches);
+            this.breaches = Collections.unmodifiableList(new ArrayList<>(breaches));
+        }
+
+        public List<SlaResult> getBreaches() { return breaches; }
+    }
+
+    /**
+     * Evaluate the budgets against the metrics' trailing window ending now
+     */
+    public SlaResult evaluate(PerformanceMetrics metrics) {
+        RollingWindowMetrics.WindowSnapshot snapshot = endpointName != null
+            ? metrics.getWindowStats(endpointName, window)
+            : metrics.getWindowStats(window);
+        long requestCount = snapshot != null ? snapshot.getRequestCount() : 0;
+        if (requestCount == 0 || requestCount < minRequests) {
+            return new SlaResult(getName(), endpointName, Status.INSUFFICIENT_DATA, requestCount,
+                Collections.emptyMap(), 0.0, Collections.emptyList());
+        }
+
+        Map<String, Long> observedLatency = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<Double, Duration> budget : latencyBudgets.entrySet()) {
+            String label = percentileLabel(budget.getKey());
+            long observed = snapshot.getPercentile(budget.getKey());
+            observedLatency.put(label, observed);
+            if (observed > budget.getValue().toMillis()) {
+                violations.add(String.format("%s %dms > %dms", label, observed, budget.getValue().toMillis()));
+            }
+        }
+
+        double errorRate = snapshot.getErrorRate();
+        if (maxErrorRatePercent != null && errorRate > maxErrorRatePercent) {
+            violations.add(String.format("errorRate %.2f%% > %s%%", errorRate, maxErrorRatePercent));
+        }
+
+        return new SlaResult(getName(), endpointName, violations.isEmpty() ? Status.MET : Status.BREACHED,
+            requestCount, observedLatency, errorRate, violations);
+    }
+
+    // Getters
+    public String getName() { return name != null ? name : toString(); }
+    public String getEndpointName() { return endpointName; }
+    public Map<Double, Duration> getLatencyBudgets() { return Collections.unmodifiableMap(latencyBudgets); }
+    public Double getMaxErrorRatePercent() { return maxErrorRatePercent; }
+    public Duration getWindow() { return window; }
+    public long getMinRequests() { return minRequests; }
+    public boolean isFailFast() { return failFast; }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder(endpointName != null ? endpointName : "overall");
+        latencyBudgets.forEach((percentile, max) ->
+            description.append(' ').append(percentileLabel(percentile)).append("<").append(max.toMillis()).append("ms"));
+        if (maxErrorRatePercent != null) {
+            description.append(" errorRate<").append(maxErrorRatePercent).append('%');
+        }
+        return description.append(" over ").append(window.getSeconds()).append('s').toString();
+    }
+
+    // Private helper methods
+
+    private static String percentileLabel(double percentile) {
+        return percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile;
+    }
+}
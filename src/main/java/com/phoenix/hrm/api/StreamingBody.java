@@ -0,0 +1,112 @@
+package com.phoenix.hrm.api;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * Streaming Request Body for API Testing Framework
+ *
+ * A request body that is streamed to the server instead of being serialised to an
+ * in-memory String, for photo uploads, CSV bulk imports and other large payloads:
+ * - {@link #ofFile} reads the file in chunks while the request is sent
+ * - {@link #ofInputStream} pulls from a caller-supplied stream; the supplier is called
+ *   once per attempt, so it must return a fresh stream each time for retries to work
+ *
+ * Pass an instance as the request body of any endpoint call. The body's content type
+ * replaces the JSON default, and when the length is known the upload is recorded as
+ * transfer throughput in {@link PerformanceMetrics}. Request logs and traffic
+ * recordings hold the body's description, never its content.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class StreamingBody {
+
+    /** Content type used when none is given and none can be detected */
+    public static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final HttpRequest.BodyPublisher publisher;
+    private final String contentType;
+    private final String description;
+
+    private StreamingBody(HttpRequest.BodyPublisher publisher, String contentType, String description) {
+        this.publisher = publisher;
+        this.contentType = contentType;
+        this.description = description;
+    }
+
+    /**
+     * Stream a file, detecting its content type from the file name
+     */
+    public static StreamingBody ofFile(Path file) {
+        String contentType;
+        try {
+            contentType = Files.probeContentType(file);
+        } catch (IOException e) {
+            contentType = null;
+        }
+        return ofFile(file, contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+    }
+
+    /**
+     * Stream a file with the given content type
+     *
+     * @throws UncheckedIOException if the file does not exist or cannot be read
+     */
+    public static StreamingBody ofFile(Path file, String contentType) {
+        try {
+            HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofFile(file);
+            return new StreamingBody(publisher, contentType,
+                "file " + file.getFileName() + " (" + publisher.contentLength() + " bytes, " + contentType + ")");
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException("Cannot stream request body from " + file, e);
+        }
+    }
+
+    /**
+     * Stream from an input stream of unknown length; the request is sent chunked
+     *
+     * @param stream supplies a fresh stream for every attempt
+     */
+    public static StreamingBody ofInputStream(Supplier<? extends InputStream> stream, String contentType) {
+        return ofInputStream(stream, -1, contentType);
+    }
+
+    /**
+     * Stream from an input stream of known length
+     *
+     * @param stream supplies a fresh stream for every attempt
+     * @param contentLength exact number of bytes the stream yields, or -1 if unknown
+     */
+    public static StreamingBody ofInputStream(Supplier<? extends InputStream> stream, long contentLength,
+                                              String contentType) {
+        HttpRequest.BodyPublisher publisher;
+        if (contentLength > 0) {
+            publisher = HttpRequest.BodyPublishers.fromPublisher(
+                HttpRequest.BodyPublishers.ofInputStream(stream), contentLength);
+        } else if (contentLength == 0) {
+            publisher = HttpRequest.BodyPublishers.noBody();
+        } else {
+            publisher = HttpRequest.BodyPublishers.ofInputStream(stream);
+        }
+        String length = contentLength >= 0 ? contentLength + " bytes" : "unknown length";
+        return new StreamingBody(publisher, contentType, "stream (" + length + ", " + contentType + ")");
+    }
+
+    // Getters
+    public HttpRequest.BodyPublisher getPublisher() { return publisher; }
+    public String getContentType() { return contentType; }
+    public long getContentLength() { return publisher.contentLength(); }
+
+    @Override
+    public String toString() {
+        return "<" + description + ">";
+    }
+}
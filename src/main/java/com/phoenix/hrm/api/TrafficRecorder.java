@@ -0,0 +1,312 @@
+package com.phoenix.hrm.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Traffic Recorder for API Testing Framework
+ *
+ * Captures request/response pairs with their timings so a suite can later be run
+ * against {@link TrafficReplayServer} instead of a shared, noisy backend:
+ * - One gzip-compressed NDJSON line per exchange, written off the request thread
+ *   by {@link AsyncLogWriter}; the writer blocks rather than drop exchanges
+ * - Paths are stored relative to the base URL, without its host and without any
+ *   path prefix such as {@code /api}, so a recording replays on any host and
+ *   {@link TrafficReplayServer#getBaseUrl()} can be used as the base URL directly
+ * - Request bodies are stored as a SHA-256 digest only, enough to tell requests apart
+ * - Hop-by-hop and per-connection response headers are not recorded, nor is the
+ *   content coding, since bodies are stored decoded
+ *
+ * Recordings are meant for local benchmarking and hold real response bodies; do
+ * not share recordings of environments with production data.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class TrafficRecorder implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+
+    /** File name prefix of recording files */
+    public static final String FILE_PREFIX = "recording";
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final long MAX_FILE_BYTES = 64L * 1024 * 1024;
+    // Bodies are recorded decoded, so content-encoding must not be replayed either
+    private static final Set<String> UNRECORDED_HEADERS = Set.of(
+        "connection", "keep-alive", "transfer-encoding", "content-length", "content-encoding", "date", ":status");
+
+    private final Path directory;
+    private final String basePath;
+    private final AsyncLogWriter<RecordedExchange> writer;
+    private final long startNanos;
+
+    /**
+     * One recorded request/response pair
+     */
+    public static class RecordedExchange {
+        private final long offsetMillis;
+        private final String method;
+        private final String path;
+        private final String requestBodyHash;
+        private final int statusCode;
+        private final Map<String, List<String>> headers;
+        private final String body;
+        private final long latencyMillis;
+
+        public RecordedExchange(long offsetMillis, String method, String path, String requestBodyHash,
+                                int statusCode, Map<String, List<String>> headers, String body, long latencyMillis) {
+            this.offsetMillis = offsetMillis;
+            this.method = method;
+            this.path = path;
+            this.requestBodyHash = requestBodyHash;
+            this.statusCode = statusCode;
+            this.headers = headers != null ? headers : Collections.emptyMap();
+            this.body = body;
+            this.latencyMillis = latencyMillis;
+        }
+
+        // Getters
+        public long getOffsetMillis() { return offsetMillis; }
+        public String getMethod() { return method; }
+        public String getPath() { return path; }
+        public String getRequestBodyHash() { return requestBodyHash; }
+        public int getStatusCode() { return statusCode; }
+        public Map<String, List<String>> getHeaders() { return headers; }
+        public String getBody() { return body; }
+        public long getLatencyMillis() { return latencyMillis; }
+
+        @Override
+        public String toString() {
+            return String.format("RecordedExchange{%s %s -> %d in %dms}", method, path, statusCode, latencyMillis);
+        }
+
+        private Map<String, Object> toRecord() {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("offset", offsetMillis);
+            record.put("method", method);
+            record.put("path", path);
+            if (requestBodyHash != null) {
+                record.put("requestBodyHash", requestBodyHash);
+            }
+            record.put("status", statusCode);
+            record.put("headers", headers);
+            record.put("body", body);
+            record.put("latency", latencyMillis);
+            return record;
+        }
+
+        private static RecordedExchange fromRecord(JsonNode record) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = record.path("headers").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                List<String> values = new ArrayList<>();
+                field.getValue().forEach(value -> values.add(value.asText()));
+                headers.put(field.getKey(), values);
+            }
+            JsonNode bodyHash = record.get("requestBodyHash");
+            JsonNode body = record.get("body");
+            return new RecordedExchange(
+                record.path("offset").asLong(),
+                record.path("method").asText(),
+                record.path("path").asText(),
+                bodyHash != null && !bodyHash.isNull() ? bodyHash.asText() : null,
+                record.path("status").asInt(),
+                headers,
+                body != null && !body.isNull() ? body.asText() : null,
+                record.path("latency").asLong());
+        }
+    }
+
+    /**
+     * Constructor for a base URL without a path prefix
+     *
+     * @param directory directory receiving the recording files
+     */
+    public TrafficRecorder(Path directory) {
+        this(directory, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param directory directory receiving the recording files
+     * @param baseUrl base URL of the recorded API; its path is stripped from recorded paths
+     */
+    public TrafficRecorder(Path directory, String baseUrl) {
+        this.directory = directory;
+        this.basePath = basePathOf(baseUrl);
+        this.writer = new AsyncLogWriter<>(directory, FILE_PREFIX, BUFFER_SIZE,
+            AsyncLogWriter.OverflowPolicy.BLOCK, MAX_FILE_BYTES, true, RecordedExchange::toRecord);
+        this.startNanos = System.nanoTime();
+        logger.info("Recording API traffic to {}", directory);
+    }
+
+    /**
+     * Record one exchange
+     *
+     * @param method HTTP method
+     * @param uri full request URI; only the path below the base URL and the query are kept
+     * @param requestBody request body as sent, or null
+     * @param statusCode response status
+     * @param headers response headers
+     * @param body response body
+     * @param latencyMillis time from sending the request to receiving the response
+     */
+    public void record(String method, URI uri, String requestBody, int statusCode,
+                       Map<String, List<String>> headers, String body, long latencyMillis) {
+        long offset = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) - latencyMillis;
+        writer.submit(new RecordedExchange(Math.max(0, offset), method, relativePath(uri), hashBody(requestBody),
+            statusCode, recordableHeaders(headers), body, latencyMillis));
+    }
+
+    /**
+     * Wait until every recorded exchange is on disk
+     */
+    public boolean flush(long timeoutMillis) {
+        return writer.flush(timeoutMillis);
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+        logger.info("Recorded {} API exchanges to {}", writer.getWrittenCount(), directory);
+    }
+
+    /**
+     * Load every exchange of a recording, in recorded order
+     *
+     * @param location a recording directory or a single recording file
+     */
+    public static List<RecordedExchange> load(Path location) throws IOException {
+        List<Path> files;
+        if (Files.isDirectory(location)) {
+            try (Stream<Path> listing = Files.list(location)) {
+                // File names start with the creation timestamp, so name order is recording order
+                files = listing
+                    .filter(file -> file.getFileName().toString().startsWith(FILE_PREFIX + "-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+        } else {
+            files = List.of(location);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<RecordedExchange> exchanges = new ArrayList<>();
+        for (Path file : files) {
+            try (InputStream raw = Files.newInputStream(file);
+                 InputStream in = file.toString().endsWith(".gz") ? new GZIPInputStream(raw) : raw;
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        exchanges.add(RecordedExchange.fromRecord(mapper.readTree(line)));
+                    }
+                }
+            }
+        }
+        return exchanges;
+    }
+
+    /**
+     * SHA-256 digest identifying a request body; shared with the replay server
+     */
+    public static String hashBody(String body) {
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Path and query of a URI, as recorded
+     */
+    public static String pathOf(URI uri) {
+        String path = uri.getRawPath() != null && !uri.getRawPath().isEmpty() ? uri.getRawPath() : "/";
+        return uri.getRawQuery() != null ? path + "?" + uri.getRawQuery() : path;
+    }
+
+    /**
+     * Path and query of a URI below the base URL, as recorded
+     */
+    public String relativePath(URI uri) {
+        String path = pathOf(uri);
+        if (basePath.isEmpty() || !path.startsWith(basePath)) {
+            return path;
+        }
+        String relative = path.substring(basePath.length());
+        if (relative.isEmpty() || relative.startsWith("?")) {
+            return "/" + relative;
+        }
+        // Only strip whole segments, so base /api leaves /apis alone
+        return relative.startsWith("/") ? relative : path;
+    }
+
+    // Getters
+    public Path getDirectory() { return directory; }
+    public String getBasePath() { return basePath; }
+    public long getRecordedCount() { return writer.getWrittenCount(); }
+    public List<Path> getFiles() { return writer.getLogFiles(); }
+
+    // Private helper methods
+
+    private static String basePathOf(String baseUrl) {
+        if (baseUrl == null) {
+            return "";
+        }
+        String path = URI.create(baseUrl).getRawPath();
+        if (path == null) {
+            return "";
+        }
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private static Map<String, List<String>> recordableHeaders(Map<String, List<String>> headers) {
+        Map<String, List<String>> recorded = new LinkedHashMap<>();
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (!UNRECORDED_HEADERS.contains(header.getKey().toLowerCase())) {
+                    recorded.put(header.getKey().toLowerCase(), new ArrayList<>(header.getValue()));
+                }
+            }
+        }
+        return recorded;
+    }
+}
@@ -0,0 +1,309 @@
+package com.phoenix.hrm.api;
+
+import com.phoenix.hrm.parallel.VirtualThreadSupport;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Traffic Replay Server for API Testing Framework
+ *
+ * Serves a {@link TrafficRecorder} recording on a local port, giving performance
+ * runs a deterministic backend so framework overhead and client-side regressions
+ * can be measured in isolation:
+ * - Requests are matched on method, path, query and request body hash; when the
+ *   body differs (e.g. generated test data) the match falls back to method and path
+ * - Repeated requests get the recorded responses for that request in recorded
+ *   order, wrapping around when the recording runs out
+ * - Response latency follows a {@link LatencyModel}: the recorded latency, none,
+ *   fixed, uniform or log-normal
+ * - Recorded paths are relative to the recorded base URL, so {@link #getBaseUrl()}
+ *   replaces the full original base URL, including any path prefix such as {@code /api}
+ * - Unmatched requests get a 404 with an {@code X-Replay-Miss} header and are counted
+ * - Handlers run on virtual threads when available, so simulated latency does not
+ *   limit concurrency
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class TrafficReplayServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficReplayServer.class);
+
+    private final Map<String, ReplaySequence> exactMatches;
+    private final Map<String, ReplaySequence> pathMatches;
+    private final LatencyModel latencyModel;
+    private final String host;
+    private final int requestedPort;
+    private final AtomicLong servedCount;
+    private final AtomicLong missCount;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Response latency applied by the replay server
+     */
+    @FunctionalInterface
+    public interface LatencyModel {
+
+        /**
+         * Delay before the response to the given exchange is sent
+         */
+        long delayMillis(TrafficRecorder.RecordedExchange exchange);
+
+        /** The latency observed while recording */
+        static LatencyModel original() {
+            return TrafficRecorder.RecordedExchange::getLatencyMillis;
+        }
+
+        /** The recorded latency multiplied by a factor, e.g. 0.5 for a faster backend */
+        static LatencyModel scaled(double factor) {
+            if (factor < 0) {
+                throw new IllegalArgumentException("Latency factor must not be negative: " + factor);
+            }
+            return exchange -> Math.round(exchange.getLatencyMillis() * factor);
+        }
+
+        /** Respond immediately */
+        static LatencyModel none() {
+            return exchange -> 0;
+        }
+
+        /** The same latency for every response */
+        static LatencyModel fixed(Duration latency) {
+            long millis = latency.toMillis();
+            return exchange -> millis;
+        }
+
+        /** Latency drawn uniformly between min and max */
+        static LatencyModel uniform(Duration min, Duration max) {
+            long low = min.toMillis();
+            long high = max.toMillis();
+            if (high < low) {
+                throw new IllegalArgumentException("Maximum latency is below the minimum");
+            }
+            return exchange -> low + ThreadLocalRandom.current().nextLong(high - low + 1);
+        }
+
+        /**
+         * Log-normal latency with the given median and 99th percentile, the usual
+         * shape of service response times
+         */
+        static LatencyModel logNormal(Duration median, Duration p99) {
+            if (median.isZero() || median.isNegative() || p99.compareTo(median) < 0) {
+                throw new IllegalArgumentException("Need 0 < median <= p99: " + median + ", " + p99);
+            }
+            double mu = Math.log(median.toMillis());
+            // z-score of the 99th percentile of the standard normal distribution
+            double sigma = Math.log((double) p99.toMillis() / median.toMillis()) / 2.326;
+            return exchange -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+
+    /**
+     * Builder for TrafficReplayServer
+     */
+    public static class Builder {
+        private final List<TrafficRecorder.RecordedExchange> exchanges;
+        private LatencyModel latencyModel = LatencyModel.original();
+        private String host = "localhost";
+        private int port = 0;
+
+        public Builder(List<TrafficRecorder.RecordedExchange> exchanges) {
+            this.exchanges = new ArrayList<>(exchanges);
+        }
+
+        /**
+         * Replay a recording directory or file written by {@link TrafficRecorder}
+         */
+        public Builder(Path recording) throws IOException {
+            this(TrafficRecorder.load(recording));
+        }
+
+        public Builder latency(LatencyModel latencyModel) {
+            this.latencyModel = latencyModel;
+            return this;
+        }
+
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * Port to bind; 0 (the default) picks a free port
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public TrafficReplayServer build() {
+            return new TrafficReplayServer(this);
+        }
+    }
+
+    /**
+     * Recorded responses for one request key, served in order and wrapping around
+     */
+    private static final class ReplaySequence {
+        private final List<TrafficRecorder.RecordedExchange> exchanges = new ArrayList<>();
+        private final AtomicInteger next = new AtomicInteger();
+
+        private TrafficRecorder.RecordedExchange nextExchange() {
+            return exchanges.get(Math.floorMod(next.getAndIncrement(), exchanges.size()));
+        }
+    }
+
+    private TrafficReplayServer(Builder builder) {
+        this.exactMatches = new HashMap<>();
+        this.pathMatches = new HashMap<>();
+        for (TrafficRecorder.RecordedExchange exchange : builder.exchanges) {
+            exactMatches.computeIfAbsent(exactKey(exchange.getMethod(), exchange.getPath(),
+                exchange.getRequestBodyHash()), key -> new ReplaySequence()).exchanges.add(exchange);
+            pathMatches.computeIfAbsent(pathKey(exchange.getMethod(), exchange.getPath()),
+                key -> new ReplaySequence()).exchanges.add(exchange);
+        }
+        this.latencyModel = builder.latencyModel;
+        this.host = builder.host;
+        this.requestedPort = builder.port;
+        this.servedCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+    }
+
+    /**
+     * Start serving
+     *
+     * @return the bound port
+     * @throws IllegalStateException if already started or the port cannot be bound
+     */
+    public int start() {
+        if (server != null) {
+            throw new IllegalStateException("Replay server already started");
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, requestedPort), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start replay server on " + host + ":" + requestedPort, e);
+        }
+        executor = VirtualThreadSupport.newVirtualThreadPerTaskExecutor("Phoenix-Replay",
+            () -> Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "Phoenix-Replay");
+                thread.setDaemon(true);
+                return thread;
+            }));
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Replaying {} recorded request keys at {}", pathMatches.size(), getBaseUrl());
+        return getPort();
+    }
+
+    /**
+     * Stop serving
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+            logger.info("Replay server stopped: served={}, misses={}", servedCount.get(), missCount.get());
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    // Getters
+    public int getPort() { return server != null ? server.getAddress().getPort() : -1; }
+    public String getBaseUrl() { return "http://" + host + ":" + getPort(); }
+    public long getServedCount() { return servedCount.get(); }
+    public long getMissCount() { return missCount.get(); }
+
+    // Private helper methods
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = TrafficRecorder.pathOf(exchange.getRequestURI());
+            String bodyHash;
+            try (InputStream in = exchange.getRequestBody()) {
+                bodyHash = TrafficRecorder.hashBody(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            ReplaySequence sequence = exactMatches.get(exactKey(method, path, bodyHash));
+            if (sequence == null) {
+                sequence = pathMatches.get(pathKey(method, path));
+            }
+            if (sequence == null) {
+                missCount.incrementAndGet();
+                logger.debug("No recorded response for {} {}", method, path);
+                byte[] body = ("{\"error\":\"No recorded response for " + method + " " + path.replace("\"", "'")
+                    + "\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.getResponseHeaders().set("X-Replay-Miss", "true");
+                exchange.sendResponseHeaders(404, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+                return;
+            }
+
+            TrafficRecorder.RecordedExchange recorded = sequence.nextExchange();
+            long delay = latencyModel.delayMillis(recorded);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            respond(exchange, recorded);
+            servedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, TrafficRecorder.RecordedExchange recorded) throws IOException {
+        recorded.getHeaders().forEach((name, values) -> exchange.getResponseHeaders().put(name, values));
+        byte[] body = recorded.getBody() != null ? recorded.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int status = recorded.getStatusCode();
+        // 204, 304 and HEAD responses carry no body
+        boolean bodyless = status == 204 || status == 304 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, bodyless || body.length == 0 ? -1 : body.length);
+        if (!bodyless && body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String exactKey(String method, String path, String bodyHash) {
+        return method + " " + path + " " + bodyHash;
+    }
+
+    private static String pathKey(String method, String path) {
+        return method + " " + path;
+    }
+}
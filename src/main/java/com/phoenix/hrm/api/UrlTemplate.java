@@ -0,0 +1,229 @@
+package com.phoenix.hrm.api;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL Template for API Testing Framework
+ *
+ * Compiled form of an endpoint URL such as {@code http://host/api/employees/{id}/leave}:
+ * - The path is parsed once into literal and {@code {parameter}} segments
+ * - Expansion writes the segments, percent-encoded parameter values and query
+ *   string into a single per-thread builder, so a request costs one String and
+ *   one URI rather than a chain of intermediate replacements
+ * - Path values are encoded as a single path segment ({@code /} becomes
+ *   {@code %2F}); query names and values are encoded so {@code &}, {@code =},
+ *   {@code +} and {@code #} cannot break the query string
+ * - Templates without parameters keep their URI, which is returned as is when
+ *   no query parameters are given
+ *
+ * Query parameters are written endpoint defaults first, then call parameters; a
+ * call parameter replaces a default of the same name. Collection and array values
+ * repeat the name ({@code skill=java&skill=sql}); null values are omitted.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class UrlTemplate {
+
+    // Builders that grew past this are not kept, so one huge URL does not pin memory per thread
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] PATH_SAFE = new boolean[128];
+    private static final boolean[] QUERY_SAFE = new boolean[128];
+
+    static {
+        String unreserved = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~";
+        for (char c : unreserved.toCharArray()) {
+            PATH_SAFE[c] = true;
+            QUERY_SAFE[c] = true;
+        }
+        for (char c : "!$&'()*+,;=:@".toCharArray()) {
+            PATH_SAFE[c] = true;
+        }
+        for (char c : "!$'()*,;:@/?".toCharArray()) {
+            QUERY_SAFE[c] = true;
+        }
+    }
+
+    private final String template;
+    private final String[] literals;
+    private final String[] parameterNames;
+    private final URI staticUri;
+
+    private UrlTemplate(String template, String[] literals, String[] parameterNames) {
+        this.template = template;
+        this.literals = literals;
+        this.parameterNames = parameterNames;
+        this.staticUri = parameterNames.length == 0 ? URI.create(literals[0]) : null;
+    }
+
+    /**
+     * Compile the URL formed by the base URL and an endpoint path
+     *
+     * @throws IllegalArgumentException if a parameter placeholder is unclosed or empty
+     */
+    public static UrlTemplate compile(String baseUrl, String path) {
+        String template = baseUrl + path;
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        int literalStart = 0;
+        int open;
+        while ((open = template.indexOf('{', literalStart)) >= 0) {
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed path parameter in URL template: " + template);
+            }
+            String name = template.substring(open + 1, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty path parameter in URL template: " + template);
+            }
+            literals.add(template.substring(literalStart, open));
+            names.add(name);
+            literalStart = close + 1;
+        }
+        literals.add(template.substring(literalStart));
+
+        return new UrlTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * Expand the template into a URI
+     *
+     * @param pathParams values for every template parameter
+     * @param defaultQueryParams endpoint default query parameters, may be null
+     * @param queryParams call query parameters, may be null
+     * @throws IllegalArgumentException if a template parameter has no value
+     */
+    public URI expand(Map<String, ?> pathParams, Map<String, ?> defaultQueryParams, Map<String, ?> queryParams) {
+        boolean hasDefaults = defaultQueryParams != null && !defaultQueryParams.isEmpty();
+        boolean hasQuery = queryParams != null && !queryParams.isEmpty();
+        if (staticUri != null && !hasDefaults && !hasQuery) {
+            return staticUri;
+        }
+
+        StringBuilder url = BUFFER.get();
+        url.setLength(0);
+        try {
+            url.append(literals[0]);
+            for (int i = 0; i < parameterNames.length; i++) {
+                Object value = pathParams != null ? pathParams.get(parameterNames[i]) : null;
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing path parameter '" + parameterNames[i]
+                        + "' for URL template: " + template);
+                }
+                appendEncoded(url, String.valueOf(value), PATH_SAFE);
+                url.append(literals[i + 1]);
+            }
+
+            int queryStart = url.length();
+            if (hasDefaults) {
+                for (Map.Entry<String, ?> param : defaultQueryParams.entrySet()) {
+                    if (!hasQuery || !queryParams.containsKey(param.getKey())) {
+                        appendQueryParam(url, queryStart, param.getKey(), param.getValue());
+                    }
+                }
+            }
+            if (hasQuery) {
+                for (Map.Entry<String, ?> param : queryParams.entrySet()) {
+                    appendQueryParam(url, queryStart, param.getKey(), param.getValue());
+                }
+            }
+
+            return URI.create(url.toString());
+        } finally {
+            if (url.capacity() > MAX_RETAINED_CAPACITY) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Percent-encode a single path segment value
+     */
+    public static String encodePathSegment(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 8);
+        appendEncoded(out, value, PATH_SAFE);
+        return out.toString();
+    }
+
+    /**
+     * Percent-encode a query parameter name or value
+     */
+    public static String encodeQueryComponent(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 8);
+        appendEncoded(out, value, QUERY_SAFE);
+        return out.toString();
+    }
+
+    // Getters
+    public String getTemplate() { return template; }
+    public List<String> getParameterNames() { return Collections.unmodifiableList(Arrays.asList(parameterNames)); }
+    public boolean isStatic() { return staticUri != null; }
+
+    @Override
+    public String toString() {
+        return "UrlTemplate{" + template + "}";
+    }
+
+    // Private helper methods
+
+    private static void appendQueryParam(StringBuilder url, int queryStart, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                appendQueryParam(url, queryStart, name, element);
+            }
+            return;
+        }
+        if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                appendQueryParam(url, queryStart, name, element);
+            }
+            return;
+        }
+
+        url.append(url.length() == queryStart ? '?' : '&');
+        appendEncoded(url, name, QUERY_SAFE);
+        url.append('=');
+        appendEncoded(url, String.valueOf(value), QUERY_SAFE);
+    }
+
+    private static void appendEncoded(StringBuilder out, String value, boolean[] safe) {
+        int length = value.length();
+        int i = 0;
+        // Fast path: copy the leading run of safe ASCII without inspecting bytes
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c >= 128 || !safe[c]) {
+                break;
+            }
+            i++;
+        }
+        out.append(value, 0, i);
+        if (i == length) {
+            return;
+        }
+
+        byte[] bytes = value.substring(i).getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            int unsigned = b & 0xFF;
+            if (unsigned < 128 && safe[unsigned]) {
+                out.append((char) unsigned);
+            } else {
+                out.append('%').append(HEX[unsigned >> 4]).append(HEX[unsigned & 0x0F]);
+            }
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.phoenix.hrm.core.config.ConfigManager;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
@@ -12,7 +11,7 @@ import io.restassured.specification.ResponseSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -21,18 +20,31 @@ import static io.restassured.RestAssured.*;
 /**
  * Advanced API Client for Phoenix HRM Test Automation Framework
  * Provides comprehensive REST API testing capabilities with RestAssured
+ *
+ * The base request and response specifications are built once per JVM and shared
+ * by every thread; they are never modified after construction. Each client keeps
+ * only its own headers, query parameters, auth and base URI/path overrides, which
+ * are overlaid on a fresh request per call, so adding a header is a map put rather
+ * than a specification rebuild. Request/response logging goes through
+ * {@link ApiLogFilter}, gated by the {@code api.log.level} property.
  */
 public class ApiClient {
     
     private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
     private static final ConfigManager config = ConfigManager.getInstance();
     
-    private RequestSpecification requestSpec;
-    private ResponseSpecification responseSpec;
+    // Shared, immutable specifications
+    private static final ApiLogFilter logFilter = ApiLogFilter.fromConfig(config);
+    private static final RequestSpecification baseRequestSpec = buildRequestSpecification();
+    private static final ResponseSpecification responseSpec = buildResponseSpecification();
+    
+    // Per-client overlay
     private String baseUri;
     private String basePath;
-    private Map<String, String> defaultHeaders;
-    private Map<String, Object> defaultQueryParams;
+    private final Map<String, String> headers;
+    private final Map<String, Object> queryParams;
+    private String basicAuthUsername;
+    private String basicAuthPassword;
     
     // Singleton instance for thread-safe operations
     private static final ThreadLocal<ApiClient> apiClientThreadLocal = new ThreadLocal<>();
@@ -41,7 +53,9 @@ public class ApiClient {
      * Private constructor to initialize API client
      */
     private ApiClient() {
-        initializeClient();
+        this.headers = new LinkedHashMap<>();
+        this.queryParams = new LinkedHashMap<>();
+        logger.debug("API client created for thread {}", Thread.currentThread().getName());
     }
     
     /**
@@ -57,29 +71,11 @@ public class ApiClient {
     }
     
     /**
-     * Initialize API client with default configurations
+     * Build the shared request specification with default settings
      */
-    private void initializeClient() {
-        this.baseUri = config.getApiBaseUrl();
-        this.basePath = config.getProperty("api.base.path", "/api/v1");
-        this.defaultHeaders = new HashMap<>();
-        this.defaultQueryParams = new HashMap<>();
-        
-        // Set default headers
-        defaultHeaders.put("Content-Type", "application/json");
-        defaultHeaders.put("Accept", "application/json");
-        defaultHeaders.put("User-Agent", "Phoenix-HRM-TestFramework/1.0");
-        
-        buildRequestSpecification();
-        buildResponseSpecification();
-        
-        logger.info("API Client initialized with base URI: {}{}", baseUri, basePath);
-    }
-    
-    /**
-     * Build request specification with default settings
-     */
-    private void buildRequestSpecification() {
+    private static RequestSpecification buildRequestSpecification() {
+        String baseUri = config.getApiBaseUrl();
+        String basePath = config.getProperty("api.base.path", "/api/v1");
         RequestSpecBuilder requestBuilder = new RequestSpecBuilder();
         
         requestBuilder
@@ -87,10 +83,9 @@ public class ApiClient {
             .setBasePath(basePath)
             .setContentType(ContentType.JSON)
             .setAccept(ContentType.JSON)
-            .addHeaders(defaultHeaders)
-            .addQueryParams(defaultQueryParams)
+            .addHeader("User-Agent", "Phoenix-HRM-TestFramework/1.0")
             .setRelaxedHTTPSValidation()
-            .log(LogDetail.ALL);
+            .addFilter(logFilter);
         
         // Set timeout configurations
         requestBuilder.setConfig(
@@ -102,20 +97,40 @@ public class ApiClient {
                 )
         );
         
-        this.requestSpec = requestBuilder.build();
+        logger.info("API base specification built for {}{} (logging: {})", baseUri, basePath, logFilter.getLevel());
+        return requestBuilder.build();
     }
     
     /**
-     * Build response specification with default validations
+     * Build the shared response specification with default validations
      */
-    private void buildResponseSpecification() {
-        ResponseSpecBuilder responseBuilder = new ResponseSpecBuilder();
-        
-        responseBuilder
+    private static ResponseSpecification buildResponseSpecification() {
+        return new ResponseSpecBuilder()
             .expectResponseTime(org.hamcrest.Matchers.lessThan(config.getApiTimeout() * 1000L), TimeUnit.MILLISECONDS)
-            .log(LogDetail.ALL);
-        
-        this.responseSpec = responseBuilder.build();
+            .build();
+    }
+    
+    /**
+     * Start a request from the shared base specification plus this client's overlay
+     */
+    private RequestSpecification newRequest() {
+        RequestSpecification spec = given().spec(baseRequestSpec);
+        if (baseUri != null) {
+            spec.baseUri(baseUri);
+        }
+        if (basePath != null) {
+            spec.basePath(basePath);
+        }
+        if (!headers.isEmpty()) {
+            spec.headers(headers);
+        }
+        if (!queryParams.isEmpty()) {
+            spec.queryParams(queryParams);
+        }
+        if (basicAuthUsername != null) {
+            spec.auth().basic(basicAuthUsername, basicAuthPassword);
+        }
+        return spec;
     }
     
     /**
@@ -123,8 +138,7 @@ public class ApiClient {
      */
     public ApiClient setAuthToken(String token) {
         if (token != null && !token.isEmpty()) {
-            defaultHeaders.put("Authorization", "Bearer " + token);
-            buildRequestSpecification();
+            headers.put("Authorization", "Bearer " + token);
             logger.debug("Authentication token set");
         }
         return this;
@@ -134,7 +148,8 @@ public class ApiClient {
      * Set basic authentication
      */
     public ApiClient setBasicAuth(String username, String password) {
-        this.requestSpec = given(requestSpec).auth().basic(username, password);
+        this.basicAuthUsername = username;
+        this.basicAuthPassword = password;
         logger.debug("Basic authentication set for user: {}", username);
         return this;
     }
@@ -143,8 +158,7 @@ public class ApiClient {
      * Add custom header
      */
     public ApiClient addHeader(String name, String value) {
-        defaultHeaders.put(name, value);
-        buildRequestSpecification();
+        headers.put(name, value);
         return this;
     }
     
@@ -152,8 +166,7 @@ public class ApiClient {
      * Add multiple headers
      */
     public ApiClient addHeaders(Map<String, String> headers) {
-        defaultHeaders.putAll(headers);
-        buildRequestSpecification();
+        this.headers.putAll(headers);
         return this;
     }
     
@@ -161,8 +174,7 @@ public class ApiClient {
      * Add query parameter
      */
     public ApiClient addQueryParam(String name, Object value) {
-        defaultQueryParams.put(name, value);
-        buildRequestSpecification();
+        queryParams.put(name, value);
         return this;
     }
     
@@ -170,8 +182,7 @@ public class ApiClient {
      * Add multiple query parameters
      */
     public ApiClient addQueryParams(Map<String, Object> queryParams) {
-        defaultQueryParams.putAll(queryParams);
-        buildRequestSpecification();
+        this.queryParams.putAll(queryParams);
         return this;
     }
     
@@ -180,7 +191,6 @@ public class ApiClient {
      */
     public ApiClient setBaseUri(String baseUri) {
         this.baseUri = baseUri;
-        buildRequestSpecification();
         return this;
     }
     
@@ -189,7 +199,6 @@ public class ApiClient {
      */
     public ApiClient setBasePath(String basePath) {
         this.basePath = basePath;
-        buildRequestSpecification();
         return this;
     }
     
@@ -197,8 +206,8 @@ public class ApiClient {
      * GET request
      */
     public Response get(String endpoint) {
-        logger.info("Executing GET request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing GET request to: {}", endpoint);
+        Response response = newRequest()
             .when()
             .get(endpoint)
             .then()
@@ -214,8 +223,8 @@ public class ApiClient {
      * GET request with path parameters
      */
     public Response get(String endpoint, Map<String, Object> pathParams) {
-        logger.info("Executing GET request to: {} with path params: {}", endpoint, pathParams);
-        Response response = given(requestSpec)
+        logger.debug("Executing GET request to: {} with path params: {}", endpoint, pathParams);
+        Response response = newRequest()
             .pathParams(pathParams)
             .when()
             .get(endpoint)
@@ -232,8 +241,8 @@ public class ApiClient {
      * POST request with JSON body
      */
     public Response post(String endpoint, Object requestBody) {
-        logger.info("Executing POST request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing POST request to: {}", endpoint);
+        Response response = newRequest()
             .body(requestBody)
             .when()
             .post(endpoint)
@@ -257,8 +266,8 @@ public class ApiClient {
      * PUT request with JSON body
      */
     public Response put(String endpoint, Object requestBody) {
-        logger.info("Executing PUT request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing PUT request to: {}", endpoint);
+        Response response = newRequest()
             .body(requestBody)
             .when()
             .put(endpoint)
@@ -275,8 +284,8 @@ public class ApiClient {
      * PUT request with path parameters
      */
     public Response put(String endpoint, Object requestBody, Map<String, Object> pathParams) {
-        logger.info("Executing PUT request to: {} with path params: {}", endpoint, pathParams);
-        Response response = given(requestSpec)
+        logger.debug("Executing PUT request to: {} with path params: {}", endpoint, pathParams);
+        Response response = newRequest()
             .pathParams(pathParams)
             .body(requestBody)
             .when()
@@ -294,8 +303,8 @@ public class ApiClient {
      * PATCH request with JSON body
      */
     public Response patch(String endpoint, Object requestBody) {
-        logger.info("Executing PATCH request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing PATCH request to: {}", endpoint);
+        Response response = newRequest()
             .body(requestBody)
             .when()
             .patch(endpoint)
@@ -312,8 +321,8 @@ public class ApiClient {
      * DELETE request
      */
     public Response delete(String endpoint) {
-        logger.info("Executing DELETE request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing DELETE request to: {}", endpoint);
+        Response response = newRequest()
             .when()
             .delete(endpoint)
             .then()
@@ -329,8 +338,8 @@ public class ApiClient {
      * DELETE request with path parameters
      */
     public Response delete(String endpoint, Map<String, Object> pathParams) {
-        logger.info("Executing DELETE request to: {} with path params: {}", endpoint, pathParams);
-        Response response = given(requestSpec)
+        logger.debug("Executing DELETE request to: {} with path params: {}", endpoint, pathParams);
+        Response response = newRequest()
             .pathParams(pathParams)
             .when()
             .delete(endpoint)
@@ -347,8 +356,8 @@ public class ApiClient {
      * HEAD request
      */
     public Response head(String endpoint) {
-        logger.info("Executing HEAD request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing HEAD request to: {}", endpoint);
+        Response response = newRequest()
             .when()
             .head(endpoint)
             .then()
@@ -364,8 +373,8 @@ public class ApiClient {
      * OPTIONS request
      */
     public Response options(String endpoint) {
-        logger.info("Executing OPTIONS request to: {}", endpoint);
-        Response response = given(requestSpec)
+        logger.debug("Executing OPTIONS request to: {}", endpoint);
+        Response response = newRequest()
             .when()
             .options(endpoint)
             .then()
@@ -382,9 +391,9 @@ public class ApiClient {
      */
     public Response customRequest(String method, String endpoint, Object requestBody, 
                                 Map<String, String> headers, Map<String, Object> queryParams) {
-        logger.info("Executing {} request to: {}", method.toUpperCase(), endpoint);
+        logger.debug("Executing {} request to: {}", method.toUpperCase(), endpoint);
         
-        RequestSpecification spec = given(requestSpec);
+        RequestSpecification spec = newRequest();
         
         if (headers != null && !headers.isEmpty()) {
             spec = spec.headers(headers);
@@ -411,16 +420,10 @@ public class ApiClient {
     }
     
     /**
-     * Log response details
+     * Log response summary; full exchanges are logged by {@link ApiLogFilter}
      */
     private void logResponse(Response response) {
-        logger.info("Response Status: {} - {}", response.getStatusCode(), response.getStatusLine());
-        logger.debug("Response Time: {} ms", response.getTime());
-        logger.debug("Response Headers: {}", response.getHeaders());
-        
-        if (response.getBody() != null) {
-            logger.debug("Response Body: {}", response.getBody().asString());
-        }
+        logger.debug("Response Status: {} in {} ms", response.getStatusLine(), response.getTime());
     }
     
     /**
@@ -484,6 +487,8 @@ public class ApiClient {
     
     /**
      * Reset client to default state
+     *
+     * Drops this thread's overlay; the shared specifications are not rebuilt
      */
     public ApiClient reset() {
         apiClientThreadLocal.remove();
@@ -0,0 +1,162 @@
+package com.phoenix.hrm.core.api;
+
+import com.phoenix.hrm.core.config.ConfigManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Level-gated request/response logging filter for Phoenix HRM Test Automation Framework
+ * Replaces RestAssured's log-everything console output
+ *
+ * Nothing is formatted unless the exchange is going to be logged: with the default
+ * FAILURES level only responses with a 4xx/5xx status, or requests that fail to
+ * complete, are written, through SLF4J rather than stdout. SAMPLED additionally logs
+ * one exchange in every N; ALL logs every exchange.
+ *
+ * The request line and response status are always logged. {@code api.log.requests}
+ * and {@code api.log.responses} choose which side's details are included,
+ * {@code api.log.headers} and {@code api.log.body} whether those details carry headers
+ * and bodies. Together with {@code api.log.level} and {@code api.log.sample.rate} they
+ * configure the filter, see {@link #fromConfig(ConfigManager)}.
+ */
+public class ApiLogFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiLogFilter.class);
+
+    /**
+     * Which exchanges are logged
+     */
+    public enum Level {
+        NONE, FAILURES, SAMPLED, ALL;
+
+        /**
+         * Parse a level name, falling back to FAILURES for unknown values
+         */
+        public static Level parse(String value) {
+            if (value == null || value.isBlank()) {
+                return FAILURES;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown API log level '{}', using FAILURES", value);
+                return FAILURES;
+            }
+        }
+    }
+
+    private final Level level;
+    private final int sampleRate;
+    private final boolean logHeaders;
+    private final boolean logRequests;
+    private final boolean logResponses;
+    private final boolean logBody;
+    private final AtomicLong exchangeCount = new AtomicLong();
+
+    /**
+     * @param level which exchanges are logged
+     * @param sampleRate log one in this many exchanges at the SAMPLED level
+     * @param logHeaders include headers on the logged sides
+     * @param logRequests include request details beyond the request line
+     * @param logResponses include response details beyond the status line
+     * @param logBody include bodies on the logged sides
+     */
+    public ApiLogFilter(Level level, int sampleRate, boolean logHeaders,
+                        boolean logRequests, boolean logResponses, boolean logBody) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1: " + sampleRate);
+        }
+        this.level = level;
+        this.sampleRate = sampleRate;
+        this.logHeaders = logHeaders;
+        this.logRequests = logRequests;
+        this.logResponses = logResponses;
+        this.logBody = logBody;
+    }
+
+    /**
+     * Create the filter from the api.log.* properties
+     */
+    public static ApiLogFilter fromConfig(ConfigManager config) {
+        return new ApiLogFilter(
+            Level.parse(config.getProperty("api.log.level", "FAILURES")),
+            Math.max(1, config.getIntProperty("api.log.sample.rate", 100)),
+            config.getBooleanProperty("api.log.headers", true),
+            config.getBooleanProperty("api.log.requests", true),
+            config.getBooleanProperty("api.log.responses", true),
+            config.getBooleanProperty("api.log.body", true));
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        if (level == Level.NONE) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            logger.warn("API request failed: {}", describeRequest(requestSpec), e);
+            throw e;
+        }
+
+        boolean failed = response.getStatusCode() >= 400;
+        if (failed) {
+            logger.warn("API request failed: {}\n{}", describeRequest(requestSpec), describeResponse(response));
+        } else if (level == Level.ALL || (level == Level.SAMPLED && isSampled())) {
+            logger.info("API exchange: {}\n{}", describeRequest(requestSpec), describeResponse(response));
+        }
+        return response;
+    }
+
+    // Getters
+    public Level getLevel() { return level; }
+    public int getSampleRate() { return sampleRate; }
+
+    // Private helper methods
+
+    private boolean isSampled() {
+        return exchangeCount.incrementAndGet() % sampleRate == 0;
+    }
+
+    private String describeRequest(FilterableRequestSpecification requestSpec) {
+        StringBuilder description = new StringBuilder()
+            .append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI());
+        if (!logRequests) {
+            return description.toString();
+        }
+        if (logHeaders) {
+            description.append("\nRequest headers: ").append(requestSpec.getHeaders());
+        }
+        Object body = requestSpec.getBody();
+        if (logBody && body != null) {
+            description.append("\nRequest body: ").append(body);
+        }
+        return description.toString();
+    }
+
+    private String describeResponse(Response response) {
+        StringBuilder description = new StringBuilder()
+            .append(response.getStatusLine()).append(" (").append(response.getTime()).append(" ms)");
+        if (!logResponses) {
+            return description.toString();
+        }
+        if (logHeaders) {
+            description.append("\nResponse headers: ").append(response.getHeaders());
+        }
+        if (logBody) {
+            description.append("\nResponse body: ").append(response.getBody().asString());
+        }
+        return description.toString();
+    }
+}
@@ -2,11 +2,13 @@ package com.phoenix.hrm.core.api;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -17,16 +19,23 @@ import static org.hamcrest.MatcherAssert.assertThat;
 /**
  * Advanced API Response Validator for Phoenix HRM Test Automation Framework
  * Provides comprehensive response validation including JSON schema validation
+ *
+ * The body is read and parsed at most once per validator, on first use, and every
+ * body, structure and JSON path assertion in a chain runs against that shared tree.
+ * JSON paths are compiled once and cached across validators; paths beyond plain
+ * fields and indexes (closures, method calls) fall back to a single RestAssured JsonPath.
  */
 public class ApiResponseValidator {
     
     private static final Logger logger = LoggerFactory.getLogger(ApiResponseValidator.class);
-    private final ObjectMapper objectMapper;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
     private final Response response;
+    private String body;
+    private JsonNode jsonTree;
+    private JsonPath fallbackJsonPath;
     
     public ApiResponseValidator(Response response) {
         this.response = response;
-        this.objectMapper = new ObjectMapper();
     }
     
     /**
@@ -161,7 +170,7 @@ public class ApiResponseValidator {
      * Validate response body is not empty
      */
     public ApiResponseValidator validateBodyNotEmpty() {
-        String body = response.getBody().asString();
+        String body = body();
         assertThat("Response body should not be empty", body, not(emptyString()));
         logger.info("Response body not empty validation passed");
         return this;
@@ -171,7 +180,7 @@ public class ApiResponseValidator {
      * Validate response body contains text
      */
     public ApiResponseValidator validateBodyContains(String expectedText) {
-        String body = response.getBody().asString();
+        String body = body();
         assertThat(String.format("Response body should contain '%s'", expectedText), 
                    body, containsString(expectedText));
         logger.info("Response body contains validation passed: {}", expectedText);
@@ -182,7 +191,7 @@ public class ApiResponseValidator {
      * Validate response body does not contain text
      */
     public ApiResponseValidator validateBodyNotContains(String unexpectedText) {
-        String body = response.getBody().asString();
+        String body = body();
         assertThat(String.format("Response body should not contain '%s'", unexpectedText), 
                    body, not(containsString(unexpectedText)));
         logger.info("Response body not contains validation passed: {}", unexpectedText);
@@ -193,7 +202,7 @@ public class ApiResponseValidator {
      * Validate response body matches regex pattern
      */
     public ApiResponseValidator validateBodyMatchesPattern(String regexPattern) {
-        String body = response.getBody().asString();
+        String body = body();
         Pattern pattern = Pattern.compile(regexPattern);
         assertThat(String.format("Response body should match pattern '%s'", regexPattern), 
                    pattern.matcher(body).find(), equalTo(true));
@@ -208,7 +217,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonPathExists(String jsonPath) {
         try {
-            Object value = response.jsonPath().get(jsonPath);
+            Object value = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' should exist", jsonPath), 
                        value, notNullValue());
             logger.info("JSON path existence validation passed: {}", jsonPath);
@@ -223,7 +232,7 @@ public class ApiResponseValidator {
      */
     public <T> ApiResponseValidator validateJsonPathValue(String jsonPath, T expectedValue) {
         try {
-            T actualValue = response.jsonPath().get(jsonPath);
+            T actualValue = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' should have value '%s'", jsonPath, expectedValue), 
                        actualValue, equalTo(expectedValue));
             logger.info("JSON path value validation passed: {} = {}", jsonPath, expectedValue);
@@ -238,7 +247,8 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonPathContains(String jsonPath, String expectedSubstring) {
         try {
-            String actualValue = response.jsonPath().getString(jsonPath);
+            Object value = readJsonPath(jsonPath);
+            String actualValue = value != null ? value.toString() : null;
             assertThat(String.format("JSON path '%s' should contain '%s'", jsonPath, expectedSubstring), 
                        actualValue, containsString(expectedSubstring));
             logger.info("JSON path contains validation passed: {} contains {}", jsonPath, expectedSubstring);
@@ -253,7 +263,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonPathArraySize(String jsonPath, int expectedSize) {
         try {
-            List<Object> array = response.jsonPath().getList(jsonPath);
+            List<Object> array = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' array should have size %d", jsonPath, expectedSize), 
                        array.size(), equalTo(expectedSize));
             logger.info("JSON path array size validation passed: {} size = {}", jsonPath, expectedSize);
@@ -268,7 +278,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonPathArrayNotEmpty(String jsonPath) {
         try {
-            List<Object> array = response.jsonPath().getList(jsonPath);
+            List<Object> array = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' array should not be empty", jsonPath), 
                        array, not(empty()));
             logger.info("JSON path array not empty validation passed: {}", jsonPath);
@@ -283,7 +293,7 @@ public class ApiResponseValidator {
      */
     public <T> ApiResponseValidator validateJsonPathArrayContains(String jsonPath, T expectedValue) {
         try {
-            List<T> array = response.jsonPath().getList(jsonPath);
+            List<T> array = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' array should contain '%s'", jsonPath, expectedValue), 
                        array, hasItem(expectedValue));
             logger.info("JSON path array contains validation passed: {} contains {}", jsonPath, expectedValue);
@@ -298,7 +308,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonPathGreaterThan(String jsonPath, Number expectedValue) {
         try {
-            Number actualValue = response.jsonPath().get(jsonPath);
+            Number actualValue = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' should be greater than %s", jsonPath, expectedValue), 
                        actualValue.doubleValue(), greaterThan(expectedValue.doubleValue()));
             logger.info("JSON path greater than validation passed: {} > {}", jsonPath, expectedValue);
@@ -313,7 +323,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonPathLessThan(String jsonPath, Number expectedValue) {
         try {
-            Number actualValue = response.jsonPath().get(jsonPath);
+            Number actualValue = readJsonPath(jsonPath);
             assertThat(String.format("JSON path '%s' should be less than %s", jsonPath, expectedValue), 
                        actualValue.doubleValue(), lessThan(expectedValue.doubleValue()));
             logger.info("JSON path less than validation passed: {} < {}", jsonPath, expectedValue);
@@ -330,7 +340,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateJsonStructure(Map<String, Class<?>> expectedFields) {
         try {
-            JsonNode jsonNode = objectMapper.readTree(response.getBody().asString());
+            JsonNode jsonNode = jsonTree();
             
             for (Map.Entry<String, Class<?>> field : expectedFields.entrySet()) {
                 String fieldName = field.getKey();
@@ -379,13 +389,8 @@ public class ApiResponseValidator {
      * Validate response has required fields
      */
     public ApiResponseValidator validateRequiredFields(String... fieldNames) {
-        Map<String, Class<?>> fields = new HashMap<>();
-        for (String fieldName : fieldNames) {
-            fields.put(fieldName, Object.class); // Generic type check
-        }
-        
         try {
-            JsonNode jsonNode = objectMapper.readTree(response.getBody().asString());
+            JsonNode jsonNode = jsonTree();
             for (String fieldName : fieldNames) {
                 assertThat(String.format("Required field '%s' should exist", fieldName), 
                            jsonNode.has(fieldName), equalTo(true));
@@ -402,7 +407,7 @@ public class ApiResponseValidator {
      */
     public ApiResponseValidator validateForbiddenFields(String... fieldNames) {
         try {
-            JsonNode jsonNode = objectMapper.readTree(response.getBody().asString());
+            JsonNode jsonNode = jsonTree();
             for (String fieldName : fieldNames) {
                 assertThat(String.format("Forbidden field '%s' should not exist", fieldName), 
                            jsonNode.has(fieldName), equalTo(false));
@@ -462,12 +467,28 @@ public class ApiResponseValidator {
         return response;
     }
     
+    /**
+     * Get the parsed response body, shared by all validations of this response
+     */
+    public JsonNode getJsonTree() {
+        try {
+            return jsonTree();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not valid JSON", e);
+        }
+    }
+    
     /**
      * Extract and validate JSON path in one step
      */
     public <T> T extractAndValidateJsonPath(String jsonPath, Class<T> expectedType) {
         validateJsonPathExists(jsonPath);
-        T value = response.jsonPath().get(jsonPath);
+        T value;
+        try {
+            value = readJsonPath(jsonPath);
+        } catch (IOException e) {
+            throw new AssertionError("Failed to extract JSON path '" + jsonPath + "'", e);
+        }
         assertThat(String.format("JSON path '%s' should be of type %s", jsonPath, expectedType.getSimpleName()), 
                    expectedType.isInstance(value), equalTo(true));
         logger.info("JSON path extracted and validated: {} = {} ({})", jsonPath, value, expectedType.getSimpleName());
@@ -482,8 +503,40 @@ public class ApiResponseValidator {
         logger.info("Status Code: {}", response.getStatusCode());
         logger.info("Response Time: {} ms", response.getTime());
         logger.info("Content Type: {}", response.getContentType());
-        logger.info("Response Size: {} bytes", response.getBody().asString().length());
+        logger.info("Response Size: {} bytes", body().length());
         logger.info("==============================");
         return this;
     }
+    
+    // ==================== PRIVATE HELPERS ====================
+    
+    private String body() {
+        if (body == null) {
+            body = response.getBody().asString();
+        }
+        return body;
+    }
+    
+    private JsonNode jsonTree() throws IOException {
+        if (jsonTree == null) {
+            jsonTree = objectMapper.readTree(body());
+        }
+        return jsonTree;
+    }
+    
+    /**
+     * Evaluate a JSON path against the shared tree, or through RestAssured when the
+     * path needs GPath features the compiled form does not support
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T readJsonPath(String jsonPath) throws IOException {
+        JsonPathExpression expression = JsonPathExpression.compile(jsonPath);
+        if (expression.isSupported()) {
+            return (T) expression.evaluate(jsonTree());
+        }
+        if (fallbackJsonPath == null) {
+            fallbackJsonPath = response.jsonPath();
+        }
+        return fallbackJsonPath.get(jsonPath);
+    }
 }
@@ -0,0 +1,211 @@
+package com.phoenix.hrm.core.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled JSON path for Phoenix HRM Test Automation Framework
+ * Evaluates RestAssured (GPath) style paths such as {@code data.employees[0].name}
+ * against an already parsed Jackson tree, so one parse serves any number of assertions.
+ *
+ * Supported: dotted field names, {@code [n]} indexes (negative counts from the end) and
+ * implicit projection over arrays ({@code data.employees.name} lists every name). Paths
+ * using closures, method calls or quoted names are reported as unsupported and should be
+ * evaluated by RestAssured instead. Compiled paths are cached and shared across threads.
+ */
+public final class JsonPathExpression {
+
+    private static final int MAX_CACHED_EXPRESSIONS = 1024;
+    private static final Map<String, JsonPathExpression> cache = new ConcurrentHashMap<>();
+
+    private final String expression;
+    // Each step is a field name (String) or an array index (Integer); null when unsupported
+    private final Object[] steps;
+
+    private JsonPathExpression(String expression, Object[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * Get the compiled form of a path, compiling it on first use
+     */
+    public static JsonPathExpression compile(String expression) {
+        JsonPathExpression compiled = cache.get(expression);
+        if (compiled == null) {
+            compiled = new JsonPathExpression(expression, parse(expression));
+            if (cache.size() < MAX_CACHED_EXPRESSIONS) {
+                cache.putIfAbsent(expression, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Whether this path can be evaluated against a Jackson tree
+     */
+    public boolean isSupported() {
+        return steps != null;
+    }
+
+    /**
+     * Evaluate the path and convert the result to plain Java values the way RestAssured
+     * does by default: objects become maps, arrays lists, integral numbers Integer or
+     * Long, decimals Float (Double when out of float range). Missing values yield null.
+     *
+     * @throws IllegalStateException if the path is not supported
+     */
+    public Object evaluate(JsonNode root) {
+        if (steps == null) {
+            throw new IllegalStateException("Unsupported JSON path: " + expression);
+        }
+        JsonNode current = root;
+        for (Object step : steps) {
+            if (current == null || current.isNull() || current.isMissingNode()) {
+                return null;
+            }
+            current = step instanceof Integer ? index(current, (Integer) step) : field(current, (String) step);
+        }
+        return toJava(current);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonPathExpression{" + expression + (steps == null ? ", unsupported}" : "}");
+    }
+
+    /**
+     * Convert a JSON node to the Java value RestAssured would return for it
+     */
+    public static Object toJava(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isInt()) {
+            return node.intValue();
+        }
+        if (node.isLong()) {
+            return node.longValue();
+        }
+        if (node.isBigInteger()) {
+            return node.bigIntegerValue();
+        }
+        if (node.isNumber()) {
+            double value = node.doubleValue();
+            float narrowed = (float) value;
+            return Float.isInfinite(narrowed) && !Double.isInfinite(value) ? (Object) value : (Object) narrowed;
+        }
+        if (node.isArray()) {
+            List<Object> list = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                list.add(toJava(element));
+            }
+            return list;
+        }
+        if (node.isObject()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                map.put(field.getKey(), toJava(field.getValue()));
+            }
+            return map;
+        }
+        return node.asText();
+    }
+
+    // Private helper methods
+
+    private static JsonNode field(JsonNode node, String name) {
+        if (node.isArray()) {
+            // GPath projection: collect the field from every element
+            ArrayNode projected = JsonNodeFactory.instance.arrayNode(node.size());
+            for (JsonNode element : node) {
+                JsonNode value = element.isObject() || element.isArray() ? field(element, name) : null;
+                projected.add(value != null ? value : NullNode.getInstance());
+            }
+            return projected;
+        }
+        return node.get(name);
+    }
+
+    private static JsonNode index(JsonNode node, int index) {
+        if (!node.isArray()) {
+            return null;
+        }
+        int position = index < 0 ? node.size() + index : index;
+        return position >= 0 && position < node.size() ? node.get(position) : null;
+    }
+
+    /**
+     * Parse into steps, or null if the path uses syntax beyond fields and indexes
+     */
+    private static Object[] parse(String expression) {
+        String path = expression.trim();
+        if (path.startsWith("$")) {
+            path = path.substring(1);
+            if (path.startsWith(".")) {
+                path = path.substring(1);
+            }
+        }
+
+        List<Object> steps = new ArrayList<>();
+        int length = path.length();
+        int i = 0;
+        boolean expectName = true;
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int close = path.indexOf(']', i);
+                if (close < 0) {
+                    return null;
+                }
+                try {
+                    steps.add(Integer.parseInt(path.substring(i + 1, close).trim()));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                i = close + 1;
+                expectName = false;
+            } else if (c == '.') {
+                if (expectName) {
+                    return null;
+                }
+                i++;
+                expectName = true;
+            } else if (expectName && Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(path.charAt(i))) {
+                    i++;
+                }
+                steps.add(path.substring(start, i));
+                expectName = false;
+            } else {
+                return null;
+            }
+        }
+        if (expectName && !steps.isEmpty()) {
+            return null;
+        }
+        return steps.toArray();
+    }
+}
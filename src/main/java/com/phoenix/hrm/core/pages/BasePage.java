@@ -2,6 +2,7 @@ package com.phoenix.hrm.core.pages;
 
 import com.phoenix.hrm.core.config.ConfigManager;
 import com.phoenix.hrm.core.driver.WebDriverFactory;
+import com.phoenix.hrm.monitoring.PageActionEvent;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
@@ -63,14 +64,21 @@ public abstract class BasePage {
      * Safe click with wait for element to be clickable
      */
     protected void safeClick(WebElement element) {
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
         try {
             wait.until(ExpectedConditions.elementToBeClickable(element));
             highlightElement(element);
             element.click();
+            success = true;
+            event.end();
             logger.debug("Clicked element: {}", getElementDescription(element));
         } catch (Exception e) {
             logger.error("Failed to click element: {}", getElementDescription(element), e);
             throw new RuntimeException("Click failed", e);
+        } finally {
+            commitAction(event, "click", element, success);
         }
     }
     
@@ -96,6 +104,9 @@ public abstract class BasePage {
      * Safe text input with clear and validation
      */
     protected void safeType(WebElement element, String text) {
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
         try {
             wait.until(ExpectedConditions.visibilityOf(element));
             highlightElement(element);
@@ -108,10 +119,14 @@ public abstract class BasePage {
                 logger.warn("Expected text '{}' but found '{}' in element", text, actualValue);
             }
             
+            success = true;
+            event.end();
             logger.debug("Typed '{}' into element: {}", text, getElementDescription(element));
         } catch (Exception e) {
             logger.error("Failed to type '{}' into element: {}", text, getElementDescription(element), e);
             throw new RuntimeException("Type operation failed", e);
+        } finally {
+            commitAction(event, "type", element, success);
         }
     }
     
@@ -119,14 +134,21 @@ public abstract class BasePage {
      * Safe text input with JavaScript
      */
     protected void safeTypeWithJS(WebElement element, String text) {
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].value = arguments[1];", element, text);
             js.executeScript("arguments[0].dispatchEvent(new Event('input', { bubbles: true }));", element);
+            success = true;
+            event.end();
             logger.debug("Typed '{}' into element using JS: {}", text, getElementDescription(element));
         } catch (Exception e) {
             logger.error("Failed to type '{}' using JS: {}", text, getElementDescription(element), e);
             throw new RuntimeException("JS type operation failed", e);
+        } finally {
+            commitAction(event, "typeWithJS", element, success);
         }
     }
     
@@ -134,14 +156,21 @@ public abstract class BasePage {
      * Select dropdown option by visible text
      */
     protected void selectByVisibleText(WebElement dropdown, String text) {
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
         try {
             wait.until(ExpectedConditions.elementToBeClickable(dropdown));
             Select select = new Select(dropdown);
             select.selectByVisibleText(text);
+            success = true;
+            event.end();
             logger.debug("Selected option '{}' from dropdown: {}", text, getElementDescription(dropdown));
         } catch (Exception e) {
             logger.error("Failed to select option '{}' from dropdown: {}", text, getElementDescription(dropdown), e);
             throw new RuntimeException("Dropdown selection failed", e);
+        } finally {
+            commitAction(event, "selectByVisibleText", dropdown, success);
         }
     }
     
@@ -149,14 +178,21 @@ public abstract class BasePage {
      * Select dropdown option by value
      */
     protected void selectByValue(WebElement dropdown, String value) {
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
         try {
             wait.until(ExpectedConditions.elementToBeClickable(dropdown));
             Select select = new Select(dropdown);
             select.selectByValue(value);
+            success = true;
+            event.end();
             logger.debug("Selected value '{}' from dropdown: {}", value, getElementDescription(dropdown));
         } catch (Exception e) {
             logger.error("Failed to select value '{}' from dropdown: {}", value, getElementDescription(dropdown), e);
             throw new RuntimeException("Dropdown selection failed", e);
+        } finally {
+            commitAction(event, "selectByValue", dropdown, success);
         }
     }
     
@@ -304,7 +340,15 @@ public abstract class BasePage {
      * Click element using JavaScript
      */
     protected void clickWithJS(WebElement element) {
-        executeScript("arguments[0].click();", element);
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            executeScript("arguments[0].click();", element);
+            success = true;
+        } finally {
+            commitAction(event, "clickWithJS", element, success);
+        }
         logger.debug("Clicked element using JS: {}", getElementDescription(element));
     }
     
@@ -325,7 +369,15 @@ public abstract class BasePage {
      * Navigate to URL
      */
     protected void navigateTo(String url) {
-        driver.get(url);
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            driver.get(url);
+            success = true;
+        } finally {
+            commitAction(event, "navigate", url, success);
+        }
         logger.info("Navigated to: {}", url);
     }
     
@@ -425,6 +477,20 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Commit a Flight Recorder event for an interaction if a recording wants it.
+     * The locator comes from the element's toString, which needs no browser round trip.
+     */
+    private void commitAction(PageActionEvent event, String action, Object target, boolean success) {
+        if (event.shouldCommit()) {
+            event.page = getClass().getSimpleName();
+            event.action = action;
+            event.locator = String.valueOf(target);
+            event.success = success;
+            event.commit();
+        }
+    }
+    
     /**
      * Wait for page to load completely
      */
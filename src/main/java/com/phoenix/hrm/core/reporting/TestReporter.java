@@ -21,6 +21,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Enhanced Test Reporter for Phoenix HRM Test Automation Framework
@@ -29,28 +31,37 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TestReporter {
     
     private static final Logger logger = LoggerFactory.getLogger(TestReporter.class);
-    private static ExtentReports extentReports;
+    private static volatile ExtentReports extentReports;
     private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
     private static final ConcurrentHashMap<String, ExtentTest> testMap = new ConcurrentHashMap<>();
     private static final String REPORTS_DIR = "test-reports";
     private static final String SCREENSHOTS_DIR = REPORTS_DIR + "/screenshots";
     private static final ConfigManager config = ConfigManager.getInstance();
+    // ReentrantLock rather than a monitor so contended virtual threads do not pin their carrier
+    private static final ReentrantLock reportLock = new ReentrantLock();
     
     // Report file paths
     private static String currentReportPath;
     private static String currentScreenshotDir;
     
     // Test execution statistics
-    private static int totalTests = 0;
-    private static int passedTests = 0;
-    private static int failedTests = 0;
-    private static int skippedTests = 0;
+    private static final AtomicInteger totalTests = new AtomicInteger();
+    private static final AtomicInteger passedTests = new AtomicInteger();
+    private static final AtomicInteger failedTests = new AtomicInteger();
+    private static final AtomicInteger skippedTests = new AtomicInteger();
     
     /**
      * Initialize ExtentReports
      */
-    public static synchronized void initializeReports() {
-        if (extentReports == null) {
+    public static void initializeReports() {
+        if (extentReports != null) {
+            return;
+        }
+        reportLock.lock();
+        try {
+            if (extentReports != null) {
+                return;
+            }
             try {
                 setupReportDirectories();
                 
@@ -64,9 +75,11 @@ public class TestReporter {
                 ExtentSparkReporter sparkReporter = new ExtentSparkReporter(currentReportPath);
                 configureSparkReporter(sparkReporter);
                 
-                extentReports = new ExtentReports();
-                extentReports.attachReporter(sparkReporter);
-                setSystemInfo();
+                ExtentReports reports = new ExtentReports();
+                reports.attachReporter(sparkReporter);
+                setSystemInfo(reports);
+                // Publish only once fully configured; readers skip the lock
+                extentReports = reports;
                 
                 logger.info("ExtentReports initialized. Report path: {}", currentReportPath);
                 
@@ -74,6 +87,8 @@ public class TestReporter {
                 logger.error("Failed to initialize ExtentReports", e);
                 throw new RuntimeException("Report initialization failed", e);
             }
+        } finally {
+            reportLock.unlock();
         }
     }
     
@@ -106,38 +121,43 @@ public class TestReporter {
     /**
      * Set system information in report
      */
-    private static void setSystemInfo() {
-        extentReports.setSystemInfo("Application", "Phoenix HRM");
-        extentReports.setSystemInfo("Test Environment", config.getEnvironment());
-        extentReports.setSystemInfo("Browser", config.getBrowser());
-        extentReports.setSystemInfo("Operating System", System.getProperty("os.name"));
-        extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extentReports.setSystemInfo("User", System.getProperty("user.name"));
-        extentReports.setSystemInfo("Base URL", config.getBaseUrl());
-        extentReports.setSystemInfo("Test Data Environment", config.getProperty("test.data.environment", "default"));
-        extentReports.setSystemInfo("Execution Mode", config.isHeadless() ? "Headless" : "UI");
-        extentReports.setSystemInfo("Parallel Execution", config.getProperty("test.parallel.enabled", "false"));
+    private static void setSystemInfo(ExtentReports reports) {
+        reports.setSystemInfo("Application", "Phoenix HRM");
+        reports.setSystemInfo("Test Environment", config.getEnvironment());
+        reports.setSystemInfo("Browser", config.getBrowser());
+        reports.setSystemInfo("Operating System", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("User", System.getProperty("user.name"));
+        reports.setSystemInfo("Base URL", config.getBaseUrl());
+        reports.setSystemInfo("Test Data Environment", config.getProperty("test.data.environment", "default"));
+        reports.setSystemInfo("Execution Mode", config.isHeadless() ? "Headless" : "UI");
+        reports.setSystemInfo("Parallel Execution", config.getProperty("test.parallel.enabled", "false"));
     }
     
     /**
      * Start a test case
      */
-    public static synchronized ExtentTest startTest(String testName) {
+    public static ExtentTest startTest(String testName) {
         return startTest(testName, "");
     }
     
     /**
      * Start a test case with description
      */
-    public static synchronized ExtentTest startTest(String testName, String description) {
-        if (extentReports == null) {
-            initializeReports();
-        }
+    public static ExtentTest startTest(String testName, String description) {
+        initializeReports();
         
-        ExtentTest test = extentReports.createTest(testName, description);
+        // ExtentReports is not documented as thread-safe, so test creation stays serialized
+        ExtentTest test;
+        reportLock.lock();
+        try {
+            test = extentReports.createTest(testName, description);
+        } finally {
+            reportLock.unlock();
+        }
         extentTest.set(test);
         testMap.put(Thread.currentThread().getName() + "_" + testName, test);
-        totalTests++;
+        totalTests.incrementAndGet();
         
         logger.info("Started test: {}", testName);
         return test;
@@ -372,15 +392,15 @@ public class TestReporter {
             switch (status) {
                 case PASS:
                     logPass(message);
-                    passedTests++;
+                    passedTests.incrementAndGet();
                     break;
                 case FAIL:
                     logFail(message);
-                    failedTests++;
+                    failedTests.incrementAndGet();
                     break;
                 case SKIP:
                     logSkip(message);
-                    skippedTests++;
+                    skippedTests.incrementAndGet();
                     break;
                 default:
                     logInfo(message);
@@ -392,11 +412,17 @@ public class TestReporter {
     /**
      * Flush and finalize reports
      */
-    public static synchronized void flushReports() {
-        if (extentReports != null) {
+    public static void flushReports() {
+        if (extentReports == null) {
+            return;
+        }
+        reportLock.lock();
+        try {
             extentReports.flush();
             logger.info("ExtentReports flushed. Report available at: {}", currentReportPath);
             logTestSummary();
+        } finally {
+            reportLock.unlock();
         }
     }
     
@@ -404,6 +430,10 @@ public class TestReporter {
      * Log test execution summary
      */
     private static void logTestSummary() {
+        int total = totalTests.get();
+        int passed = passedTests.get();
+        int failed = failedTests.get();
+        int skipped = skippedTests.get();
         logger.info("\n" +
             "========================================\n" +
             "          TEST EXECUTION SUMMARY       \n" +
@@ -414,10 +444,10 @@ public class TestReporter {
             "Skipped: {} ({}%)\n" +
             "Report: {}\n" +
             "========================================",
-            totalTests,
-            passedTests, totalTests > 0 ? (passedTests * 100 / totalTests) : 0,
-            failedTests, totalTests > 0 ? (failedTests * 100 / totalTests) : 0,
-            skippedTests, totalTests > 0 ? (skippedTests * 100 / totalTests) : 0,
+            total,
+            passed, total > 0 ? (passed * 100 / total) : 0,
+            failed, total > 0 ? (failed * 100 / total) : 0,
+            skipped, total > 0 ? (skipped * 100 / total) : 0,
             new File(currentReportPath).getAbsolutePath()
         );
     }
@@ -434,17 +464,17 @@ public class TestReporter {
      */
     public static String getTestStatistics() {
         return String.format("Total: %d, Passed: %d, Failed: %d, Skipped: %d", 
-            totalTests, passedTests, failedTests, skippedTests);
+            totalTests.get(), passedTests.get(), failedTests.get(), skippedTests.get());
     }
     
     /**
      * Reset statistics (useful for multiple test runs)
      */
     public static void resetStatistics() {
-        totalTests = 0;
-        passedTests = 0;
-        failedTests = 0;
-        skippedTests = 0;
+        totalTests.set(0);
+        passedTests.set(0);
+        failedTests.set(0);
+        skippedTests.set(0);
     }
     
     /**
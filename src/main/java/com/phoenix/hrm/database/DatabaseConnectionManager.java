@@ -417,6 +417,15 @@ public class DatabaseConnectionManager {
         logger.info("All database connections closed");
     }
     
+    /**
+     * Get the number of pooled connections
+     * 
+     * @return Pooled connection count
+     */
+    public static int getPooledConnectionCount() {
+        return connectionPool.size();
+    }
+    
     /**
      * Execute database health check
      * 
@@ -1,5 +1,6 @@
 package com.phoenix.hrm.database;
 
+import com.phoenix.hrm.monitoring.SqlStatementEvent;
 import com.phoenix.hrm.reporting.TestReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +41,8 @@ public class SqlExecutor {
         TestReporter.logInfo("Executing database query: " + query);
         
         long startTime = System.currentTimeMillis();
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
         List<Map<String, Object>> results = new ArrayList<>();
         
         try (Connection connection = DatabaseConnectionManager.getConnection();
@@ -64,12 +67,16 @@ public class SqlExecutor {
             }
             
             long executionTime = System.currentTimeMillis() - startTime;
+            SqlQueryMetrics.record("query", executionTime, true);
+            commitStatementEvent(event, "query", query, results.size());
             logger.debug("Query executed in {} ms, returned {} rows", executionTime, results.size());
             TestReporter.logPass("Query executed successfully: " + results.size() + " rows returned in " + executionTime + "ms");
             
             return results;
             
         } catch (SQLException e) {
+            SqlQueryMetrics.record("query", System.currentTimeMillis() - startTime, false);
+            commitStatementEvent(event, "query", query, -1);
             logger.error("Error executing SELECT query: {}", e.getMessage());
             TestReporter.logFail("Database query failed: " + e.getMessage());
             throw e;
@@ -89,6 +96,8 @@ public class SqlExecutor {
         TestReporter.logInfo("Executing database update: " + query);
         
         long startTime = System.currentTimeMillis();
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
         
         try (Connection connection = DatabaseConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -99,12 +108,16 @@ public class SqlExecutor {
             int affectedRows = statement.executeUpdate();
             
             long executionTime = System.currentTimeMillis() - startTime;
+            SqlQueryMetrics.record("update", executionTime, true);
+            commitStatementEvent(event, "update", query, affectedRows);
             logger.debug("Update executed in {} ms, affected {} rows", executionTime, affectedRows);
             TestReporter.logPass("Database update successful: " + affectedRows + " rows affected in " + executionTime + "ms");
             
             return affectedRows;
             
         } catch (SQLException e) {
+            SqlQueryMetrics.record("update", System.currentTimeMillis() - startTime, false);
+            commitStatementEvent(event, "update", query, -1);
             logger.error("Error executing DML query: {}", e.getMessage());
             TestReporter.logFail("Database update failed: " + e.getMessage());
             throw e;
@@ -124,6 +137,8 @@ public class SqlExecutor {
         TestReporter.logInfo("Executing database insert with key generation: " + query);
         
         long startTime = System.currentTimeMillis();
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
         List<Long> generatedKeys = new ArrayList<>();
         
         try (Connection connection = DatabaseConnectionManager.getConnection();
@@ -143,6 +158,8 @@ public class SqlExecutor {
             }
             
             long executionTime = System.currentTimeMillis() - startTime;
+            SqlQueryMetrics.record("insert", executionTime, true);
+            commitStatementEvent(event, "insert", query, affectedRows);
             logger.debug("Insert executed in {} ms, affected {} rows, generated {} keys", 
                 executionTime, affectedRows, generatedKeys.size());
             TestReporter.logPass("Database insert successful: " + affectedRows + " rows inserted, " + 
@@ -151,6 +168,8 @@ public class SqlExecutor {
             return generatedKeys;
             
         } catch (SQLException e) {
+            SqlQueryMetrics.record("insert", System.currentTimeMillis() - startTime, false);
+            commitStatementEvent(event, "insert", query, -1);
             logger.error("Error executing INSERT with generated keys: {}", e.getMessage());
             TestReporter.logFail("Database insert failed: " + e.getMessage());
             throw e;
@@ -170,6 +189,8 @@ public class SqlExecutor {
         TestReporter.logInfo("Executing database batch operation: " + batchParameters.size() + " batches");
         
         long startTime = System.currentTimeMillis();
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
         
         try (Connection connection = DatabaseConnectionManager.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -185,7 +206,9 @@ public class SqlExecutor {
             connection.commit();
             
             long executionTime = System.currentTimeMillis() - startTime;
+            SqlQueryMetrics.record("batch", executionTime, true);
             int totalAffectedRows = Arrays.stream(results).sum();
+            commitStatementEvent(event, "batch", query, totalAffectedRows);
             
             logger.debug("Batch executed in {} ms, total affected rows: {}", executionTime, totalAffectedRows);
             TestReporter.logPass("Database batch operation successful: " + totalAffectedRows + 
@@ -194,6 +217,8 @@ public class SqlExecutor {
             return results;
             
         } catch (SQLException e) {
+            SqlQueryMetrics.record("batch", System.currentTimeMillis() - startTime, false);
+            commitStatementEvent(event, "batch", query, -1);
             logger.error("Error executing batch operation: {}", e.getMessage());
             TestReporter.logFail("Database batch operation failed: " + e.getMessage());
             throw e;
@@ -376,6 +401,8 @@ public class SqlExecutor {
         TestReporter.logInfo("Executing database transaction: " + queries.size() + " queries");
         
         long startTime = System.currentTimeMillis();
+        SqlStatementEvent event = new SqlStatementEvent();
+        event.begin();
         
         try (Connection connection = DatabaseConnectionManager.getConnection()) {
             connection.setAutoCommit(false);
@@ -389,6 +416,8 @@ public class SqlExecutor {
                 connection.commit();
                 
                 long executionTime = System.currentTimeMillis() - startTime;
+                SqlQueryMetrics.record("transaction", executionTime, true);
+                commitStatementEvent(event, "transaction", queries, queries.size());
                 logger.debug("Transaction executed successfully in {} ms", executionTime);
                 TestReporter.logPass("Database transaction successful: " + queries.size() + 
                     " queries executed in " + executionTime + "ms");
@@ -403,12 +432,31 @@ public class SqlExecutor {
             }
             
         } catch (SQLException e) {
+            SqlQueryMetrics.record("transaction", System.currentTimeMillis() - startTime, false);
+            commitStatementEvent(event, "transaction", queries, -1);
             logger.error("Error in transaction execution: {}", e.getMessage());
             TestReporter.logFail("Database transaction error: " + e.getMessage());
             throw e;
         }
     }
     
+    /**
+     * Commit a Flight Recorder event for a statement if a recording wants it
+     * 
+     * @param event Event started before the statement
+     * @param operation Operation name
+     * @param sql SQL text (or list of statements), recorded as a hash only
+     * @param rows Rows returned or affected, -1 on failure
+     */
+    private static void commitStatementEvent(SqlStatementEvent event, String operation, Object sql, long rows) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.statementHash = SqlStatementEvent.hash(sql);
+            event.rows = rows;
+            event.commit();
+        }
+    }
+    
     /**
      * Set parameters for prepared statement
      * 
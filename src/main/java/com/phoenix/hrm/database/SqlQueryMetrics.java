@@ -0,0 +1,95 @@
+package com.phoenix.hrm.database;
+
+import com.phoenix.hrm.api.LatencyHistogram;
+import com.phoenix.hrm.monitoring.MetricsHttpServer;
+import com.phoenix.hrm.monitoring.OpenMetricsWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL Query Metrics for Phoenix HRM Test Automation Framework
+ *
+ * Aggregates SqlExecutor timings per operation so database latency shows up on the
+ * live metrics endpoint next to API latency:
+ * - One latency histogram and error counter per operation (query, update, batch...)
+ * - Recording is lock-free and allocation-free after the first call per operation
+ * - Registered as the "database" source of {@link MetricsHttpServer}
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 3.0
+ * @since Phase 3
+ */
+public final class SqlQueryMetrics {
+
+    private static final long[] EXPORT_BUCKETS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private static final double[] EXPORT_BUCKETS_SECONDS = new double[EXPORT_BUCKETS_MILLIS.length];
+
+    private static final Map<String, LatencyHistogram> latencies = new ConcurrentSkipListMap<>();
+    private static final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < EXPORT_BUCKETS_MILLIS.length; i++) {
+            EXPORT_BUCKETS_SECONDS[i] = EXPORT_BUCKETS_MILLIS[i] / 1000.0;
+        }
+        MetricsHttpServer.getInstance().registerSource("database", SqlQueryMetrics::writeOpenMetrics);
+    }
+
+    private SqlQueryMetrics() {
+    }
+
+    /**
+     * Record one SqlExecutor call
+     *
+     * @param operation Operation name, e.g. "query" or "batch"
+     * @param executionTimeMs Execution time in milliseconds
+     * @param success Whether the call completed without an SQLException
+     */
+    public static void record(String operation, long executionTimeMs, boolean success) {
+        latencies.computeIfAbsent(operation, key -> new LatencyHistogram()).recordValue(executionTimeMs);
+        if (!success) {
+            errors.computeIfAbsent(operation, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Get the latency histogram of an operation
+     *
+     * @param operation Operation name
+     * @return Histogram, or null if the operation was never recorded
+     */
+    public static LatencyHistogram getLatency(String operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * Clear all recorded timings
+     */
+    public static void reset() {
+        latencies.clear();
+        errors.clear();
+    }
+
+    // Private helper methods
+
+    private static void writeOpenMetrics(OpenMetricsWriter writer) {
+        writer.family("phoenix_db_query_duration_seconds", OpenMetricsWriter.Type.HISTOGRAM,
+            "SQL execution time by operation");
+        for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            writer.histogramValue(EXPORT_BUCKETS_SECONDS, histogram.getCumulativeCounts(EXPORT_BUCKETS_MILLIS),
+                histogram.getTotalCount(), histogram.getTotalValue() / 1000.0, "operation", entry.getKey());
+        }
+
+        writer.family("phoenix_db_query_errors", OpenMetricsWriter.Type.COUNTER, "Failed SQL executions by operation");
+        for (String operation : latencies.keySet()) {
+            LongAdder failed = errors.get(operation);
+            writer.counterValue(failed != null ? failed.sum() : 0, "operation", operation);
+        }
+
+        writer.family("phoenix_db_pooled_connections", OpenMetricsWriter.Type.GAUGE, "Open pooled database connections")
+            .gaugeValue(DatabaseConnectionManager.getPooledConnectionCount());
+    }
+}
@@ -0,0 +1,49 @@
+package com.phoenix.hrm.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one {@code ApiTestFramework} request
+ *
+ * Spans the whole call including retries, so it can be lined up against GC pauses
+ * and lock events in the same recording. Disabled unless the recording settings
+ * enable it, e.g. with the shipped {@code jfr/phoenix.jfc} profile.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+@Name("com.phoenix.hrm.ApiRequest")
+@Label("API Request")
+@Category({"Phoenix HRM", "API"})
+@Description("API request executed by the test framework, including retries")
+@Enabled(false)
+@StackTrace(false)
+public class ApiRequestEvent extends jdk.jfr.Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Status Code")
+    @Description("HTTP status, or -1 if the request failed without a response")
+    public int statusCode;
+
+    @Label("Wire Bytes")
+    @Description("Response body bytes received from the server, before decoding; -1 if no body was received")
+    @DataAmount
+    public long wireBytes = -1;
+
+    @Label("Decoded Bytes")
+    @Description("Response body bytes after gzip or deflate decoding; -1 if no body was received")
+    @DataAmount
+    public long decodedBytes = -1;
+}
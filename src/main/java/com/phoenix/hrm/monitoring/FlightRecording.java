@@ -0,0 +1,111 @@
+package com.phoenix.hrm.monitoring;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flight Recording for Phoenix HRM Test Automation Framework
+ *
+ * Starts an in-process Java Flight Recorder recording for a test run:
+ * - Uses the JDK "default" settings (GC, locks, I/O, sampling) overlaid with the
+ *   shipped {@code jfr/phoenix.jfc} profile, which enables the framework's API,
+ *   SQL and page action events
+ * - The recording is written to the destination when it is stopped
+ *
+ * The same profile can be used without code changes:
+ * {@code -XX:StartFlightRecording:settings=phoenix.jfc,filename=run.jfr}
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class FlightRecording implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecording.class);
+
+    /** Classpath location of the shipped recording profile */
+    public static final String PROFILE_RESOURCE = "/jfr/phoenix.jfc";
+
+    private final Recording recording;
+    private final Path destination;
+
+    private FlightRecording(Recording recording, Path destination) {
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    /**
+     * Start a recording with the framework profile
+     *
+     * @param destination file the recording is written to on {@link #stop()}
+     * @throws IllegalStateException if the profile cannot be loaded or the recording cannot start
+     */
+    public static FlightRecording start(Path destination) {
+        Recording recording = new Recording(loadSettings());
+        recording.setName("Phoenix HRM");
+        recording.setToDisk(true);
+        try {
+            recording.setDestination(destination);
+            recording.start();
+        } catch (IOException | RuntimeException e) {
+            recording.close();
+            throw new IllegalStateException("Failed to start flight recording to " + destination, e);
+        }
+        logger.info("Flight recording started, writing to {}", destination);
+        return new FlightRecording(recording, destination);
+    }
+
+    /**
+     * Stop the recording and write it to the destination
+     */
+    public void stop() {
+        if (recording.stop()) {
+            logger.info("Flight recording written to {}", destination);
+        }
+        recording.close();
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    // Getters
+    public Path getDestination() { return destination; }
+    public boolean isRunning() { return recording.getState() == jdk.jfr.RecordingState.RUNNING; }
+
+    // Private helper methods
+
+    private static Map<String, String> loadSettings() {
+        Map<String, String> settings = new HashMap<>();
+        try {
+            settings.putAll(Configuration.getConfiguration("default").getSettings());
+        } catch (IOException | ParseException e) {
+            logger.warn("JDK default recording settings unavailable: {}", e.getMessage());
+        }
+
+        try (InputStream in = FlightRecording.class.getResourceAsStream(PROFILE_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Recording profile not found on classpath: " + PROFILE_RESOURCE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                settings.putAll(Configuration.create(reader).getSettings());
+            }
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to load recording profile " + PROFILE_RESOURCE, e);
+        }
+        return settings;
+    }
+}
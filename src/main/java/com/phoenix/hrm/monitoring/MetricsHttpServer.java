@@ -0,0 +1,223 @@
+package com.phoenix.hrm.monitoring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Metrics HTTP Server for Phoenix HRM Test Automation Framework
+ *
+ * Opt-in, embedded scrape endpoint so a local Prometheus (or curl) can watch a
+ * long soak run live instead of waiting for the final report:
+ * - Serves {@code GET /metrics} in OpenMetrics text format on the JDK HttpServer
+ * - Components register a {@link MetricsSource} once; registration is cheap and
+ *   does nothing until the server is started
+ * - Every scrape reads the sources' existing aggregates, nothing is sampled
+ *   between scrapes
+ * - A failing source is left out of that scrape (and counted) instead of failing it
+ * - Binds to the loopback interface unless another host is given
+ * - Always includes JVM thread and heap gauges
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public final class MetricsHttpServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsHttpServer.class);
+
+    public static final String METRICS_PATH = "/metrics";
+    private static final String OPENMETRICS_CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final String TEXT_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final MetricsHttpServer instance = new MetricsHttpServer();
+
+    private final Map<String, MetricsSource> sources = new ConcurrentSkipListMap<>();
+    private final AtomicLong scrapes = new AtomicLong();
+    private final AtomicLong sourceErrors = new AtomicLong();
+    // ReentrantLock rather than a monitor so contended virtual threads do not pin their carrier
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private MetricsHttpServer() {
+    }
+
+    /**
+     * Get the process-wide metrics server
+     */
+    public static MetricsHttpServer getInstance() {
+        return instance;
+    }
+
+    /**
+     * Register or replace a named source
+     */
+    public void registerSource(String name, MetricsSource source) {
+        sources.put(name, source);
+    }
+
+    public void unregisterSource(String name) {
+        sources.remove(name);
+    }
+
+    /**
+     * Start serving on the loopback interface
+     *
+     * @param port port to bind, 0 for an ephemeral port
+     * @return the bound port
+     */
+    public int start(int port) {
+        return start("localhost", port);
+    }
+
+    /**
+     * Start serving; returns the existing port if already running
+     *
+     * @return the bound port
+     * @throws IllegalStateException if the port cannot be bound
+     */
+    public int start(String host, int port) {
+        lifecycleLock.lock();
+        try {
+            if (server != null) {
+                return server.getAddress().getPort();
+            }
+            HttpServer created = HttpServer.create(new InetSocketAddress(host, port), 0);
+            created.createContext(METRICS_PATH, this::handleScrape);
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "Phoenix-MetricsHttp");
+                thread.setDaemon(true);
+                return thread;
+            });
+            created.setExecutor(executor);
+            created.start();
+            server = created;
+            logger.info("Metrics endpoint listening on http://{}:{}{}", host, created.getAddress().getPort(),
+                METRICS_PATH);
+            return created.getAddress().getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start metrics endpoint on " + host + ":" + port, e);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Stop serving; registered sources are kept
+     */
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            if (server != null) {
+                server.stop(0);
+                executor.shutdownNow();
+                server = null;
+                executor = null;
+                logger.info("Metrics endpoint stopped");
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    public boolean isRunning() {
+        lifecycleLock.lock();
+        try {
+            return server != null;
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Bound port, or -1 when not running
+     */
+    public int getPort() {
+        lifecycleLock.lock();
+        try {
+            return server != null ? server.getAddress().getPort() : -1;
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Render the current metrics of all sources
+     */
+    public String scrape() {
+        scrapes.incrementAndGet();
+        StringBuilder text = new StringBuilder(8192);
+        for (Map.Entry<String, MetricsSource> source : sources.entrySet()) {
+            // Each source writes into its own buffer so a failure cannot leave half a family behind
+            OpenMetricsWriter sourceWriter = new OpenMetricsWriter();
+            try {
+                source.getValue().collect(sourceWriter);
+                text.append(sourceWriter.getText());
+            } catch (RuntimeException e) {
+                sourceErrors.incrementAndGet();
+                logger.warn("Metrics source '{}' failed: {}", source.getKey(), e.getMessage());
+            }
+        }
+
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        writeProcessMetrics(writer);
+        return text.append(writer.finish()).toString();
+    }
+
+    // Private helper methods
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            boolean openMetrics = accept != null && accept.contains("application/openmetrics-text");
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", openMetrics ? OPENMETRICS_CONTENT_TYPE : TEXT_CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void writeProcessMetrics(OpenMetricsWriter writer) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        writer.family("phoenix_jvm_threads", OpenMetricsWriter.Type.GAUGE, "Live JVM threads")
+            .gaugeValue(threads.getThreadCount());
+        writer.family("phoenix_jvm_heap_used_bytes", OpenMetricsWriter.Type.GAUGE, "Used heap memory")
+            .gaugeValue(memory.getHeapMemoryUsage().getUsed());
+        writer.family("phoenix_metrics_scrapes", OpenMetricsWriter.Type.COUNTER, "Scrapes served")
+            .counterValue(scrapes.get());
+        writer.family("phoenix_metrics_source_errors", OpenMetricsWriter.Type.COUNTER,
+                "Metrics sources left out of a scrape because they failed")
+            .counterValue(sourceErrors.get());
+    }
+}
@@ -0,0 +1,20 @@
+package com.phoenix.hrm.monitoring;
+
+/**
+ * Component that contributes metric families to a scrape of {@link MetricsHttpServer}
+ *
+ * Sources are called on the scrape thread and should only read aggregates they
+ * already maintain; a source must not write the same family as another source.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+@FunctionalInterface
+public interface MetricsSource {
+
+    /**
+     * Write this source's metric families
+     */
+    void collect(OpenMetricsWriter writer);
+}
@@ -0,0 +1,185 @@
+package com.phoenix.hrm.monitoring;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * OpenMetrics Text Writer for Phoenix HRM Test Automation Framework
+ *
+ * Builds a scrape response in the OpenMetrics text format (also readable by
+ * Prometheus' classic text parser):
+ * - Each metric family is declared once with its type and help text, and its
+ *   samples follow directly
+ * - Label values are escaped; label pairs are passed as name, value, name, value...
+ * - Histograms take cumulative bucket counts, so callers can export pre-aggregated
+ *   histograms without replaying observations
+ * - {@link #finish()} appends the mandatory {@code # EOF} terminator
+ *
+ * Not thread-safe; one writer serves one scrape.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+public class OpenMetricsWriter {
+
+    /**
+     * Metric family types
+     */
+    public enum Type {
+        COUNTER("counter"), GAUGE("gauge"), HISTOGRAM("histogram");
+
+        private final String text;
+
+        Type(String text) {
+            this.text = text;
+        }
+    }
+
+    private final StringBuilder out = new StringBuilder(4096);
+    private final Set<String> declaredFamilies = new HashSet<>();
+    private String currentFamily;
+    private Type currentType;
+
+    /**
+     * Declare a metric family; the samples written next belong to it
+     *
+     * @throws IllegalStateException if the family was already declared in this scrape
+     */
+    public OpenMetricsWriter family(String name, Type type, String help) {
+        if (!declaredFamilies.add(name)) {
+            throw new IllegalStateException("Metric family already written: " + name);
+        }
+        currentFamily = name;
+        currentType = type;
+        out.append("# TYPE ").append(name).append(' ').append(type.text).append('\n');
+        out.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+        return this;
+    }
+
+    /**
+     * Write a sample of the current counter family ({@code <family>_total})
+     */
+    public OpenMetricsWriter counterValue(double value, String... labels) {
+        requireType(Type.COUNTER);
+        return sample(currentFamily + "_total", value, labels);
+    }
+
+    /**
+     * Write a sample of the current gauge family
+     */
+    public OpenMetricsWriter gaugeValue(double value, String... labels) {
+        requireType(Type.GAUGE);
+        return sample(currentFamily, value, labels);
+    }
+
+    /**
+     * Write one histogram of the current histogram family
+     *
+     * @param upperBounds bucket upper bounds, ascending, excluding +Inf
+     * @param cumulativeCounts observations at or below each bound
+     * @param count total observations (the +Inf bucket)
+     * @param sum sum of all observations
+     */
+    public OpenMetricsWriter histogramValue(double[] upperBounds, long[] cumulativeCounts, long count, double sum,
+                                            String... labels) {
+        requireType(Type.HISTOGRAM);
+        if (upperBounds.length != cumulativeCounts.length) {
+            throw new IllegalArgumentException("Bucket bounds and counts differ in length");
+        }
+        // Counts read from live histograms may race with recording; keep buckets monotonic
+        String bucket = currentFamily + "_bucket";
+        long running = 0;
+        for (int i = 0; i < upperBounds.length; i++) {
+            running = Math.max(running, cumulativeCounts[i]);
+            sample(bucket, running, withLabel(labels, "le", formatValue(upperBounds[i])));
+        }
+        long total = Math.max(running, count);
+        sample(bucket, total, withLabel(labels, "le", "+Inf"));
+        sample(currentFamily + "_count", total, labels);
+        return sample(currentFamily + "_sum", sum, labels);
+    }
+
+    /**
+     * Append the {@code # EOF} terminator and return the scrape text
+     */
+    public String finish() {
+        return out.append("# EOF\n").toString();
+    }
+
+    /**
+     * Text written so far, without terminator
+     */
+    public String getText() {
+        return out.toString();
+    }
+
+    // Private helper methods
+
+    private OpenMetricsWriter sample(String name, double value, String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        out.append(name);
+        if (labels.length > 0) {
+            out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append(labels[i]).append("=\"");
+                appendEscapedLabelValue(labels[i + 1]);
+                out.append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(formatValue(value)).append('\n');
+        return this;
+    }
+
+    private void requireType(Type type) {
+        if (currentType != type) {
+            throw new IllegalStateException("Current family " + currentFamily + " is not a " + type.text);
+        }
+    }
+
+    private void appendEscapedLabelValue(String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': out.append("\\\\"); break;
+                case '"': out.append("\\\""); break;
+                case '\n': out.append("\\n"); break;
+                default: out.append(c);
+            }
+        }
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String[] withLabel(String[] labels, String name, String value) {
+        String[] extended = new String[labels.length + 2];
+        System.arraycopy(labels, 0, extended, 0, labels.length);
+        extended[labels.length] = name;
+        extended[labels.length + 1] = value;
+        return extended;
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+}
@@ -0,0 +1,39 @@
+package com.phoenix.hrm.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one page object interaction
+ *
+ * Covers the waits performed by the interaction, so a slow event points at the
+ * application under test while a short one next to a long test step points at
+ * the framework. Disabled unless the recording settings enable it.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+@Name("com.phoenix.hrm.PageAction")
+@Label("Page Action")
+@Category({"Phoenix HRM", "UI"})
+@Description("WebDriver interaction performed through a page object")
+@Enabled(false)
+public class PageActionEvent extends jdk.jfr.Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Locator")
+    @Description("Element locator, or the URL for navigation")
+    public String locator;
+
+    @Label("Succeeded")
+    public boolean success;
+}
@@ -0,0 +1,45 @@
+package com.phoenix.hrm.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one {@code SqlExecutor} call
+ *
+ * The statement is identified by a hash of its text rather than the text itself,
+ * so recordings shared outside the team do not carry test data. Disabled unless
+ * the recording settings enable it.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 5.0
+ * @since Phase 5
+ */
+@Name("com.phoenix.hrm.SqlStatement")
+@Label("SQL Statement")
+@Category({"Phoenix HRM", "Database"})
+@Description("SQL statement executed by the test framework")
+@Enabled(false)
+public class SqlStatementEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("query, update, insert, batch or transaction")
+    public String operation;
+
+    @Label("Statement Hash")
+    @Description("Hex hash of the SQL text")
+    public String statementHash;
+
+    @Label("Rows")
+    @Description("Rows returned or affected (statements run for a transaction), or -1 on failure")
+    public long rows;
+
+    /**
+     * Hash used for {@link #statementHash}; accepts the SQL text or a list of statements
+     */
+    public static String hash(Object sql) {
+        return sql != null ? Integer.toHexString(sql.hashCode()) : "";
+    }
+}
@@ -0,0 +1,160 @@
+package com.phoenix.hrm.parallel;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Carrier Pinning Monitor for Phoenix HRM Test Automation Framework
+ *
+ * Reports virtual threads that block while pinned to their carrier thread, e.g.
+ * inside a {@code synchronized} block or a native frame:
+ * - Streams the JFR {@code jdk.VirtualThreadPinned} event in-process
+ * - Attributes each event to the first framework frame on the stack
+ *   (falling back to the top frame)
+ * - Logs the first occurrence per site and keeps counts and total pinned time
+ *
+ * On runtimes without virtual threads the event does not exist and the monitor
+ * simply records nothing.
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 3.0
+ * @since Phase 3
+ */
+public final class CarrierPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarrierPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String FRAMEWORK_PACKAGE = "com.phoenix.hrm.";
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+    private static final int MAX_REPORTED_SITES = 20;
+
+    private static final CarrierPinningMonitor INSTANCE = new CarrierPinningMonitor();
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> pinningSites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    private CarrierPinningMonitor() {
+    }
+
+    /**
+     * Get the process-wide monitor
+     */
+    public static CarrierPinningMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start monitoring with the default 20ms threshold; no-op if already running
+     */
+    public void start() {
+        start(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Start monitoring pins that last at least the given threshold; no-op if already running
+     */
+    public synchronized void start(Duration threshold) {
+        if (stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            logger.info("Carrier pinning monitor started (threshold {}ms)", threshold.toMillis());
+        } catch (RuntimeException e) {
+            // JFR may be disabled or unavailable in this JVM
+            logger.warn("Carrier pinning monitor unavailable: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stop monitoring; collected statistics are kept
+     */
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+            logger.info("Carrier pinning monitor stopped: {} pinned events", pinnedEvents.sum());
+        }
+    }
+
+    /**
+     * Get pinning statistics, including the most frequent pinning sites
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("monitoring", isRunning());
+        stats.put("pinnedEvents", pinnedEvents.sum());
+        stats.put("totalPinnedMillis", Duration.ofNanos(pinnedNanos.sum()).toMillis());
+
+        Map<String, Long> sites = new LinkedHashMap<>();
+        pinningSites.entrySet().stream()
+            .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+            .limit(MAX_REPORTED_SITES)
+            .forEach(entry -> sites.put(entry.getKey(), entry.getValue().sum()));
+        stats.put("pinningSites", sites);
+        return stats;
+    }
+
+    /**
+     * Clear collected statistics
+     */
+    public void reset() {
+        pinnedEvents.reset();
+        pinnedNanos.reset();
+        pinningSites.clear();
+    }
+
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    // Private helper methods
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        String site = pinningSite(event.getStackTrace());
+        LongAdder count = pinningSites.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            logger.warn("Virtual thread pinned to carrier for {}ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(FRAMEWORK_PACKAGE)) {
+                return formatFrame(frame);
+            }
+        }
+        return formatFrame(frames.get(0));
+    }
+
+    private static String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,163 @@
+package com.phoenix.hrm.parallel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Virtual Thread Support for Phoenix HRM Test Automation Framework
+ *
+ * Provides a one-virtual-thread-per-task executor for I/O-bound API and database
+ * workloads while the framework still compiles for Java 17:
+ * - Virtual threads are looked up reflectively, so the same build runs on 17 and 21+
+ * - On runtimes without virtual threads the caller's platform pool is used instead
+ * - Starting the first virtual executor also starts the {@link CarrierPinningMonitor},
+ *   which reports code that pins virtual threads to their carrier
+ *
+ * @author Phoenix HRM Test Automation Team
+ * @version 3.0
+ * @since Phase 3
+ */
+public final class VirtualThreadSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadSupport.class);
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR =
+        findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    private static final Method IS_VIRTUAL = findMethod(Thread.class, "isVirtual");
+
+    /**
+     * Thread model used by an executor
+     */
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private VirtualThreadSupport() {
+    }
+
+    /**
+     * Check whether the running JVM supports virtual threads
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Resolve the mode actually used for a requested mode on this JVM
+     */
+    public static ExecutionMode resolveMode(boolean virtualRequested) {
+        return virtualRequested && isAvailable() ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM;
+    }
+
+    /**
+     * Create an executor that starts one virtual thread per task, or the fallback
+     * platform executor when virtual threads are unavailable
+     *
+     * @param namePrefix thread name prefix; a sequence number is appended
+     * @param fallback platform executor used on runtimes without virtual threads
+     * @return executor service
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix,
+                                                                 Supplier<ExecutorService> fallback) {
+        ThreadFactory factory = virtualThreadFactory(namePrefix);
+        if (factory != null) {
+            try {
+                ExecutorService executor = (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+                CarrierPinningMonitor.getInstance().start();
+                logger.info("Using virtual-thread-per-task executor: {}", namePrefix);
+                return executor;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Could not create virtual thread executor ({}), using platform threads", e.toString());
+            }
+        } else {
+            logger.warn("Virtual threads requested for {} but not supported by Java {}, using platform threads",
+                namePrefix, Runtime.version().feature());
+        }
+        return fallback.get();
+    }
+
+    /**
+     * Run I/O-bound tasks concurrently, each on its own virtual thread when available,
+     * otherwise on a platform pool of at most {@code platformThreads}, and return the
+     * results in task order
+     *
+     * @param namePrefix thread name prefix
+     * @param tasks tasks to run
+     * @param platformThreads fallback pool size on runtimes without virtual threads
+     * @return one result per task, in the order of {@code tasks}
+     * @throws ExecutionException wrapping the failure of the first failed task, in task order
+     */
+    public static <T> List<T> invokeAllOrdered(String namePrefix, List<? extends Callable<T>> tasks,
+                                               int platformThreads)
+            throws InterruptedException, ExecutionException {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int poolSize = Math.max(1, Math.min(tasks.size(), platformThreads));
+        ExecutorService executor = newVirtualThreadPerTaskExecutor(namePrefix,
+            () -> Executors.newFixedThreadPool(poolSize));
+        try {
+            List<Future<T>> futures = executor.invokeAll(tasks);
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Create a factory for named virtual threads, or null when not supported
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        if (!isAvailable()) {
+            return null;
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Preview builds (19/20) throw unless started with --enable-preview
+            logger.debug("Virtual thread factory unavailable: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Check whether a thread is virtual
+     */
+    public static boolean isVirtual(Thread thread) {
+        try {
+            return IS_VIRTUAL != null && (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    // Private helper methods
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
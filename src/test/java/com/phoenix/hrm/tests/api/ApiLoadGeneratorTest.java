@@ -0,0 +1,152 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiLoadGenerator;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.LoadProfile;
+import com.phoenix.hrm.api.MockHrmServer;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Unit tests for the open-loop load generator, run against the embedded mock server
+ */
+public class ApiLoadGeneratorTest {
+
+    private MockHrmServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() {
+        server = new MockHrmServer.Builder()
+            .defaultProfile(MockHrmServer.EndpointProfile.builder().latency(Duration.ofMillis(5)).build())
+            .endpoint("getDepartments", MockHrmServer.EndpointProfile.builder()
+                .latency(Duration.ofMillis(200)).build())
+            .build();
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .build());
+        // Class loading and connection setup on a cold JVM would otherwise stretch the first run
+        for (int i = 0; i < 10; i++) {
+            framework.executeRequestAsync("getEmployees", null, null, null, String.class).join();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.stop();
+    }
+
+    @Test(description = "A constant profile is sent at the target rate without drops")
+    public void testAchievedRate() {
+        ApiLoadGenerator.LoadTestResult result = new ApiLoadGenerator.Builder(framework,
+                LoadProfile.constant(100, Duration.ofSeconds(1)))
+            .addRequest("getEmployees")
+            .build()
+            .run();
+
+        Assert.assertEquals(result.getScheduledCount(), 100, 2);
+        Assert.assertEquals(result.getSentCount(), result.getScheduledCount());
+        Assert.assertEquals(result.getCompletedCount(), result.getSentCount());
+        Assert.assertEquals(result.getDroppedCount(), 0);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        // Elapsed time includes draining the last requests, so the rate lands slightly under target
+        Assert.assertTrue(result.getAchievedRate() > 80 && result.getAchievedRate() <= 102,
+            "achieved " + result.getAchievedRate() + " rps");
+    }
+
+    @Test(description = "Latency is measured from the intended send time, so a generator stall is not hidden")
+    public void testCoordinatedOmissionCorrection() {
+        // The query parameters are built on the generator thread; one slow build stalls the schedule
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Map<String, Object>> stallOnce = () -> {
+            if (calls.incrementAndGet() == 10) {
+                sleep(300);
+            }
+            return Collections.emptyMap();
+        };
+        ApiLoadGenerator.LoadTestResult result = new ApiLoadGenerator.Builder(framework,
+                LoadProfile.constant(50, Duration.ofSeconds(1)))
+            .addRequest("getEmployees", null, stallOnce, null, 1)
+            .build()
+            .run();
+
+        Assert.assertEquals(result.getScheduledCount(), 50, 1, "requests missed during the stall are caught up");
+        Assert.assertTrue(result.getMaxScheduleLagMillis() >= 250, "lag " + result.getMaxScheduleLagMillis());
+
+        PerformanceMetrics.EndpointMetrics latency = result.getLatencyMetrics().getEndpointMetrics("getEmployees");
+        PerformanceMetrics.EndpointMetrics service = result.getServiceTimeMetrics().getEndpointMetrics("getEmployees");
+        for (double percentile : new double[] {50.0, 90.0, 99.0}) {
+            Assert.assertTrue(latency.getPercentile(percentile) >= service.getPercentile(percentile),
+                "p" + percentile + " latency " + latency.getPercentile(percentile)
+                    + " < service time " + service.getPercentile(percentile));
+        }
+        Assert.assertTrue(latency.getMaxResponseTime() >= 250, "max latency " + latency.getMaxResponseTime());
+        Assert.assertTrue(service.getMaxResponseTime() < latency.getMaxResponseTime() - 200,
+            "max service time " + service.getMaxResponseTime());
+    }
+
+    @Test(description = "Requests over the in-flight cap are dropped, not delayed")
+    public void testDroppedRequests() {
+        ApiLoadGenerator.LoadTestResult result = new ApiLoadGenerator.Builder(framework,
+                LoadProfile.constant(100, Duration.ofMillis(500)))
+            .addRequest("getDepartments")
+            .maxInFlight(5)
+            .build()
+            .run();
+
+        Assert.assertEquals(result.getSentCount() + result.getDroppedCount(), result.getScheduledCount());
+        // Each slot frees up every 200ms, so at most three waves of five fit in the run
+        Assert.assertTrue(result.getSentCount() <= 15, "sent " + result.getSentCount());
+        Assert.assertTrue(result.getDroppedCount() >= 30, "dropped " + result.getDroppedCount());
+        Assert.assertEquals(result.getCompletedCount(), result.getSentCount());
+        Assert.assertEquals(result.getSummary().get("droppedRequests"), result.getDroppedCount());
+        // Drops count against the latency results as failures, not as missing samples
+        PerformanceMetrics.EndpointMetrics latency = result.getLatencyMetrics().getEndpointMetrics("getDepartments");
+        Assert.assertEquals(latency.getRequestCount(), result.getScheduledCount());
+        Assert.assertEquals(latency.getErrorCount(), result.getDroppedCount());
+        Assert.assertTrue(result.getServiceTimeMetrics().calculateOverallPercentile(50) >= 200);
+    }
+
+    @Test(description = "A request whose parameters cannot be built counts as an error and is not left in flight")
+    public void testFailingRequestSupplier() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Map<String, Object>> failEveryFifth = () -> {
+            if (calls.incrementAndGet() % 5 == 0) {
+                throw new IllegalStateException("no test data left");
+            }
+            return Collections.emptyMap();
+        };
+        ApiLoadGenerator.LoadTestResult result = new ApiLoadGenerator.Builder(framework,
+                LoadProfile.constant(50, Duration.ofMillis(500)))
+            .addRequest("getEmployees", null, failEveryFifth, null, 1)
+            .build()
+            .run();
+
+        Assert.assertEquals(result.getSentCount(), 25);
+        Assert.assertEquals(result.getErrorCount(), 5);
+        Assert.assertEquals(result.getCompletedCount(), result.getSentCount());
+        Assert.assertTrue(result.getElapsed().compareTo(Duration.ofSeconds(5)) < 0, "elapsed " + result.getElapsed());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.phoenix.hrm.tests.api;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.phoenix.hrm.api.MockHrmServer;
+import com.phoenix.hrm.core.api.ApiClient;
+import com.phoenix.hrm.core.api.ApiLogFilter;
+import com.phoenix.hrm.core.config.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for level-gated API logging and the shared RestAssured specifications of {@link ApiClient}
+ */
+public class ApiLogFilterTest {
+
+    private MockHrmServer server;
+    private Logger filterLogger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeClass
+    public void setUp() {
+        server = new MockHrmServer.Builder()
+            .defaultProfile(MockHrmServer.EndpointProfile.builder().latency(Duration.ofMillis(1)).build())
+            .requireAuth(true)
+            .build();
+        server.start();
+
+        filterLogger = (Logger) LoggerFactory.getLogger(ApiLogFilter.class);
+        filterLogger.setLevel(Level.INFO);
+        appender = new ListAppender<>();
+        appender.start();
+        filterLogger.addAppender(appender);
+    }
+
+    @BeforeMethod
+    public void clearEvents() {
+        appender.list.clear();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        filterLogger.detachAppender(appender);
+        filterLogger.setLevel(null);
+        server.stop();
+    }
+
+    @Test(description = "NONE logs nothing, not even failures")
+    public void testNone() {
+        ApiLogFilter filter = new ApiLogFilter(ApiLogFilter.Level.NONE, 1, true, true, true, true);
+        send(filter, "/auth/login", 3);
+        send(filter, "/employees", 2);
+
+        Assert.assertTrue(appender.list.isEmpty(), messages().toString());
+    }
+
+    @Test(description = "FAILURES logs 4xx/5xx responses only, as warnings")
+    public void testFailures() {
+        ApiLogFilter filter = new ApiLogFilter(ApiLogFilter.Level.FAILURES, 1, true, true, true, true);
+        send(filter, "/auth/login", 3);
+        send(filter, "/employees", 2);
+
+        Assert.assertEquals(appender.list.size(), 2, messages().toString());
+        for (ILoggingEvent event : appender.list) {
+            Assert.assertEquals(event.getLevel(), Level.WARN);
+            Assert.assertTrue(event.getFormattedMessage().contains("GET " + server.getBaseUrl() + "/employees"),
+                event.getFormattedMessage());
+            Assert.assertTrue(event.getFormattedMessage().contains("401"), event.getFormattedMessage());
+        }
+    }
+
+    @Test(description = "SAMPLED logs one successful exchange in every N plus every failure")
+    public void testSampled() {
+        ApiLogFilter filter = new ApiLogFilter(ApiLogFilter.Level.SAMPLED, 3, false, true, true, false);
+        send(filter, "/auth/login", 9);
+        send(filter, "/employees", 1);
+
+        List<ILoggingEvent> sampled = events(Level.INFO);
+        Assert.assertEquals(sampled.size(), 3, messages().toString());
+        Assert.assertEquals(events(Level.WARN).size(), 1);
+        Assert.assertFalse(sampled.get(0).getFormattedMessage().contains("Response body"),
+            "bodies were not requested: " + sampled.get(0).getFormattedMessage());
+    }
+
+    @Test(description = "ALL logs every exchange, with headers and bodies when enabled")
+    public void testAll() {
+        ApiLogFilter filter = new ApiLogFilter(ApiLogFilter.Level.ALL, 100, true, true, true, true);
+        send(filter, "/auth/login", 4);
+
+        Assert.assertEquals(events(Level.INFO).size(), 4, messages().toString());
+        String message = appender.list.get(0).getFormattedMessage();
+        Assert.assertTrue(message.contains("Request headers:"), message);
+        Assert.assertTrue(message.contains("Request body: {\"username\":\"admin\"}"), message);
+        Assert.assertTrue(message.contains("\"accessToken\""), message);
+    }
+
+    @Test(description = "Level, sample rate and detail switches come from the api.log.* properties")
+    public void testFromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        try {
+            Assert.assertEquals(ApiLogFilter.fromConfig(config).getLevel(), ApiLogFilter.Level.FAILURES);
+            Assert.assertEquals(ApiLogFilter.fromConfig(config).getSampleRate(), 100);
+
+            config.setProperty("api.log.level", "sampled");
+            config.setProperty("api.log.sample.rate", "4");
+            ApiLogFilter filter = ApiLogFilter.fromConfig(config);
+            Assert.assertEquals(filter.getLevel(), ApiLogFilter.Level.SAMPLED);
+            Assert.assertEquals(filter.getSampleRate(), 4);
+            send(filter, "/auth/login", 8);
+            Assert.assertEquals(events(Level.INFO).size(), 2, messages().toString());
+
+            appender.list.clear();
+            config.setProperty("api.log.level", "all");
+            config.setProperty("api.log.body", "false");
+            send(ApiLogFilter.fromConfig(config), "/auth/login", 1);
+            String message = appender.list.get(0).getFormattedMessage();
+            Assert.assertTrue(message.contains("Request headers:"), message);
+            Assert.assertFalse(message.contains("Request body"), message);
+            Assert.assertFalse(message.contains("Response body"), message);
+
+            appender.list.clear();
+            config.setProperty("api.log.body", "true");
+            config.setProperty("api.log.requests", "false");
+            send(ApiLogFilter.fromConfig(config), "/auth/login", 1);
+            message = appender.list.get(0).getFormattedMessage();
+            Assert.assertFalse(message.contains("Request headers:"), message);
+            Assert.assertFalse(message.contains("Request body"), message);
+            Assert.assertTrue(message.contains("Response body"), message);
+
+            config.setProperty("api.log.level", "verbose");
+            config.setProperty("api.log.sample.rate", "0");
+            filter = ApiLogFilter.fromConfig(config);
+            Assert.assertEquals(filter.getLevel(), ApiLogFilter.Level.FAILURES);
+            Assert.assertEquals(filter.getSampleRate(), 1);
+        } finally {
+            config.reloadConfiguration();
+        }
+    }
+
+    @Test(description = "A client's headers and auth do not leak into the shared specification")
+    public void testClientOverlayIsNotShared() throws Exception {
+        ApiClient client = ApiClient.getInstance().setBaseUri(server.getBaseUrl()).setBasePath("");
+        try {
+            String token = client.post("/auth/login", Map.of("username", "admin")).jsonPath().getString("accessToken");
+            client.setAuthToken(token).addHeader("X-Tenant", "phoenix").addQueryParam("page", 1);
+            Assert.assertEquals(client.get("/employees").getStatusCode(), 200);
+
+            // A client on another thread starts from the shared specification only
+            ExecutorService otherThread = Executors.newSingleThreadExecutor();
+            try {
+                int status = otherThread.submit(() -> ApiClient.getInstance()
+                    .setBaseUri(server.getBaseUrl()).setBasePath("").get("/employees").getStatusCode()).get();
+                Assert.assertEquals(status, 401);
+            } finally {
+                otherThread.shutdown();
+            }
+
+            Assert.assertEquals(client.get("/employees").getStatusCode(), 200, "the overlay is kept per client");
+            ApiClient fresh = client.reset().setBaseUri(server.getBaseUrl()).setBasePath("");
+            Assert.assertEquals(fresh.get("/employees").getStatusCode(), 401);
+        } finally {
+            ApiClient.getInstance().cleanup();
+        }
+    }
+
+    private void send(ApiLogFilter filter, String path, int times) {
+        for (int i = 0; i < times; i++) {
+            Response response = path.startsWith("/auth")
+                ? RestAssured.given().baseUri(server.getBaseUrl()).filter(filter)
+                    .contentType("application/json").body("{\"username\":\"admin\"}").post(path)
+                : RestAssured.given().baseUri(server.getBaseUrl()).filter(filter).get(path);
+            Assert.assertTrue(response.getStatusCode() > 0);
+        }
+    }
+
+    private List<ILoggingEvent> events(Level level) {
+        return appender.list.stream().filter(event -> event.getLevel() == level).collect(Collectors.toList());
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,144 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.AsyncLogWriter;
+import com.phoenix.hrm.api.RequestResponseLogger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for the asynchronous NDJSON log writer
+ */
+public class AsyncLogWriterTest {
+
+    @Test(description = "Entries are written as NDJSON lines and rotated by size")
+    public void testWriteAndRotate() throws IOException {
+        Path directory = Files.createTempDirectory("api-logs");
+        try (AsyncLogWriter<Integer> writer = new AsyncLogWriter<>(directory, "test", 1000,
+                AsyncLogWriter.OverflowPolicy.BLOCK, 200, false, i -> Map.of("id", i))) {
+            for (int i = 0; i < 100; i++) {
+                Assert.assertTrue(writer.submit(i));
+            }
+
+            List<String> lines = new ArrayList<>();
+            writer.readLines(lines::add);
+
+            Assert.assertEquals(lines.size(), 100);
+            Assert.assertEquals(lines.get(0), "{\"id\":0}");
+            Assert.assertEquals(lines.get(99), "{\"id\":99}");
+            Assert.assertTrue(writer.getLogFiles().size() > 1, "Expected size-based rotation");
+        }
+    }
+
+    @Test(description = "Compressed files can be streamed back")
+    public void testGzipRoundTrip() throws IOException {
+        Path directory = Files.createTempDirectory("api-logs");
+        try (AsyncLogWriter<String> writer = new AsyncLogWriter<>(directory, "test", 100,
+                AsyncLogWriter.OverflowPolicy.BLOCK, 0, true, s -> Map.of("value", s))) {
+            writer.submit("first");
+            writer.submit("second");
+
+            List<String> lines = new ArrayList<>();
+            writer.readLines(lines::add);
+
+            Assert.assertEquals(lines, List.of("{\"value\":\"first\"}", "{\"value\":\"second\"}"));
+            Assert.assertTrue(writer.getLogFiles().get(0).toString().endsWith(".ndjson.gz"));
+        }
+    }
+
+    @Test(description = "Drop policy never blocks and counts dropped entries")
+    public void testDropPolicy() throws IOException {
+        Path directory = Files.createTempDirectory("api-logs");
+        AsyncLogWriter<Integer> writer = new AsyncLogWriter<>(directory, "test", 1,
+            AsyncLogWriter.OverflowPolicy.DROP, 0, false, i -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Map.of("id", i);
+            });
+
+        for (int i = 0; i < 20; i++) {
+            writer.submit(i);
+        }
+        writer.close();
+
+        Assert.assertTrue(writer.getDroppedCount() > 0);
+        Assert.assertEquals(writer.getWrittenCount() + writer.getDroppedCount(), 20);
+    }
+
+    @Test(description = "Entries accepted while the writer closes are written, and blocked producers are released")
+    public void testSubmitRacingClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            Path directory = Files.createTempDirectory("api-logs");
+            AsyncLogWriter<Integer> writer = new AsyncLogWriter<>(directory, "test", 4,
+                AsyncLogWriter.OverflowPolicy.BLOCK, 0, false, i -> Map.of("id", i));
+            AtomicLong accepted = new AtomicLong();
+            ExecutorService producers = Executors.newFixedThreadPool(4);
+            for (int p = 0; p < 4; p++) {
+                producers.submit(() -> {
+                    for (int i = 0; writer.isRunning() || i < 100; i++) {
+                        if (writer.submit(i)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            Thread.sleep(5);
+            writer.close();
+
+            producers.shutdown();
+            Assert.assertTrue(producers.awaitTermination(5, TimeUnit.SECONDS), "a producer is still blocked");
+            Assert.assertEquals(writer.getWrittenCount(), accepted.get(), "accepted entries were lost");
+            Assert.assertFalse(writer.submit(-1));
+        }
+    }
+
+    @Test(description = "Asynchronous request logging keeps no state for completed requests")
+    public void testAsyncLoggerReleasesCompletedRequests() throws IOException {
+        Path directory = Files.createTempDirectory("api-logs");
+        RequestResponseLogger requestLogger = new RequestResponseLogger(new ApiTestFramework.ApiConfiguration.Builder()
+            .enableRequestLogging(true)
+            .asyncRequestLogging(true)
+            .requestLogDirectory(directory.toString())
+            .maxRequestLogEntries(100)
+            .build());
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost/employees")).GET().build();
+        try {
+            for (int i = 0; i < 1_000; i++) {
+                String requestId = requestLogger.logRequest(request, null);
+                requestLogger.logResponse(requestId,
+                    new ApiTestFramework.ApiResponse<>(200, "OK", Map.of(), null, 1, "{}", requestId));
+            }
+            Assert.assertTrue(requestLogger.getTrackedRequestCount() <= 2 * 100 + 1,
+                "stale request IDs are not compacted: " + requestLogger.getTrackedRequestCount());
+            Assert.assertTrue(requestLogger.getAllRequestLogEntries().isEmpty());
+
+            List<String> inFlight = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                inFlight.add(requestLogger.logRequest(request, null));
+            }
+            // Eviction skips the stale IDs and drops the oldest in-flight requests only
+            Assert.assertEquals(requestLogger.getAllRequestLogEntries().size(), 100);
+            Assert.assertNull(requestLogger.getRequestLogEntry(inFlight.get(49)));
+            Assert.assertNotNull(requestLogger.getRequestLogEntry(inFlight.get(50)));
+            Assert.assertEquals(requestLogger.generateLogSummary().get("totalRequests"), 1_000L);
+        } finally {
+            requestLogger.close();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.ResiliencePolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the non-blocking executeRequestAsync built on HttpClient.sendAsync
+ */
+public class AsyncRequestTest {
+
+    private static final long SLOW_MILLIS = 300;
+    private static final int ASYNC_THREADS = 2;
+
+    private final AtomicInteger recoveringHits = new AtomicInteger();
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/slow", exchange -> {
+            try {
+                Thread.sleep(SLOW_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubHttpServer.respond(exchange, 200, "{\"slow\":true}");
+        });
+        server.route("/recovering", exchange -> {
+            int hit = recoveringHits.incrementAndGet();
+            StubHttpServer.respond(exchange, hit == 1 ? 503 : 200, "{\"hit\":" + hit + "}");
+        });
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableContractValidation(false)
+            .asyncExecutorThreads(ASYNC_THREADS)
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("slow", "/slow",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("recovering", "/recovering",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+            .resiliencePolicy(new ResiliencePolicy.Builder()
+                .maxAttempts(3)
+                .baseDelay(Duration.ofMillis(50))
+                .retryOnStatus(503)
+                .build())
+            .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.close();
+    }
+
+    @Test(description = "The call returns before the response arrives")
+    public void testReturnsImmediately() throws Exception {
+        long start = System.nanoTime();
+        CompletableFuture<ApiTestFramework.ApiResponse<String>> future =
+            framework.executeRequestAsync("slow", null, null, null, String.class);
+        long returnedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertTrue(returnedMillis < SLOW_MILLIS, "executeRequestAsync blocked for " + returnedMillis + "ms");
+        Assert.assertFalse(future.isDone());
+        ApiTestFramework.ApiResponse<String> response = future.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertNotNull(response.getRequestId());
+    }
+
+    @Test(description = "In-flight requests do not hold async executor threads")
+    public void testInFlightRequestsHoldNoThreads() throws Exception {
+        int requests = 20;
+        long start = System.nanoTime();
+        List<CompletableFuture<ApiTestFramework.ApiResponse<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(framework.executeRequestAsync("slow", null, null, null, String.class));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        for (CompletableFuture<ApiTestFramework.ApiResponse<String>> future : futures) {
+            Assert.assertEquals(future.get().getStatusCode(), 200);
+        }
+        // A thread per in-flight request would need requests / ASYNC_THREADS sequential rounds
+        long blockingMillis = SLOW_MILLIS * requests / ASYNC_THREADS;
+        Assert.assertTrue(elapsedMillis < blockingMillis / 2, "took " + elapsedMillis + "ms");
+    }
+
+    @Test(description = "A retryable status is retried on the timer and the future completes with the retry")
+    public void testRetry() throws Exception {
+        ApiTestFramework.ApiResponse<String> response = framework.executeRequestAsync("recovering",
+            null, null, null, String.class).get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(recoveringHits.get(), 2);
+        Assert.assertEquals(framework.getEndpointMetrics("recovering").getRetryCount(), 1);
+    }
+
+    @Test(description = "Failures complete the future exceptionally with ApiTestException")
+    public void testFailure() {
+        ExecutionException unknown = Assert.expectThrows(ExecutionException.class,
+            () -> framework.executeRequestAsync("missing", null, null, null, String.class).get());
+        Assert.assertTrue(unknown.getCause() instanceof ApiTestFramework.ApiTestException, unknown.toString());
+    }
+}
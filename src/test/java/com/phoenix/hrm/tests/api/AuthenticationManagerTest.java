@@ -0,0 +1,177 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.AuthenticationManager;
+import com.phoenix.hrm.api.MockHrmServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the per-principal token cache in AuthenticationManager
+ */
+public class AuthenticationManagerTest {
+
+    private AuthenticationManager authManager;
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        if (authManager != null) {
+            authManager.shutdown();
+        }
+    }
+
+    @Test(description = "Concurrent callers share a single login")
+    public void testSingleFlightLogin() throws Exception {
+        authManager = newManager(Duration.ofSeconds(30), Duration.ofMinutes(1));
+        AtomicInteger logins = new AtomicInteger();
+        authManager.registerPrincipal("svc", AuthenticationManager.AuthenticationScheme.BEARER, () -> {
+            Thread.sleep(100);
+            return success("token-" + logins.incrementAndGet(), LocalDateTime.now().plusHours(1));
+        });
+
+        int threads = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> tokens = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                tokens.add(executor.submit(() -> {
+                    start.await();
+                    return authManager.getPrincipalToken("svc");
+                }));
+            }
+            start.countDown();
+
+            Set<String> distinct = new HashSet<>();
+            for (Future<String> token : tokens) {
+                distinct.add(token.get());
+            }
+            Assert.assertEquals(distinct, Set.of("token-1"));
+            Assert.assertEquals(logins.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Tokens inside the refresh window are served while a background refresh runs")
+    public void testProactiveRefresh() throws Exception {
+        authManager = newManager(Duration.ofMinutes(5), Duration.ofMinutes(1));
+        AtomicInteger logins = new AtomicInteger();
+        authManager.registerPrincipal("svc", AuthenticationManager.AuthenticationScheme.BEARER,
+            () -> success("token-" + logins.incrementAndGet(), LocalDateTime.now().plusMinutes(2)));
+
+        Assert.assertEquals(authManager.getPrincipalToken("svc"), "token-1");
+        // Expiry is inside the 5 minute skew, so this call triggers a refresh but is not blocked by it
+        Assert.assertEquals(authManager.getPrincipalToken("svc"), "token-1");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (logins.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(logins.get(), 2);
+        Assert.assertEquals(authManager.getPrincipalToken("svc"), "token-2");
+    }
+
+    @Test(description = "Expired tokens are evicted in the background and trigger a new login")
+    public void testBackgroundEviction() throws Exception {
+        authManager = newManager(Duration.ZERO, Duration.ofMillis(50));
+        AtomicInteger logins = new AtomicInteger();
+        authManager.registerPrincipal("svc", AuthenticationManager.AuthenticationScheme.BEARER,
+            () -> success("token-" + logins.incrementAndGet(), LocalDateTime.now().plusNanos(200_000_000)));
+
+        String token = authManager.getPrincipalToken("svc");
+        Assert.assertNotNull(authManager.getTokenInfo(token));
+
+        Thread.sleep(600);
+        Assert.assertNull(authManager.getTokenInfo(token));
+        Assert.assertTrue((Long) authManager.getAuthenticationStatistics().get("evictedTokens") >= 1);
+        Assert.assertEquals(authManager.getPrincipalToken("svc"), "token-2");
+    }
+
+    @Test(description = "Failed logins surface as ApiTestException")
+    public void testLoginFailure() {
+        authManager = newManager(Duration.ofSeconds(30), Duration.ofMinutes(1));
+        authManager.registerPrincipal("nobody", "wrong");
+
+        try {
+            authManager.getPrincipalToken("nobody");
+            Assert.fail("Expected login failure");
+        } catch (ApiTestFramework.ApiTestException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Invalid credentials"), e.getCause().getMessage());
+        }
+    }
+
+    @Test(description = "Principal tokens reach the server; concurrent first requests share one login")
+    public void testPrincipalTokenSentEndToEnd() throws Exception {
+        MockHrmServer server = new MockHrmServer.Builder().requireAuth(true).build();
+        server.start();
+        ApiTestFramework framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .build());
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Assert.assertEquals(framework.executeRequest("getEmployees", null, null, null, JsonNode.class)
+                .getStatusCode(), 401);
+
+            framework.registerAuthPrincipal("admin", () -> {
+                Thread.sleep(50);
+                ApiTestFramework.ApiResponse<JsonNode> login = framework.executeRequest("login", null, null,
+                    Map.of("username", "Admin", "password", "admin123"), JsonNode.class);
+                return new AuthenticationManager.AuthenticationResult(login.isSuccess(),
+                    "HTTP " + login.getStatusCode(), login.getBody().path("accessToken").asText(null),
+                    LocalDateTime.now().plusSeconds(login.getBody().path("expiresIn").asLong()), null);
+            });
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                statuses.add(executor.submit(() -> {
+                    framework.useAuthPrincipal("admin");
+                    start.await();
+                    return framework.executeRequest("getEmployees", null, null, null, JsonNode.class)
+                        .getStatusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                Assert.assertEquals(status.get().intValue(), 200);
+            }
+
+            Assert.assertEquals(server.getRequestCounts().get("login").longValue(), 1);
+            Assert.assertEquals(server.getRejectedUnauthenticated(), 1);
+        } finally {
+            executor.shutdownNow();
+            framework.shutdown();
+            server.stop();
+        }
+    }
+
+    private AuthenticationManager newManager(Duration refreshSkew, Duration evictionInterval) {
+        return new AuthenticationManager(new ApiTestFramework.ApiConfiguration.Builder()
+            .tokenRefreshSkew(refreshSkew)
+            .tokenEvictionInterval(evictionInterval)
+            .build());
+    }
+
+    private static AuthenticationManager.AuthenticationResult success(String token, LocalDateTime expiry) {
+        return new AuthenticationManager.AuthenticationResult(true, "ok", token, expiry, null);
+    }
+}
@@ -0,0 +1,164 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.BatchExecutor;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import com.phoenix.hrm.api.ResiliencePolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for batched request execution
+ */
+public class BatchExecutorTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger stalledHits = new AtomicInteger();
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/employees", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxObservedInFlight.accumulateAndGet(current, Math::max);
+            received.incrementAndGet();
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                Thread.sleep(20);
+                StubHttpServer.respond(exchange, body.contains("\"invalid\"") ? 400 : 201, body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.route("/stalled", exchange -> {
+            stalledHits.incrementAndGet();
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubHttpServer.respond(exchange, 503, "{}");
+        });
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("createBatchEmployee", "/employees",
+            ApiTestFramework.ApiEndpoint.HttpMethod.POST).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("stalledEmployees", "/stalled",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+            .resiliencePolicy(new ResiliencePolicy.Builder()
+                .maxAttempts(3)
+                .baseDelay(Duration.ofMillis(1))
+                .retryOnStatus(503)
+                .build())
+            .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.close();
+    }
+
+    @Test(description = "Collect-all runs every request within the in-flight limit")
+    public void testCollectAll() {
+        resetCounters();
+        List<BatchExecutor.BatchRequest> requests = employees(100, 10, 55);
+        List<Integer> streamed = new ArrayList<>();
+
+        BatchExecutor.BatchResult result = framework.executeBatch(requests,
+            new BatchExecutor.BatchOptions.Builder().maxInFlight(8).build(),
+            item -> streamed.add(item.getIndex()));
+
+        Assert.assertEquals(result.getSubmitted(), 100);
+        Assert.assertEquals(result.getSkipped(), 0);
+        Assert.assertEquals(result.getSuccessCount(), 98);
+        Assert.assertEquals(result.getFailures().stream().map(BatchExecutor.BatchItemResult::getIndex).sorted()
+            .toList(), List.of(10, 55));
+        Assert.assertEquals(result.getFailures().get(0).getResponse().getStatusCode(), 400);
+        Assert.assertTrue(maxObservedInFlight.get() <= 8, "max in flight: " + maxObservedInFlight.get());
+        Assert.assertEquals(streamed, result.getResults().stream().map(BatchExecutor.BatchItemResult::getIndex)
+            .toList());
+        Assert.assertEquals(result.getResultsInRequestOrder().get(42).getIndex(), 42);
+    }
+
+    @Test(description = "Stop-on-first-failure stops dispatching after a failure")
+    public void testStopOnFirstFailure() {
+        resetCounters();
+        List<BatchExecutor.BatchRequest> requests = employees(200, 5);
+
+        BatchExecutor.BatchResult result = framework.executeBatch(requests,
+            new BatchExecutor.BatchOptions.Builder()
+                .maxInFlight(4)
+                .failureMode(BatchExecutor.FailureMode.STOP_ON_FIRST_FAILURE)
+                .build());
+
+        Assert.assertFalse(result.isAllSuccessful());
+        Assert.assertEquals(result.getFailureCount(), 1);
+        Assert.assertTrue(result.getSkipped() > 150, result.toString());
+        Assert.assertEquals(received.get(), result.getSubmitted());
+    }
+
+    @Test(description = "Unknown endpoints fail per item rather than the whole batch")
+    public void testPerItemErrors() {
+        BatchExecutor.BatchResult result = framework.executeBatch(
+            List.of(BatchExecutor.BatchRequest.of("noSuchEndpoint", null, String.class)),
+            new BatchExecutor.BatchOptions.Builder().build());
+
+        Assert.assertEquals(result.getFailureCount(), 1);
+        Assert.assertTrue(result.getFailures().get(0).getError() instanceof ApiTestFramework.ApiTestException);
+    }
+
+    @Test(description = "Timed-out items have their exchange cancelled, so no late retry is sent")
+    public void testTimeoutCancelsExchange() throws Exception {
+        stalledHits.set(0);
+        long start = System.currentTimeMillis();
+        BatchExecutor.BatchResult result = framework.executeBatch(List.of(
+                BatchExecutor.BatchRequest.of("stalledEmployees", null, String.class),
+                BatchExecutor.BatchRequest.of("stalledEmployees", null, String.class)),
+            new BatchExecutor.BatchOptions.Builder().timeout(Duration.ofMillis(200)).build());
+
+        Assert.assertTrue(System.currentTimeMillis() - start < 1_000, "batch waited for the stalled responses");
+        Assert.assertEquals(result.getFailureCount(), 2);
+        // Uncancelled exchanges would see the 503s after a second and retry them
+        Thread.sleep(1_500);
+        Assert.assertEquals(stalledHits.get(), 2);
+        PerformanceMetrics.EndpointMetrics metrics = framework.getEndpointMetrics("stalledEmployees");
+        Assert.assertEquals(metrics == null ? 0 : metrics.getRetryCount(), 0);
+    }
+
+    private List<BatchExecutor.BatchRequest> employees(int count, Integer... invalidIndexes) {
+        List<Integer> invalid = List.of(invalidIndexes);
+        List<BatchExecutor.BatchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> employee = Map.of("firstName", "Emp" + i,
+                "status", invalid.contains(i) ? "invalid" : "ACTIVE");
+            requests.add(BatchExecutor.BatchRequest.of("createBatchEmployee", employee, Map.class));
+        }
+        return requests;
+    }
+
+    private void resetCounters() {
+        maxObservedInFlight.set(0);
+        received.set(0);
+    }
+}
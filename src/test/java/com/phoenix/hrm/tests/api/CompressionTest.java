@@ -0,0 +1,162 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.CompressionBodyHandlers;
+import com.phoenix.hrm.api.MockHrmServer;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Unit tests for response compression negotiation and wire-size accounting
+ */
+public class CompressionTest {
+
+    private static final String TEXT = "{\"data\":\"" + "Linda Anderson, Engineering; ".repeat(200) + "\"}";
+
+    private MockHrmServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() {
+        server = new MockHrmServer.Builder()
+            .defaultProfile(MockHrmServer.EndpointProfile.builder().paddingBytes(2000).compression(true).build())
+            .build();
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .responseCompression(true)
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("getDepartmentsUncompressed",
+            "/departments", ApiTestFramework.ApiEndpoint.HttpMethod.GET).responseCompression(false).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("createEmployee", "/employees",
+            ApiTestFramework.ApiEndpoint.HttpMethod.POST).requestCompression(true).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.stop();
+    }
+
+    @Test(description = "Compressed responses are decoded transparently and counted on the wire and decoded")
+    public void testResponseCompression() throws Exception {
+        ApiTestFramework.ApiResponse<JsonNode> response = framework.executeRequest("getEmployees", null, null,
+            null, JsonNode.class);
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getFirstHeader("Content-Encoding"), "gzip");
+        Assert.assertEquals(response.getBody().get("data").size(), 20);
+
+        PerformanceMetrics.EndpointMetrics compressed = framework.getEndpointMetrics("getEmployees");
+        Assert.assertEquals(compressed.getCompressedResponses(), 1);
+        Assert.assertTrue(compressed.getResponseBodyBytes() > 40_000, String.valueOf(compressed.getResponseBodyBytes()));
+        Assert.assertTrue(compressed.getResponseWireBytes() * 10 < compressed.getResponseBodyBytes(),
+            compressed.getResponseWireBytes() + " on the wire");
+        Assert.assertTrue(compressed.getDecodeNanos() > 0);
+
+        // The async path decodes through the same handler
+        ApiTestFramework.ApiResponse<JsonNode> async = framework.executeRequestAsync("getEmployees", null, null,
+            null, JsonNode.class).join();
+        Assert.assertEquals(async.getBody().get("data").size(), 20);
+        Assert.assertEquals(compressed.getCompressedResponses(), 2);
+
+        ApiTestFramework.ApiResponse<String> plain = framework.executeRequest("getDepartmentsUncompressed", null,
+            null, null, String.class);
+        Assert.assertNull(plain.getFirstHeader("Content-Encoding"));
+        PerformanceMetrics.EndpointMetrics uncompressed = framework.getEndpointMetrics("getDepartmentsUncompressed");
+        Assert.assertEquals(uncompressed.getCompressedResponses(), 0);
+        Assert.assertEquals(uncompressed.getResponseWireBytes(), uncompressed.getResponseBodyBytes());
+        Assert.assertEquals(uncompressed.getResponseCompressionRatio(), 1.0);
+    }
+
+    @Test(description = "Large request bodies are gzipped when the endpoint asks for it")
+    public void testRequestCompression() {
+        ApiTestFramework.ApiResponse<JsonNode> created = framework.executeRequest("createEmployee", null, null,
+            Map.of("firstName", "Odis", "notes", "x".repeat(4000)), JsonNode.class);
+
+        Assert.assertEquals(created.getStatusCode(), 201);
+        Assert.assertEquals(created.getBody().get("data").get("notes").asText().length(), 4000);
+        PerformanceMetrics.EndpointMetrics metrics = framework.getEndpointMetrics("createEmployee");
+        Assert.assertTrue(metrics.getRequestBodyBytes() > 4000);
+        Assert.assertTrue(metrics.getRequestWireBytes() < metrics.getRequestBodyBytes() / 10,
+            metrics.getRequestWireBytes() + " bytes sent");
+    }
+
+    @Test(description = "gzip, zlib and raw deflate bodies decode one byte at a time; truncation fails")
+    public void testDecoderFraming() throws Exception {
+        byte[] plain = TEXT.getBytes(StandardCharsets.UTF_8);
+
+        Assert.assertEquals(decodeBytewise("gzip", CompressionBodyHandlers.gzip(plain), null), TEXT);
+        Assert.assertEquals(decodeBytewise("deflate", deflate(plain, false), null), TEXT);
+        Assert.assertEquals(decodeBytewise("deflate", deflate(plain, true), null), TEXT);
+        Assert.assertEquals(decodeBytewise("br", plain, null), TEXT, "unknown codings pass through");
+
+        AtomicLong wire = new AtomicLong();
+        AtomicLong decoded = new AtomicLong();
+        byte[] gzipped = CompressionBodyHandlers.gzip(plain);
+        decodeBytewise("gzip", gzipped, (encoding, wireBytes, decodedBytes, nanos) -> {
+            wire.set(wireBytes);
+            decoded.set(decodedBytes);
+        });
+        Assert.assertEquals(wire.get(), gzipped.length);
+        Assert.assertEquals(decoded.get(), plain.length);
+
+        byte[] truncated = Arrays.copyOf(gzipped, gzipped.length / 2);
+        CompletionException error = Assert.expectThrows(CompletionException.class,
+            () -> decodeBytewise("gzip", truncated, null));
+        Assert.assertTrue(error.getCause().getMessage().contains("Truncated"), error.getCause().getMessage());
+    }
+
+    private static String decodeBytewise(String encoding, byte[] body,
+                                         CompressionBodyHandlers.TransferListener listener) {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Content-Encoding", List.of(encoding)), (name, value) -> true);
+        HttpResponse.ResponseInfo info = new HttpResponse.ResponseInfo() {
+            @Override public int statusCode() { return 200; }
+            @Override public HttpHeaders headers() { return headers; }
+            @Override public HttpClient.Version version() { return HttpClient.Version.HTTP_1_1; }
+        };
+        HttpResponse.BodySubscriber<String> subscriber = CompressionBodyHandlers
+            .decoding(HttpResponse.BodyHandlers.ofString(), listener).apply(info);
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override public void request(long n) { }
+            @Override public void cancel() { }
+        });
+        for (byte b : body) {
+            subscriber.onNext(List.of(ByteBuffer.wrap(new byte[] {b})));
+        }
+        subscriber.onComplete();
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+
+    private static byte[] deflate(byte[] body, boolean raw) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(out, deflater)) {
+            deflating.write(body);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.ContractValidator;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+/**
+ * Unit tests for sampled and asynchronous contract validation
+ */
+public class ContractValidationPolicyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String employeeSchema;
+    private ContractValidator validator;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        Path schemaDir = Files.createTempDirectory("phoenix-policy-schemas");
+        Files.writeString(schemaDir.resolve("employee.json"),
+            "{\"type\":\"object\",\"required\":[\"empNumber\"],\"properties\":{\"empNumber\":{\"type\":\"integer\"}}}");
+        employeeSchema = schemaDir.resolve("employee.json").toAbsolutePath().toString();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        if (validator != null) {
+            validator.shutdown();
+        }
+    }
+
+    @Test(description = "Policies select the expected response sequence numbers")
+    public void testPolicySelection() {
+        Assert.assertEquals(selected(ContractValidator.ValidationPolicy.always(), 5), List.of(1L, 2L, 3L, 4L, 5L));
+        Assert.assertEquals(selected(ContractValidator.ValidationPolicy.sampled(4), 12), List.of(1L, 5L, 9L));
+        Assert.assertEquals(selected(ContractValidator.ValidationPolicy.firstThenSampled(3, 10), 25),
+            List.of(1L, 2L, 3L, 4L, 14L, 24L));
+    }
+
+    @Test(description = "Sampled async validation folds results into the report and fails at the barrier")
+    public void testAsyncSampledValidationBarrier() throws Exception {
+        validator = newValidator(ContractValidator.ValidationPolicy.sampled(5), true);
+        ApiTestFramework.ApiEndpoint endpoint = registerEndpoint("getEmployeePolicy");
+
+        for (int i = 0; i < 100; i++) {
+            validator.submitValidation(endpoint, response("{\"empNumber\":\"not-a-number\"}"));
+        }
+
+        try {
+            validator.verifyContracts(Duration.ofSeconds(10));
+            Assert.fail("Expected contract violations");
+        } catch (ApiTestFramework.ApiTestException e) {
+            Assert.assertTrue(e.getMessage().startsWith("20 contract validation(s) failed"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("/empNumber"), e.getMessage());
+        }
+
+        Map<String, Object> report = validator.generateValidationReport();
+        Assert.assertEquals(report.get("responsesSubmitted"), 100L);
+        Assert.assertEquals(report.get("skippedBySampling"), 80L);
+        Assert.assertEquals(report.get("totalValidations"), 20L);
+        Assert.assertEquals(report.get("pendingValidations"), 0L);
+        Assert.assertEquals(report.get("validationPolicy"), "1-in-5");
+
+        // Failures are reported once; the next barrier only sees new results
+        validator.verifyContracts(Duration.ofSeconds(10));
+    }
+
+    @Test(description = "A full validation queue drops work instead of blocking the caller")
+    public void testQueueOverflowDrops() throws Exception {
+        validator = new ContractValidator(new ApiTestFramework.ApiConfiguration.Builder()
+            .enableContractValidation(true)
+            .asyncContractValidation(true)
+            .contractValidationThreads(1)
+            .contractValidationQueueCapacity(1)
+            .build());
+        ApiTestFramework.ApiEndpoint endpoint = registerEndpoint("getEmployeeOverflow");
+
+        for (int i = 0; i < 500; i++) {
+            validator.submitValidation(endpoint, response("{\"empNumber\":" + i + "}"));
+        }
+        validator.verifyContracts(Duration.ofSeconds(10));
+
+        Map<String, Object> report = validator.generateValidationReport();
+        long validated = (Long) report.get("totalValidations");
+        long dropped = (Long) report.get("droppedValidations");
+        Assert.assertTrue(dropped > 0, report.toString());
+        Assert.assertEquals(validated + dropped, 500L);
+    }
+
+    @Test(description = "History can be read while the pool records results, and stays bounded")
+    public void testHistoryReadsDuringAsyncValidation() throws Exception {
+        validator = newValidator(ContractValidator.ValidationPolicy.always(), true);
+        ApiTestFramework.ApiEndpoint endpoint = registerEndpoint("getEmployeeHistory");
+
+        for (int i = 0; i < 10_500; i++) {
+            validator.submitValidation(endpoint, response("{\"empNumber\":" + i + "}"));
+            if (i % 100 == 0) {
+                Assert.assertTrue(validator.getFailedValidations().isEmpty());
+                validator.getValidationHistory("getEmployeeHistory");
+            }
+        }
+        validator.verifyContracts(Duration.ofSeconds(30));
+
+        // A full queue may drop some submissions; the history keeps the latest 10,000 of the rest
+        long validated = 10_500L - (Long) validator.generateValidationReport().get("droppedValidations");
+        Assert.assertEquals(validator.getValidationHistory("getEmployeeHistory").size(), Math.min(validated, 10_000L));
+    }
+
+    private ContractValidator newValidator(ContractValidator.ValidationPolicy policy, boolean async) {
+        return new ContractValidator(new ApiTestFramework.ApiConfiguration.Builder()
+            .enableContractValidation(true)
+            .contractValidationPolicy(policy)
+            .asyncContractValidation(async)
+            .contractValidationThreads(2)
+            .build());
+    }
+
+    private ApiTestFramework.ApiEndpoint registerEndpoint(String name) {
+        validator.registerContract(new ContractValidator.ContractDefinition(name, null, employeeSchema, true));
+        return new ApiTestFramework.ApiEndpoint(name, "/employees/1", ApiTestFramework.ApiEndpoint.HttpMethod.GET);
+    }
+
+    private ApiTestFramework.ApiResponse<Object> response(String json) throws Exception {
+        return new ApiTestFramework.ApiResponse<>(200, "OK",
+            Map.of("content-type", List.of("application/json")), objectMapper.readTree(json), 5, null);
+    }
+
+    private static List<Long> selected(ContractValidator.ValidationPolicy policy, long count) {
+        return LongStream.rangeClosed(1, count).filter(policy::selects).boxed().toList();
+    }
+}
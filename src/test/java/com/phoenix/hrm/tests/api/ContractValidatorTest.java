@@ -0,0 +1,128 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.ContractValidator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for compiled JSON Schema validation in ContractValidator
+ */
+public class ContractValidatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ContractValidator validator;
+    private String employeeSchema;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        Path schemaDir = Files.createTempDirectory("phoenix-schemas");
+        Files.writeString(schemaDir.resolve("address.json"), "{"
+            + "\"type\":\"object\","
+            + "\"required\":[\"city\"],"
+            + "\"properties\":{\"city\":{\"type\":\"string\"},\"zip\":{\"type\":\"string\",\"pattern\":\"^[0-9]{5}$\"}}"
+            + "}");
+        Files.writeString(schemaDir.resolve("employee.json"), "{"
+            + "\"$schema\":\"http://json-schema.org/draft-04/schema#\","
+            + "\"type\":\"object\","
+            + "\"required\":[\"empNumber\",\"status\"],"
+            + "\"properties\":{"
+            + "\"empNumber\":{\"type\":\"integer\",\"minimum\":1},"
+            + "\"email\":{\"type\":\"string\",\"format\":\"email\"},"
+            + "\"status\":{\"enum\":[\"ACTIVE\",\"TERMINATED\"]},"
+            + "\"address\":{\"$ref\":\"address.json\"},"
+            + "\"skills\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}"
+            + "}}");
+        employeeSchema = schemaDir.resolve("employee.json").toAbsolutePath().toString();
+
+        validator = new ContractValidator(new ApiTestFramework.ApiConfiguration.Builder()
+            .enableContractValidation(true)
+            .build());
+    }
+
+    @Test(description = "Valid document passes nested, enum, format and $ref checks")
+    public void testValidDocument() throws Exception {
+        JsonNode employee = objectMapper.readTree("{\"empNumber\":7,\"email\":\"a@b.com\",\"status\":\"ACTIVE\","
+            + "\"address\":{\"city\":\"Pune\",\"zip\":\"41100\"},\"skills\":[\"java\"]}");
+
+        Assert.assertTrue(validator.getSchemaViolations(employee, employeeSchema).isEmpty());
+        Assert.assertTrue(validator.validateJsonSchema(employee, employeeSchema));
+    }
+
+    @Test(description = "Violations are reported with their JSON pointer")
+    public void testViolations() throws Exception {
+        JsonNode employee = objectMapper.readTree("{\"empNumber\":0,\"email\":\"not-an-email\",\"status\":\"GONE\","
+            + "\"address\":{\"zip\":\"ABC\"},\"skills\":[1]}");
+
+        List<String> violations = validator.getSchemaViolations(employee, employeeSchema);
+
+        Assert.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/empNumber:")), violations.toString());
+        Assert.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/email:")), violations.toString());
+        Assert.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/status:")), violations.toString());
+        Assert.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/address:")), violations.toString());
+        Assert.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/address/zip:")), violations.toString());
+        Assert.assertTrue(violations.stream().anyMatch(v -> v.startsWith("/skills/0:")), violations.toString());
+    }
+
+    @Test(description = "Missing schemas fail validation without throwing")
+    public void testMissingSchema() {
+        Assert.assertFalse(validator.validateJsonSchema("{}", "schemas/does-not-exist.json"));
+    }
+
+    @Test(description = "A schema that failed to load is retried, so one added later is used")
+    public void testSchemaFailureNotCachedForever() throws Exception {
+        Path schema = Files.createTempDirectory("phoenix-late-schema").resolve("late.json");
+        Assert.assertFalse(validator.validateJsonSchema("{\"id\":1}", schema.toString()));
+
+        Files.writeString(schema, "{\"type\":\"object\",\"required\":[\"id\"]}");
+        Thread.sleep(1_100);
+
+        Assert.assertTrue(validator.validateJsonSchema("{\"id\":1}", schema.toString()));
+        Assert.assertFalse(validator.validateJsonSchema("{}", schema.toString()));
+    }
+
+    @Test(description = "Compiled schemas are reused across validations")
+    public void testCompiledSchemaReuse() throws Exception {
+        JsonNode employee = objectMapper.readTree("{\"empNumber\":7,\"status\":\"ACTIVE\"}");
+        validator.getSchemaViolations(employee, employeeSchema);
+
+        int iterations = 2_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            validator.getSchemaViolations(employee, employeeSchema);
+        }
+        long averageMicros = (System.nanoTime() - start) / iterations / 1_000;
+
+        // Recompiling per call costs milliseconds; a cached validator stays far below that
+        Assert.assertTrue(averageMicros < 500, "Average validation took " + averageMicros + "us");
+    }
+
+    @Test(description = "A response tree parsed by the caller is validated without re-parsing the raw body")
+    public void testSuppliedResponseTree() throws Exception {
+        validator.registerContract(new ContractValidator.ContractDefinition("getEmployeeTree", null, employeeSchema, true));
+        ApiTestFramework.ApiEndpoint endpoint = new ApiTestFramework.ApiEndpoint("getEmployeeTree", "/employees/7",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET);
+        // The raw text is deliberately not JSON: validation only succeeds if the supplied tree is used
+        ApiTestFramework.ApiResponse<String> response = new ApiTestFramework.ApiResponse<>(200, "OK",
+            Map.of("content-type", List.of("application/json")), "typed body", 5, "not json");
+
+        JsonNode valid = objectMapper.readTree("{\"empNumber\":7,\"status\":\"ACTIVE\"}");
+        Assert.assertTrue(validator.validateResponse(endpoint, response, valid).isValid());
+
+        JsonNode invalid = objectMapper.readTree("{\"empNumber\":0,\"status\":\"ACTIVE\"}");
+        List<String> errors = validator.validateResponse(endpoint, response, invalid).getErrors();
+        Assert.assertTrue(errors.stream().anyMatch(e -> e.startsWith("/empNumber:")), errors.toString());
+
+        // Without a tree the validator falls back to parsing the raw text
+        errors = validator.validateResponse(endpoint, response).getErrors();
+        Assert.assertTrue(errors.stream().anyMatch(e -> e.startsWith("Schema validation error")), errors.toString());
+    }
+}
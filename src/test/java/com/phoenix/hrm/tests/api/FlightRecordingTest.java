@@ -0,0 +1,139 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.CompressionBodyHandlers;
+import com.phoenix.hrm.monitoring.FlightRecording;
+import com.phoenix.hrm.monitoring.PageActionEvent;
+import com.phoenix.hrm.monitoring.SqlStatementEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for the Flight Recorder events and recording profile
+ */
+public class FlightRecordingTest {
+
+    private static final String DEPARTMENTS = IntStream.range(0, 50)
+        .mapToObj(i -> "{\"id\":" + i + ",\"name\":\"Engineering\"}")
+        .collect(Collectors.joining(",", "[", "]"));
+    private static final byte[] GZIPPED_DEPARTMENTS =
+        CompressionBodyHandlers.gzip(DEPARTMENTS.getBytes(StandardCharsets.UTF_8));
+
+    private StubHttpServer server;
+    private Path recordingDir;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/employees", exchange -> StubHttpServer.respond(exchange, 200, "[{\"id\":1}]"));
+        server.route("/departments", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, GZIPPED_DEPARTMENTS.length);
+            exchange.getResponseBody().write(GZIPPED_DEPARTMENTS);
+            exchange.close();
+        });
+        server.start();
+        recordingDir = Files.createTempDirectory("phoenix-jfr");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws Exception {
+        server.close();
+        try (var files = Files.list(recordingDir)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(recordingDir);
+    }
+
+    @Test(description = "A configured recording captures one event per API request")
+    public void testApiRequestEventsRecorded() throws Exception {
+        Path destination = recordingDir.resolve("api.jfr");
+        ApiTestFramework framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .flightRecording(destination)
+            .build());
+        try {
+            framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("listEmployees", "/employees",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+            framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("listDepartments", "/departments",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+            framework.executeRequest("listEmployees", null, null, null, String.class);
+            framework.executeRequestAsync("listEmployees", null, null, null, String.class).join();
+            framework.executeRequest("listDepartments", null, null, null, String.class);
+        } finally {
+            framework.shutdown();
+        }
+
+        List<RecordedEvent> events = eventsNamed(destination, "com.phoenix.hrm.ApiRequest");
+        Assert.assertEquals(events.size(), 3);
+        // The async request's event may be committed after the next request's
+        Map<String, List<RecordedEvent>> byEndpoint = events.stream()
+            .collect(Collectors.groupingBy(recorded -> recorded.getString("endpoint")));
+        Assert.assertEquals(byEndpoint.get("listEmployees").size(), 2);
+        for (RecordedEvent event : byEndpoint.get("listEmployees")) {
+            Assert.assertEquals(event.getString("method"), "GET");
+            Assert.assertEquals(event.getInt("statusCode"), 200);
+            Assert.assertEquals(event.getLong("wireBytes"), 10L);
+            Assert.assertEquals(event.getLong("decodedBytes"), 10L);
+            Assert.assertFalse(event.getDuration().isNegative());
+        }
+
+        // Compressed bodies report both sizes, whatever Content-Length says
+        RecordedEvent compressed = byEndpoint.get("listDepartments").get(0);
+        Assert.assertEquals(compressed.getLong("wireBytes"), GZIPPED_DEPARTMENTS.length);
+        Assert.assertEquals(compressed.getLong("decodedBytes"), DEPARTMENTS.length());
+        Assert.assertTrue(compressed.getLong("wireBytes") < compressed.getLong("decodedBytes"));
+    }
+
+    @Test(description = "The shipped profile enables the SQL and page action events")
+    public void testProfileEnablesFrameworkEvents() throws Exception {
+        Path destination = recordingDir.resolve("profile.jfr");
+        try (FlightRecording recording = FlightRecording.start(destination)) {
+            Assert.assertTrue(recording.isRunning());
+
+            SqlStatementEvent sql = new SqlStatementEvent();
+            Assert.assertTrue(sql.isEnabled());
+            sql.operation = "query";
+            sql.statementHash = SqlStatementEvent.hash("SELECT 1");
+            sql.rows = 1;
+            sql.commit();
+
+            PageActionEvent action = new PageActionEvent();
+            action.action = "click";
+            action.commit();
+        }
+
+        List<RecordedEvent> sqlEvents = eventsNamed(destination, "com.phoenix.hrm.SqlStatement");
+        Assert.assertEquals(sqlEvents.size(), 1);
+        Assert.assertEquals(sqlEvents.get(0).getString("statementHash"), Integer.toHexString("SELECT 1".hashCode()));
+        Assert.assertEquals(eventsNamed(destination, "com.phoenix.hrm.PageAction").size(), 1);
+    }
+
+    @Test(description = "Framework events are off outside a recording that enables them")
+    public void testDisabledWithoutRecording() {
+        Assert.assertFalse(new SqlStatementEvent().shouldCommit());
+    }
+
+    private static List<RecordedEvent> eventsNamed(Path recording, String name) throws Exception {
+        return RecordingFile.readAllEvents(recording).stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,219 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.BatchExecutor;
+import com.phoenix.hrm.api.JsonBodyHandlers;
+import com.phoenix.hrm.api.MockHrmServer;
+import com.phoenix.hrm.api.ResiliencePolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Unit tests for the streaming JSON body handlers
+ */
+public class JsonBodyHandlersTest {
+
+    private static final int EMPLOYEE_COUNT = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger stalledHits = new AtomicInteger();
+    private StubHttpServer server;
+    private HttpClient client;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new StubHttpServer();
+        server.route("/employees", exchange -> {
+            StringBuilder json = new StringBuilder("{\"meta\":{\"total\":" + EMPLOYEE_COUNT + "},\"data\":[");
+            for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+                json.append(i == 0 ? "" : ",").append("{\"empNumber\":").append(i)
+                    .append(",\"firstName\":\"Emp").append(i).append("\"}");
+            }
+            StubHttpServer.respond(exchange, 200, json.append("]}").toString());
+        });
+        server.route("/missing", exchange -> StubHttpServer.respond(exchange, 404, "{\"error\":\"Not found\"}"));
+        server.route("/broken", exchange -> StubHttpServer.respond(exchange, 200, "{\"id\": 1, oops"));
+        server.route("/stalled", exchange -> {
+            if (stalledHits.incrementAndGet() > 1) {
+                StubHttpServer.respond(exchange, 200, "{\"status\":\"ok\"}");
+                return;
+            }
+            // A retryable error whose body stalls mid-way
+            exchange.sendResponseHeaders(503, 0);
+            try (java.io.OutputStream body = exchange.getResponseBody()) {
+                body.write("{\"error\":".getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                Thread.sleep(3_000);
+                body.write("\"unavailable\"}".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException | java.io.IOException e) {
+                // Client gave up on the body
+            }
+        });
+        server.start();
+
+        client = HttpClient.newHttpClient();
+        baseUrl = server.getBaseUrl();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test(description = "Streams into a JsonNode without keeping the raw body")
+    public void testParseWithoutRawBody() throws Exception {
+        HttpResponse<Supplier<JsonBodyHandlers.ParsedBody<JsonNode>>> response =
+            client.send(get("/employees"), JsonBodyHandlers.ofJson(objectMapper, JsonNode.class, false));
+        JsonBodyHandlers.ParsedBody<JsonNode> parsed = response.body().get();
+
+        Assert.assertEquals(parsed.getBody().path("data").size(), EMPLOYEE_COUNT);
+        Assert.assertNull(parsed.getRawBody());
+        Assert.assertTrue(parsed.getBytesRead() > 0);
+    }
+
+    @Test(description = "Keeps the raw body for error responses")
+    public void testRawBodyKeptOnError() throws Exception {
+        HttpResponse<Supplier<JsonBodyHandlers.ParsedBody<JsonNode>>> response =
+            client.send(get("/missing"), JsonBodyHandlers.ofJson(objectMapper, JsonNode.class, false));
+        JsonBodyHandlers.ParsedBody<JsonNode> parsed = response.body().get();
+
+        Assert.assertEquals(response.statusCode(), 404);
+        Assert.assertEquals(parsed.getBody().get("error").asText(), "Not found");
+        Assert.assertEquals(parsed.getRawBody(), "{\"error\":\"Not found\"}");
+    }
+
+    @Test(description = "Parse failures report the start of the body")
+    public void testParseFailureIncludesBodyPrefix() throws Exception {
+        HttpResponse<Supplier<JsonBodyHandlers.ParsedBody<JsonNode>>> response =
+            client.send(get("/broken"), JsonBodyHandlers.ofJson(objectMapper, JsonNode.class, false));
+        try {
+            response.body().get();
+            Assert.fail("Expected parse failure");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("{\"id\": 1, oops"), e.getMessage());
+        }
+    }
+
+    @Test(description = "Iterates a nested array element by element")
+    public void testArrayIteration() throws Exception {
+        HttpResponse<Supplier<JsonBodyHandlers.JsonArrayIterator<JsonNode>>> response =
+            client.send(get("/employees"), JsonBodyHandlers.ofJsonArray(objectMapper, JsonNode.class, "data"));
+
+        List<String> names = new ArrayList<>();
+        try (JsonBodyHandlers.JsonArrayIterator<JsonNode> employees = response.body().get()) {
+            employees.forEachRemaining(employee -> {
+                if (names.size() < 3) {
+                    names.add(employee.get("firstName").asText());
+                }
+            });
+            Assert.assertEquals(employees.getElementCount(), EMPLOYEE_COUNT);
+            Assert.assertNull(employees.getErrorBody());
+        }
+        Assert.assertEquals(names, List.of("Emp0", "Emp1", "Emp2"));
+    }
+
+    @Test(description = "Array iteration exposes the error body for non-2xx responses")
+    public void testArrayIterationOnError() throws Exception {
+        HttpResponse<Supplier<JsonBodyHandlers.JsonArrayIterator<JsonNode>>> response =
+            client.send(get("/missing"), JsonBodyHandlers.ofJsonArray(objectMapper, JsonNode.class, "data"));
+
+        try (JsonBodyHandlers.JsonArrayIterator<JsonNode> employees = response.body().get()) {
+            Assert.assertFalse(employees.hasNext());
+            Assert.assertEquals(employees.getErrorBody(), "{\"error\":\"Not found\"}");
+        }
+    }
+
+    @Test(description = "Streamed async requests complete with more in flight than async pool threads")
+    public void testFrameworkStreamingWithSmallPool() throws Exception {
+        // Padded bodies arrive in several chunks, so parsing blocks until the client delivers them
+        MockHrmServer mock = new MockHrmServer.Builder()
+            .defaultProfile(MockHrmServer.EndpointProfile.builder()
+                .latency(Duration.ofMillis(20)).paddingBytes(10_000).build())
+            .build();
+        mock.start();
+        ApiTestFramework framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(mock.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .asyncExecutorThreads(2)
+            .streamingResponses(true)
+            .build());
+        try {
+            List<CompletableFuture<ApiTestFramework.ApiResponse<JsonNode>>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(framework.executeRequestAsync("getEmployees", null, null, null, JsonNode.class));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<ApiTestFramework.ApiResponse<JsonNode>> future : futures) {
+                Assert.assertEquals(future.join().getBody().path("data").size(), 20);
+            }
+
+            List<BatchExecutor.BatchRequest> batch = new ArrayList<>();
+            for (int i = 1; i <= 16; i++) {
+                batch.add(new BatchExecutor.BatchRequest("getEmployee", Map.of("id", i), null, null, JsonNode.class));
+            }
+            BatchExecutor.BatchResult result = framework.executeBatch(batch, new BatchExecutor.BatchOptions.Builder()
+                .maxInFlight(16).timeout(Duration.ofSeconds(10)).build());
+            Assert.assertTrue(result.isAllSuccessful(), result.getFailures().toString());
+        } finally {
+            framework.shutdown();
+            mock.stop();
+        }
+    }
+
+    @Test(description = "A streamed body that is retried is closed without waiting for the rest of it")
+    public void testRetriedStreamedBodyIsNotRead() throws Exception {
+        ApiTestFramework framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(baseUrl)
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .streamingResponses(true)
+            .build());
+        try {
+            framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("stalled", "/stalled",
+                    ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+                .resiliencePolicy(new ResiliencePolicy.Builder()
+                    .maxAttempts(2)
+                    .baseDelay(Duration.ofMillis(1))
+                    .retryOnStatus(503)
+                    .build())
+                .build());
+
+            long start = System.nanoTime();
+            ApiTestFramework.ApiResponse<JsonNode> response = framework
+                .executeRequestAsync("stalled", null, null, null, JsonNode.class)
+                .get(10, TimeUnit.SECONDS);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            Assert.assertEquals(response.getStatusCode(), 200);
+            Assert.assertEquals(response.getBody().path("status").asText(), "ok");
+            Assert.assertEquals(stalledHits.get(), 2);
+            Assert.assertTrue(elapsedMillis < 2_000, "retry waited " + elapsedMillis + "ms for the discarded body");
+        } finally {
+            framework.shutdown();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoenix.hrm.core.api.JsonPathExpression;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for compiled JSON paths evaluated against a parsed tree
+ */
+public class JsonPathExpressionTest {
+
+    private JsonNode tree;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        tree = new ObjectMapper().readTree("{\"data\":{\"total\":3,\"employees\":["
+            + "{\"id\":1,\"name\":\"Linda\",\"salary\":1250.5,\"skills\":[\"java\",\"sql\"]},"
+            + "{\"id\":2,\"name\":\"Odis\",\"salary\":980.0,\"manager\":null},"
+            + "{\"id\":3000000000,\"name\":\"Ren\u00e9e\",\"active\":true}]}}");
+    }
+
+    @Test(description = "Fields, indexes and negative indexes resolve to RestAssured-style values")
+    public void testFieldsAndIndexes() {
+        Assert.assertEquals(evaluate("data.total"), 3);
+        Assert.assertEquals(evaluate("data.employees[0].name"), "Linda");
+        Assert.assertEquals(evaluate("data.employees[-1].name"), "Ren\u00e9e");
+        Assert.assertEquals(evaluate("data.employees[2].id"), 3000000000L);
+        Assert.assertEquals(evaluate("data.employees[0].salary"), 1250.5f);
+        Assert.assertEquals(evaluate("data.employees[2].active"), Boolean.TRUE);
+        Assert.assertEquals(evaluate("$.data.employees[0].skills"), List.of("java", "sql"));
+        Assert.assertTrue(evaluate("data") instanceof Map);
+    }
+
+    @Test(description = "Field access on an array projects over its elements")
+    public void testProjection() {
+        Assert.assertEquals(evaluate("data.employees.name"), List.of("Linda", "Odis", "Ren\u00e9e"));
+        Assert.assertEquals(evaluate("data.employees.name[1]"), "Odis");
+        Assert.assertEquals(evaluate("data.employees.active"), Arrays.asList(null, null, true));
+    }
+
+    @Test(description = "Missing values yield null rather than failing")
+    public void testMissing() {
+        Assert.assertNull(evaluate("data.missing.deeper"));
+        Assert.assertNull(evaluate("data.employees[1].manager"));
+        Assert.assertNull(evaluate("data.employees[10]"));
+        Assert.assertNull(evaluate("data.total[0]"));
+    }
+
+    @Test(description = "GPath features beyond fields and indexes are left to RestAssured")
+    public void testUnsupportedSyntax() {
+        for (String path : List.of("data.employees.size()", "data.employees.find { it.id == 1 }.name",
+                "data.'first-name'", "data..total", "data.", "data.employees[x]")) {
+            Assert.assertFalse(JsonPathExpression.compile(path).isSupported(), path);
+        }
+        Assert.assertThrows(IllegalStateException.class,
+            () -> JsonPathExpression.compile("data.employees.size()").evaluate(tree));
+    }
+
+    @Test(description = "Compiled paths are cached and reused")
+    public void testCompiledPathCached() {
+        Assert.assertSame(JsonPathExpression.compile("data.employees[0].id"),
+            JsonPathExpression.compile("data.employees[0].id"));
+    }
+
+    private Object evaluate(String path) {
+        return JsonPathExpression.compile(path).evaluate(tree);
+    }
+}
@@ -0,0 +1,92 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.LatencyHistogram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the fixed-memory latency histogram used by PerformanceMetrics
+ */
+public class LatencyHistogramTest {
+
+    @Test(description = "Percentiles stay within the histogram's relative error bound")
+    public void testPercentileAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.recordValue(value);
+        }
+
+        Assert.assertEquals(histogram.getTotalCount(), 100_000);
+        Assert.assertEquals(histogram.getMin(), 1);
+        Assert.assertEquals(histogram.getMax(), 100_000);
+        assertWithinRelativeError(histogram.getPercentile(50.0), 50_000);
+        assertWithinRelativeError(histogram.getPercentile(99.0), 99_000);
+        assertWithinRelativeError(histogram.getPercentile(99.9), 99_900);
+        Assert.assertEquals(histogram.getPercentile(100.0), 100_000);
+    }
+
+    @Test(description = "Small values are tracked exactly")
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(3);
+        histogram.recordValue(7);
+        histogram.recordValue(42);
+
+        Assert.assertEquals(histogram.getPercentile(0.0), 3);
+        Assert.assertEquals(histogram.getPercentile(50.0), 7);
+        Assert.assertEquals(histogram.getPercentile(100.0), 42);
+        Assert.assertEquals(histogram.getMean(), 52.0 / 3, 0.0001);
+    }
+
+    @Test(description = "Values above the trackable range keep an exact maximum")
+    public void testValuesAboveRange() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        histogram.recordValue(10);
+        histogram.recordValue(50_000);
+
+        Assert.assertEquals(histogram.getMax(), 50_000);
+        Assert.assertEquals(histogram.getPercentile(100.0), 50_000);
+    }
+
+    @Test(description = "Concurrent recording loses no samples")
+    public void testConcurrentRecording() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.recordValue(i % 500);
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assert.assertEquals(histogram.getTotalCount(), 80_000);
+        Assert.assertEquals(histogram.getMax(), 499);
+    }
+
+    @Test(description = "Merging histograms combines counts and extremes")
+    public void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.recordValue(10);
+        second.recordValue(2000);
+
+        first.add(second);
+
+        Assert.assertEquals(first.getTotalCount(), 2);
+        Assert.assertEquals(first.getMin(), 10);
+        Assert.assertEquals(first.getMax(), 2000);
+    }
+
+    private void assertWithinRelativeError(long actual, long expected) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        Assert.assertTrue(error <= 1.0 / 64,
+            String.format("Expected %d within 1.6%% but was %d", expected, actual));
+    }
+}
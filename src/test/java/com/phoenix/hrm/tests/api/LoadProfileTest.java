@@ -0,0 +1,91 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.LoadProfile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the load generator's arrival-rate profiles
+ */
+public class LoadProfileTest {
+
+    @Test(description = "Ramp interpolates linearly between start and end rate")
+    public void testRamp() {
+        LoadProfile ramp = LoadProfile.ramp(10, 110, Duration.ofSeconds(100));
+
+        Assert.assertEquals(ramp.rateAt(Duration.ZERO), 10.0, 0.001);
+        Assert.assertEquals(ramp.rateAt(Duration.ofSeconds(50)), 60.0, 0.001);
+        Assert.assertEquals(ramp.rateAt(Duration.ofSeconds(200)), 110.0, 0.001);
+    }
+
+    @Test(description = "Step adds the increment per step and stops at the last step")
+    public void testStep() {
+        LoadProfile step = LoadProfile.step(5, 5, Duration.ofSeconds(10), 3);
+
+        Assert.assertEquals(step.getDuration(), Duration.ofSeconds(30));
+        Assert.assertEquals(step.rateAt(Duration.ofSeconds(9)), 5.0, 0.001);
+        Assert.assertEquals(step.rateAt(Duration.ofSeconds(10)), 10.0, 0.001);
+        Assert.assertEquals(step.rateAt(Duration.ofSeconds(45)), 15.0, 0.001);
+    }
+
+    @Test(description = "Spike applies the burst rate only inside its window")
+    public void testSpike() {
+        LoadProfile spike = LoadProfile.spike(10, 200, Duration.ofSeconds(20), Duration.ofSeconds(5),
+            Duration.ofMinutes(1));
+
+        Assert.assertEquals(spike.rateAt(Duration.ofSeconds(19)), 10.0, 0.001);
+        Assert.assertEquals(spike.rateAt(Duration.ofSeconds(22)), 200.0, 0.001);
+        Assert.assertEquals(spike.rateAt(Duration.ofSeconds(25)), 10.0, 0.001);
+    }
+
+    @Test(description = "A ramp from zero starts sending at once and sends the integral of its rate")
+    public void testRampFromZeroSchedule() {
+        List<Long> sends = sendTimes(LoadProfile.ramp(0, 500, Duration.ofSeconds(60)));
+
+        // The rate grows by 500/60 rps per second, so the n-th send is due at sqrt(2n / slope) seconds
+        Assert.assertEquals(sends.size(), 15_000, 1);
+        Assert.assertEquals(sends.get(0) / 1e9, Math.sqrt(2 * 60 / 500.0), 0.01);
+        Assert.assertEquals(sends.stream().filter(nanos -> nanos < 12_000_000_000L).count(), 600, 1);
+        for (int i = 1; i < sends.size(); i++) {
+            Assert.assertTrue(sends.get(i) - sends.get(i - 1) < 500_000_000L, "gap before send " + i);
+        }
+    }
+
+    @Test(description = "A spike on a low base rate gets its full burst")
+    public void testSpikeSchedule() {
+        List<Long> sends = sendTimes(LoadProfile.spike(1, 100, Duration.ofMillis(500), Duration.ofSeconds(1),
+            Duration.ofSeconds(3)));
+
+        long inSpike = sends.stream().filter(nanos -> nanos >= 500_000_000L && nanos < 1_500_000_000L).count();
+        Assert.assertEquals(inSpike, 100, 1);
+        Assert.assertEquals(sends.size(), 102, 1);
+    }
+
+    @Test(description = "A constant profile is sent at even intervals until the end of the run")
+    public void testConstantSchedule() {
+        List<Long> sends = sendTimes(LoadProfile.constant(100, Duration.ofSeconds(1)));
+
+        Assert.assertEquals(sends.size(), 100);
+        Assert.assertEquals(sends.get(0) / 1e6, 10.0, 0.01);
+        Assert.assertTrue(sends.get(99) <= 1_000_000_000L);
+    }
+
+    @Test(description = "Invalid profiles are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidProfile() {
+        LoadProfile.constant(0, Duration.ofSeconds(10));
+    }
+
+    private static List<Long> sendTimes(LoadProfile profile) {
+        LoadProfile.ArrivalSchedule schedule = profile.schedule();
+        List<Long> sends = new ArrayList<>();
+        long next;
+        while ((next = schedule.nextNanos()) >= 0) {
+            sends.add(next);
+        }
+        return sends;
+    }
+}
@@ -0,0 +1,102 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.monitoring.MetricsHttpServer;
+import com.phoenix.hrm.monitoring.OpenMetricsWriter;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Unit tests for the OpenMetrics scrape endpoint
+ */
+public class MetricsHttpServerTest {
+
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/employees", exchange -> StubHttpServer.respond(exchange, 200, "[]"));
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .metricsPort(0)
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("listEmployees", "/employees",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.close();
+    }
+
+    @Test(description = "The framework serves request counters and latency histograms while running")
+    public void testScrapeEndpoint() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            framework.executeRequest("listEmployees", null, null, null, String.class);
+        }
+        int port = MetricsHttpServer.getInstance().getPort();
+        Assert.assertTrue(port > 0, "metrics endpoint not started");
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + MetricsHttpServer.METRICS_PATH))
+                .header("Accept", "application/openmetrics-text")
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        Assert.assertEquals(response.statusCode(), 200);
+        Assert.assertTrue(response.headers().firstValue("Content-Type").orElse("")
+            .startsWith("application/openmetrics-text"));
+        String body = response.body();
+        Assert.assertTrue(body.contains("# TYPE phoenix_api_requests counter"), body);
+        Assert.assertTrue(body.contains("phoenix_api_requests_total{endpoint=\"listEmployees\",outcome=\"success\"} 3"),
+            body);
+        Assert.assertTrue(body.contains("phoenix_api_request_duration_seconds_bucket{endpoint=\"listEmployees\",le=\"+Inf\"} 3"),
+            body);
+        Assert.assertTrue(body.contains("phoenix_jvm_threads "), body);
+        Assert.assertTrue(body.endsWith("# EOF\n"), body);
+    }
+
+    @Test(description = "A failing source is left out of the scrape instead of failing it")
+    public void testFailingSourceSkipped() {
+        MetricsHttpServer metrics = MetricsHttpServer.getInstance();
+        metrics.registerSource("broken", writer -> {
+            writer.family("phoenix_broken", OpenMetricsWriter.Type.GAUGE, "Never completes").gaugeValue(1);
+            throw new IllegalStateException("source failure");
+        });
+        try {
+            String text = metrics.scrape();
+            Assert.assertFalse(text.contains("phoenix_broken"), text);
+            Assert.assertTrue(text.contains("phoenix_metrics_source_errors_total "), text);
+        } finally {
+            metrics.unregisterSource("broken");
+        }
+    }
+
+    @Test(description = "Histogram buckets are cumulative and label values escaped")
+    public void testWriterFormat() {
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        writer.family("phoenix_test_duration_seconds", OpenMetricsWriter.Type.HISTOGRAM, "Test durations")
+            .histogramValue(new double[] {0.1, 1}, new long[] {2, 5}, 6, 3.5, "name", "a\"b");
+        String text = writer.finish();
+
+        Assert.assertTrue(text.contains("phoenix_test_duration_seconds_bucket{name=\"a\\\"b\",le=\"0.1\"} 2"), text);
+        Assert.assertTrue(text.contains("phoenix_test_duration_seconds_bucket{name=\"a\\\"b\",le=\"+Inf\"} 6"), text);
+        Assert.assertTrue(text.contains("phoenix_test_duration_seconds_sum{name=\"a\\\"b\"} 3.5"), text);
+        Assert.assertThrows(IllegalStateException.class,
+            () -> writer.family("phoenix_test_duration_seconds", OpenMetricsWriter.Type.GAUGE, "Duplicate"));
+    }
+}
@@ -0,0 +1,217 @@
+package com.phoenix.hrm.tests.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.MockHrmServer;
+import com.phoenix.hrm.api.MockHrmServerListener;
+import org.testng.Assert;
+import org.testng.IAnnotationTransformer;
+import org.testng.ITestContext;
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit tests for the embedded mock HRM server
+ */
+public class MockHrmServerTest {
+
+    private MockHrmServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() {
+        server = new MockHrmServer.Builder()
+            .employees(30)
+            .endpoint("getDepartments", MockHrmServer.EndpointProfile.builder()
+                .errorRate(100).errorStatus(503).build())
+            .endpoint("getLeaveRequests", MockHrmServer.EndpointProfile.builder()
+                .latency(Duration.ofMillis(30)).listSize(5).paddingBytes(1000).build())
+            .build();
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("getLeaveRequests", "/leave",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.stop();
+    }
+
+    @Test(description = "Default endpoints work against the in-memory store")
+    public void testEmployeeLifecycle() {
+        JsonNode list = call("getEmployees", null, null).getBody();
+        Assert.assertEquals(list.get("data").size(), 20);
+        Assert.assertEquals(list.get("meta").get("total").asInt(), 30);
+
+        ApiTestFramework.ApiResponse<JsonNode> created = call("createEmployee", null,
+            Map.of("firstName", "Odis", "lastName", "Adalwin"));
+        Assert.assertEquals(created.getStatusCode(), 201);
+        int id = created.getBody().get("data").get("id").asInt();
+
+        ApiTestFramework.ApiResponse<JsonNode> updated = call("updateEmployee", Map.of("id", id),
+            Map.of("lastName", "Harmony"));
+        Assert.assertEquals(updated.getBody().get("data").get("lastName").asText(), "Harmony");
+        Assert.assertEquals(updated.getBody().get("data").get("firstName").asText(), "Odis");
+
+        Assert.assertEquals(call("deleteEmployee", Map.of("id", id), null).getStatusCode(), 204);
+        Assert.assertEquals(call("getEmployee", Map.of("id", id), null).getStatusCode(), 404);
+        Assert.assertEquals(call("getPayroll", Map.of("employeeId", 3), null).getBody()
+            .get("data").get("employeeId").asInt(), 3);
+
+        JsonNode login = call("login", null, Map.of("username", "Admin", "password", "admin123")).getBody();
+        Assert.assertEquals(login.get("tokenType").asText(), "Bearer");
+        Assert.assertFalse(login.get("accessToken").asText().isEmpty());
+    }
+
+    @Test(description = "Endpoint profiles inject faults, latency and payload padding")
+    public void testEndpointProfiles() {
+        Assert.assertEquals(call("getDepartments", null, null).getStatusCode(), 503);
+        Assert.assertTrue(server.getInjectedFaults() >= 1);
+
+        ApiTestFramework.ApiResponse<JsonNode> leave = call("getLeaveRequests", null, null);
+        Assert.assertTrue(leave.getResponseTime() >= 30, "response time " + leave.getResponseTime());
+        Assert.assertEquals(leave.getBody().get("data").size(), 5);
+        Assert.assertEquals(leave.getBody().get("data").get(0).get("padding").asText().length(), 1000);
+        Assert.assertTrue(server.getRequestCounts().get("getLeaveRequests") >= 1);
+    }
+
+    @Test(description = "Malformed request bodies are answered with 400 instead of a dropped connection")
+    public void testMalformedBodyReturnsBadRequest() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(server.getBaseUrl() + "/employees"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{not json"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        Assert.assertEquals(response.statusCode(), 400);
+        Assert.assertTrue(new ObjectMapper().readTree(response.body()).get("error").asText()
+            .startsWith("Malformed JSON request body"), response.body());
+    }
+
+    @Test(description = "With requireAuth, only tokens issued by the mock's own login are accepted")
+    public void testRequireAuth() throws Exception {
+        MockHrmServer secured = new MockHrmServer.Builder().employees(3).requireAuth(true).build();
+        secured.start();
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+            HttpResponse<String> login = client.send(
+                HttpRequest.newBuilder(URI.create(secured.getBaseUrl() + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"Admin\",\"password\":\"admin123\"}"))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString());
+            Assert.assertEquals(login.statusCode(), 200);
+            String token = new ObjectMapper().readTree(login.body()).get("accessToken").asText();
+
+            Assert.assertEquals(getEmployees(client, secured, null), 401);
+            Assert.assertEquals(getEmployees(client, secured, "Bearer not-issued"), 401);
+            Assert.assertEquals(getEmployees(client, secured, "Bearer " + token), 200);
+            Assert.assertEquals(getEmployees(client, secured, "bearer " + token), 200);
+            Assert.assertEquals(secured.getRejectedUnauthenticated(), 2);
+        } finally {
+            secured.stop();
+        }
+    }
+
+    @Test(description = "The suite listener serves a configured mock and exposes its URL")
+    public void testSuiteListener() throws Exception {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("mock-listener-probe");
+        suite.setParameters(Map.of(
+            "mock.hrm.employees", "7",
+            "mock.hrm.endpoint.getEmployees.list.size", "3"));
+        XmlTest test = new XmlTest(suite);
+        test.setName("probe");
+        test.setXmlClasses(List.of(new XmlClass(ListenerProbe.class)));
+
+        MockHrmServerListener listener = new MockHrmServerListener();
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(listener);
+        // The probe is disabled so regular runs skip it; enable it for this suite only
+        testng.addListener(new IAnnotationTransformer() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor,
+                                  Method testMethod) {
+                if (testMethod != null && testMethod.getDeclaringClass() == ListenerProbe.class) {
+                    annotation.setEnabled(true);
+                }
+            }
+        });
+        testng.setVerbose(0);
+        ListenerProbe.observed.clear();
+        testng.run();
+
+        Assert.assertNotNull(ListenerProbe.observed.get("baseUrl"), "listener did not publish the base URL");
+        Assert.assertEquals(ListenerProbe.observed.get("attribute"), ListenerProbe.observed.get("baseUrl"));
+        Assert.assertEquals(ListenerProbe.observed.get("status"), 200);
+        JsonNode body = new ObjectMapper().readTree((String) ListenerProbe.observed.get("body"));
+        Assert.assertEquals(body.get("meta").get("total").asInt(), 7);
+        Assert.assertEquals(body.get("data").size(), 3);
+
+        Assert.assertNull(listener.getServer(), "server should stop with the suite");
+        Assert.assertNull(System.getProperty(ApiTestFramework.ApiConfiguration.BASE_URL_PROPERTY));
+    }
+
+    /**
+     * Runs inside the suite started by {@link #testSuiteListener()} and records what it sees.
+     * Disabled here and re-enabled by that suite, so it never runs as a test of its own.
+     */
+    public static class ListenerProbe {
+
+        static final Map<String, Object> observed = new ConcurrentHashMap<>();
+
+        @Test(enabled = false)
+        public void probe(ITestContext context) throws Exception {
+            String baseUrl = System.getProperty(ApiTestFramework.ApiConfiguration.BASE_URL_PROPERTY);
+            Object attribute = context.getSuite().getAttribute(MockHrmServerListener.BASE_URL_ATTRIBUTE);
+            observed.put("baseUrl", baseUrl);
+            observed.put("attribute", attribute);
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/employees")).build(),
+                HttpResponse.BodyHandlers.ofString());
+            observed.put("status", response.statusCode());
+            observed.put("body", response.body());
+        }
+    }
+
+    private static int getEmployees(HttpClient client, MockHrmServer target, String authorization) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.getBaseUrl() + "/employees"));
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private ApiTestFramework.ApiResponse<JsonNode> call(String endpoint, Map<String, Object> pathParams,
+                                                       Object body) {
+        return framework.executeRequest(endpoint, pathParams, null, body, JsonNode.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.RequestResponseLogger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for request/response correlation in the request logger
+ */
+public class RequestResponseLoggerTest {
+
+    @Test(description = "Responses completing out of order and concurrently are paired with their own request")
+    public void testCorrelationById() throws Exception {
+        RequestResponseLogger requestLogger = newLogger(1000);
+        List<String> requestIds = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            requestIds.add(requestLogger.logRequest(request(i), null));
+        }
+        Assert.assertEquals(requestIds.stream().distinct().count(), 200);
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i : order) {
+                futures.add(executor.submit(() -> requestLogger.logResponse(response(i, requestIds.get(i)))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < 200; i++) {
+            RequestResponseLogger.RequestLogEntry entry = requestLogger.getRequestLogEntry(requestIds.get(i));
+            Assert.assertEquals(entry.getUrl(), "http://localhost/api/employees/" + i);
+            Assert.assertEquals(entry.getResponseStatus(), statusFor(i));
+            Assert.assertEquals(entry.getResponseBody(), "{\"id\":" + i + "}");
+        }
+    }
+
+    @Test(description = "The request log keeps the newest entries; late responses to evicted requests are ignored")
+    public void testBoundedLog() {
+        RequestResponseLogger requestLogger = newLogger(5);
+        List<String> requestIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requestIds.add(requestLogger.logRequest(request(i), null));
+        }
+
+        Assert.assertEquals(requestLogger.getAllRequestLogEntries().size(), 5);
+        Assert.assertNull(requestLogger.getRequestLogEntry(requestIds.get(2)));
+        Assert.assertNotNull(requestLogger.getRequestLogEntry(requestIds.get(3)));
+
+        requestLogger.logResponse(response(0, requestIds.get(0)));
+        requestLogger.logResponse(response(7, requestIds.get(7)));
+        Assert.assertNull(requestLogger.getRequestLogEntry(requestIds.get(0)));
+        Assert.assertEquals(requestLogger.getRequestLogEntry(requestIds.get(7)).getResponseStatus(), statusFor(7));
+    }
+
+    @Test(description = "A response without a request ID is not attached to any entry")
+    public void testResponseWithoutId() {
+        RequestResponseLogger requestLogger = newLogger(10);
+        String requestId = requestLogger.logRequest(request(1), null);
+
+        requestLogger.logResponse(response(1, null));
+
+        Assert.assertEquals(requestLogger.getRequestLogEntry(requestId).getResponseStatus(), 0);
+    }
+
+    private static RequestResponseLogger newLogger(int maxEntries) {
+        return new RequestResponseLogger(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl("http://localhost")
+            .enableRequestLogging(true)
+            .maxRequestLogEntries(maxEntries)
+            .build());
+    }
+
+    private static HttpRequest request(int i) {
+        return HttpRequest.newBuilder(URI.create("http://localhost/api/employees/" + i)).GET().build();
+    }
+
+    private static ApiTestFramework.ApiResponse<String> response(int i, String requestId) {
+        String body = "{\"id\":" + i + "}";
+        return new ApiTestFramework.ApiResponse<>(statusFor(i), "", Map.of(), body, 1, body, requestId);
+    }
+
+    private static int statusFor(int i) {
+        return i % 3 == 0 ? 404 : 200;
+    }
+}
@@ -0,0 +1,241 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.CircuitBreaker;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import com.phoenix.hrm.api.ResiliencePolicy;
+import com.sun.net.httpserver.HttpExchange;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for per-endpoint backoff, retry budget and circuit breaker
+ */
+public class ResiliencePolicyTest {
+
+    private final AtomicInteger unavailableHits = new AtomicInteger();
+    private final AtomicInteger flakyHits = new AtomicInteger();
+    private final AtomicBoolean flakyHealthy = new AtomicBoolean(false);
+    private final AtomicInteger hangingHits = new AtomicInteger();
+    private final CountDownLatch hangingRelease = new CountDownLatch(1);
+    private final AtomicInteger failingHits = new AtomicInteger();
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/unavailable", exchange -> {
+            unavailableHits.incrementAndGet();
+            respond(exchange, 503);
+        });
+        server.route("/flaky", exchange -> {
+            flakyHits.incrementAndGet();
+            respond(exchange, flakyHealthy.get() ? 200 : 503);
+        });
+        server.route("/hanging", exchange -> {
+            // Fail twice to open the circuit, then hang the half-open trial until released
+            int hit = hangingHits.incrementAndGet();
+            if (hit == 3) {
+                awaitQuietly(hangingRelease);
+            }
+            respond(exchange, hit <= 2 ? 503 : 200);
+        });
+        server.route("/failing", exchange -> {
+            failingHits.incrementAndGet();
+            respond(exchange, 503);
+        });
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.close();
+    }
+
+    @Test(description = "Full-jitter backoff stays within the exponential ceiling and the cap")
+    public void testBackoffBounds() {
+        ResiliencePolicy policy = new ResiliencePolicy.Builder()
+            .baseDelay(Duration.ofMillis(100))
+            .maxDelay(Duration.ofMillis(1_000))
+            .build();
+
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertTrue(policy.backoffDelayMillis(1) <= 100);
+            Assert.assertTrue(policy.backoffDelayMillis(3) <= 400);
+            Assert.assertTrue(policy.backoffDelayMillis(10) <= 1_000);
+        }
+    }
+
+    @Test(description = "Retries stop once the retry budget is spent")
+    public void testRetryBudget() {
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("unavailable", "/unavailable",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+            .resiliencePolicy(new ResiliencePolicy.Builder()
+                .maxAttempts(5)
+                .baseDelay(Duration.ofMillis(1))
+                .retryOnStatus(503)
+                .retryBudget(0.1, 2)
+                .build())
+            .build());
+
+        int calls = 50;
+        for (int i = 0; i < calls; i++) {
+            Assert.assertEquals(framework.executeRequest("unavailable", null, null, null, String.class)
+                .getStatusCode(), 503);
+        }
+
+        PerformanceMetrics.EndpointMetrics metrics = metrics("unavailable");
+        // At most ratio * calls + reserve retries, rather than (maxAttempts - 1) * calls
+        Assert.assertTrue(metrics.getRetryCount() <= 7, "retries: " + metrics.getRetryCount());
+        Assert.assertTrue(metrics.getRetriesDenied() > 0);
+        Assert.assertEquals(unavailableHits.get(), calls + metrics.getRetryCount());
+    }
+
+    @Test(description = "The circuit opens on a high failure rate and closes again after successful trials")
+    public void testCircuitBreaker() throws Exception {
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("flaky", "/flaky",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+            .resiliencePolicy(new ResiliencePolicy.Builder()
+                .maxAttempts(1)
+                .circuitBreaker(0.5, 10, 10)
+                .openDuration(Duration.ofMillis(300))
+                .halfOpenTrialCalls(2)
+                .build())
+            .build());
+
+        int rejected = 0;
+        for (int i = 0; i < 30; i++) {
+            try {
+                framework.executeRequest("flaky", null, null, null, String.class);
+            } catch (ApiTestFramework.ApiTestException e) {
+                Assert.assertTrue(e.getCause() instanceof CircuitBreaker.CircuitOpenException, e.toString());
+                rejected++;
+            }
+        }
+        Assert.assertEquals(flakyHits.get(), 10);
+        Assert.assertEquals(rejected, 20);
+        Assert.assertEquals(metrics("flaky").getCircuitState(), "OPEN");
+        Assert.assertEquals(metrics("flaky").getCircuitRejections(), 20);
+
+        flakyHealthy.set(true);
+        Thread.sleep(400);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(framework.executeRequest("flaky", null, null, null, String.class)
+                .getStatusCode(), 200);
+        }
+
+        PerformanceMetrics.EndpointMetrics metrics = metrics("flaky");
+        Assert.assertEquals(metrics.getCircuitState(), "CLOSED");
+        Assert.assertEquals(metrics.getCircuitTransitions().get("CLOSED->OPEN"), Long.valueOf(1));
+        Assert.assertEquals(metrics.getCircuitTransitions().get("OPEN->HALF_OPEN"), Long.valueOf(1));
+        Assert.assertEquals(metrics.getCircuitTransitions().get("HALF_OPEN->CLOSED"), Long.valueOf(1));
+    }
+
+    @Test(description = "An interrupted half-open trial call gives its slot back")
+    public void testInterruptedTrialReleasesSlot() throws Exception {
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("hanging", "/hanging",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+            .resiliencePolicy(new ResiliencePolicy.Builder()
+                .maxAttempts(1)
+                .circuitBreaker(0.5, 2, 2)
+                .openDuration(Duration.ofMillis(200))
+                .halfOpenTrialCalls(1)
+                .build())
+            .build());
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(framework.executeRequest("hanging", null, null, null, String.class)
+                .getStatusCode(), 503);
+        }
+        Assert.assertEquals(metrics("hanging").getCircuitState(), "OPEN");
+        Thread.sleep(250);
+
+        AtomicReference<Exception> trialError = new AtomicReference<>();
+        Thread trial = new Thread(() -> {
+            try {
+                framework.executeRequest("hanging", null, null, null, String.class);
+            } catch (Exception e) {
+                trialError.set(e);
+            }
+        });
+        trial.start();
+        while (hangingHits.get() < 3) {
+            Thread.sleep(5);
+        }
+        trial.interrupt();
+        trial.join(5_000);
+        hangingRelease.countDown();
+        Assert.assertNotNull(trialError.get(), "the interrupted trial call should fail");
+
+        Assert.assertEquals(framework.executeRequest("hanging", null, null, null, String.class)
+            .getStatusCode(), 200);
+        Assert.assertEquals(metrics("hanging").getCircuitState(), "CLOSED");
+    }
+
+    @Test(description = "Re-registering keeps the breaker under the same policy and resets it under a new one")
+    public void testReRegistration() {
+        ResiliencePolicy policy = new ResiliencePolicy.Builder()
+            .maxAttempts(1)
+            .circuitBreaker(0.5, 2, 2)
+            .openDuration(Duration.ofMinutes(1))
+            .build();
+        framework.registerEndpoint(failingEndpoint(policy));
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(framework.executeRequest("failing", null, null, null, String.class)
+                .getStatusCode(), 503);
+        }
+        Assert.assertEquals(metrics("failing").getCircuitState(), "OPEN");
+
+        framework.registerEndpoint(failingEndpoint(policy));
+        ApiTestFramework.ApiTestException rejected = Assert.expectThrows(ApiTestFramework.ApiTestException.class,
+            () -> framework.executeRequest("failing", null, null, null, String.class));
+        Assert.assertTrue(rejected.getCause() instanceof CircuitBreaker.CircuitOpenException, rejected.toString());
+        Assert.assertEquals(failingHits.get(), 2);
+
+        framework.registerEndpoint(failingEndpoint(new ResiliencePolicy.Builder().maxAttempts(1).build()));
+        Assert.assertEquals(framework.executeRequest("failing", null, null, null, String.class)
+            .getStatusCode(), 503);
+        Assert.assertEquals(failingHits.get(), 3);
+    }
+
+    private static ApiTestFramework.ApiEndpoint failingEndpoint(ResiliencePolicy policy) {
+        return new ApiTestFramework.ApiEndpoint.Builder("failing", "/failing",
+                ApiTestFramework.ApiEndpoint.HttpMethod.GET)
+            .resiliencePolicy(policy)
+            .build();
+    }
+
+    private PerformanceMetrics.EndpointMetrics metrics(String endpointName) {
+        return framework.getEndpointMetrics(endpointName);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        StubHttpServer.respond(exchange, status, "{\"status\":" + status + "}");
+    }
+}
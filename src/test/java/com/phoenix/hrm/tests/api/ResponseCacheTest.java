@@ -0,0 +1,192 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import com.phoenix.hrm.api.ResponseCache;
+import com.sun.net.httpserver.HttpExchange;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the conditional-request response cache
+ */
+public class ResponseCacheTest {
+
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger version = new AtomicInteger(1);
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/departments", exchange -> {
+            if ("PUT".equals(exchange.getRequestMethod())) {
+                version.incrementAndGet();
+                respond(exchange, 204, null, null);
+                return;
+            }
+            String etag = "\"v" + version.get() + "\"";
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                respond(exchange, 304, etag, null);
+                return;
+            }
+            fullResponses.incrementAndGet();
+            respond(exchange, 200, etag, "{\"version\":" + version.get() + "}");
+        });
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .responseCacheEnabled(true)
+            .responseCacheTtl(Duration.ofMillis(200))
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("cachedDepartments", "/departments",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("uncachedDepartments", "/departments",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).cacheable(false).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("updateDepartments", "/departments",
+            ApiTestFramework.ApiEndpoint.HttpMethod.PUT).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.close();
+    }
+
+    @BeforeMethod
+    public void resetState() {
+        framework.clearResponseCache();
+        framework.resetPerformanceMetrics();
+        fullResponses.set(0);
+        notModified.set(0);
+    }
+
+    @Test(description = "Fresh entries are served without a round trip, stale ones are revalidated")
+    public void testHitAndRevalidation() throws Exception {
+        ApiTestFramework.ApiResponse<String> first = call("cachedDepartments");
+        ApiTestFramework.ApiResponse<String> second = call("cachedDepartments");
+
+        Assert.assertEquals(fullResponses.get(), 1);
+        Assert.assertEquals(second.getStatusCode(), 200);
+        Assert.assertEquals(second.getBody(), first.getBody());
+        Assert.assertFalse(first.isFromCache());
+        Assert.assertTrue(second.isFromCache());
+        Assert.assertNotNull(second.getRequestId());
+
+        Thread.sleep(300);
+        ApiTestFramework.ApiResponse<String> revalidated = framework.executeRequestAsync("cachedDepartments",
+            null, null, null, String.class).get();
+
+        Assert.assertEquals(notModified.get(), 1);
+        Assert.assertEquals(fullResponses.get(), 1);
+        Assert.assertEquals(revalidated.getStatusCode(), 200);
+        Assert.assertEquals(revalidated.getBody(), first.getBody());
+        Assert.assertFalse(revalidated.isFromCache());
+
+        PerformanceMetrics.EndpointMetrics metrics = framework.getEndpointMetrics("cachedDepartments");
+        Assert.assertEquals(metrics.getCacheMisses(), 1);
+        Assert.assertEquals(metrics.getCacheHits(), 1);
+        Assert.assertEquals(metrics.getCacheRevalidations(), 1);
+    }
+
+    @Test(description = "Successful writes invalidate cached entries under the same path")
+    public void testWriteInvalidates() {
+        call("cachedDepartments");
+        call("updateDepartments");
+        ApiTestFramework.ApiResponse<String> after = call("cachedDepartments");
+
+        Assert.assertEquals(fullResponses.get(), 2);
+        Assert.assertTrue(after.getBody().contains("\"version\":" + version.get()), after.getBody());
+    }
+
+    @Test(description = "Opted-out endpoints always reach the server")
+    public void testOptOut() {
+        call("uncachedDepartments");
+        call("uncachedDepartments");
+
+        Assert.assertEquals(fullResponses.get(), 2);
+        Assert.assertEquals(framework.getEndpointMetrics("uncachedDepartments").getCacheHits(), 0);
+    }
+
+    @Test(description = "Invalidation covers the written path, paths below it and its parent collection")
+    public void testInvalidationScope() {
+        ResponseCache cache = new ResponseCache(10, Duration.ofMinutes(1));
+        for (String path : List.of("/api/employees", "/api/employees/5", "/api/employees/5/contacts",
+                "/api/employees/6", "/api/employees-archive")) {
+            cache.put(path, URI.create("http://localhost" + path), 200, Map.of(), "{}");
+        }
+
+        Assert.assertEquals(cache.invalidate("/api/employees/5"), 3);
+        Assert.assertNull(cache.get("/api/employees"));
+        Assert.assertNull(cache.get("/api/employees/5/contacts"));
+        Assert.assertNotNull(cache.get("/api/employees/6"));
+        Assert.assertNotNull(cache.get("/api/employees-archive"));
+    }
+
+    @Test(description = "Entries are partitioned by principal and bounded in number")
+    public void testKeysAndEviction() {
+        ResponseCache cache = new ResponseCache(2, Duration.ofMinutes(1));
+        URI uri = URI.create("http://localhost/api/employees?limit=10");
+        Map<String, List<String>> headers = Map.of("Content-Type", List.of("application/json"));
+
+        cache.put(ResponseCache.key(uri, "principal:admin"), uri, 200, headers, "admin view");
+        cache.put(ResponseCache.key(uri, "principal:ess"), uri, 200, headers, "ess view");
+        Assert.assertEquals(cache.get(ResponseCache.key(uri, "principal:admin")).getBody(), "admin view");
+        Assert.assertEquals(cache.get(ResponseCache.key(uri, "principal:ess")).getBody(), "ess view");
+
+        cache.put(ResponseCache.key(uri, "principal:manager"), uri, 200, headers, "manager view");
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictions(), 1);
+        Assert.assertNull(cache.get(ResponseCache.key(uri, "principal:admin")));
+    }
+
+    @Test(description = "no-store and non-200 responses are not cached; expired entries without validators are dropped")
+    public void testCacheability() throws Exception {
+        ResponseCache cache = new ResponseCache(10, Duration.ofMillis(50));
+        URI uri = URI.create("http://localhost/api/leave");
+
+        Assert.assertFalse(cache.put("a", uri, 200, Map.of("Cache-Control", List.of("no-store")), "{}"));
+        Assert.assertFalse(cache.put("b", uri, 404, Map.of(), "{}"));
+        Assert.assertTrue(cache.put("c", uri, 200, Map.of(), "{}"));
+
+        Thread.sleep(100);
+        Assert.assertNull(cache.get("c"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test(description = "The cache cannot be enabled together with streaming responses")
+    public void testStreamingConflict() {
+        Assert.assertThrows(IllegalStateException.class, () -> new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl("http://localhost")
+            .responseCacheEnabled(true)
+            .streamingResponses(true)
+            .build());
+    }
+
+    private ApiTestFramework.ApiResponse<String> call(String endpointName) {
+        return framework.executeRequest(endpointName, null, null, null, String.class);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String etag, String body) throws IOException {
+        if (etag != null) {
+            exchange.getResponseHeaders().add("ETag", etag);
+        }
+        StubHttpServer.respond(exchange, status, body);
+    }
+}
@@ -0,0 +1,87 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.RollingWindowMetrics;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for the rolling per-second/per-minute window metrics
+ */
+public class RollingWindowMetricsTest {
+
+    private AtomicLong clock;
+    private RollingWindowMetrics metrics;
+
+    @BeforeMethod
+    public void setUp() {
+        clock = new AtomicLong(1_700_000_000_000L);
+        metrics = new RollingWindowMetrics(60, 10, clock::get);
+    }
+
+    @Test(description = "Trailing window only includes recent seconds")
+    public void testTrailingWindow() {
+        for (int second = 0; second < 40; second++) {
+            for (int i = 0; i < 10; i++) {
+                metrics.recordRequest(second < 10 ? 1000 : 100, i == 0);
+            }
+            clock.addAndGet(1000);
+        }
+        clock.addAndGet(-1);
+
+        RollingWindowMetrics.WindowSnapshot lastThirty = metrics.getWindow(Duration.ofSeconds(30));
+        Assert.assertEquals(lastThirty.getRequestCount(), 300);
+        Assert.assertEquals(lastThirty.getErrorCount(), 30);
+        Assert.assertEquals(lastThirty.getRequestsPerSecond(), 10.0, 0.001);
+        Assert.assertTrue(lastThirty.getP95ResponseTime() < 110, "Warm-up latency leaked into window");
+
+        RollingWindowMetrics.WindowSnapshot all = metrics.getWindow(Duration.ofSeconds(60));
+        Assert.assertEquals(all.getRequestCount(), 400);
+        Assert.assertTrue(all.getMaxResponseTime() >= 1000);
+    }
+
+    @Test(description = "Rates right after a boundary are divided by the time actually covered")
+    public void testPartialNewestBucket() {
+        for (int i = 0; i <= 20; i++) {
+            metrics.recordRequest(100, false);
+            clock.addAndGet(100);
+        }
+
+        RollingWindowMetrics.WindowSnapshot window = metrics.getWindow(Duration.ofSeconds(2));
+        Assert.assertEquals(window.getRequestCount(), 11);
+        Assert.assertEquals(window.getDurationSeconds(), 2);
+        Assert.assertEquals(window.getCoveredMillis(), 1100);
+        Assert.assertEquals(window.getRequestsPerSecond(), 10.0, 0.001);
+    }
+
+    @Test(description = "Recycled slots do not carry stale counts")
+    public void testSlotRecycling() {
+        metrics.recordRequest(50, false);
+        clock.addAndGet(60_000);
+        metrics.recordRequest(70, true);
+
+        RollingWindowMetrics.WindowSnapshot window = metrics.getWindow(Duration.ofSeconds(1));
+        Assert.assertEquals(window.getRequestCount(), 1);
+        Assert.assertEquals(window.getErrorCount(), 1);
+    }
+
+    @Test(description = "Long windows fall back to per-minute buckets")
+    public void testMinuteResolution() {
+        for (int minute = 0; minute < 5; minute++) {
+            metrics.recordRequest(200, false);
+            clock.addAndGet(60_000);
+        }
+        clock.addAndGet(-60_000);
+
+        RollingWindowMetrics.WindowSnapshot window = metrics.getWindow(Duration.ofMinutes(5));
+        Assert.assertEquals(window.getRequestCount(), 5);
+
+        List<RollingWindowMetrics.WindowSnapshot> series = metrics.getSeries(RollingWindowMetrics.Resolution.MINUTE);
+        Assert.assertEquals(series.size(), 10);
+        Assert.assertEquals(series.get(series.size() - 1).getRequestCount(), 1);
+    }
+}
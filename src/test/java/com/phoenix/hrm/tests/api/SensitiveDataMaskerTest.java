@@ -0,0 +1,52 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.SensitiveDataMasker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for the single-pass sensitive data masker
+ */
+public class SensitiveDataMaskerTest {
+
+    private final SensitiveDataMasker masker = new SensitiveDataMasker(List.of("password", "token", "ssn"));
+
+    @Test(description = "Nested fields and arrays are masked in one pass")
+    public void testMaskNestedJson() {
+        String body = "{\"user\":{\"name\":\"jane\",\"Password\":\"s3cret\"},"
+            + "\"employees\":[{\"id\":1,\"ssn\":\"123-45-6789\"},{\"id\":2,\"ssn\":987654321}],"
+            + "\"token\":{\"value\":\"abc\",\"expires\":3600}}";
+
+        String masked = masker.mask(body);
+
+        Assert.assertEquals(masked, "{\"user\":{\"name\":\"jane\",\"Password\":\"***MASKED***\"},"
+            + "\"employees\":[{\"id\":1,\"ssn\":\"***MASKED***\"},{\"id\":2,\"ssn\":\"***MASKED***\"}],"
+            + "\"token\":\"***MASKED***\"}");
+    }
+
+    @Test(description = "Non-sensitive values and number precision are preserved")
+    public void testPreservesOtherValues() {
+        String body = "[{\"salary\":123456.789,\"rate\":1.10,\"ratio\":0.12345678901234567890123,"
+            + "\"active\":true,\"manager\":null,\"password\":\"x\"}]";
+
+        Assert.assertEquals(masker.mask(body), body.replace("\"x\"", "\"***MASKED***\""));
+    }
+
+    @Test(description = "Non-JSON and malformed bodies fall back to pattern masking")
+    public void testFallback() {
+        Assert.assertEquals(masker.mask("username=jane&password=hunter2"),
+            "username=jane&password=***MASKED***");
+        Assert.assertEquals(masker.mask("{token=abc, id=1}"),
+            "{token=***MASKED***, id=1}");
+        Assert.assertEquals(masker.mask("{\"password\": \"x\", \"broken\": "),
+            "{\"password\":\"***MASKED***\", \"broken\": ");
+    }
+
+    @Test(description = "Empty and null bodies are returned unchanged")
+    public void testEmptyInput() {
+        Assert.assertNull(masker.mask(null));
+        Assert.assertEquals(masker.mask(""), "");
+    }
+}
@@ -0,0 +1,159 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import com.phoenix.hrm.api.SlaPolicy;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for percentile and error-rate SLA budgets
+ */
+public class SlaPolicyTest {
+
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/slow", exchange -> {
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StubHttpServer.respond(exchange, 200, "{}");
+        });
+        server.start();
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .slaEvaluationInterval(Duration.ofMillis(50))
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("slowEndpoint", "/slow",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        framework.shutdown();
+        server.close();
+    }
+
+    @Test(description = "Budgets are met, breached or reported as insufficient data")
+    public void testEvaluation() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        SlaPolicy latency = SlaPolicy.endpoint("getEmployees").p95(Duration.ofMillis(300))
+            .over(Duration.ofSeconds(60)).minRequests(20).build();
+        SlaPolicy errors = SlaPolicy.endpoint("getEmployees").errorRate(0.5).build();
+
+        for (int i = 0; i < 19; i++) {
+            metrics.recordRequest("getEmployees", 100, 200);
+        }
+        Assert.assertEquals(latency.evaluate(metrics).getStatus(), SlaPolicy.Status.INSUFFICIENT_DATA);
+
+        metrics.recordRequest("getEmployees", 120, 200);
+        SlaPolicy.SlaResult met = latency.evaluate(metrics);
+        Assert.assertEquals(met.getStatus(), SlaPolicy.Status.MET, met.toString());
+        Assert.assertTrue(met.getObservedLatency().get("p95") <= 125, met.toString());
+
+        for (int i = 0; i < 5; i++) {
+            metrics.recordRequest("getEmployees", 900, 500);
+        }
+        SlaPolicy.SlaResult slow = latency.evaluate(metrics);
+        SlaPolicy.SlaResult failing = errors.evaluate(metrics);
+        Assert.assertTrue(slow.isBreached(), slow.toString());
+        Assert.assertTrue(slow.getViolations().get(0).startsWith("p95 "), slow.toString());
+        Assert.assertTrue(failing.isBreached(), failing.toString());
+        Assert.assertEquals(failing.getObservedErrorRate(), 20.0, 0.001);
+    }
+
+    @Test(description = "Breaches are retained and included in the JSON export")
+    public void testBreachRetainedAndExported() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        metrics.registerSla(SlaPolicy.overall().p99(Duration.ofMillis(50)).minRequests(1).build());
+
+        metrics.recordRequest("getLeave", 500, 200);
+        metrics.evaluateSlas();
+        Assert.assertEquals(metrics.getSlaBreaches().size(), 1);
+        Assert.assertTrue(metrics.exportMetricsAsJson().contains("\"breaches\""));
+
+        metrics.reset();
+        Assert.assertTrue(metrics.getSlaBreaches().isEmpty());
+        Assert.assertEquals(metrics.getSlaPolicies().size(), 1);
+    }
+
+    @Test(description = "Policies are keyed by name and duplicate names are rejected")
+    public void testPolicyNames() {
+        PerformanceMetrics metrics = new PerformanceMetrics();
+        metrics.registerSla(SlaPolicy.overall().p99(Duration.ofMillis(50)).minRequests(1).build());
+        Assert.assertThrows(IllegalArgumentException.class,
+            () -> metrics.registerSla(SlaPolicy.overall().p99(Duration.ofMillis(50)).minRequests(1).build()));
+
+        metrics.registerSla(SlaPolicy.overall().name("strict").p99(Duration.ofMillis(50)).minRequests(1).build());
+        metrics.recordRequest("getLeave", 500, 200);
+        metrics.evaluateSlas();
+        Assert.assertEquals(metrics.getSlaPolicies().size(), 2);
+        Assert.assertEquals(metrics.getSlaBreaches().keySet().size(), 2);
+        Assert.assertTrue(metrics.getSlaBreaches().containsKey("strict"));
+        Assert.assertEquals(metrics.getSlaResults().get("strict").getPolicy(), "strict");
+        Assert.assertEquals(metrics.getSlaPolicy("strict").getName(), "strict");
+        Assert.assertNull(metrics.getSlaPolicy("missing"));
+    }
+
+    @Test(description = "Policies need a budget and a valid percentile")
+    public void testInvalidPolicies() {
+        Assert.assertThrows(IllegalStateException.class, () -> SlaPolicy.endpoint("getEmployees").build());
+        Assert.assertThrows(IllegalArgumentException.class,
+            () -> SlaPolicy.overall().percentile(101, Duration.ofMillis(10)));
+    }
+
+    @Test(description = "Reusing a builder does not change policies it already built")
+    public void testBuildReturnsIndependentPolicy() {
+        SlaPolicy.Builder builder = SlaPolicy.endpoint("getEmployees").p95(Duration.ofMillis(300));
+        SlaPolicy strict = builder.build();
+        SlaPolicy relaxed = builder.p99(Duration.ofSeconds(1)).errorRate(5).minRequests(1).failFast(false).build();
+
+        Assert.assertEquals(strict.getLatencyBudgets(), Map.of(95.0, Duration.ofMillis(300)));
+        Assert.assertNull(strict.getMaxErrorRatePercent());
+        Assert.assertEquals(strict.getMinRequests(), 10);
+        Assert.assertTrue(strict.isFailFast());
+        Assert.assertEquals(relaxed.getLatencyBudgets().size(), 2);
+        Assert.assertFalse(relaxed.isFailFast());
+    }
+
+    @Test(description = "A broken fail-fast SLA rejects further requests and fails verification")
+    public void testFailFast() throws Exception {
+        framework.registerSla(SlaPolicy.endpoint("slowEndpoint").p95(Duration.ofMillis(20))
+            .minRequests(3).build());
+        for (int i = 0; i < 3; i++) {
+            framework.executeRequest("slowEndpoint", null, null, null, String.class);
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        SlaPolicy.SlaViolationException rejected = null;
+        while (rejected == null && System.currentTimeMillis() < deadline) {
+            try {
+                framework.executeRequest("slowEndpoint", null, null, null, String.class);
+            } catch (SlaPolicy.SlaViolationException e) {
+                rejected = e;
+            }
+        }
+        Assert.assertNotNull(rejected, "requests were not rejected after the SLA broke");
+        Assert.assertEquals(rejected.getBreaches().get(0).getEndpointName(), "slowEndpoint");
+        Assert.assertThrows(SlaPolicy.SlaViolationException.class, framework::verifySlas);
+
+        framework.resetPerformanceMetrics();
+        List<SlaPolicy.SlaResult> results = framework.verifySlas();
+        Assert.assertEquals(results.get(0).getStatus(), SlaPolicy.Status.INSUFFICIENT_DATA);
+    }
+}
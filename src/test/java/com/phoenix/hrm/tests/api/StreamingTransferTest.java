@@ -0,0 +1,135 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.PerformanceMetrics;
+import com.phoenix.hrm.api.StreamingBody;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for file-backed streaming uploads and downloads
+ */
+public class StreamingTransferTest {
+
+    private static final int EXPORT_BYTES = 3 * 1024 * 1024;
+
+    private StubHttpServer server;
+    private ApiTestFramework framework;
+    private Path workDir;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        server = new StubHttpServer();
+        server.route("/employees/photo", exchange -> {
+            long received = 0;
+            byte[] buffer = new byte[8192];
+            try (InputStream in = exchange.getRequestBody()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    received += read;
+                }
+            }
+            StubHttpServer.respond(exchange, 201, "{\"received\":" + received + ",\"contentType\":\""
+                + exchange.getRequestHeaders().getFirst("Content-Type") + "\"}");
+        });
+        server.route("/employees/export", exchange -> {
+            if (exchange.getRequestURI().getQuery() != null) {
+                StubHttpServer.respond(exchange, 400, "{\"error\":\"Unknown format\"}");
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/csv");
+            exchange.sendResponseHeaders(200, EXPORT_BYTES);
+            byte[] row = "1,Linda,Anderson\n".getBytes(StandardCharsets.UTF_8);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int written = 0; written < EXPORT_BYTES; written += row.length) {
+                    out.write(row, 0, Math.min(row.length, EXPORT_BYTES - written));
+                }
+            }
+        });
+        server.start();
+        workDir = Files.createTempDirectory("phoenix-transfer");
+
+        framework = ApiTestFramework.getInstance(new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(server.getBaseUrl())
+            .enableRequestLogging(false)
+            .enableContractValidation(false)
+            .build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("uploadPhoto", "/employees/photo",
+            ApiTestFramework.ApiEndpoint.HttpMethod.POST).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("exportEmployees", "/employees/export",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws Exception {
+        framework.shutdown();
+        server.close();
+        try (Stream<Path> files = Files.list(workDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(workDir);
+    }
+
+    @Test(description = "A file body is streamed with its content type and counted as uploaded bytes")
+    public void testFileUpload() throws Exception {
+        Path photo = workDir.resolve("photo.bin");
+        byte[] content = new byte[2 * 1024 * 1024];
+        Arrays.fill(content, (byte) 7);
+        Files.write(photo, content);
+
+        ApiTestFramework.ApiResponse<String> response = framework.executeRequest("uploadPhoto", null, null,
+            StreamingBody.ofFile(photo, "image/jpeg"), String.class);
+
+        Assert.assertEquals(response.getStatusCode(), 201);
+        Assert.assertEquals(response.getBody(), "{\"received\":" + content.length + ",\"contentType\":\"image/jpeg\"}");
+        PerformanceMetrics.EndpointMetrics metrics = framework.getEndpointMetrics("uploadPhoto");
+        Assert.assertEquals(metrics.getUploadedBytes(), content.length);
+        Assert.assertTrue(metrics.getUploadThroughput() >= 0);
+    }
+
+    @Test(description = "Stream bodies of unknown length are sent chunked")
+    public void testStreamUpload() {
+        byte[] csv = "id,firstName\n1,Odis\n2,Linda\n".getBytes(StandardCharsets.UTF_8);
+        StreamingBody body = StreamingBody.ofInputStream(() -> new ByteArrayInputStream(csv), "text/csv");
+
+        Assert.assertEquals(body.getContentLength(), -1);
+        Assert.assertTrue(body.toString().contains("unknown length"), body.toString());
+        ApiTestFramework.ApiResponse<String> response = framework.executeRequest("uploadPhoto", null, null,
+            body, String.class);
+        Assert.assertEquals(response.getBody(), "{\"received\":" + csv.length + ",\"contentType\":\"text/csv\"}");
+    }
+
+    @Test(description = "Successful downloads go straight to disk; errors leave the target untouched")
+    public void testDownload() throws Exception {
+        Path target = workDir.resolve("export.csv");
+        Files.writeString(target, "stale content that is longer than nothing");
+
+        ApiTestFramework.ApiResponse<Path> response = framework.download("exportEmployees", null, null, null, target);
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.getBody(), target);
+        Assert.assertEquals(Files.size(target), EXPORT_BYTES);
+        Assert.assertEquals(framework.getEndpointMetrics("exportEmployees").getDownloadedBytes(), EXPORT_BYTES);
+
+        Path untouched = workDir.resolve("missing.csv");
+        ApiTestFramework.ApiResponse<Path> failed = framework.download("exportEmployees", null,
+            Map.of("format", "xlsx"), null, untouched);
+        Assert.assertEquals(failed.getStatusCode(), 400);
+        Assert.assertNull(failed.getBody());
+        Assert.assertEquals(failed.getRawResponse(), "{\"error\":\"Unknown format\"}");
+        Assert.assertFalse(Files.exists(untouched));
+    }
+}
@@ -0,0 +1,84 @@
+package com.phoenix.hrm.tests.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP server for tests that script responses {@link com.phoenix.hrm.api.MockHrmServer}
+ * does not simulate, such as stalled bodies, ETags or failures on a given hit.
+ * Handlers run on a pool, so a slow handler does not hold up other requests.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public StubHttpServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create stub HTTP server", e);
+        }
+        executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "stub-http-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Handle requests for a path and everything below it
+     */
+    public StubHttpServer route(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    public StubHttpServer start() {
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Send a JSON response; a null body sends no body
+     */
+    public static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, "application/json", body);
+    }
+
+    /**
+     * Send a response with the given content type; a null body sends no body
+     */
+    public static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
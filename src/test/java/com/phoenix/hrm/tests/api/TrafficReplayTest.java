@@ -0,0 +1,215 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.ApiTestFramework;
+import com.phoenix.hrm.api.TrafficRecorder;
+import com.phoenix.hrm.api.TrafficReplayServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for recording API traffic and replaying it from a local server
+ */
+public class TrafficReplayTest {
+
+    private StubHttpServer backend;
+    private Path recordingDir;
+    private final AtomicInteger listCalls = new AtomicInteger();
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        backend = new StubHttpServer();
+        backend.route("/employees", exchange -> {
+            String body;
+            int status;
+            if ("POST".equals(exchange.getRequestMethod())) {
+                exchange.getRequestBody().readAllBytes();
+                body = "{\"id\":42}";
+                status = 201;
+            } else {
+                try {
+                    Thread.sleep(40);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                body = "{\"page\":" + listCalls.incrementAndGet() + "}";
+                status = 200;
+            }
+            StubHttpServer.respond(exchange, status, body);
+        });
+        backend.route("/api/employees", exchange -> StubHttpServer.respond(exchange, 200, "{\"prefixed\":true}"));
+        backend.start();
+        recordingDir = Files.createTempDirectory("phoenix-recording");
+
+        ApiTestFramework recording = newFramework(backend.getBaseUrl(), recordingDir);
+        try {
+            recording.executeRequest("listEmployees", null, null, null, String.class);
+            recording.executeRequestAsync("listEmployees", null, null, null, String.class).join();
+            recording.executeRequest("addEmployee", null, null, Map.of("firstName", "Linda"), String.class);
+        } finally {
+            recording.shutdown();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() throws Exception {
+        backend.close();
+        deleteRecursively(recordingDir);
+    }
+
+    @Test(description = "Exchanges are recorded in order with status, body and latency")
+    public void testRecording() throws Exception {
+        List<TrafficRecorder.RecordedExchange> exchanges = TrafficRecorder.load(recordingDir);
+
+        Assert.assertEquals(exchanges.size(), 3);
+        TrafficRecorder.RecordedExchange first = exchanges.get(0);
+        Assert.assertEquals(first.getMethod(), "GET");
+        Assert.assertEquals(first.getPath(), "/employees");
+        Assert.assertEquals(first.getBody(), "{\"page\":1}");
+        Assert.assertTrue(first.getLatencyMillis() >= 40, first.toString());
+        Assert.assertEquals(first.getHeaders().get("content-type"), List.of("application/json"));
+        Assert.assertFalse(first.getHeaders().containsKey("content-length"));
+
+        TrafficRecorder.RecordedExchange post = exchanges.get(2);
+        Assert.assertEquals(post.getStatusCode(), 201);
+        Assert.assertNotNull(post.getRequestBodyHash());
+        try (Stream<Path> files = Files.list(recordingDir)) {
+            Assert.assertTrue(files.allMatch(file -> file.toString().endsWith(".ndjson.gz")));
+        }
+    }
+
+    @Test(description = "The replay server serves recorded responses in order and counts misses")
+    public void testReplay() throws Exception {
+        try (TrafficReplayServer replay = new TrafficReplayServer.Builder(recordingDir)
+                .latency(TrafficReplayServer.LatencyModel.none())
+                .build()) {
+            replay.start();
+            ApiTestFramework framework = newFramework(replay.getBaseUrl(), null);
+            try {
+                Assert.assertEquals(framework.executeRequest("listEmployees", null, null, null, String.class)
+                    .getBody(), "{\"page\":1}");
+                Assert.assertEquals(framework.executeRequest("listEmployees", null, null, null, String.class)
+                    .getBody(), "{\"page\":2}");
+                Assert.assertEquals(framework.executeRequest("listEmployees", null, null, null, String.class)
+                    .getBody(), "{\"page\":1}", "sequence should wrap around");
+
+                // A different body still matches on method and path
+                ApiTestFramework.ApiResponse<String> created = framework.executeRequest("addEmployee", null, null,
+                    Map.of("firstName", "Odis"), String.class);
+                Assert.assertEquals(created.getStatusCode(), 201);
+
+                ApiTestFramework.ApiResponse<String> missing = framework.executeRequest("listEmployees", null,
+                    Map.of("page", 9), null, String.class);
+                Assert.assertEquals(missing.getStatusCode(), 404);
+                Assert.assertEquals(missing.getFirstHeader("X-Replay-Miss"), "true");
+            } finally {
+                framework.shutdown();
+            }
+            Assert.assertEquals(replay.getServedCount(), 4);
+            Assert.assertEquals(replay.getMissCount(), 1);
+        }
+    }
+
+    @Test(description = "A base URL path prefix is not recorded, so the replay base URL replaces it")
+    public void testBaseUrlWithPath() throws Exception {
+        Path prefixedDir = Files.createTempDirectory("phoenix-recording");
+        try {
+            ApiTestFramework recording = newFramework(backend.getBaseUrl() + "/api", prefixedDir);
+            try {
+                recording.executeRequest("listEmployees", null, Map.of("page", 2), null, String.class);
+            } finally {
+                recording.shutdown();
+            }
+
+            List<TrafficRecorder.RecordedExchange> exchanges = TrafficRecorder.load(prefixedDir);
+            Assert.assertEquals(exchanges.size(), 1);
+            Assert.assertEquals(exchanges.get(0).getPath(), "/employees?page=2");
+
+            try (TrafficReplayServer replay = new TrafficReplayServer.Builder(exchanges)
+                    .latency(TrafficReplayServer.LatencyModel.none())
+                    .build()) {
+                replay.start();
+                ApiTestFramework framework = newFramework(replay.getBaseUrl(), null);
+                try {
+                    Assert.assertEquals(framework.executeRequest("listEmployees", null, Map.of("page", 2), null,
+                        String.class).getBody(), "{\"prefixed\":true}");
+                } finally {
+                    framework.shutdown();
+                }
+            }
+        } finally {
+            deleteRecursively(prefixedDir);
+        }
+    }
+
+    @Test(description = "Request bodies are identified by their SHA-256 digest")
+    public void testRequestBodyDigest() {
+        Assert.assertNull(TrafficRecorder.hashBody(null));
+        Assert.assertNull(TrafficRecorder.hashBody(""));
+        Assert.assertEquals(TrafficRecorder.hashBody("abc"),
+            "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        // Equal String.hashCode values, different bodies
+        Assert.assertNotEquals(TrafficRecorder.hashBody("{\"id\":\"Aa\"}"), TrafficRecorder.hashBody("{\"id\":\"BB\"}"));
+    }
+
+    @Test(description = "Latency models reproduce, scale or replace the recorded latency")
+    public void testLatencyModels() {
+        TrafficRecorder.RecordedExchange exchange = new TrafficRecorder.RecordedExchange(0, "GET", "/employees",
+            null, 200, Map.of(), "[]", 120);
+
+        Assert.assertEquals(TrafficReplayServer.LatencyModel.original().delayMillis(exchange), 120);
+        Assert.assertEquals(TrafficReplayServer.LatencyModel.scaled(0.5).delayMillis(exchange), 60);
+        Assert.assertEquals(TrafficReplayServer.LatencyModel.fixed(Duration.ofMillis(15)).delayMillis(exchange), 15);
+        for (int i = 0; i < 100; i++) {
+            long uniform = TrafficReplayServer.LatencyModel.uniform(Duration.ofMillis(5), Duration.ofMillis(10))
+                .delayMillis(exchange);
+            Assert.assertTrue(uniform >= 5 && uniform <= 10, String.valueOf(uniform));
+        }
+
+        TrafficReplayServer.LatencyModel logNormal =
+            TrafficReplayServer.LatencyModel.logNormal(Duration.ofMillis(50), Duration.ofMillis(400));
+        long[] samples = new long[2001];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = logNormal.delayMillis(exchange);
+        }
+        Arrays.sort(samples);
+        Assert.assertTrue(samples[1000] > 40 && samples[1000] < 60, "median " + samples[1000]);
+        Assert.assertThrows(IllegalArgumentException.class,
+            () -> TrafficReplayServer.LatencyModel.logNormal(Duration.ofMillis(50), Duration.ofMillis(10)));
+    }
+
+    private static void deleteRecursively(Path directory) throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static ApiTestFramework newFramework(String baseUrl, Path trafficRecording) {
+        ApiTestFramework.ApiConfiguration.Builder config = new ApiTestFramework.ApiConfiguration.Builder()
+            .baseUrl(baseUrl)
+            .enableRequestLogging(false)
+            .enableContractValidation(false);
+        if (trafficRecording != null) {
+            config.trafficRecording(trafficRecording);
+        }
+        ApiTestFramework framework = ApiTestFramework.getInstance(config.build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("listEmployees", "/employees",
+            ApiTestFramework.ApiEndpoint.HttpMethod.GET).build());
+        framework.registerEndpoint(new ApiTestFramework.ApiEndpoint.Builder("addEmployee", "/employees",
+            ApiTestFramework.ApiEndpoint.HttpMethod.POST).build());
+        return framework;
+    }
+}
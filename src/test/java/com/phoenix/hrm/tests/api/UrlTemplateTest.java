@@ -0,0 +1,63 @@
+package com.phoenix.hrm.tests.api;
+
+import com.phoenix.hrm.api.UrlTemplate;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for compiled endpoint URL templates
+ */
+public class UrlTemplateTest {
+
+    private static final String BASE_URL = "http://localhost:8080/api";
+
+    @Test(description = "Path parameters are substituted and encoded as single segments")
+    public void testPathExpansion() {
+        UrlTemplate template = UrlTemplate.compile(BASE_URL, "/employees/{id}/documents/{name}");
+
+        URI uri = template.expand(Map.of("id", 42, "name", "CV 2024/final \u00e9.pdf"), null, null);
+
+        Assert.assertEquals(template.getParameterNames(), List.of("id", "name"));
+        Assert.assertEquals(uri.toString(),
+            "http://localhost:8080/api/employees/42/documents/CV%202024%2Ffinal%20%C3%A9.pdf");
+        Assert.assertEquals(uri.getPath(), "/api/employees/42/documents/CV 2024/final \u00e9.pdf");
+    }
+
+    @Test(description = "Query parameters merge defaults with call values and are encoded")
+    public void testQueryExpansion() {
+        UrlTemplate template = UrlTemplate.compile(BASE_URL, "/employees");
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("limit", 50);
+        defaults.put("sort", "name");
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("sort", "joined");
+        query.put("q", "R&D = 100%");
+        query.put("skill", List.of("java", "c++"));
+        query.put("manager", null);
+
+        URI uri = template.expand(null, defaults, query);
+
+        Assert.assertEquals(uri.getRawQuery(), "limit=50&sort=joined&q=R%26D%20%3D%20100%25&skill=java&skill=c%2B%2B");
+    }
+
+    @Test(description = "Static URIs are built once and reused")
+    public void testStaticUriCached() {
+        UrlTemplate template = UrlTemplate.compile(BASE_URL, "/departments");
+
+        Assert.assertTrue(template.isStatic());
+        Assert.assertSame(template.expand(null, Map.of(), null), template.expand(null, null, null));
+    }
+
+    @Test(description = "Missing values and malformed templates are rejected")
+    public void testInvalidInput() {
+        UrlTemplate template = UrlTemplate.compile(BASE_URL, "/employees/{id}");
+        Assert.assertThrows(IllegalArgumentException.class, () -> template.expand(Map.of(), null, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> UrlTemplate.compile(BASE_URL, "/employees/{id"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> UrlTemplate.compile(BASE_URL, "/employees/{}"));
+    }
+}
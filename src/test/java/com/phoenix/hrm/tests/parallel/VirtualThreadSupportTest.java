@@ -0,0 +1,94 @@
+package com.phoenix.hrm.tests.parallel;
+
+import com.phoenix.hrm.parallel.VirtualThreadSupport;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for virtual thread detection, platform fallback and ordered parallel loading
+ */
+public class VirtualThreadSupportTest {
+
+    @Test(description = "Virtual mode is only resolved when requested and supported")
+    public void testResolveMode() {
+        Assert.assertEquals(VirtualThreadSupport.resolveMode(false), VirtualThreadSupport.ExecutionMode.PLATFORM);
+        Assert.assertEquals(VirtualThreadSupport.resolveMode(true), VirtualThreadSupport.isAvailable()
+            ? VirtualThreadSupport.ExecutionMode.VIRTUAL : VirtualThreadSupport.ExecutionMode.PLATFORM);
+        if (Runtime.version().feature() < 19) {
+            Assert.assertFalse(VirtualThreadSupport.isAvailable());
+            Assert.assertEquals(VirtualThreadSupport.resolveMode(true), VirtualThreadSupport.ExecutionMode.PLATFORM);
+        }
+    }
+
+    @Test(description = "Without virtual threads the caller's platform executor is used")
+    public void testPlatformFallback() throws Exception {
+        ExecutorService executor = VirtualThreadSupport.newVirtualThreadPerTaskExecutor("Phoenix-Probe",
+            () -> Executors.newSingleThreadExecutor(task -> new Thread(task, "fallback-probe")));
+        try {
+            Thread worker = executor.submit(Thread::currentThread).get();
+            if (VirtualThreadSupport.virtualThreadFactory("Phoenix-Probe") == null) {
+                Assert.assertEquals(worker.getName(), "fallback-probe");
+                Assert.assertFalse(VirtualThreadSupport.isVirtual(worker));
+            } else {
+                Assert.assertTrue(VirtualThreadSupport.isVirtual(worker));
+                Assert.assertTrue(worker.getName().startsWith("Phoenix-Probe-"), worker.getName());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertFalse(VirtualThreadSupport.isVirtual(Thread.currentThread()));
+    }
+
+    @Test(description = "Tasks run concurrently but results keep task order")
+    public void testInvokeAllOrdered() throws Exception {
+        ConcurrentLinkedQueue<Integer> completionOrder = new ConcurrentLinkedQueue<>();
+        List<Callable<Object[]>> rowLoaders = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int row = i;
+            rowLoaders.add(() -> {
+                // Later rows finish first
+                Thread.sleep((10 - row) * 20L);
+                completionOrder.add(row);
+                return new Object[] {"employee" + row, row};
+            });
+        }
+
+        List<Object[]> rows = VirtualThreadSupport.invokeAllOrdered("Phoenix-DataProvider", rowLoaders, 10);
+
+        Assert.assertEquals(rows.stream().map(row -> row[1]).collect(Collectors.toList()),
+            IntStream.range(0, 10).boxed().collect(Collectors.toList()));
+        Assert.assertEquals(rows.get(3)[0], "employee3");
+        Assert.assertEquals(completionOrder.peek(), Integer.valueOf(9), "loaders did not run concurrently");
+        Assert.assertTrue(VirtualThreadSupport.invokeAllOrdered("Phoenix-DataProvider", List.<Callable<Object>>of(), 4)
+            .isEmpty());
+    }
+
+    @Test(description = "The first failing task in task order is reported")
+    public void testInvokeAllOrderedFailure() {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int row = i;
+            tasks.add(() -> {
+                if (row == 2 || row == 4) {
+                    Thread.sleep(row == 2 ? 50 : 0);
+                    throw new IllegalStateException("row " + row + " unavailable");
+                }
+                return row;
+            });
+        }
+
+        ExecutionException error = Assert.expectThrows(ExecutionException.class,
+            () -> VirtualThreadSupport.invokeAllOrdered("Phoenix-DataProvider", tasks, 2));
+        Assert.assertEquals(error.getCause().getMessage(), "row 2 unavailable");
+    }
+}
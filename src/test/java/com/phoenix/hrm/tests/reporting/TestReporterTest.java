@@ -0,0 +1,65 @@
+package com.phoenix.hrm.tests.reporting;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.phoenix.hrm.core.reporting.TestReporter;
+import com.phoenix.hrm.parallel.VirtualThreadSupport;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for concurrent use of the lock-based test reporter
+ */
+public class TestReporterTest {
+
+    @BeforeClass
+    public void setUp() {
+        TestReporter.resetStatistics();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        TestReporter.flushReports();
+        TestReporter.resetStatistics();
+    }
+
+    @Test(description = "Tests started and finished from many threads are all counted and isolated per thread")
+    public void testConcurrentReporting() throws Exception {
+        int tasks = 200;
+        ExecutorService executor = VirtualThreadSupport.newVirtualThreadPerTaskExecutor("Phoenix-ReporterProbe",
+            () -> Executors.newFixedThreadPool(16));
+        try {
+            List<Callable<Boolean>> reports = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                String testName = "concurrent-" + i;
+                Status outcome = i % 4 == 0 ? Status.FAIL : i % 10 == 1 ? Status.SKIP : Status.PASS;
+                reports.add(() -> {
+                    ExtentTest test = TestReporter.startTest(testName, "concurrent reporting probe");
+                    TestReporter.logInfo("step of " + testName);
+                    boolean ownTest = TestReporter.getExtentTest() == test
+                        && testName.equals(test.getModel().getName());
+                    TestReporter.endTest(outcome, "finished " + testName);
+                    return ownTest && TestReporter.getExtentTest() == null;
+                });
+            }
+            for (Future<Boolean> report : executor.invokeAll(reports, 60, TimeUnit.SECONDS)) {
+                Assert.assertTrue(report.get(), "a thread saw another thread's test");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(TestReporter.getTestStatistics(), "Total: 200, Passed: 130, Failed: 50, Skipped: 20");
+        Assert.assertNotNull(TestReporter.getReportPath());
+    }
+}